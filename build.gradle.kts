@@ -18,6 +18,9 @@ plugins {
     // id("org.danilopianini.gradle-java-qa") version "1.0.0"
         alias(libs.plugins.java.qa)
     alias(libs.plugins.taskTree)
+
+    // Microbenchmarks of the model hot paths, in src/jmh: ./gradlew jmh
+    alias(libs.plugins.jmh)
 }
 
 java {
@@ -26,6 +29,38 @@ java {
   }
 }
 
+/*
+ * The movement of enemies and shots is vectorized with the incubating Vector API.
+ * Without this module at runtime (or with -Disaccoop.scalar=true) the scalar kernel is used instead.
+ * Only the vector kernel, in src/vector, is compiled with the module: it is loaded by reflection,
+ * so the rest of the game compiles without it and runs on the scalar kernel when it is missing.
+ */
+val vectorModule = "--add-modules=jdk.incubator.vector"
+
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+}
+
+tasks.named<JavaCompile>(vector.compileJavaTaskName) {
+    options.compilerArgs.add(vectorModule)
+}
+
+sourceSets.main {
+    runtimeClasspath += vector.output
+}
+
+sourceSets.test {
+    runtimeClasspath += vector.output
+}
+
+tasks.jar {
+    from(vector.output)
+}
+
+tasks.named<com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar>("shadowJar") {
+    from(vector.output)
+}
+
 repositories { // Where to search for dependencies
     mavenCentral()
 }
@@ -57,16 +92,85 @@ dependencies {
 application {
     // Define the main class for the application.
     mainClass.set("it.unibo.isaccoop.MainClass")
+    applicationDefaultJvmArgs = listOf(vectorModule)
+}
+
+// Runs the game without a display and reports the simulation throughput: ./gradlew runHeadless
+tasks.register<JavaExec>("runHeadless") {
+    group = "application"
+    description = "Runs the game simulation without a display and reports ticks per second"
+    classpath = sourceSets["main"].runtimeClasspath
+    jvmArgs(vectorModule)
+    mainClass.set("it.unibo.isaccoop.core.HeadlessSimulator")
+}
+
+// Runs the game drawn actively on a canvas instead of the Swing panels: ./gradlew runCanvas
+tasks.register<JavaExec>("runCanvas") {
+    group = "application"
+    description = "Runs the game with the canvas renderer"
+    classpath = sourceSets["main"].runtimeClasspath
+    jvmArgs(vectorModule)
+    mainClass.set("it.unibo.isaccoop.MainClass")
+    systemProperty("isaccoop.scene", "canvas")
+}
+
+// Replays recorded games (-Disaccoop.record=file) and checks their final state: ./gradlew runReplay -Preplay=file
+tasks.register<JavaExec>("runReplay") {
+    group = "application"
+    description = "Replays recorded games as fast as possible and verifies their final state"
+    classpath = sourceSets["main"].runtimeClasspath
+    jvmArgs(vectorModule)
+    mainClass.set("it.unibo.isaccoop.core.replay.ReplayRunner")
+    jvmArgs("-Djava.awt.headless=true")
+    project.findProperty("replay")?.let { args(it.toString().split(",")) }
+}
+
+/*
+ * Benchmarks report the average time and, through the GC profiler, the allocation rate per operation.
+ * Run a subset with ./gradlew jmh -PjmhIncludes=Collision
+ * Results are saved as JSON in build/results/jmh, to compare the numbers before and after a change.
+ */
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    jvmArgsAppend.add("-Djava.awt.headless=true")
+    jvmArgsAppend.add(vectorModule)
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
+
+sourceSets.named("jmh") {
+    runtimeClasspath += vector.output
+}
+
+tasks.named<Jar>("jmhJar") {
+    from(vector.output)
 }
 
 tasks.test {
     useJUnitPlatform()
+    jvmArgs(vectorModule)
     testLogging {
         events(*org.gradle.api.tasks.testing.logging.TestLogEvent.values())
         showStandardStreams = true
     }
 }
 
+// Runs the tests again without the Vector API module, on the scalar kernel: ./gradlew testWithoutVector
+val testWithoutVector by tasks.registering(Test::class) {
+    group = "verification"
+    description = "Runs the tests without the Vector API module, so the scalar kernel is used"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+}
+
+tasks.check {
+    dependsOn(testWithoutVector)
+}
+
 allprojects {
     tasks.withType<Test> {
         ignoreFailures = true
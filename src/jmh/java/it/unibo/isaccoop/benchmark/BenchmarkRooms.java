@@ -0,0 +1,107 @@
+package it.unibo.isaccoop.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import it.unibo.isaccoop.model.ai.ConcreteAIEnemy;
+import it.unibo.isaccoop.model.common.Direction;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.enemy.NonShootingEnemy;
+import it.unibo.isaccoop.model.enemy.ShootingEnemy;
+import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.room.Room;
+import it.unibo.isaccoop.model.room.RoomImpl;
+
+/**
+ * Builds the rooms used by the benchmarks, with a fixed seed so that every run measures the same layout.
+ */
+final class BenchmarkRooms {
+
+    /**
+     * Width of the rooms, as created by the game.
+     */
+    static final int ROOM_WIDTH = 300;
+    /**
+     * Height of the rooms, as created by the game.
+     */
+    static final int ROOM_HEIGHT = 200;
+    /**
+     * Duration of a tick of the benchmark clocks, in milliseconds.
+     */
+    static final long TICK_PERIOD = 20;
+    /**
+     * Seed of the random positions.
+     */
+    static final long SEED = 42;
+
+    private static final double BORDER = 15;
+
+    private BenchmarkRooms() {
+    }
+
+    /**
+     * Create enemies, half shooting and half not shooting, at random positions.
+     * @param count number of enemies
+     * @param clock clock of the enemies weapons
+     * @param random source of the positions
+     * @return the enemies
+     */
+    static List<Enemy> enemies(final int count, final TickGameClock clock, final Random random) {
+        final List<Enemy> enemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Enemy enemy = i % 2 == 0 ? new ShootingEnemy(clock) : new NonShootingEnemy(clock);
+            enemy.setCoords(randomPosition(random));
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    /**
+     * Create a standard room containing the player and the specified enemies.
+     * @param enemies the enemies of the room
+     * @param player the player, placed in the center of the room
+     * @return the room
+     */
+    static Room standardRoom(final List<Enemy> enemies, final Player player) {
+        player.setCoords(new Point2D(ROOM_WIDTH / 2.0, ROOM_HEIGHT / 2.0));
+        return new RoomImpl(ROOM_WIDTH, ROOM_HEIGHT, new Point2D(0, 0), RoomType.STANDARD,
+                Optional.of(new ConcreteAIEnemy(enemies)), Optional.empty(), Optional.empty(), Optional.of(player));
+    }
+
+    /**
+     * Let the player of a room fire shots from random positions, then put the player back in the center.
+     * @param room the room containing the player
+     * @param clock clock of the player weapon, advanced between the shots
+     * @param count number of shots
+     * @param random source of the positions and of the directions
+     */
+    static void fireShots(final Room room, final TickGameClock clock, final int count, final Random random) {
+        final Player player = room.getPlayer().get();
+        final long interval = player.getTears().longValue();
+        final Direction[] directions = Direction.values();
+        for (int i = 0; i < count; i++) {
+            final long next = clock.getTime() + interval;
+            while (clock.getTime() <= next) {
+                clock.tick();
+            }
+            player.setCoords(randomPosition(random));
+            player.hit(directions[random.nextInt(directions.length)]);
+        }
+        player.setCoords(new Point2D(ROOM_WIDTH / 2.0, ROOM_HEIGHT / 2.0));
+    }
+
+    /**
+     * Get a random position inside a room, away from its walls.
+     * @param random source of the position
+     * @return the position
+     */
+    static Point2D randomPosition(final Random random) {
+        return new Point2D(BORDER + random.nextDouble() * (ROOM_WIDTH - 2 * BORDER),
+                BORDER + random.nextDouble() * (ROOM_HEIGHT - 2 * BORDER));
+    }
+}
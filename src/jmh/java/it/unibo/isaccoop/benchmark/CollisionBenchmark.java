@@ -0,0 +1,172 @@
+package it.unibo.isaccoop.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.collision.CollisionCheck;
+import it.unibo.isaccoop.model.collision.CollisionCheckFactory;
+import it.unibo.isaccoop.model.collision.CollisionCheckFactoryImpl;
+import it.unibo.isaccoop.model.collision.SpatialHashGrid;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.room.Room;
+import it.unibo.isaccoop.model.weapon.WeaponShot;
+
+/**
+ * Cost of the collision checkers of {@link CollisionCheckFactoryImpl}, from 5 to 5000 enemies and shots,
+ * and of the {@link SpatialHashGrid} broad phase against checking every pair of shot and enemy.
+ * The checkers only read the room, the events they notify are counted and discarded,
+ * so every invocation measures the same state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionBenchmark {
+
+    private static final double CELL_SIZE = 32.0;
+
+    /* enemies and shots of the player in the room, half and half */
+    @Param({ "5", "50", "500", "5000" })
+    private int entities;
+
+    private Room room;
+    private long events;
+    private CollisionCheck enemyGrid;
+    private CollisionCheck playerShots;
+    private CollisionCheck enemyContacts;
+    private CollisionCheck enemyShots;
+    private CollisionCheck shotsToRemove;
+    private List<Enemy> enemyList;
+    private List<WeaponShot> shotList;
+    private SpatialHashGrid<Enemy> grid;
+
+    /**
+     * Build a room with the enemies and the shots of the player, and the checkers of the room.
+     */
+    @Setup
+    public void setUp() {
+        final Random random = new Random(BenchmarkRooms.SEED);
+        final TickGameClock clock = new TickGameClock(BenchmarkRooms.TICK_PERIOD);
+        final Player player = new Player(null, null, null, clock);
+        this.enemyList = BenchmarkRooms.enemies(this.entities / 2 + this.entities % 2, clock, random);
+        final Room real = BenchmarkRooms.standardRoom(this.enemyList, player);
+        BenchmarkRooms.fireShots(real, clock, this.entities / 2, random);
+        this.shotList = new ArrayList<>();
+        real.getProjectiles().forEach(this.shotList::add);
+        this.grid = new SpatialHashGrid<>(real.getWidth(), real.getHeight(), CELL_SIZE);
+        /* the same room, without the events queue that would grow at every invocation */
+        this.room = (Room) Proxy.newProxyInstance(Room.class.getClassLoader(), new Class<?>[] { Room.class },
+            (proxy, method, args) -> {
+                if ("notifyEvent".equals(method.getName())) {
+                    this.events++;
+                    return null;
+                }
+                return method.invoke(real, args);
+            });
+        final CollisionCheckFactory factory = new CollisionCheckFactoryImpl();
+        this.enemyGrid = factory.getEnemyGridUpdater(this.enemyList);
+        this.playerShots = factory.getCollisionPlayerShotChecker(player, this.enemyList);
+        this.enemyContacts = factory.getCollisionWithEnemyChecker(player, real.getRoomAI().get().getWorld());
+        this.enemyShots = factory.getCollisionWithEnemyShotChecker(player, this.enemyList);
+        this.shotsToRemove = factory.getShotsToRemoveChecker(player, this.enemyList);
+        this.enemyGrid.handleCollision(this.room);
+    }
+
+    /**
+     * Fill the grid of the enemies shared by the checkers of the player shots, as done once per tick.
+     * @return number of events notified so far
+     */
+    @Benchmark
+    public long enemyGridUpdater() {
+        this.enemyGrid.handleCollision(this.room);
+        return this.events;
+    }
+
+    /**
+     * Check the shots of the player against the enemies.
+     * @return number of events notified so far
+     */
+    @Benchmark
+    public long playerShotChecker() {
+        this.playerShots.handleCollision(this.room);
+        return this.events;
+    }
+
+    /**
+     * Check the player against the enemies.
+     * @return number of events notified so far
+     */
+    @Benchmark
+    public long enemyChecker() {
+        this.enemyContacts.handleCollision(this.room);
+        return this.events;
+    }
+
+    /**
+     * Check the shots of the enemies against the player.
+     * @return number of events notified so far
+     */
+    @Benchmark
+    public long enemyShotChecker() {
+        this.enemyShots.handleCollision(this.room);
+        return this.events;
+    }
+
+    /**
+     * Check which shots are out of the room.
+     * @return number of events notified so far
+     */
+    @Benchmark
+    public long shotsToRemoveChecker() {
+        this.shotsToRemove.handleCollision(this.room);
+        return this.events;
+    }
+
+    /**
+     * Count the collisions between all the shots and all the enemies, checking every pair.
+     * @return number of collisions
+     */
+    @Benchmark
+    public int bruteForceCollisions() {
+        int collisions = 0;
+        for (final WeaponShot shot : this.shotList) {
+            final CircleBoundingBox box = (CircleBoundingBox) shot.getBox();
+            for (final Enemy enemy : this.enemyList) {
+                if (enemy.getBox().isCollidingWithCircle(enemy.getX(), enemy.getY(), shot.getX(), shot.getY(), box)) {
+                    collisions++;
+                }
+            }
+        }
+        return collisions;
+    }
+
+    /**
+     * Count the collisions between all the shots and all the enemies, filling a grid of the enemies
+     * and checking every shot only against the enemies near it.
+     * @return number of collisions
+     */
+    @Benchmark
+    public int gridCollisions() {
+        final int[] collisions = {0};
+        this.grid.rebuild(this.enemyList);
+        for (final WeaponShot shot : this.shotList) {
+            this.grid.forEachColliding(shot.getX(), shot.getY(), (CircleBoundingBox) shot.getBox(),
+                    e -> collisions[0]++);
+        }
+        return collisions[0];
+    }
+}
@@ -0,0 +1,85 @@
+package it.unibo.isaccoop.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import it.unibo.isaccoop.core.EngineMode;
+import it.unibo.isaccoop.core.GameEngineImpl;
+import it.unibo.isaccoop.model.common.GameRandom;
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.room.LayoutGenerator;
+import it.unibo.isaccoop.model.room.Level;
+import it.unibo.isaccoop.model.room.LevelFactory;
+import it.unibo.isaccoop.model.room.LevelFactoryImpl;
+import it.unibo.isaccoop.model.spawn.Spawn;
+import it.unibo.isaccoop.model.spawn.SpawnRandom;
+
+/**
+ * Cost of the creation of a level, of the generation of a large layout and of the random placement
+ * of the elements of a room.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenerationBenchmark {
+
+    private static final int LAYOUT_ROOMS = 10_000;
+
+    @Param({ "4", "16", "64" })
+    private int elements;
+
+    private LevelFactory levelFactory;
+    private final Spawn spawn = new SpawnRandom();
+    private List<MapElement> toSpawn;
+
+    /**
+     * Create the level factory, with an engine without display, and the elements to place.
+     */
+    @Setup
+    public void setUp() {
+        this.levelFactory = new LevelFactoryImpl(new GameEngineImpl(EngineMode.HEADLESS));
+        this.toSpawn = new ArrayList<>(BenchmarkRooms.enemies(this.elements,
+                new TickGameClock(BenchmarkRooms.TICK_PERIOD), new Random(BenchmarkRooms.SEED)));
+    }
+
+    /**
+     * Create a whole level, with all its rooms and their elements.
+     * @return the level
+     */
+    @Benchmark
+    public Level createLevel() {
+        return this.levelFactory.createLevel();
+    }
+
+    /**
+     * Generate the positions of the rooms of a very large branching level.
+     * @return the positions of the rooms
+     */
+    @Benchmark
+    public List<Point2D> generateLayout() {
+        return LayoutGenerator.BRANCHING.generate(LAYOUT_ROOMS, new GameRandom(BenchmarkRooms.SEED));
+    }
+
+    /**
+     * Place the elements at random positions of a room.
+     * @return the placed elements
+     */
+    @Benchmark
+    public List<MapElement> setPosition() {
+        this.spawn.setPosition(this.toSpawn, BenchmarkRooms.ROOM_WIDTH, BenchmarkRooms.ROOM_HEIGHT);
+        return this.toSpawn;
+    }
+}
@@ -0,0 +1,99 @@
+package it.unibo.isaccoop.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import it.unibo.isaccoop.model.common.IntegrationKernel;
+import it.unibo.isaccoop.model.common.IntegrationKernels;
+import it.unibo.isaccoop.model.enemy.AbstractEnemy;
+
+/**
+ * Cost of the {@link IntegrationKernel}s moving enemies and shots, scalar or vectorized when the
+ * Vector API is available. Every invocation goes through all the elements wherever they are,
+ * so they are left where the previous invocation moved them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KernelBenchmark {
+
+    private static final double RADIUS = 10;
+    private static final double SPEED = 2;
+
+    @Param({ "64", "1024", "4096" })
+    private int elements;
+
+    @Param({ "true", "false" })
+    private boolean vectorized;
+
+    private IntegrationKernel kernel;
+    private double[] x;
+    private double[] y;
+    private double[] stepX;
+    private double[] stepY;
+    private double[] radius;
+    private boolean[] chasing;
+    private boolean[] colliding;
+
+    /**
+     * Place the elements at random in the room.
+     */
+    @Setup
+    public void setUp() {
+        this.kernel = this.vectorized ? IntegrationKernels.getDefault() : IntegrationKernels.getScalar();
+        final Random random = new Random(BenchmarkRooms.SEED);
+        this.x = new double[this.elements];
+        this.y = new double[this.elements];
+        this.stepX = new double[this.elements];
+        this.stepY = new double[this.elements];
+        this.radius = new double[this.elements];
+        this.chasing = new boolean[this.elements];
+        this.colliding = new boolean[this.elements];
+        for (int i = 0; i < this.elements; i++) {
+            this.x[i] = random.nextDouble() * BenchmarkRooms.ROOM_WIDTH;
+            this.y[i] = random.nextDouble() * BenchmarkRooms.ROOM_HEIGHT;
+            this.stepX[i] = random.nextDouble() * 2 * SPEED - SPEED;
+            this.stepY[i] = random.nextDouble() * 2 * SPEED - SPEED;
+            this.radius[i] = RADIUS;
+            this.chasing[i] = random.nextBoolean();
+        }
+    }
+
+    /**
+     * Step the chasing elements towards the center of the room and move them if they stay inside it.
+     * @return x coord of the first element
+     */
+    @Benchmark
+    public double chaseAndMove() {
+        this.kernel.chase(this.x, this.y, this.chasing, BenchmarkRooms.ROOM_WIDTH / 2.0,
+                BenchmarkRooms.ROOM_HEIGHT / 2.0, AbstractEnemy.getSpeed(), this.stepX, this.stepY, this.elements);
+        this.kernel.moveInside(this.x, this.y, this.stepX, this.stepY, this.radius,
+                BenchmarkRooms.ROOM_WIDTH, BenchmarkRooms.ROOM_HEIGHT, this.elements);
+        return this.x[0];
+    }
+
+    /**
+     * Move the elements as shots, back and forth to stay in the room, and check which ones hit the walls.
+     * @return number of elements colliding with the walls
+     */
+    @Benchmark
+    public int advanceAndCheck() {
+        this.kernel.advance(this.x, this.y, this.stepX, this.stepY, this.elements);
+        final int found = this.kernel.collidingWithPerimeter(this.x, this.y, this.radius,
+                BenchmarkRooms.ROOM_WIDTH, BenchmarkRooms.ROOM_HEIGHT, this.colliding, this.elements);
+        for (int i = 0; i < this.elements; i++) {
+            this.stepX[i] = -this.stepX[i];
+            this.stepY[i] = -this.stepY[i];
+        }
+        return found;
+    }
+}
@@ -0,0 +1,84 @@
+package it.unibo.isaccoop.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import it.unibo.isaccoop.graphics.SwingGraphics;
+import it.unibo.isaccoop.graphics.factory.ConcretePlayerGraphicsComponentFactory;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.room.Room;
+
+/**
+ * Cost of drawing a room and its elements with {@link SwingGraphics#drawElementAsImage}
+ * into an off-screen {@link BufferedImage} of the size of a full HD screen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderBenchmark {
+
+    private static final int SCREEN_WIDTH = 1920;
+    private static final int SCREEN_HEIGHT = 930;
+    private static final double ALPHA = 0.5;
+
+    @Param({ "4", "16", "64" })
+    private int enemies;
+
+    private BufferedImage image;
+    private Graphics2D g2;
+    private SwingGraphics graphics;
+    private Room room;
+    private List<Enemy> enemyList;
+
+    /**
+     * Create the image and the room to draw.
+     */
+    @Setup
+    public void setUp() {
+        final TickGameClock clock = new TickGameClock(BenchmarkRooms.TICK_PERIOD);
+        this.enemyList = BenchmarkRooms.enemies(this.enemies, clock, new Random(BenchmarkRooms.SEED));
+        this.room = BenchmarkRooms.standardRoom(this.enemyList, new Player(null, null,
+                new ConcretePlayerGraphicsComponentFactory().getPlayerGraphicsComponent(), clock));
+        this.image = new BufferedImage(SCREEN_WIDTH, SCREEN_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.graphics = new SwingGraphics(this.g2, (double) SCREEN_WIDTH / BenchmarkRooms.ROOM_WIDTH,
+                (double) SCREEN_HEIGHT / BenchmarkRooms.ROOM_HEIGHT, ALPHA);
+    }
+
+    /**
+     * Release the graphics of the image.
+     */
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Draw the room, the enemies and the player.
+     * @return the image
+     */
+    @Benchmark
+    public BufferedImage drawRoom() {
+        this.room.updateGraphics(this.graphics);
+        for (final Enemy enemy : this.enemyList) {
+            enemy.updateGraphics(this.graphics);
+        }
+        this.room.getPlayer().get().updateGraphics(this.graphics);
+        return this.image;
+    }
+}
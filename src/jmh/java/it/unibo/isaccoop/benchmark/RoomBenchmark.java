@@ -0,0 +1,107 @@
+package it.unibo.isaccoop.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import it.unibo.isaccoop.model.ai.AIEnemy;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.room.Room;
+
+/**
+ * Cost of a tick of a room ({@link Room#updateRoom()} and {@link Room#executeEvents()}), of the execution
+ * of its events alone and of the enemies AI, with a growing number of enemies.
+ * The room is rebuilt before every iteration, within an iteration it evolves like in the game:
+ * enemies move, shoot and can die.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomBenchmark {
+
+    private static final int PLAYER_SHOTS = 16;
+
+    @Param({ "4", "16", "64", "4096" })
+    private int enemies;
+
+    private TickGameClock clock;
+    private Room room;
+    private Player player;
+    private AIEnemy ai;
+
+    /**
+     * Build a standard room with the enemies and some shots of the player.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final Random random = new Random(BenchmarkRooms.SEED);
+        this.clock = new TickGameClock(BenchmarkRooms.TICK_PERIOD);
+        this.player = new Player(null, null, null, this.clock);
+        this.room = BenchmarkRooms.standardRoom(BenchmarkRooms.enemies(this.enemies, this.clock, random), this.player);
+        BenchmarkRooms.fireShots(this.room, this.clock, PLAYER_SHOTS, random);
+        this.ai = this.room.getRoomAI().get();
+    }
+
+    /**
+     * A whole tick of the room, as done by the game loop.
+     * @return the room
+     */
+    @Benchmark
+    public Room tick() {
+        this.clock.tick();
+        this.room.saveElementsCoords();
+        this.room.updateRoom();
+        this.room.executeEvents();
+        return this.room;
+    }
+
+    /**
+     * Execute the events of the room, checked before the invocation.
+     * The cost of {@link Room#updateRoom()} is the cost of {@link #tick()} minus this one.
+     * @param events the room with its events checked
+     * @return the room
+     */
+    @Benchmark
+    public Room executeEvents(final PendingEvents events) {
+        this.room.executeEvents();
+        return this.room;
+    }
+
+    /**
+     * Move the enemies towards the player and let them try to shoot.
+     * The clock is not advanced, so the shots do not pile up in the room.
+     * @return the enemies AI
+     */
+    @Benchmark
+    public AIEnemy updateEnemies() {
+        this.ai.updateEnemies(this.player, this.room.getBox());
+        return this.ai;
+    }
+
+    /**
+     * State which checks the events of the room before every invocation, so that only their execution is measured.
+     */
+    @State(Scope.Thread)
+    public static class PendingEvents {
+
+        /**
+         * Check the events of the room.
+         * @param benchmark the benchmark owning the room
+         */
+        @Setup(Level.Invocation)
+        public void checkEvents(final RoomBenchmark benchmark) {
+            benchmark.clock.tick();
+            benchmark.room.checkEvents();
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package it.unibo.isaccoop.controller.input;
 /**
  * Class that manages the pressure of the buttons,
- * saving only the last key pressed until it is used.
+ * saving only the last action key pressed until it is used.
+ * Keys not bound to an action are ignored, so moving or shooting does not cancel a pending action.
  */
 public class ActionControllerImpl implements ActionController {
 
@@ -31,12 +32,14 @@ public class ActionControllerImpl implements ActionController {
      * @param keyCode
      */
     public void notifyKeyPressed(final int keyCode) {
-        this.setAllFalse();
         if (keyCode == this.keyEsc) {
+            this.setAllFalse();
             this.isEsc = true;
         } else if (keyCode == this.keyNextRoom) {
+            this.setAllFalse();
             this.isNextRoom = true;
         } else if (keyCode == this.keyPrevRoom) {
+            this.setAllFalse();
             this.isPrevRoom = true;
         }
     }
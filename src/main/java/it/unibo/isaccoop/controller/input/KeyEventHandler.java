@@ -0,0 +1,17 @@
+package it.unibo.isaccoop.controller.input;
+
+/**
+ * Receiver of the key events drained from a {@link KeyEventQueue}.
+ */
+@FunctionalInterface
+public interface KeyEventHandler {
+
+    /**
+     * Handle a key event.
+     *
+     * @param keyCode the code of the key
+     * @param pressed true if the key has been pressed, false if it has been released
+     * @param timestamp when the event happened, as given by {@link System#nanoTime()}
+     */
+    void handle(int keyCode, boolean pressed, long timestamp);
+}
@@ -0,0 +1,96 @@
+package it.unibo.isaccoop.controller.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free ring buffer of timestamped key events, written by a single thread, the Swing event dispatch thread,
+ * and read by a single thread, the game loop.
+ * Events are stored in preallocated arrays, so neither side allocates memory or blocks: the producer publishes
+ * an event by advancing the tail after writing it, the consumer frees a slot by advancing the head after reading it.
+ * When the buffer is full new events are dropped and counted, which only happens if the game loop stops draining.
+ */
+public final class KeyEventQueue {
+
+    /**
+     * Default number of events the queue can hold.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int[] keyCodes;
+    private final boolean[] pressed;
+    private final long[] timestamps;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * KeyEventQueue constructor, with {@value #DEFAULT_CAPACITY} slots.
+     */
+    public KeyEventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * KeyEventQueue constructor.
+     *
+     * @param capacity the number of events the queue can hold, a power of two
+     */
+    public KeyEventQueue(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        this.keyCodes = new int[capacity];
+        this.pressed = new boolean[capacity];
+        this.timestamps = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Add an event, called only by the producer thread.
+     *
+     * @param keyCode the code of the key
+     * @param isPressed true if the key has been pressed, false if it has been released
+     * @param timestamp when the event happened, as given by {@link System#nanoTime()}
+     * @return false if the queue is full and the event has been dropped
+     */
+    public boolean offer(final int keyCode, final boolean isPressed, final long timestamp) {
+        final long t = this.tail.get();
+        if (t - this.head.get() > this.mask) {
+            this.dropped.incrementAndGet();
+            return false;
+        }
+        final int slot = (int) t & this.mask;
+        this.keyCodes[slot] = keyCode;
+        this.pressed[slot] = isPressed;
+        this.timestamps[slot] = timestamp;
+        this.tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Remove all the events in the queue, in the order they were added, called only by the consumer thread.
+     *
+     * @param handler the receiver of the events
+     * @return the number of events removed
+     */
+    public int drain(final KeyEventHandler handler) {
+        final long h = this.head.get();
+        final long t = this.tail.get();
+        for (long i = h; i < t; i++) {
+            final int slot = (int) i & this.mask;
+            handler.handle(this.keyCodes[slot], this.pressed[slot], this.timestamps[slot]);
+        }
+        this.head.lazySet(t);
+        return (int) (t - h);
+    }
+
+    /**
+     * Get the number of events dropped because the queue was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDropped() {
+        return this.dropped.get();
+    }
+}
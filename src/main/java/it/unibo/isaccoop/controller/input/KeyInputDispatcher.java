@@ -0,0 +1,77 @@
+package it.unibo.isaccoop.controller.input;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Applies the key events of a {@link KeyEventQueue} to the keyboard controllers and to the action controller,
+ * so that their state is only changed by the game loop thread, at the start of every frame.
+ */
+public final class KeyInputDispatcher implements KeyEventHandler {
+
+    private final KeyEventQueue queue;
+    private final List<KeyboardInputController> keyboards;
+    private final ActionControllerImpl actions;
+    private long oldestTimestamp;
+    private boolean first;
+
+    /**
+     * KeyInputDispatcher constructor.
+     *
+     * @param queue the queue of the key events
+     * @param keyboards the keyboard controllers receiving the events
+     * @param actions the action controller receiving the events
+     */
+    public KeyInputDispatcher(final KeyEventQueue queue, final Collection<KeyboardInputController> keyboards,
+            final ActionControllerImpl actions) {
+        this.queue = queue;
+        this.keyboards = List.copyOf(keyboards);
+        this.actions = actions;
+    }
+
+    /**
+     * Apply the events queued since the last call.
+     *
+     * @return the number of events applied
+     */
+    public int dispatch() {
+        this.first = true;
+        return this.queue.drain(this);
+    }
+
+    /**
+     * Get when the oldest event applied by the last {@link #dispatch()} happened.
+     *
+     * @return the timestamp of the event, as given by {@link System#nanoTime()}, meaningless if no event was applied
+     */
+    public long getOldestTimestamp() {
+        return this.oldestTimestamp;
+    }
+
+    /**
+     * Signal that a tick has read the input state, forgetting the keys already released.
+     */
+    public void endTick() {
+        for (final KeyboardInputController ctrl : this.keyboards) {
+            ctrl.clearTaps();
+        }
+    }
+
+    @Override
+    public void handle(final int keyCode, final boolean pressed, final long timestamp) {
+        if (this.first) {
+            this.oldestTimestamp = timestamp;
+            this.first = false;
+        }
+        for (final KeyboardInputController ctrl : this.keyboards) {
+            if (pressed) {
+                ctrl.notifyKeyPressed(keyCode);
+            } else {
+                ctrl.notifyKeyReleased(keyCode);
+            }
+        }
+        if (pressed) {
+            this.actions.notifyKeyPressed(keyCode);
+        }
+    }
+}
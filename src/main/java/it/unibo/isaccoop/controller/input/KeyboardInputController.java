@@ -2,6 +2,8 @@ package it.unibo.isaccoop.controller.input;
 
 /**
  * KeyboardInputController class that contains movement/shooting input state.
+ * A key pressed and released before a tick reads it still counts as pressed for that tick,
+ * so quick taps are not lost.
  */
 public final class KeyboardInputController implements InputController {
 
@@ -14,6 +16,10 @@ public final class KeyboardInputController implements InputController {
     private boolean isDown;
     private boolean isLeft;
     private boolean isRight;
+    private boolean tappedUp;
+    private boolean tappedDown;
+    private boolean tappedLeft;
+    private boolean tappedRight;
 
     /**
      * KeyboardInputController Constructor.
@@ -39,12 +45,16 @@ public final class KeyboardInputController implements InputController {
     public void notifyKeyPressed(final int keyCode) {
         if (keyCode == keyCodeUp) {
             isUp = true;
+            tappedUp = true;
         } else if (keyCode == keyCodeDown) {
             isDown = true;
+            tappedDown = true;
         } else if (keyCode == keyCodeLeft) {
             isLeft = true;
+            tappedLeft = true;
         } else if (keyCode == keyCodeRight) {
             isRight = true;
+            tappedRight = true;
         }
     }
 
@@ -64,23 +74,33 @@ public final class KeyboardInputController implements InputController {
         }
     }
 
+    /**
+     * Method to forget the keys released after being pressed, once a tick has read them.
+     */
+    public void clearTaps() {
+        tappedUp = false;
+        tappedDown = false;
+        tappedLeft = false;
+        tappedRight = false;
+    }
+
     @Override
     public boolean isUp() {
-        return this.isUp;
+        return this.isUp || this.tappedUp;
     }
 
     @Override
     public boolean isDown() {
-        return this.isDown;
+        return this.isDown || this.tappedDown;
     }
 
     @Override
     public boolean isLeft() {
-        return this.isLeft;
+        return this.isLeft || this.tappedLeft;
     }
 
     @Override
     public boolean isRight() {
-        return this.isRight;
+        return this.isRight || this.tappedRight;
     }
 }
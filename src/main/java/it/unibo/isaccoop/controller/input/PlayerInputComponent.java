@@ -23,19 +23,26 @@ public final class PlayerInputComponent implements InputComponent {
     public void update(final Player player) {
         final InputController ctrl = player.getMovementController();
 
-        if (ctrl.isUp() && !player.getBox()
-                .isCollidingWithRecPerimeter(player.getMovePreview(Direction.UP), this.roomBoundingBox)) {
+        if (ctrl.isUp() && this.canMove(player, Direction.UP)) {
             player.update(Direction.UP);
-        } else if (ctrl.isDown() && !player.getBox()
-                .isCollidingWithRecPerimeter(player.getMovePreview(Direction.DOWN), this.roomBoundingBox)) {
+        } else if (ctrl.isDown() && this.canMove(player, Direction.DOWN)) {
             player.update(Direction.DOWN);
-        } else if (ctrl.isLeft() && !player.getBox()
-                .isCollidingWithRecPerimeter(player.getMovePreview(Direction.LEFT), this.roomBoundingBox)) {
+        } else if (ctrl.isLeft() && this.canMove(player, Direction.LEFT)) {
             player.update(Direction.LEFT);
-        } else if (ctrl.isRight() && !player.getBox()
-                .isCollidingWithRecPerimeter(player.getMovePreview(Direction.RIGHT), this.roomBoundingBox)) {
+        } else if (ctrl.isRight() && this.canMove(player, Direction.RIGHT)) {
             player.update(Direction.RIGHT);
         }
     }
 
+    /**
+     * Check if the player can move along the specified direction without touching the room perimeter.
+     * @param player the player to move
+     * @param direction the direction of the movement
+     * @return true if the player can move
+     */
+    private boolean canMove(final Player player, final Direction direction) {
+        final double distance = player.getSpeed();
+        return !player.getBox().isCollidingWithRecPerimeter(player.getX() + direction.getX() * distance,
+                player.getY() + direction.getY() * distance, this.roomBoundingBox);
+    }
 }
@@ -0,0 +1,54 @@
+package it.unibo.isaccoop.controller.input;
+
+import java.util.Optional;
+
+import it.unibo.isaccoop.model.common.Direction;
+
+/**
+ * Input controller driven by code instead of the keyboard, used to play the game without a display.
+ * At most one direction is pressed at a time.
+ */
+public final class ProgrammaticInputController implements InputController {
+
+    private Optional<Direction> pressed = Optional.empty();
+
+    /**
+     * Press the specified direction, releasing the one pressed before.
+     *
+     * @param direction the direction to press
+     */
+    public void press(final Direction direction) {
+        this.pressed = Optional.of(direction);
+    }
+
+    /**
+     * Release the pressed direction, if any.
+     */
+    public void release() {
+        this.pressed = Optional.empty();
+    }
+
+    @Override
+    public boolean isUp() {
+        return this.isPressed(Direction.UP);
+    }
+
+    @Override
+    public boolean isDown() {
+        return this.isPressed(Direction.DOWN);
+    }
+
+    @Override
+    public boolean isLeft() {
+        return this.isPressed(Direction.LEFT);
+    }
+
+    @Override
+    public boolean isRight() {
+        return this.isPressed(Direction.RIGHT);
+    }
+
+    private boolean isPressed(final Direction direction) {
+        return this.pressed.isPresent() && this.pressed.get() == direction;
+    }
+}
@@ -0,0 +1,49 @@
+package it.unibo.isaccoop.controller.input;
+
+/**
+ * Input controller replaying the state recorded from another controller, used to replay a game.
+ * Unlike {@link ProgrammaticInputController}, any combination of directions can be pressed,
+ * like with the keyboard.
+ */
+public final class ReplayInputController implements InputController {
+
+    private boolean isUp;
+    private boolean isDown;
+    private boolean isLeft;
+    private boolean isRight;
+
+    /**
+     * Set the pressed directions.
+     *
+     * @param up true if UP is pressed
+     * @param down true if DOWN is pressed
+     * @param left true if LEFT is pressed
+     * @param right true if RIGHT is pressed
+     */
+    public void set(final boolean up, final boolean down, final boolean left, final boolean right) {
+        this.isUp = up;
+        this.isDown = down;
+        this.isLeft = left;
+        this.isRight = right;
+    }
+
+    @Override
+    public boolean isUp() {
+        return this.isUp;
+    }
+
+    @Override
+    public boolean isDown() {
+        return this.isDown;
+    }
+
+    @Override
+    public boolean isLeft() {
+        return this.isLeft;
+    }
+
+    @Override
+    public boolean isRight() {
+        return this.isRight;
+    }
+}
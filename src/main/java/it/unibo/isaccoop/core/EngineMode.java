@@ -0,0 +1,27 @@
+package it.unibo.isaccoop.core;
+
+/**
+ * Modes in which the {@link GameEngine} can run.
+ */
+public enum EngineMode {
+
+    /**
+     * Game drawn in a Swing window and played with the keyboard.
+     */
+    SWING,
+
+    /**
+     * Game drawn actively on a canvas by a dedicated render thread and played with the keyboard.
+     */
+    CANVAS,
+
+    /**
+     * Game without any window, with inputs driven by code.
+     */
+    HEADLESS,
+
+    /**
+     * Game without any window, with inputs read from a replay.
+     */
+    REPLAY
+}
@@ -8,7 +8,10 @@ import java.util.Collection;
 
 import it.unibo.isaccoop.controller.input.ActionControllerImpl;
 import it.unibo.isaccoop.controller.input.InputController;
+import it.unibo.isaccoop.controller.input.KeyEventQueue;
 import it.unibo.isaccoop.controller.input.KeyboardInputController;
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
 /**
  * Interface representing the game engine.
  * */
@@ -18,6 +21,23 @@ public interface GameEngine {
      */
     void run();
 
+    /**
+     * Method that advances the game by a single simulation step, without rendering.
+     * @return true if the game can go on, false if the level is complete or the player is dead
+     */
+    boolean step();
+
+    /**
+     * Method that applies the pending actions, like pause or room change, without a simulation step.
+     */
+    void processActions();
+
+    /**
+     * Get the hash of the current state of the game, the same inputs on the same seed reach the same hash.
+     * @return the hash of the game state
+     */
+    long getStateHash();
+
     /**
      * Method that returns the controllers present in the game engine.
      * @param name reference to specific controller.
@@ -38,6 +58,27 @@ public interface GameEngine {
      */
     Collection<KeyboardInputController> getKeyboardInputControllers();
 
+    /**
+     * Get the queue of the key events, filled by the window and drained by the game loop at every tick.
+     *
+     * @return the key events queue
+     */
+    KeyEventQueue getKeyEvents();
+
+    /**
+     * Get the clock measuring the game time, advanced at every simulation step.
+     *
+     * @return the game clock
+     */
+    GameClock getClock();
+
+    /**
+     * Get the source of random numbers of the game, from which every level and room derives its own.
+     *
+     * @return the random numbers of the game
+     */
+    GameRandom getRandom();
+
     /**
      * Get game loop handled by game engine.
      *
@@ -12,17 +12,39 @@ import static java.awt.event.KeyEvent.VK_S;
 import static java.awt.event.KeyEvent.VK_UP;
 import static java.awt.event.KeyEvent.VK_W;
 
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.isaccoop.controller.input.ActionController;
 import it.unibo.isaccoop.controller.input.ActionControllerImpl;
 import it.unibo.isaccoop.controller.input.InputController;
+import it.unibo.isaccoop.controller.input.KeyEventQueue;
+import it.unibo.isaccoop.controller.input.KeyInputDispatcher;
 import it.unibo.isaccoop.controller.input.KeyboardInputController;
+import it.unibo.isaccoop.controller.input.ProgrammaticInputController;
+import it.unibo.isaccoop.controller.input.ReplayInputController;
+import it.unibo.isaccoop.core.metrics.FrameMetrics;
+import it.unibo.isaccoop.core.replay.GameStateHash;
+import it.unibo.isaccoop.core.replay.ReplayRecorder;
+import it.unibo.isaccoop.graphics.CanvasScene;
+import it.unibo.isaccoop.graphics.HeadlessScene;
+import it.unibo.isaccoop.graphics.Scene;
 import it.unibo.isaccoop.graphics.SwingScene;
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.room.Level;
 import it.unibo.isaccoop.model.room.LevelControllerImpl;
 
 /**
@@ -33,32 +55,189 @@ public final class GameEngineImpl implements GameEngine {
     private final Map<String, InputController> controllers = new HashMap<>();
     private ActionController actionController;
     private GameLoop gameLoop;
+    private Level level;
+    private final EngineMode mode;
+    private final TickGameClock clock = new TickGameClock(GameEngineImpl.TICK_PERIOD);
+    private final GameRandom random;
+    private final KeyEventQueue keyEvents = new KeyEventQueue();
+    private Optional<ReplayRecorder> recorder = Optional.empty();
 
-    private static final int MAX_ROOMS = 5;
+    /* the game ends with the first level, so no level after it is created in background */
+    private static final int LEVELS = 1;
+    private static final long TICK_PERIOD = 20;
+    private static final String SCENE_PROPERTY = "isaccoop.scene";
+    private static final String SEED_PROPERTY = "isaccoop.seed";
+    private static final String RECORD_PROPERTY = "isaccoop.record";
+    private static final String DUNGEON_PROPERTY = "isaccoop.dungeon";
+    private static final String DUNGEON_PERIOD_PROPERTY = "isaccoop.dungeon.period";
+    private static final Logger LOGGER = Logger.getLogger(GameEngineImpl.class.getName());
 
     /**
-     * GameEngineImp constructor.
+     * GameEngineImp constructor, which runs in {@link EngineMode#HEADLESS} mode when no display is available.
+     * Otherwise it runs in {@link EngineMode#CANVAS} mode if the system property {@value #SCENE_PROPERTY}
+     * is set to {@code canvas}, and in {@link EngineMode#SWING} mode if it is not.
+     * The game is recorded into the file given by the system property {@value #RECORD_PROPERTY}, if set.
      * */
     public GameEngineImpl() {
+        this(defaultMode());
+        final String record = System.getProperty(RECORD_PROPERTY);
+        if (record != null) {
+            try {
+                this.startRecording(Files.newOutputStream(Path.of(record)));
+            } catch (IOException e) {
+                LOGGER.severe(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * GameEngineImp constructor, with the seed given by the system property {@value #SEED_PROPERTY}
+     * or chosen at random if the property is not set.
+     * @param mode the mode in which the engine runs
+     * */
+    public GameEngineImpl(final EngineMode mode) {
+        this(mode, defaultRandom());
+    }
+
+    /**
+     * GameEngineImp constructor.
+     * @param mode the mode in which the engine runs
+     * @param seed the seed of the random numbers of the game, the same seed plays the same game
+     * */
+    public GameEngineImpl(final EngineMode mode, final long seed) {
+        this(mode, new GameRandom(seed));
+    }
+
+    private GameEngineImpl(final EngineMode mode, final GameRandom random) {
+        this.mode = mode;
+        this.random = random;
         this.initGame();
     }
 
     @Override
     public void run() {
         this.gameLoop.gameLoop();
+        this.stopRecording();
+    }
+
+    @Override
+    public boolean step() {
+        this.gameLoop.tick();
+        return !this.level.isLevelComplete() && !this.level.getPlayer().isDead();
+    }
+
+    @Override
+    public void processActions() {
+        this.gameLoop.processActions();
+    }
+
+    @Override
+    public long getStateHash() {
+        return GameStateHash.of(this.level, this.clock.getTicks());
+    }
+
+    /**
+     * Record the game into a replay, which can be played by {@link it.unibo.isaccoop.core.replay.ReplayRunner}.
+     * The recording is closed when the game ends or the application exits.
+     * @param out where to write the replay
+     * @throws IOException if the replay cannot be written
+     * @throws IllegalStateException if the game is already started or recorded
+     */
+    public void startRecording(final OutputStream out) throws IOException {
+        if (this.clock.getTicks() > 0 || this.recorder.isPresent()) {
+            throw new IllegalStateException("A game can be recorded only from its start");
+        }
+        final ReplayRecorder replay = new ReplayRecorder(out, this.random.getSeed());
+        this.recorder = Optional.of(replay);
+        this.gameLoop.record(replay);
+        Runtime.getRuntime().addShutdownHook(new Thread(replay::close));
+    }
+
+    /**
+     * Stop recording the game, writing the hash of its current state to verify the replay.
+     */
+    public void stopRecording() {
+        this.recorder.ifPresent(r -> r.finish(this.getStateHash()));
+        this.recorder = Optional.empty();
     }
 
     /**
      * Method that initializes the initial game values.
+     * The rooms not containing the player are simulated too if the system property {@value #DUNGEON_PROPERTY}
+     * is set to a {@link SimulationScope}, every {@value #DUNGEON_PERIOD_PROPERTY} ticks
+     * ({@value OffScreenSimulation#DEFAULT_PERIOD} if not set). A replay must be played with the same properties
+     * of its recording.
      */
     private void initGame() {
-        this.controllers.put("keyMove", new KeyboardInputController(VK_W, VK_S, VK_A, VK_D));
-        this.controllers.put("keyShot", new KeyboardInputController(VK_UP, VK_DOWN, VK_LEFT, VK_RIGHT));
+        if (this.mode == EngineMode.HEADLESS) {
+            this.controllers.put("keyMove", new ProgrammaticInputController());
+            this.controllers.put("keyShot", new ProgrammaticInputController());
+        } else if (this.mode == EngineMode.REPLAY) {
+            this.controllers.put("keyMove", new ReplayInputController());
+            this.controllers.put("keyShot", new ReplayInputController());
+        } else {
+            this.controllers.put("keyMove", new KeyboardInputController(VK_W, VK_S, VK_A, VK_D));
+            this.controllers.put("keyShot", new KeyboardInputController(VK_UP, VK_DOWN, VK_LEFT, VK_RIGHT));
+        }
         this.actionController = new ActionControllerImpl(VK_ESCAPE, VK_N, VK_P);
-        final var gameState = new LevelControllerImpl(GameEngineImpl.MAX_ROOMS, this).getCurrentLevel();
-        this.gameLoop = new GameLoopImpl(new SwingScene(gameState, this),
-                gameState, this.actionController);
+        this.level = new LevelControllerImpl(GameEngineImpl.LEVELS, this).getCurrentLevel();
+        final Scene scene;
+        switch (this.mode) {
+            case HEADLESS:
+            case REPLAY:
+                scene = new HeadlessScene();
+                break;
+            case CANVAS:
+                scene = new CanvasScene(this.level, this);
+                break;
+            default:
+                scene = new SwingScene(this.level, this);
+                break;
+        }
+        this.gameLoop = new GameLoopImpl(scene, this.level, this.actionController, this.clock,
+                FrameMetrics.getInstance(), new KeyInputDispatcher(this.keyEvents,
+                        this.getKeyboardInputControllers(), this.getActionController()));
+        final SimulationScope scope = defaultScope();
+        if (scope != SimulationScope.CURRENT) {
+            this.gameLoop.simulateOffScreen(new OffScreenSimulation(this.level, scope,
+                    Integer.getInteger(DUNGEON_PERIOD_PROPERTY, OffScreenSimulation.DEFAULT_PERIOD)));
+        }
+    }
+
+    /**
+     * Get the mode to use when it is not specified.
+     * @return the default engine mode
+     */
+    private static EngineMode defaultMode() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return EngineMode.HEADLESS;
+        }
+        return "canvas".equalsIgnoreCase(System.getProperty(SCENE_PROPERTY)) ? EngineMode.CANVAS : EngineMode.SWING;
+    }
+
+    /**
+     * Get the rooms to simulate, given by the system property {@value #DUNGEON_PROPERTY}.
+     * @return the rooms to simulate, only the room containing the player if the property is not valid
+     */
+    private static SimulationScope defaultScope() {
+        final String scope = System.getProperty(DUNGEON_PROPERTY);
+        if (scope != null) {
+            try {
+                return SimulationScope.valueOf(scope.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                LOGGER.severe(e.getMessage());
+            }
+        }
+        return SimulationScope.CURRENT;
+    }
 
+    /**
+     * Get the random numbers to use when the seed is not specified.
+     * @return the default random numbers
+     */
+    private static GameRandom defaultRandom() {
+        final Long seed = Long.getLong(SEED_PROPERTY);
+        return seed == null ? new GameRandom() : new GameRandom(seed);
     }
 
     @Override
@@ -84,6 +263,21 @@ public final class GameEngineImpl implements GameEngine {
         return contr;
     }
 
+    @Override
+    public KeyEventQueue getKeyEvents() {
+        return this.keyEvents;
+    }
+
+    @Override
+    public GameClock getClock() {
+        return this.clock;
+    }
+
+    @Override
+    public GameRandom getRandom() {
+        return this.random;
+    }
+
     @Override
     public boolean isGameLoopInPause() {
         return this.gameLoop.isPause();
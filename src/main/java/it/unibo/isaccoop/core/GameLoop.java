@@ -1,5 +1,6 @@
 package it.unibo.isaccoop.core;
 
+import it.unibo.isaccoop.core.replay.ReplayRecorder;
 import it.unibo.isaccoop.model.room.Level;
 
 /**
@@ -12,6 +13,30 @@ public interface GameLoop {
      */
     void gameLoop();
 
+    /**
+     * Method that runs a single simulation step as fast as possible: input and update, without rendering.
+     */
+    void tick();
+
+    /**
+     * Method that applies the pending actions, like pause or room change, without a simulation step.
+     */
+    void processActions();
+
+    /**
+     * Record from now on the actions applied and the inputs read at every simulation step.
+     *
+     * @param recorder where to record the inputs
+     */
+    void record(ReplayRecorder recorder);
+
+    /**
+     * Simulate from now on also the rooms not containing the player, between the simulation steps.
+     *
+     * @param simulation the simulation of the rooms not containing the player
+     */
+    void simulateOffScreen(OffScreenSimulation simulation);
+
     /**
      * Get if game loop is in pause or not.
      *
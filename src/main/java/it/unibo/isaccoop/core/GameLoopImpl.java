@@ -1,6 +1,8 @@
 package it.unibo.isaccoop.core;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -8,10 +10,18 @@ import it.unibo.isaccoop.controller.input.ActionComponent;
 import it.unibo.isaccoop.controller.input.ActionComponentImpl;
 import it.unibo.isaccoop.controller.input.ActionController;
 import it.unibo.isaccoop.controller.input.InputComponent;
+import it.unibo.isaccoop.controller.input.KeyInputDispatcher;
 import it.unibo.isaccoop.controller.input.PlayerInputComponent;
 import it.unibo.isaccoop.controller.input.ShotInputComponent;
+import it.unibo.isaccoop.core.metrics.FramePhase;
+import it.unibo.isaccoop.core.metrics.FrameMetrics;
+import it.unibo.isaccoop.core.replay.RecordingActionController;
+import it.unibo.isaccoop.core.replay.ReplayRecorder;
 import it.unibo.isaccoop.graphics.Scene;
+import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.common.TickGameClock;
 import it.unibo.isaccoop.model.room.Level;
+import it.unibo.isaccoop.model.room.Room;
 
 /**
  * Implementation of GameLoop.
@@ -23,8 +33,21 @@ public final class GameLoopImpl implements GameLoop {
     private final List<InputComponent> inputComponents;
     private final ActionComponent actionComponent;
     private final ActionController actionController;
-    private static final long DEFAULT_PERIOD = 20;
+    private static final int MAX_FRAME_RATE = 144;
+    private static final long FRAME_PERIOD = TimeUnit.SECONDS.toNanos(1) / MAX_FRAME_RATE;
+    private static final int MAX_UPDATES_PER_FRAME = 5;
     private static final Logger LOGGER = Logger.getLogger(GameLoopImpl.class.getName());
+    private final TickGameClock clock;
+    private final long updatePeriod;
+    private final FrameMetrics metrics;
+    private final Optional<KeyInputDispatcher> keyInput;
+    private long oldestUnrenderedInput;
+    private boolean hasUnrenderedInput;
+    private boolean isInputUpdated;
+    private RoomType currentRoomType;
+    private Optional<ReplayRecorder> recorder = Optional.empty();
+    private Optional<OffScreenSimulation> offScreen = Optional.empty();
+    private ActionController recordedActions;
     private boolean isPause;
 
     /**
@@ -33,85 +56,251 @@ public final class GameLoopImpl implements GameLoop {
      * @param view to be handled into game loop
      * @param level to be handled into game loop
      * @param actionController the actionController to manage keys pressed
+     * @param clock the game clock, advanced by one tick at every update
 
      * The warning is suppressed because we need level reference in this class, the level is immutable.
      */
    
-    public GameLoopImpl(final Scene view, final Level level, final ActionController actionController) {
+    public GameLoopImpl(final Scene view, final Level level, final ActionController actionController,
+            final TickGameClock clock) {
+        this(view, level, actionController, clock, FrameMetrics.getInstance());
+    }
+
+    /**
+     * GameLoopImpl constructor.
+     *
+     * @param view to be handled into game loop
+     * @param level to be handled into game loop
+     * @param actionController the actionController to manage keys pressed
+     * @param clock the game clock, advanced by one tick at every update
+     * @param metrics where to record the duration of every phase of the loop
+     */
+    public GameLoopImpl(final Scene view, final Level level, final ActionController actionController,
+            final TickGameClock clock, final FrameMetrics metrics) {
+        this(view, level, actionController, clock, metrics, Optional.empty());
+    }
+
+    /**
+     * GameLoopImpl constructor, for a game played with the keyboard.
+     *
+     * @param view to be handled into game loop
+     * @param level to be handled into game loop
+     * @param actionController the actionController to manage keys pressed
+     * @param clock the game clock, advanced by one tick at every update
+     * @param metrics where to record the duration of every phase of the loop and the input latency
+     * @param keyInput the key events, applied to the controllers at the start of every frame
+     */
+    public GameLoopImpl(final Scene view, final Level level, final ActionController actionController,
+            final TickGameClock clock, final FrameMetrics metrics, final KeyInputDispatcher keyInput) {
+        this(view, level, actionController, clock, metrics, Optional.of(keyInput));
+    }
+
+    private GameLoopImpl(final Scene view, final Level level, final ActionController actionController,
+            final TickGameClock clock, final FrameMetrics metrics, final Optional<KeyInputDispatcher> keyInput) {
         this.view = view;
         this.level = level;
         this.inputComponents = List.of(new PlayerInputComponent(this.level.getCurrentRoom()),
                 new ShotInputComponent());
         this.actionComponent = new ActionComponentImpl();
         this.actionController = actionController;
+        this.recordedActions = actionController;
         this.isPause = false;
+        this.clock = clock;
+        this.updatePeriod = TimeUnit.MILLISECONDS.toNanos(clock.getTickPeriod());
+        this.metrics = metrics;
+        this.keyInput = keyInput;
+        this.currentRoomType = level.getCurrentRoom().getRoomType();
     }
 
     /**
      * Method that represents the main loop of the game.
+     * The game is updated with a fixed time step, the tick period of the game clock, independently of
+     * the time needed to render: when a frame takes too long, more updates are done before the next render,
+     * up to {@value #MAX_UPDATES_PER_FRAME}, after which the remaining lag is dropped.
      */
     @Override
     public void gameLoop() {
+        long previous = System.nanoTime();
+        long lag = 0;
         while (!level.isLevelComplete()) {
-            final long current = System.currentTimeMillis();
-            this.processActionsInput();
-            if (!this.isPause()) {
-                this.processPlayerInput();
-                this.updateGame();
+            final long current = System.nanoTime();
+            lag += current - previous;
+            previous = current;
+            this.processActions();
+            int updates = 0;
+            while (lag >= this.updatePeriod && updates < MAX_UPDATES_PER_FRAME) {
+                this.update();
+                lag -= this.updatePeriod;
+                updates++;
+            }
+            if (lag >= this.updatePeriod) {
+                lag %= this.updatePeriod;
             }
-            this.render();
+            /* while paused the previous coords are stale, so the current ones are drawn as they are */
+            this.render(this.isPause() ? 1.0 : (double) lag / this.updatePeriod);
             this.waitForNextFrame(current);
         }
+        this.joinOffScreen();
+        this.view.renderGameOver();
+    }
 
+    @Override
+    public void tick() {
+        this.processActions();
+        this.update();
+    }
+
+    @Override
+    public void record(final ReplayRecorder recorder) {
+        this.recorder = Optional.of(recorder);
+        this.recordedActions = new RecordingActionController(this.actionController, recorder);
+    }
+
+    @Override
+    public void simulateOffScreen(final OffScreenSimulation simulation) {
+        this.joinOffScreen();
+        this.offScreen = Optional.of(simulation);
     }
 
     /**
-     * Method to update actions input.
+     * Method that updates player input and game state, if the game is not in pause.
+     * The rooms not containing the player, if simulated, are updated after the room containing the player,
+     * while the game thread goes on until the next update or action.
+     */
+    private void update() {
+        if (!this.isPause()) {
+            this.joinOffScreen();
+            final long start = System.nanoTime();
+            this.clock.tick();
+            this.recorder.ifPresent(r -> r.recordStep(this.level.getPlayer().getMovementController(),
+                    this.level.getPlayer().getShootingController()));
+            this.processPlayerInput();
+            this.keyInput.ifPresent(KeyInputDispatcher::endTick);
+            this.isInputUpdated = this.hasUnrenderedInput;
+            this.metrics.record(this.currentRoomType, FramePhase.PLAYER_INPUT, System.nanoTime() - start);
+            this.updateGame();
+            this.metrics.record(this.currentRoomType, FramePhase.TICK, System.nanoTime() - start);
+            this.offScreen.ifPresent(OffScreenSimulation::fork);
+        }
+    }
+
+    /**
+     * Method to apply the key events queued since the last frame and update actions input,
+     * recording the applied actions if the game is recorded.
      * */
-    private void processActionsInput() {
-        this.actionComponent.update(this.actionController, this);
+    @Override
+    public void processActions() {
+        this.joinOffScreen();
+        final long start = System.nanoTime();
+        this.keyInput.ifPresent(this::dispatchKeys);
+        this.actionComponent.update(this.recordedActions, this);
+        this.metrics.record(this.currentRoomType, FramePhase.ACTIONS_INPUT, System.nanoTime() - start);
+    }
+
+    /**
+     * Wait for the rooms not containing the player to be updated, if they are simulated,
+     * before anything else in the level changes.
+     */
+    private void joinOffScreen() {
+        if (this.offScreen.isPresent()) {
+            final long start = System.nanoTime();
+            this.offScreen.get().join();
+            this.metrics.record(this.currentRoomType, FramePhase.OFF_SCREEN, System.nanoTime() - start);
+        }
+    }
+
+    private void dispatchKeys(final KeyInputDispatcher input) {
+        if (input.dispatch() > 0 && !this.hasUnrenderedInput) {
+            this.oldestUnrenderedInput = input.getOldestTimestamp();
+            this.hasUnrenderedInput = true;
+        }
     }
 
     /**
      * Private method that updates the input.
      */
     private void processPlayerInput() {
-        level.getRooms().stream().filter(r -> r.getPlayer().isPresent())
-            .forEach(x -> this.inputComponents.forEach(c -> c.update(x.getPlayer().get())));
+        final Room current = this.level.getCurrentRoom();
+        if (current.getPlayer().isPresent()) {
+            this.inputComponents.forEach(c -> c.update(current.getPlayer().get()));
+        }
     }
     /**
-     * For each room present, update the room and check the events.
+     * Update the room containing the player and check the events, the other rooms are simulated,
+     * if at all, by the {@link OffScreenSimulation}.
      * */
     private void updateGame() {
-        level.getRooms().stream().filter(r -> r.getPlayer().isPresent())
-            .forEach(x -> {
-                x.updateRoom();
-                x.executeEvents();
-            });
+        final Room current = this.level.getCurrentRoom();
+        if (current.getPlayer().isPresent()) {
+            this.updateRoom(current);
+        }
     }
 
     /**
-     * Method that renders the view.
+     * Update a room measuring every phase of the update.
+     *
+     * @param room the room containing the player
+     */
+    private void updateRoom(final Room room) {
+        final RoomType type = room.getRoomType();
+        this.currentRoomType = type;
+        long start = System.nanoTime();
+        room.saveElementsCoords();
+        room.checkEvents();
+        long end = System.nanoTime();
+        this.metrics.record(type, FramePhase.CHECK_EVENTS, end - start);
+        start = end;
+        room.updateElements();
+        end = System.nanoTime();
+        this.metrics.record(type, FramePhase.UPDATE_ROOM, end - start);
+        final int events = room.getPendingEvents();
+        start = end;
+        room.executeEvents();
+        this.metrics.record(type, FramePhase.EXECUTE_EVENTS, System.nanoTime() - start);
+        this.metrics.recordTick(type, countEntities(room), room.getProjectiles().size(), events);
+    }
+
+    private static int countEntities(final Room room) {
+        return (room.getPlayer().isPresent() ? 1 : 0)
+                + room.getRoomAI().map(ai -> ai.getWorld().size()).orElse(0)
+                + room.getItems().map(List::size).orElse(0)
+                + room.getPowerUps().map(List::size).orElse(0);
+    }
+
+    /**
+     * Method that renders the view, measuring the input latency as the time from the oldest key event
+     * not rendered yet, if any and if a tick has read it, to the end of the render.
+     *
+     * @param alpha fraction of the update period elapsed since the last update
      * */
-    private void render() {
-        view.render();
+    private void render(final double alpha) {
+        final long start = System.nanoTime();
+        view.render(alpha);
+        final long end = System.nanoTime();
+        this.metrics.record(this.currentRoomType, FramePhase.RENDER, end - start);
+        if (this.isInputUpdated) {
+            this.metrics.recordInputLatency(end - this.oldestUnrenderedInput);
+            this.hasUnrenderedInput = false;
+            this.isInputUpdated = false;
+        }
     }
 
     /**
      * Method to make the thread wait for the new frame.
      *
-     * @param current represent current time.
+     * @param current represent current time in nanoseconds.
      */
     private void waitForNextFrame(final long current) {
-        final var period = GameLoopImpl.DEFAULT_PERIOD;
-        final long dt = System.currentTimeMillis() - current;
-        if (dt < period) {
+        final long start = System.nanoTime();
+        final long dt = start - current;
+        if (dt < FRAME_PERIOD) {
             try {
-                Thread.sleep(period - dt);
+                TimeUnit.NANOSECONDS.sleep(FRAME_PERIOD - dt);
             } catch (InterruptedException e) {
                 LOGGER.severe(e.getMessage());
             }
         }
+        this.metrics.record(this.currentRoomType, FramePhase.SLEEP, System.nanoTime() - start);
     }
 
     @Override
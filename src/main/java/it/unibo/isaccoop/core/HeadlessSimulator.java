@@ -0,0 +1,169 @@
+package it.unibo.isaccoop.core;
+
+import static java.awt.event.KeyEvent.VK_N;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import it.unibo.isaccoop.controller.input.ProgrammaticInputController;
+import it.unibo.isaccoop.core.metrics.FrameMetrics;
+import it.unibo.isaccoop.model.common.Direction;
+
+/**
+ * Runs the game without a display, with a simple bot moving and shooting in random directions,
+ * and measures the simulation throughput.
+ * The game runs as fast as the CPU allows, or at a fixed multiple of the real time speed.
+ * When a game ends, a new one is started, until the requested number of ticks is reached.
+ */
+public final class HeadlessSimulator {
+
+    private static final Logger LOGGER = Logger.getLogger(HeadlessSimulator.class.getName());
+    private static final long DEFAULT_TICKS = 100_000;
+    private static final int MOVE_INTERVAL = 50;
+    private static final int SHOT_INTERVAL = 25;
+    private static final int NEXT_ROOM_INTERVAL = 100;
+
+    private final Random random;
+    private final double speed;
+    private long ticks;
+    private long games;
+    private long elapsed;
+    private long gameTime;
+
+    /**
+     * HeadlessSimulator constructor, to run the game as fast as possible.
+     * @param seed seed of the bot decisions and of the games, the same seed runs the same simulation
+     */
+    public HeadlessSimulator(final long seed) {
+        this(seed, 0);
+    }
+
+    /**
+     * HeadlessSimulator constructor.
+     * @param seed seed of the bot decisions and of the games, the same seed runs the same simulation
+     * @param speed how many times faster than real time the game runs, 0 to run it as fast as possible
+     */
+    public HeadlessSimulator(final long seed, final double speed) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("Speed multiplier cannot be negative");
+        }
+        this.random = new Random(seed);
+        this.speed = speed;
+    }
+
+    /**
+     * Run the simulation.
+     * @param maxTicks number of simulation steps to run
+     * @return the number of simulation steps per second
+     */
+    public double run(final long maxTicks) {
+        if (maxTicks <= 0) {
+            throw new IllegalArgumentException("Number of ticks must be positive");
+        }
+        while (this.ticks < maxTicks) {
+            this.games++;
+            this.playGame(maxTicks);
+        }
+        return this.getTicksPerSecond();
+    }
+
+    /**
+     * Get the number of simulation steps executed.
+     * @return the number of ticks
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Get the number of games played.
+     * @return the number of games
+     */
+    public long getGames() {
+        return this.games;
+    }
+
+    /**
+     * Get the game time simulated, as measured by the game clocks.
+     * @return the simulated game time in milliseconds
+     */
+    public long getGameTime() {
+        return this.gameTime;
+    }
+
+    /**
+     * Get the simulation throughput, without the time spent creating the levels.
+     * @return the number of simulation steps per second
+     */
+    public double getTicksPerSecond() {
+        return this.elapsed == 0 ? 0.0 : this.ticks * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsed;
+    }
+
+    private void playGame(final long maxTicks) {
+        final GameEngine engine = new GameEngineImpl(EngineMode.HEADLESS, this.random.nextLong());
+        final var move = (ProgrammaticInputController) engine.getController("keyMove");
+        final var shot = (ProgrammaticInputController) engine.getController("keyShot");
+        boolean running = true;
+        long gameTicks = 0;
+        final long gameStart = System.nanoTime();
+        while (running && this.ticks < maxTicks) {
+            if (gameTicks % MOVE_INTERVAL == 0) {
+                move.press(this.randomDirection());
+            }
+            if (gameTicks % SHOT_INTERVAL == 0) {
+                shot.press(this.randomDirection());
+            }
+            if (gameTicks % NEXT_ROOM_INTERVAL == 0) {
+                engine.getActionController().notifyKeyPressed(VK_N);
+            }
+            final long start = System.nanoTime();
+            running = engine.step();
+            this.elapsed += System.nanoTime() - start;
+            this.ticks++;
+            gameTicks++;
+            if (this.speed > 0) {
+                this.waitGameTime(gameStart, engine.getClock().getTime());
+            }
+        }
+        this.gameTime += engine.getClock().getTime();
+    }
+
+    /**
+     * Wait until the real time elapsed since the start of the game corresponds to the game time,
+     * divided by the speed multiplier.
+     */
+    private void waitGameTime(final long gameStart, final long time) {
+        final long target = gameStart + (long) (TimeUnit.MILLISECONDS.toNanos(time) / this.speed);
+        final long delay = target - System.nanoTime();
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                LOGGER.severe(e.getMessage());
+            }
+        }
+    }
+
+    private Direction randomDirection() {
+        final Direction[] directions = Direction.values();
+        return directions[this.random.nextInt(directions.length)];
+    }
+
+    /**
+     * Run the headless simulation and log its throughput.
+     * @param args optionally, the number of ticks to run, the speed multiplier and the seed
+     */
+    public static void main(final String[] args) {
+        final long maxTicks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+        final double speed = args.length > 1 ? Double.parseDouble(args[1]) : 0;
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        LOGGER.info("Seed: " + seed);
+        final HeadlessSimulator simulator = new HeadlessSimulator(seed, speed);
+        final double tps = simulator.run(maxTicks);
+        LOGGER.info(String.format("%d ticks in %d games, %d s of game time: %.1f ticks per second",
+                simulator.getTicks(), simulator.getGames(), TimeUnit.MILLISECONDS.toSeconds(simulator.getGameTime()),
+                tps));
+        LOGGER.info(FrameMetrics.getInstance().getReport());
+    }
+}
@@ -0,0 +1,150 @@
+package it.unibo.isaccoop.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.room.Level;
+import it.unibo.isaccoop.model.room.Room;
+
+/**
+ * Simulation of the rooms of a {@link Level} not containing the player, on a {@link ForkJoinPool}.
+ * Every {@code period} ticks the rooms in the {@link SimulationScope} are updated in parallel, one task
+ * per room, while the game thread renders and waits for the next tick; the pool leaves a core to the game
+ * thread, so the room containing the player is not slowed down.
+ * Rooms share no state while they are updated: the events they notify, which may affect the level,
+ * are executed by the game thread when the batch is joined, before the next tick, in the order of the
+ * room ids. So the game is the same whatever the number of threads and the time they take.
+ * The enemies of a simulated room go towards the door leading to the room containing the player.
+ */
+public final class OffScreenSimulation {
+
+    /**
+     * Default number of ticks between two updates of the simulated rooms.
+     */
+    public static final int DEFAULT_PERIOD = 4;
+
+    private final Level level;
+    private final SimulationScope scope;
+    private final int period;
+    private final ForkJoinPool pool;
+    private final List<Room> batch = new ArrayList<>();
+    private Optional<ForkJoinTask<?>> pending = Optional.empty();
+    private long ticks;
+
+    /**
+     * OffScreenSimulation constructor, updating the rooms every {@value #DEFAULT_PERIOD} ticks
+     * on all the cores but one.
+     *
+     * @param level the level whose rooms are simulated
+     * @param scope the rooms to simulate
+     */
+    public OffScreenSimulation(final Level level, final SimulationScope scope) {
+        this(level, scope, DEFAULT_PERIOD);
+    }
+
+    /**
+     * OffScreenSimulation constructor, updating the rooms on a pool shared by all the games,
+     * with all the cores but one.
+     *
+     * @param level the level whose rooms are simulated
+     * @param scope the rooms to simulate
+     * @param period number of ticks between two updates of the simulated rooms
+     */
+    public OffScreenSimulation(final Level level, final SimulationScope scope, final int period) {
+        this(level, scope, period, DefaultPool.POOL);
+    }
+
+    /**
+     * OffScreenSimulation constructor.
+     *
+     * @param level the level whose rooms are simulated
+     * @param scope the rooms to simulate
+     * @param period number of ticks between two updates of the simulated rooms
+     * @param pool the pool updating the rooms
+     */
+    public OffScreenSimulation(final Level level, final SimulationScope scope, final int period,
+            final ForkJoinPool pool) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("The period must be positive");
+        }
+        this.level = level;
+        this.scope = scope;
+        this.period = period;
+        this.pool = pool;
+    }
+
+    /**
+     * Start updating the rooms in the scope, if this tick is one of the ticks in which they are updated.
+     * The rooms are updated in background until {@link #join()} is called, so the level must not change
+     * in the meantime.
+     */
+    public void fork() {
+        this.join();
+        this.ticks++;
+        if (this.scope == SimulationScope.CURRENT || this.ticks % this.period != 0) {
+            return;
+        }
+        final Room current = this.level.getCurrentRoom();
+        final List<Room> candidates = this.scope == SimulationScope.NEAR
+                ? new ArrayList<>(this.level.getNearRooms().values()) : this.level.getRooms();
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(candidates.size());
+        for (final Room room : candidates) {
+            if (room != current && room.isMaterialized() && !room.isComplete()) {
+                this.batch.add(room);
+            }
+        }
+        this.batch.sort(Comparator.comparingInt(this.level::getRoomId));
+        for (final Room room : this.batch) {
+            final Point2D target = doorTowards(room, current);
+            tasks.add(ForkJoinTask.adapt(() -> room.updateOffScreen(target)));
+        }
+        if (!tasks.isEmpty()) {
+            this.pending = Optional.of(this.pool.submit(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+    }
+
+    /**
+     * Wait for the rooms being updated, if any, and execute their events in the order of the room ids.
+     */
+    public void join() {
+        this.pending.ifPresent(ForkJoinTask::join);
+        this.pending = Optional.empty();
+        this.batch.forEach(Room::executeEvents);
+        this.batch.clear();
+    }
+
+    /**
+     * Get the rooms to simulate.
+     *
+     * @return the rooms to simulate
+     */
+    public SimulationScope getScope() {
+        return this.scope;
+    }
+
+    /**
+     * Get the middle of the side of a room facing another room, or its corner if the rooms are diagonal.
+     *
+     * @param room the room whose door is found
+     * @param other the room the door leads to
+     * @return the position of the door in the room
+     */
+    private static Point2D doorTowards(final Room room, final Room other) {
+        final double dx = Math.signum(other.getCoords().getX() - room.getCoords().getX());
+        final double dy = Math.signum(other.getCoords().getY() - room.getCoords().getY());
+        return new Point2D(room.getWidth() / 2.0 * (1 + dx), room.getHeight() / 2.0 * (1 + dy));
+    }
+
+    /**
+     * Holder of the default pool, created the first time it is needed.
+     */
+    private static final class DefaultPool {
+        private static final ForkJoinPool POOL =
+                new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+}
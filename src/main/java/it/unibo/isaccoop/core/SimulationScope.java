@@ -0,0 +1,22 @@
+package it.unibo.isaccoop.core;
+
+/**
+ * Rooms simulated by the {@link GameLoop} at every tick, besides the one containing the player.
+ */
+public enum SimulationScope {
+
+    /**
+     * Only the room containing the player is simulated, the other rooms stay as the player left them.
+     */
+    CURRENT,
+
+    /**
+     * The rooms next to the one containing the player are simulated too, at a reduced tick rate.
+     */
+    NEAR,
+
+    /**
+     * All the rooms whose content has been created are simulated, at a reduced tick rate.
+     */
+    ALL
+}
@@ -0,0 +1,214 @@
+package it.unibo.isaccoop.core.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import it.unibo.isaccoop.model.common.RoomType;
+
+/**
+ * Timings of the game loop phases and per tick counts of entities, shots and events,
+ * kept in a {@link LatencyHistogram} for every {@link FramePhase} and every {@link RoomType}.
+ * There is a single instance for the whole process, registered as an MXBean named {@value #OBJECT_NAME},
+ * so the statistics can be watched with any JMX console while the game runs.
+ */
+public final class FrameMetrics implements FrameMetricsMXBean {
+
+    /**
+     * Name of the registered MXBean.
+     */
+    public static final String OBJECT_NAME = "it.unibo.isaccoop:type=FrameMetrics";
+
+    private static final Logger LOGGER = Logger.getLogger(FrameMetrics.class.getName());
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+    private static final FrameMetrics INSTANCE = new FrameMetrics();
+
+    private final Map<RoomType, Map<FramePhase, LatencyHistogram>> phases = new EnumMap<>(RoomType.class);
+    private final Map<RoomType, LatencyHistogram> entities = new EnumMap<>(RoomType.class);
+    private final Map<RoomType, LatencyHistogram> shots = new EnumMap<>(RoomType.class);
+    private final Map<RoomType, LatencyHistogram> events = new EnumMap<>(RoomType.class);
+    private final LatencyHistogram inputLatency = new LatencyHistogram();
+    private final AtomicLong ticks = new AtomicLong();
+
+    /**
+     * Create metrics not registered as MXBean, to measure a game loop in isolation.
+     */
+    public FrameMetrics() {
+        for (final RoomType type : RoomType.values()) {
+            final Map<FramePhase, LatencyHistogram> map = new EnumMap<>(FramePhase.class);
+            for (final FramePhase phase : FramePhase.values()) {
+                map.put(phase, new LatencyHistogram());
+            }
+            this.phases.put(type, map);
+            this.entities.put(type, new LatencyHistogram());
+            this.shots.put(type, new LatencyHistogram());
+            this.events.put(type, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Get the metrics shared by the whole game, registering them as MXBean the first time.
+     * @return the shared metrics
+     */
+    public static FrameMetrics getInstance() {
+        return Registration.REGISTERED;
+    }
+
+    /**
+     * Record the duration of a phase.
+     * @param roomType type of the room containing the player
+     * @param phase the measured phase
+     * @param nanos duration of the phase in nanoseconds
+     */
+    public void record(final RoomType roomType, final FramePhase phase, final long nanos) {
+        this.phases.get(roomType).get(phase).record(nanos);
+    }
+
+    /**
+     * Record the content of the room containing the player, at the end of a tick.
+     * @param roomType type of the room
+     * @param entityCount number of entities in the room, player, enemies, items and powerups
+     * @param shotCount number of shots in the room
+     * @param eventCount number of events executed in the tick
+     */
+    public void recordTick(final RoomType roomType, final int entityCount, final int shotCount, final int eventCount) {
+        this.ticks.incrementAndGet();
+        this.entities.get(roomType).record(entityCount);
+        this.shots.get(roomType).record(shotCount);
+        this.events.get(roomType).record(eventCount);
+    }
+
+    /**
+     * Record the input latency of a frame.
+     * @param nanos time from the oldest key event applied by the frame to the end of its render, in nanoseconds
+     */
+    public void recordInputLatency(final long nanos) {
+        this.inputLatency.record(nanos);
+    }
+
+    /**
+     * Get the histogram of the input latencies, in nanoseconds.
+     * @return the histogram
+     */
+    public LatencyHistogram getInputLatency() {
+        return this.inputLatency;
+    }
+
+    /**
+     * Get the histogram of the durations of a phase, in nanoseconds.
+     * @param roomType type of the room
+     * @param phase the phase
+     * @return the histogram
+     */
+    public LatencyHistogram getHistogram(final RoomType roomType, final FramePhase phase) {
+        return this.phases.get(roomType).get(phase);
+    }
+
+    @Override
+    public long getTicks() {
+        return this.ticks.get();
+    }
+
+    @Override
+    public String[] getPhases() {
+        return Arrays.stream(FramePhase.values()).map(Enum::name).toArray(String[]::new);
+    }
+
+    @Override
+    public double getPercentileMillis(final String roomType, final String phase, final double percentile) {
+        return this.getHistogram(RoomType.valueOf(roomType), FramePhase.valueOf(phase)).getPercentile(percentile)
+                / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxMillis(final String roomType, final String phase) {
+        return this.getHistogram(RoomType.valueOf(roomType), FramePhase.valueOf(phase)).getMax() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getInputLatencyMillis(final double percentile) {
+        return this.inputLatency.getPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public String getReport() {
+        final StringBuilder report = new StringBuilder(128);
+        for (final RoomType type : RoomType.values()) {
+            final LatencyHistogram tick = this.getHistogram(type, FramePhase.TICK);
+            if (tick.getCount() == 0) {
+                continue;
+            }
+            report.append(String.format("%s: %d ticks, %.1f entities, %.1f shots, %.1f events per tick%n",
+                    type, tick.getCount(), this.entities.get(type).getMean(), this.shots.get(type).getMean(),
+                    this.events.get(type).getMean()));
+            for (final FramePhase phase : FramePhase.values()) {
+                final LatencyHistogram h = this.getHistogram(type, phase);
+                report.append(String.format("  %-15s p50 %8.3f ms  p99 %8.3f ms  max %8.3f ms%n", phase,
+                        h.getPercentile(P50) / NANOS_PER_MILLI, h.getPercentile(P99) / NANOS_PER_MILLI,
+                        h.getMax() / NANOS_PER_MILLI));
+            }
+        }
+        if (this.inputLatency.getCount() > 0) {
+            report.append(String.format("Input latency: %d frames, p50 %.3f ms  p99 %.3f ms  max %.3f ms%n",
+                    this.inputLatency.getCount(), this.getInputLatencyMillis(P50), this.getInputLatencyMillis(P99),
+                    this.inputLatency.getMax() / NANOS_PER_MILLI));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Get a short summary of the tick cost in a type of room, to be shown on screen.
+     * @param roomType type of the room
+     * @return the summary
+     */
+    public String getOverlayText(final RoomType roomType) {
+        final LatencyHistogram tick = this.getHistogram(roomType, FramePhase.TICK);
+        final LatencyHistogram render = this.getHistogram(roomType, FramePhase.RENDER);
+        return String.format("%s tick p50 %.2f p99 %.2f max %.2f ms | render p99 %.2f ms | input p99 %.2f ms"
+                + " | shots %d", roomType, tick.getPercentile(P50) / NANOS_PER_MILLI,
+                tick.getPercentile(P99) / NANOS_PER_MILLI, tick.getMax() / NANOS_PER_MILLI,
+                render.getPercentile(P99) / NANOS_PER_MILLI, this.getInputLatencyMillis(P99),
+                this.shots.get(roomType).getMax());
+    }
+
+    @Override
+    public void reset() {
+        this.phases.values().forEach(map -> map.values().forEach(LatencyHistogram::reset));
+        this.entities.values().forEach(LatencyHistogram::reset);
+        this.shots.values().forEach(LatencyHistogram::reset);
+        this.events.values().forEach(LatencyHistogram::reset);
+        this.inputLatency.reset();
+        this.ticks.set(0);
+    }
+
+    /**
+     * Holder of the shared instance, registered as MXBean when first used.
+     */
+    private static final class Registration {
+
+        private static final FrameMetrics REGISTERED = register(INSTANCE);
+
+        private static FrameMetrics register(final FrameMetrics metrics) {
+            try {
+                final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                final ObjectName name = new ObjectName(OBJECT_NAME);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(metrics, name);
+                }
+            } catch (JMException | SecurityException ex) {
+                LOGGER.severe(ex.getMessage());
+            }
+            return metrics;
+        }
+    }
+}
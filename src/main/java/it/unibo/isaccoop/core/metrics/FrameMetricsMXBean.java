@@ -0,0 +1,58 @@
+package it.unibo.isaccoop.core.metrics;
+
+/**
+ * Management interface of {@link FrameMetrics}, to read the game loop timings through JMX.
+ * Room types and phases are the names of the {@link it.unibo.isaccoop.model.common.RoomType}
+ * and {@link FramePhase} constants.
+ */
+public interface FrameMetricsMXBean {
+
+    /**
+     * Get the number of simulation steps measured.
+     * @return the number of ticks
+     */
+    long getTicks();
+
+    /**
+     * Get the names of the measured phases.
+     * @return the phases names
+     */
+    String[] getPhases();
+
+    /**
+     * Get a percentile of the duration of a phase in a type of room.
+     * @param roomType name of the room type
+     * @param phase name of the phase
+     * @param percentile the percentage, between 0 and 100
+     * @return the percentile in milliseconds
+     */
+    double getPercentileMillis(String roomType, String phase, double percentile);
+
+    /**
+     * Get the maximum duration of a phase in a type of room.
+     * @param roomType name of the room type
+     * @param phase name of the phase
+     * @return the maximum duration in milliseconds
+     */
+    double getMaxMillis(String roomType, String phase);
+
+    /**
+     * Get a percentile of the input latency, the time from a key event to the render of the first frame
+     * updated after it.
+     * @param percentile the percentage, between 0 and 100
+     * @return the percentile in milliseconds
+     */
+    double getInputLatencyMillis(double percentile);
+
+    /**
+     * Get a table with p50, p99 and max duration of every phase, and the mean number
+     * of entities, shots and events per tick, for every type of room, and the input latency.
+     * @return the report as a string
+     */
+    String getReport();
+
+    /**
+     * Forget all the measures.
+     */
+    void reset();
+}
@@ -0,0 +1,52 @@
+package it.unibo.isaccoop.core.metrics;
+
+/**
+ * Phases of a game loop frame measured by {@link FrameMetrics}.
+ */
+public enum FramePhase {
+
+    /**
+     * Handling of the pause, next level and exit keys.
+     */
+    ACTIONS_INPUT,
+
+    /**
+     * Handling of the player movement and shooting inputs.
+     */
+    PLAYER_INPUT,
+
+    /**
+     * Collision checks of the room, which notify the room events.
+     */
+    CHECK_EVENTS,
+
+    /**
+     * Update of the enemies and of the shots of the room.
+     */
+    UPDATE_ROOM,
+
+    /**
+     * Execution of the room events.
+     */
+    EXECUTE_EVENTS,
+
+    /**
+     * Whole simulation step, from the player input to the room events.
+     */
+    TICK,
+
+    /**
+     * Time waited for the update of the rooms not containing the player to end.
+     */
+    OFF_SCREEN,
+
+    /**
+     * Recording and publishing of the frame to draw.
+     */
+    RENDER,
+
+    /**
+     * Time waited before the next frame.
+     */
+    SLEEP
+}
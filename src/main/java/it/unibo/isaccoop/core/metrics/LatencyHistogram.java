@@ -0,0 +1,117 @@
+package it.unibo.isaccoop.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of non negative values, with buckets of logarithmically growing width
+ * like HDR histograms: values below {@value #LINEAR_LIMIT} are counted exactly, bigger values
+ * are counted with a relative error lower than 1 / {@value #SUB_BUCKETS}.
+ * Recording a value never allocates memory and never blocks, so it can be done at every tick
+ * by the game loop while other threads read the statistics.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double PERCENT = 100.0;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Count a value.
+     * @param value the value to count, negative values are counted as 0
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+        this.counts.incrementAndGet(indexOf(v));
+        this.count.incrementAndGet();
+        this.sum.addAndGet(v);
+        this.max.accumulateAndGet(v, Math::max);
+    }
+
+    /**
+     * Get the number of values counted.
+     * @return the number of values
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Get the biggest value counted.
+     * @return the maximum value, 0 if no value has been counted
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Get the mean of the values counted.
+     * @return the mean value, 0 if no value has been counted
+     */
+    public double getMean() {
+        final long n = this.count.get();
+        return n == 0 ? 0.0 : (double) this.sum.get() / n;
+    }
+
+    /**
+     * Get the value below which the specified percentage of the values falls.
+     * The result is the upper bound of the bucket containing the percentile, never bigger than the maximum.
+     * @param percentile the percentage, between 0 and 100
+     * @return the percentile value, 0 if no value has been counted
+     */
+    public long getPercentile(final double percentile) {
+        if (percentile < 0 || percentile > PERCENT) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        final long n = this.count.get();
+        if (n == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(percentile / PERCENT * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= target) {
+                return Math.min(upperBound(i), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    /**
+     * Forget all the values counted.
+     * Values counted by other threads during the reset could be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts.set(i, 0);
+        }
+        this.count.set(0);
+        this.sum.set(0);
+        this.max.set(0);
+    }
+
+    private static int indexOf(final long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long upperBound(final int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
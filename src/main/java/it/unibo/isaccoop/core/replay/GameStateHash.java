@@ -0,0 +1,90 @@
+package it.unibo.isaccoop.core.replay;
+
+import java.util.List;
+
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.room.Level;
+import it.unibo.isaccoop.model.room.Room;
+import it.unibo.isaccoop.model.weapon.ProjectileStore;
+
+/**
+ * Hash of the state of a game, used to verify that a replay reaches the same state as the recorded game.
+ * It covers the rooms, the position and the statistics of the player, the position and the hearts
+ * of the enemies, the items left and the projectiles of the rooms whose content has been created.
+ */
+public final class GameStateHash {
+
+    private static final long OFFSET = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    private static final int BYTE_MASK = 0xFF;
+
+    private long hash = OFFSET;
+
+    private GameStateHash() {
+    }
+
+    /**
+     * Compute the hash of the state of a game.
+     * @param level the level of the game
+     * @param ticks the number of ticks of the game clock
+     * @return the hash of the state
+     */
+    public static long of(final Level level, final long ticks) {
+        final GameStateHash state = new GameStateHash();
+        state.add(ticks);
+        final Player player = level.getPlayer();
+        state.add(player);
+        state.add(player.getHeart());
+        state.add(player.getCoin());
+        state.add(player.getDamage());
+        state.add(player.getSpeed());
+        state.add(player.getTears());
+        for (final Room room : level.getRooms()) {
+            state.add(room.getRoomType().ordinal());
+            state.add(room.isComplete() ? 1 : 0);
+            state.add(room.getPlayer().isPresent() ? 1 : 0);
+            state.add(room.isMaterialized() ? 1 : 0);
+            if (room.isMaterialized()) {
+                state.addContent(room);
+            }
+        }
+        return state.hash;
+    }
+
+    /**
+     * Add the enemies, items, powerups and projectiles of a room, without creating them if they do not exist.
+     */
+    private void addContent(final Room room) {
+        room.getEnemies().ifPresent(enemies -> enemies.forEach(e -> {
+            this.add(e);
+            this.add(e.getHearts());
+        }));
+        this.add(room.getItems().map(List::size).orElse(0));
+        this.add(room.getPowerUps().map(List::size).orElse(0));
+        final ProjectileStore projectiles = room.getProjectiles();
+        this.add(projectiles.size());
+        for (int i = 0; i < projectiles.size(); i++) {
+            this.add(projectiles.getShot(i));
+        }
+    }
+
+    private void add(final MapElement element) {
+        this.add(element.getX());
+        this.add(element.getY());
+    }
+
+    private void add(final double value) {
+        this.add(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * FNV-1a over the bytes of the value.
+     */
+    private void add(final long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            this.hash ^= value >>> shift & BYTE_MASK;
+            this.hash *= PRIME;
+        }
+    }
+}
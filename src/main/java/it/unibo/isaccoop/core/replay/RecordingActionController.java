@@ -0,0 +1,45 @@
+package it.unibo.isaccoop.core.replay;
+
+import it.unibo.isaccoop.controller.input.ActionController;
+
+/**
+ * Action controller that records every action of another controller when the game applies it,
+ * that is when the controller reports the action as pressed.
+ */
+public final class RecordingActionController implements ActionController {
+
+    private final ActionController controller;
+    private final ReplayRecorder recorder;
+
+    /**
+     * RecordingActionController constructor.
+     * @param controller the controller whose actions are recorded
+     * @param recorder where to record the actions
+     */
+    public RecordingActionController(final ActionController controller, final ReplayRecorder recorder) {
+        this.controller = controller;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public boolean isEsc() {
+        return this.record(this.controller.isEsc(), ReplayAction.ESC);
+    }
+
+    @Override
+    public boolean isNextRoom() {
+        return this.record(this.controller.isNextRoom(), ReplayAction.NEXT_ROOM);
+    }
+
+    @Override
+    public boolean isPrevRoom() {
+        return this.record(this.controller.isPrevRoom(), ReplayAction.PREV_ROOM);
+    }
+
+    private boolean record(final boolean pressed, final ReplayAction action) {
+        if (pressed) {
+            this.recorder.recordAction(action);
+        }
+        return pressed;
+    }
+}
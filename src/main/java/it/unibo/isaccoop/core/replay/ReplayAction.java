@@ -0,0 +1,40 @@
+package it.unibo.isaccoop.core.replay;
+
+import static java.awt.event.KeyEvent.VK_ESCAPE;
+import static java.awt.event.KeyEvent.VK_N;
+import static java.awt.event.KeyEvent.VK_P;
+
+/**
+ * Actions of the {@link it.unibo.isaccoop.controller.input.ActionController} stored in a replay.
+ */
+public enum ReplayAction {
+
+    /**
+     * Pause or resume the game.
+     */
+    ESC(VK_ESCAPE),
+
+    /**
+     * Move to the next room.
+     */
+    NEXT_ROOM(VK_N),
+
+    /**
+     * Move to the previous room.
+     */
+    PREV_ROOM(VK_P);
+
+    private final int keyCode;
+
+    ReplayAction(final int keyCode) {
+        this.keyCode = keyCode;
+    }
+
+    /**
+     * Get the key which triggers the action in the game.
+     * @return the key code
+     */
+    public int getKeyCode() {
+        return this.keyCode;
+    }
+}
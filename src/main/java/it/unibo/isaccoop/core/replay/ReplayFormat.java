@@ -0,0 +1,124 @@
+package it.unibo.isaccoop.core.replay;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import it.unibo.isaccoop.controller.input.InputController;
+
+/**
+ * Binary format of the replays, shared by {@link ReplayRecorder} and {@link ReplayRunner}.
+ * A replay starts with a header, made of {@value #MAGIC} as int, the version as byte and the seed of the game
+ * as long, followed by a sequence of entries, each one starting with its kind as byte:
+ * <ul>
+ * <li>{@value #STEPS}: the input state as byte and, as variable length int, the number of consecutive
+ * steps in which it was the same;</li>
+ * <li>{@value #ACTION}: the ordinal of a {@link ReplayAction} as byte, applied before the next step;</li>
+ * <li>{@value #END}: the number of steps and the hash of the final state of the game, as longs.</li>
+ * </ul>
+ * The input state packs the movement directions in the low four bits and the shooting ones in the high four bits,
+ * up, down, left and right from the least significant bit.
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x49535250;
+    static final byte VERSION = 1;
+    static final byte STEPS = 0;
+    static final byte ACTION = 1;
+    static final byte END = 2;
+
+    private static final int UP = 1;
+    private static final int DOWN = 2;
+    private static final int LEFT = 4;
+    private static final int RIGHT = 8;
+    private static final int SHOT_SHIFT = 4;
+    private static final int DIRECTIONS_MASK = 0xF;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = 0x7F;
+    private static final int VARINT_MORE = 0x80;
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Pack the state of the input controllers.
+     * @param move the movement controller
+     * @param shot the shooting controller
+     * @return the packed state
+     */
+    static int pack(final InputController move, final InputController shot) {
+        return directions(move) | directions(shot) << SHOT_SHIFT;
+    }
+
+    /**
+     * Get the movement directions of a packed state.
+     * @param state the packed state
+     * @return the directions, as bits
+     */
+    static int move(final int state) {
+        return state & DIRECTIONS_MASK;
+    }
+
+    /**
+     * Get the shooting directions of a packed state.
+     * @param state the packed state
+     * @return the directions, as bits
+     */
+    static int shot(final int state) {
+        return state >>> SHOT_SHIFT & DIRECTIONS_MASK;
+    }
+
+    static boolean isUp(final int directions) {
+        return (directions & UP) != 0;
+    }
+
+    static boolean isDown(final int directions) {
+        return (directions & DOWN) != 0;
+    }
+
+    static boolean isLeft(final int directions) {
+        return (directions & LEFT) != 0;
+    }
+
+    static boolean isRight(final int directions) {
+        return (directions & RIGHT) != 0;
+    }
+
+    /**
+     * Write a non negative int in as few bytes as possible, seven bits per byte.
+     * @param out where to write
+     * @param value the value to write
+     * @throws IOException if the value cannot be written
+     */
+    static void writeVarInt(final DataOutput out, final int value) throws IOException {
+        int v = value;
+        while ((v & ~VARINT_MASK) != 0) {
+            out.writeByte(v & VARINT_MASK | VARINT_MORE);
+            v >>>= VARINT_BITS;
+        }
+        out.writeByte(v);
+    }
+
+    /**
+     * Read an int written by {@link #writeVarInt(DataOutput, int)}.
+     * @param in where to read
+     * @return the value read
+     * @throws IOException if the value cannot be read
+     */
+    static int readVarInt(final DataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (b & VARINT_MASK) << shift;
+            shift += VARINT_BITS;
+        } while ((b & VARINT_MORE) != 0);
+        return value;
+    }
+
+    private static int directions(final InputController ctrl) {
+        return (ctrl.isUp() ? UP : 0) | (ctrl.isDown() ? DOWN : 0)
+                | (ctrl.isLeft() ? LEFT : 0) | (ctrl.isRight() ? RIGHT : 0);
+    }
+}
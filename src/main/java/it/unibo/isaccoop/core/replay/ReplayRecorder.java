@@ -0,0 +1,135 @@
+package it.unibo.isaccoop.core.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.logging.Logger;
+
+import it.unibo.isaccoop.controller.input.InputController;
+
+/**
+ * Records the inputs of a game, step by step, into a compact binary replay (see {@link ReplayFormat}).
+ * Consecutive steps with the same input are stored once, with their count, so a replay takes a few bytes
+ * for every second of game. The recording must start with the game, since the replay starts from the
+ * state generated by the seed.
+ * The game loop thread records, while the recording can be closed by another thread when the game exits.
+ */
+public final class ReplayRecorder implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(ReplayRecorder.class.getName());
+
+    private final DataOutputStream out;
+    private int lastState = -1;
+    private int count;
+    private long steps;
+    private boolean closed;
+
+    /**
+     * ReplayRecorder constructor, which writes the header of the replay.
+     * @param out where to write the replay, closed with the recorder
+     * @param seed the seed of the recorded game
+     * @throws IOException if the header cannot be written
+     */
+    public ReplayRecorder(final OutputStream out, final long seed) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(ReplayFormat.MAGIC);
+        this.out.writeByte(ReplayFormat.VERSION);
+        this.out.writeLong(seed);
+    }
+
+    /**
+     * Record an action applied by the game before the next step.
+     * @param action the applied action
+     */
+    public synchronized void recordAction(final ReplayAction action) {
+        if (!this.closed) {
+            try {
+                this.flushSteps();
+                this.out.writeByte(ReplayFormat.ACTION);
+                this.out.writeByte(action.ordinal());
+            } catch (IOException e) {
+                this.fail(e);
+            }
+        }
+    }
+
+    /**
+     * Record a step of the game and the inputs it read.
+     * @param move the movement controller of the player
+     * @param shot the shooting controller of the player
+     */
+    public synchronized void recordStep(final InputController move, final InputController shot) {
+        if (!this.closed) {
+            final int state = ReplayFormat.pack(move, shot);
+            if (state != this.lastState || this.count == Integer.MAX_VALUE) {
+                try {
+                    this.flushSteps();
+                } catch (IOException e) {
+                    this.fail(e);
+                    return;
+                }
+                this.lastState = state;
+            }
+            this.count++;
+            this.steps++;
+        }
+    }
+
+    /**
+     * Get the number of steps recorded.
+     * @return the number of steps
+     */
+    public synchronized long getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * Write the hash of the final state of the game, to verify the replay, and close the recording.
+     * @param stateHash the hash of the final state
+     */
+    public synchronized void finish(final long stateHash) {
+        if (!this.closed) {
+            try {
+                this.flushSteps();
+                this.out.writeByte(ReplayFormat.END);
+                this.out.writeLong(this.steps);
+                this.out.writeLong(stateHash);
+            } catch (IOException e) {
+                this.fail(e);
+            }
+            this.close();
+        }
+    }
+
+    /**
+     * Close the recording without the final state, the replay can be played but not verified.
+     */
+    @Override
+    public synchronized void close() {
+        if (!this.closed) {
+            this.closed = true;
+            try {
+                this.flushSteps();
+                this.out.close();
+            } catch (IOException e) {
+                LOGGER.severe(e.getMessage());
+            }
+        }
+    }
+
+    private void flushSteps() throws IOException {
+        if (this.count > 0) {
+            this.out.writeByte(ReplayFormat.STEPS);
+            this.out.writeByte(this.lastState);
+            ReplayFormat.writeVarInt(this.out, this.count);
+            this.count = 0;
+        }
+    }
+
+    private void fail(final IOException e) {
+        LOGGER.severe(e.getMessage());
+        this.closed = true;
+    }
+}
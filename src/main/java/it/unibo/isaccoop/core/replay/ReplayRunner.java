@@ -0,0 +1,182 @@
+package it.unibo.isaccoop.core.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import it.unibo.isaccoop.controller.input.ReplayInputController;
+import it.unibo.isaccoop.core.EngineMode;
+import it.unibo.isaccoop.core.GameEngine;
+import it.unibo.isaccoop.core.GameEngineImpl;
+
+/**
+ * Plays a replay recorded by {@link ReplayRecorder} without a display and as fast as possible,
+ * feeding the recorded inputs to a new game with the recorded seed.
+ * A replay reaching a final state with a hash different from the recorded one reveals a change in the game logic,
+ * so replays work as regression tests, and as a benchmark made of real games.
+ */
+public final class ReplayRunner {
+
+    private static final Logger LOGGER = Logger.getLogger(ReplayRunner.class.getName());
+
+    private final DataInputStream in;
+    private final long seed;
+    private boolean played;
+    private long steps;
+    private long elapsed;
+    private long stateHash;
+    private OptionalLong expectedSteps = OptionalLong.empty();
+    private OptionalLong expectedHash = OptionalLong.empty();
+
+    /**
+     * ReplayRunner constructor, which reads the header of the replay.
+     * @param in where to read the replay, consumed by {@link #run()}
+     * @throws IOException if the header cannot be read
+     * @throws IllegalArgumentException if the stream is not a replay supported by this version of the game
+     */
+    public ReplayRunner(final InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        if (this.in.readInt() != ReplayFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a replay");
+        }
+        final byte version = this.in.readByte();
+        if (version != ReplayFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version " + version);
+        }
+        this.seed = this.in.readLong();
+    }
+
+    /**
+     * Play the replay until its end.
+     * @return the hash of the final state of the game
+     * @throws IOException if the replay cannot be read
+     * @throws IllegalStateException if the replay has already been played
+     */
+    public long run() throws IOException {
+        if (this.played) {
+            throw new IllegalStateException("Replay already played");
+        }
+        this.played = true;
+        final GameEngine engine = new GameEngineImpl(EngineMode.REPLAY, this.seed);
+        final var move = (ReplayInputController) engine.getController("keyMove");
+        final var shot = (ReplayInputController) engine.getController("keyShot");
+        final ReplayAction[] actions = ReplayAction.values();
+        final long start = System.nanoTime();
+        int kind = this.in.read();
+        while (kind >= 0 && kind != ReplayFormat.END) {
+            if (kind == ReplayFormat.STEPS) {
+                final int state = this.in.readUnsignedByte();
+                press(move, ReplayFormat.move(state));
+                press(shot, ReplayFormat.shot(state));
+                final int count = ReplayFormat.readVarInt(this.in);
+                for (int i = 0; i < count; i++) {
+                    engine.step();
+                }
+                this.steps += count;
+            } else if (kind == ReplayFormat.ACTION) {
+                engine.getActionController().notifyKeyPressed(actions[this.in.readUnsignedByte()].getKeyCode());
+                engine.processActions();
+            } else {
+                throw new IllegalArgumentException("Unknown replay entry " + kind);
+            }
+            kind = this.in.read();
+        }
+        this.elapsed = System.nanoTime() - start;
+        if (kind == ReplayFormat.END) {
+            this.expectedSteps = OptionalLong.of(this.in.readLong());
+            this.expectedHash = OptionalLong.of(this.in.readLong());
+        }
+        this.in.close();
+        this.stateHash = engine.getStateHash();
+        return this.stateHash;
+    }
+
+    private static void press(final ReplayInputController ctrl, final int directions) {
+        ctrl.set(ReplayFormat.isUp(directions), ReplayFormat.isDown(directions),
+                ReplayFormat.isLeft(directions), ReplayFormat.isRight(directions));
+    }
+
+    /**
+     * Get the seed of the replayed game.
+     * @return the seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Get the number of steps replayed.
+     * @return the number of steps
+     */
+    public long getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * Get the hash of the final state reached by the replay.
+     * @return the hash of the final state
+     */
+    public long getStateHash() {
+        return this.stateHash;
+    }
+
+    /**
+     * Get the hash of the final state reached by the recorded game.
+     * @return the recorded hash, empty if the recording was not finished
+     */
+    public OptionalLong getExpectedHash() {
+        return this.expectedHash;
+    }
+
+    /**
+     * Check if the replay reached the same state as the recorded game.
+     * @return true if the replay has been played and reached the recorded state
+     */
+    public boolean isMatching() {
+        return this.expectedHash.isPresent() && this.expectedHash.getAsLong() == this.stateHash
+                && this.expectedSteps.getAsLong() == this.steps;
+    }
+
+    private String getVerification() {
+        if (this.expectedHash.isEmpty()) {
+            return "not verified";
+        }
+        return this.isMatching() ? "same final state" : "DIFFERENT final state";
+    }
+
+    /**
+     * Get the replay throughput, without the time spent creating the level.
+     * @return the number of simulation steps per second
+     */
+    public double getStepsPerSecond() {
+        return this.elapsed == 0 ? 0.0 : this.steps * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsed;
+    }
+
+    /**
+     * Play the given replays, logging their throughput and whether they reached the recorded state.
+     * @param args the paths of the replays
+     * @throws IOException if a replay cannot be read
+     */
+    public static void main(final String[] args) throws IOException {
+        boolean matching = true;
+        for (final String file : args) {
+            final ReplayRunner runner;
+            try (InputStream in = Files.newInputStream(Path.of(file))) {
+                runner = new ReplayRunner(in);
+                runner.run();
+            }
+            LOGGER.info(String.format("%s: seed %d, %d steps, %.1f steps per second, %s", file, runner.getSeed(),
+                    runner.getSteps(), runner.getStepsPerSecond(), runner.getVerification()));
+            matching &= runner.getExpectedHash().isEmpty() || runner.isMatching();
+        }
+        if (!matching) {
+            System.exit(1);
+        }
+    }
+}
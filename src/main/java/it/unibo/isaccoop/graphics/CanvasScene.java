@@ -0,0 +1,253 @@
+package it.unibo.isaccoop.graphics;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.swing.JFrame;
+
+import it.unibo.isaccoop.core.GameEngine;
+import it.unibo.isaccoop.model.room.Level;
+
+/**
+ * Represents the game scene, drawn actively on a {@link Canvas} through a {@link BufferStrategy}.
+ * The game loop thread records every frame into a {@link RenderSnapshot}, a dedicated render thread
+ * draws the latest snapshot, world and HUD in the same pass, and shows it as soon as it is ready,
+ * without going through the Swing repaint manager.
+ */
+public final class CanvasScene implements Scene {
+
+    private static final int BUFFERS = 3;
+    private static final int MINIMAP_HEIGHT = 150;
+    private static final int GAME_OVER_FONT = 30;
+    private static final int HUD_FONT_SIZE = 16;
+    private static final int HUD_MARGIN = 20;
+    private static final int HUD_COLUMN = 220;
+    private static final int ROOM_CELL = 28;
+    private static final long MAX_WAIT = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final Color BACKGROUND = new Color(150, 75, 50);
+    private static final Color HUD_BACKGROUND = new Color(238, 238, 238);
+    private static final Color PLAYER_ROOM = new Color(255, 0, 0);
+    private static final Color UNCOMPLETED_ROOM = new Color(243, 225, 75);
+    private static final Color COMPLETED_ROOM = new Color(139, 218, 83);
+
+    private final JFrame frame;
+    private final Canvas canvas;
+    private final GameEngine engine;
+    private final RenderSnapshotExchange snapshots = new RenderSnapshotExchange();
+    private final SnapshotRecorder recorder;
+    private final Thread renderThread;
+    private final Font hudFont = new Font("Verdana", Font.PLAIN, HUD_FONT_SIZE);
+    /* font of the centered messages, created again only when the canvas is resized */
+    private Font messageFont = new Font("Verdana", Font.PLAIN, 1);
+    private volatile boolean running = true;
+    private volatile RenderSnapshot.SceneState shownState = RenderSnapshot.SceneState.PLAYING;
+
+    /**
+     * Constructor.
+     * @param gameState the level to play
+     * @param engine the {@link GameEngine}
+     */
+    public CanvasScene(final Level gameState, final GameEngine engine) {
+        SpriteCache.getInstance().preloadGameSprites();
+        this.engine = engine;
+        this.recorder = new SnapshotRecorder(gameState, this.snapshots);
+        this.recorder.record(1.0, false);
+
+        final Dimension screen = Toolkit.getDefaultToolkit().getScreenSize();
+        this.canvas = new Canvas();
+        this.canvas.setIgnoreRepaint(true);
+        this.canvas.setPreferredSize(screen);
+        this.canvas.setFocusable(true);
+        this.canvas.setFocusTraversalKeysEnabled(false);
+        this.canvas.addKeyListener(new GameKeyListener(engine));
+        this.canvas.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(final MouseEvent e) {
+                if (shownState == RenderSnapshot.SceneState.LEVEL_COMPLETED
+                        || shownState == RenderSnapshot.SceneState.GAME_OVER) {
+                    running = false;
+                    new GameMenu().display();
+                    frame.setVisible(false);
+                }
+            }
+        });
+        this.frame = new JFrame("Isaccoop");
+        this.frame.setIgnoreRepaint(true);
+        this.frame.setResizable(true);
+        this.frame.getContentPane().add(this.canvas);
+        this.frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(final WindowEvent ev) {
+                System.exit(-1);
+            }
+            @Override
+            public void windowClosed(final WindowEvent ev) {
+                System.exit(-1);
+            }
+        });
+        this.frame.pack();
+        this.frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
+        this.frame.setVisible(true);
+        this.canvas.createBufferStrategy(BUFFERS);
+        this.canvas.requestFocus();
+
+        this.renderThread = new Thread(this::renderLoop, "isaccoop-render");
+        this.renderThread.setDaemon(true);
+        this.renderThread.start();
+    }
+
+    @Override
+    public void render(final double alpha) {
+        this.recorder.record(alpha, this.engine.isGameLoopInPause());
+        LockSupport.unpark(this.renderThread);
+    }
+
+    @Override
+    public void renderGameOver() {
+        /* publish the final state, the game loop does not render anymore */
+        this.recorder.record(1.0, false);
+        LockSupport.unpark(this.renderThread);
+    }
+
+    /**
+     * Loop of the render thread: draw every new snapshot, or the last one again after a while,
+     * so that the window is redrawn even when the game loop does not publish anything.
+     */
+    private void renderLoop() {
+        final BufferStrategy strategy = this.canvas.getBufferStrategy();
+        long drawnFrame = -1;
+        while (this.running) {
+            final RenderSnapshot snapshot = this.snapshots.latest();
+            if (snapshot.getFrame() != drawnFrame) {
+                drawnFrame = snapshot.getFrame();
+                this.show(strategy, snapshot);
+            } else {
+                LockSupport.parkNanos(this, MAX_WAIT);
+                if (this.snapshots.latest().getFrame() == drawnFrame) {
+                    this.show(strategy, snapshot);
+                }
+            }
+        }
+    }
+
+    private void show(final BufferStrategy strategy, final RenderSnapshot snapshot) {
+        this.shownState = snapshot.getState();
+        do {
+            do {
+                final Graphics g = strategy.getDrawGraphics();
+                try {
+                    this.draw(g, snapshot);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Draw the world and the HUD of a snapshot.
+     * @param g graphics of the back buffer
+     * @param snapshot the snapshot to draw
+     */
+    private void draw(final Graphics g, final RenderSnapshot snapshot) {
+        final int width = this.canvas.getWidth();
+        final int worldHeight = Math.max(1, this.canvas.getHeight() - MINIMAP_HEIGHT);
+        g.setColor(BACKGROUND);
+        g.fillRect(0, 0, width, worldHeight);
+        switch (snapshot.getState()) {
+            case PAUSE:
+                this.drawCenteredString(g, "PAUSE", width, worldHeight);
+                break;
+            case LEVEL_COMPLETED:
+                this.drawCenteredString(g, "GAME COMPLETED", width, worldHeight);
+                break;
+            case GAME_OVER:
+                this.drawCenteredString(g, "GAME OVER", width, worldHeight);
+                break;
+            default:
+                if (snapshot.getRoomWidth() > 0 && snapshot.getRoomHeight() > 0) {
+                    new SwingGraphics(g, (double) width / snapshot.getRoomWidth(),
+                            (double) worldHeight / snapshot.getRoomHeight()).drawSnapshot(snapshot);
+                }
+                snapshot.getOverlay().ifPresent(text -> {
+                    g.setFont(this.hudFont);
+                    g.setColor(Color.WHITE);
+                    g.drawString(text, HUD_MARGIN, HUD_MARGIN);
+                });
+                break;
+        }
+        this.drawHud(g, snapshot, worldHeight, width);
+    }
+
+    /**
+     * Draw the player statistics and the minimap, below the room.
+     * @param g graphics of the back buffer
+     * @param snapshot the snapshot to draw
+     * @param top y coord of the HUD
+     * @param width width of the HUD
+     */
+    private void drawHud(final Graphics g, final RenderSnapshot snapshot, final int top, final int width) {
+        g.setColor(HUD_BACKGROUND);
+        g.fillRect(0, top, width, MINIMAP_HEIGHT);
+        g.setFont(this.hudFont);
+        g.setColor(Color.BLACK);
+        final int line = g.getFontMetrics().getHeight();
+        int y = top + HUD_MARGIN + line;
+        g.drawString("Rooms Completed: " + snapshot.getCompletedRooms() + " of " + snapshot.getRoomsCount(),
+                HUD_MARGIN, y);
+        /* only the rooms around the current one fit in the left half of the HUD */
+        final int cells = Math.min(snapshot.getRoomsCount(),
+                Math.max(1, (width / 2 - 2 * HUD_MARGIN) / (ROOM_CELL + HUD_MARGIN / 2)));
+        final int first = snapshot.getFirstShownRoom(cells);
+        for (int i = first; i < first + cells; i++) {
+            final Color color;
+            if (i == snapshot.getCurrentRoom()) {
+                color = PLAYER_ROOM;
+            } else if (snapshot.isRoomComplete(i)) {
+                color = COMPLETED_ROOM;
+            } else {
+                color = UNCOMPLETED_ROOM;
+            }
+            final int x = HUD_MARGIN + (i - first) * (ROOM_CELL + HUD_MARGIN / 2);
+            g.setColor(color);
+            g.fillRect(x, y + line, ROOM_CELL, ROOM_CELL);
+            g.setColor(Color.BLACK);
+            g.drawRect(x, y + line, ROOM_CELL, ROOM_CELL);
+            g.drawString(Integer.toString(i + 1), x + ROOM_CELL / 3, y + line + ROOM_CELL * 2 / 3);
+        }
+        final int statsX = width / 2;
+        y = top + HUD_MARGIN + line;
+        g.drawString("Coins: " + snapshot.getCoins(), statsX, y);
+        g.drawString("Damage: " + snapshot.getDamage(), statsX, y + line);
+        g.drawString("Seed: " + snapshot.getSeed(), statsX, y + 2 * line);
+        g.drawString("Hearts: " + snapshot.getHearts() + " of " + snapshot.getMaxHearts(), statsX + HUD_COLUMN, y);
+        g.drawString("Speed: " + snapshot.getSpeed(), statsX + HUD_COLUMN, y + line);
+        g.drawString("Tears: " + snapshot.getTears(), statsX + HUD_COLUMN, y + 2 * line);
+    }
+
+    private void drawCenteredString(final Graphics g, final String text, final int width, final int height) {
+        final int size = Math.max(1, width / GAME_OVER_FONT);
+        if (this.messageFont.getSize() != size) {
+            this.messageFont = new Font("Verdana", Font.PLAIN, size);
+        }
+        final FontMetrics metrics = g.getFontMetrics(this.messageFont);
+        g.setColor(Color.BLACK);
+        g.setFont(this.messageFont);
+        g.drawString(text, (width - metrics.stringWidth(text)) / 2,
+                (height - metrics.getHeight()) / 2 + metrics.getAscent());
+    }
+}
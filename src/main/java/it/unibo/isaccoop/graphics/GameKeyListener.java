@@ -0,0 +1,37 @@
+package it.unibo.isaccoop.graphics;
+
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+
+import it.unibo.isaccoop.controller.input.KeyEventQueue;
+import it.unibo.isaccoop.core.GameEngine;
+
+/**
+ * Key listener which queues the keys, with the time they were pressed or released, for the game loop,
+ * which forwards them to the keyboard controllers and to the action controller of the engine.
+ */
+final class GameKeyListener implements KeyListener {
+
+    private final KeyEventQueue keyEvents;
+
+    /**
+     * GameKeyListener constructor.
+     * @param engine the engine receiving the keys
+     */
+    GameKeyListener(final GameEngine engine) {
+        this.keyEvents = engine.getKeyEvents();
+    }
+
+    @Override
+    public void keyPressed(final KeyEvent e) {
+        this.keyEvents.offer(e.getKeyCode(), true, System.nanoTime());
+    }
+
+    @Override
+    public void keyReleased(final KeyEvent e) {
+        this.keyEvents.offer(e.getKeyCode(), false, System.nanoTime());
+    }
+
+    @Override
+    public void keyTyped(final KeyEvent e) { }
+}
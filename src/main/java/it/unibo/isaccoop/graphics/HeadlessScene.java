@@ -0,0 +1,17 @@
+package it.unibo.isaccoop.graphics;
+
+/**
+ * Scene which draws nothing, used to run the game without a display.
+ */
+public final class HeadlessScene implements Scene {
+
+    @Override
+    public void render(final double alpha) {
+        //nothing to draw
+    }
+
+    @Override
+    public void renderGameOver() {
+        //nothing to draw
+    }
+}
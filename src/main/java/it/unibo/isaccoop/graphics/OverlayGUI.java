@@ -6,7 +6,6 @@ import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -16,7 +15,6 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import it.unibo.isaccoop.model.room.Level;
 
 /**
  * Creates a GUI to display the {@link Minimap}, the {@link PlayerStat}s and a legend explaining
@@ -28,6 +26,7 @@ public class OverlayGUI extends JPanel {
 
     private static final long serialVersionUID = -4109905993803098411L;
     private static final Font FONT = new Font("Verdana", Font.PLAIN, 12);
+    private static final int MINIMAP_CELLS = 9;
     private static final Map<CellStatus, Color> COLOR_MAP = Map.of(
             CellStatus.PLAYER, new Color(255, 0, 0), //red
             CellStatus.UNCOMPLETED_ROOM, new Color(243, 225, 75), //yellow
@@ -36,10 +35,12 @@ public class OverlayGUI extends JPanel {
     private final JLabel lblInfoRoom = new JLabel();
     private final JPanel statsPanel1 = new JPanel();
     private final JPanel statsPanel2 = new JPanel();
-    private final List<JLabel> stats1 = new LinkedList<>();
-    private final List<JLabel> stats2 = new LinkedList<>();
-    private final transient Level lvl;
+    private final List<JLabel> stats1 = new ArrayList<>();
+    private final List<JLabel> stats2 = new ArrayList<>();
+    private final transient RenderSnapshotExchange snapshots;
     private final List<JButton> roomBtns = new ArrayList<>();
+    private final int roomsCount;
+    private int firstShownRoom = -1;
 
     private enum CellStatus {
         /**
@@ -67,7 +68,9 @@ public class OverlayGUI extends JPanel {
 
     /**
      * Create a new GUI for {@link Minimap}.
-     * @param level the level of which to show the layout
+     * The GUI shows the latest {@link RenderSnapshot} published by the game loop, it never reads the level.
+     * @param roomsCount the number of rooms of the level
+     * @param snapshots the snapshots published by the game loop
      * @param roomWidth the width of the minimap
      * @param minimapHeight the height of the minimap
      *
@@ -75,8 +78,10 @@ public class OverlayGUI extends JPanel {
      *
      */
    
-    public OverlayGUI(final Level level, final int roomWidth, final int minimapHeight) {
-        this.lvl = level;
+    public OverlayGUI(final int roomsCount, final RenderSnapshotExchange snapshots, final int roomWidth,
+            final int minimapHeight) {
+        this.snapshots = snapshots;
+        this.roomsCount = roomsCount;
         final int proportion = 21;
         final int horizontalGap = roomWidth / proportion;
         final int verticalGap = 10;
@@ -108,14 +113,15 @@ public class OverlayGUI extends JPanel {
 
         // creates labels for stat strings part 1
         this.statsPanel1.setLayout(new BoxLayout(this.statsPanel1, BoxLayout.Y_AXIS));
-        getStatsStringsPart1().forEach(s -> {
+        final RenderSnapshot snapshot = new RenderSnapshot();
+        getStatsStringsPart1(snapshot).forEach(s -> {
             final JLabel lbl = new JLabel(" ");
             this.stats1.add(lbl);
             this.statsPanel1.add(lbl);
         });
         // creates labels for stat strings part 2
         this.statsPanel2.setLayout(new BoxLayout(this.statsPanel2, BoxLayout.Y_AXIS));
-        getStatsStringsPart2().forEach(s -> {
+        getStatsStringsPart2(snapshot).forEach(s -> {
             final JLabel lbl = new JLabel(" ");
             this.stats2.add(lbl);
             this.statsPanel2.add(lbl);
@@ -125,7 +131,8 @@ public class OverlayGUI extends JPanel {
         this.add(this.statsPanel2);
         this.add(legendPanel);
 
-        for (int i = 0; i < lvl.getRooms().size(); i++) {
+        // only the rooms around the current one are shown
+        for (int i = 0; i < Math.min(roomsCount, MINIMAP_CELLS); i++) {
             final JButton jb = new JButton(Integer.toString(i + 1));
             jb.setFont(FONT);
             centerPanel.add(jb);
@@ -140,61 +147,76 @@ public class OverlayGUI extends JPanel {
     @Override
     public void paint(final Graphics g) {
         super.paint(g);
-        lblInfoRoom.setText(getRoomStatusString());
-        this.roomBtns.forEach(btn -> {
-            final var currRoom = this.lvl.getCurrentRoom();
-            final var completeRooms = this.lvl.getMinimap().getCompletedRooms();
-            final var uncompleteRooms = this.lvl.getMinimap().getUncompletedRooms();
-            if (currRoom.equals(this.lvl.getRooms().get(this.roomBtns.indexOf(btn)))) {
-                btn.setBackground(COLOR_MAP.get(CellStatus.PLAYER));
-            } else if (completeRooms.contains(this.lvl.getRooms().get(this.roomBtns.indexOf(btn)))) {
-                btn.setBackground(COLOR_MAP.get(CellStatus.COMPLETED_ROOM));
-            } else if (uncompleteRooms.contains(this.lvl.getRooms().get(this.roomBtns.indexOf(btn)))) {
-                btn.setBackground(COLOR_MAP.get(CellStatus.UNCOMPLETED_ROOM));
+        final RenderSnapshot snapshot = this.snapshots.latest();
+        if (snapshot.getRoomsCount() != this.roomsCount) {
+            return;
+        }
+        lblInfoRoom.setText(getRoomStatusString(snapshot));
+        final int first = snapshot.getFirstShownRoom(this.roomBtns.size());
+        for (int j = 0; j < this.roomBtns.size(); j++) {
+            final int i = first + j;
+            final JButton jb = this.roomBtns.get(j);
+            if (first != this.firstShownRoom) {
+                jb.setText(Integer.toString(i + 1));
             }
-        });
-        updatePlayerStats();
+            if (i == snapshot.getCurrentRoom()) {
+                jb.setBackground(COLOR_MAP.get(CellStatus.PLAYER));
+            } else if (snapshot.isRoomComplete(i)) {
+                jb.setBackground(COLOR_MAP.get(CellStatus.COMPLETED_ROOM));
+            } else {
+                jb.setBackground(COLOR_MAP.get(CellStatus.UNCOMPLETED_ROOM));
+            }
+        }
+        this.firstShownRoom = first;
+        updatePlayerStats(snapshot);
     }
 
     /**
      * Updates player stats.
+     * @param snapshot the snapshot containing the player stats
      */
-    private void updatePlayerStats() {
+    private void updatePlayerStats(final RenderSnapshot snapshot) {
+        final List<String> part1 = getStatsStringsPart1(snapshot);
         for (int i = 0; i < this.stats1.size(); i++) {
-            this.stats1.get(i).setText(getStatsStringsPart1().get(i));
+            this.stats1.get(i).setText(part1.get(i));
         }
+        final List<String> part2 = getStatsStringsPart2(snapshot);
         for (int i = 0; i < this.stats2.size(); i++) {
-            this.stats2.get(i).setText(getStatsStringsPart2().get(i));
+            this.stats2.get(i).setText(part2.get(i));
         }
     }
 
     /**
      * Return a string to show information about the status of current room.
+     * @param snapshot the snapshot containing the rooms status
      * @return a string that contains information about status of current room
      */
-    private String getRoomStatusString() {
-        return "Rooms Completed: " + lvl.getMinimap().getCompletedRooms().size()
-                + " of " + lvl.getRooms().size();
+    private String getRoomStatusString(final RenderSnapshot snapshot) {
+        return "Rooms Completed: " + snapshot.getCompletedRooms()
+                + " of " + snapshot.getRoomsCount();
     }
 
     /**
      * Build a list containing first part of player statistics, as strings.
+     * @param snapshot the snapshot containing the player stats
      * @return an unmodifiable list containing first part of player statistics
      */
-    private List<String> getStatsStringsPart1() {
+    private List<String> getStatsStringsPart1(final RenderSnapshot snapshot) {
         return List.of("Player statistics:",
-                "Coins: " + this.lvl.getPlayer().getCoin(),
-                "Damage: " + this.lvl.getPlayer().getDamage());
+                "Coins: " + snapshot.getCoins(),
+                "Damage: " + snapshot.getDamage(),
+                "Seed: " + snapshot.getSeed());
     }
 
     /**
      * Build a list containing second part of player statistics, as strings.
+     * @param snapshot the snapshot containing the player stats
      * @return an unmodifiable list containing second part of player statistics
      */
-    private List<String> getStatsStringsPart2() {
+    private List<String> getStatsStringsPart2(final RenderSnapshot snapshot) {
         return List.of(
-                "Hearts: " + this.lvl.getPlayer().getHeart() + " of " + this.lvl.getPlayer().getMaxHeart(),
-                "Speed: " + this.lvl.getPlayer().getSpeed(),
-                "Tears: " + this.lvl.getPlayer().getTears());
+                "Hearts: " + snapshot.getHearts() + " of " + snapshot.getMaxHearts(),
+                "Speed: " + snapshot.getSpeed(),
+                "Tears: " + snapshot.getTears());
     }
 }
@@ -0,0 +1,362 @@
+package it.unibo.isaccoop.graphics;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+
+/**
+ * State of the game needed to draw a frame: the sprites of the current room with their positions,
+ * the player statistics and the status of the rooms shown in the minimap.
+ * A snapshot is filled by the game loop thread and then published through a {@link RenderSnapshotExchange}:
+ * once published it is never changed until the renderer gives it back, so it can be read
+ * without synchronization. Snapshots are reused, so they do not allocate memory once they have grown.
+ */
+public final class RenderSnapshot {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int STRIDE = 5;
+    private static final int PREVIOUS_X = 0;
+    private static final int PREVIOUS_Y = 1;
+    private static final int X = 2;
+    private static final int Y = 3;
+    private static final int RADIUS = 4;
+
+    private long frame;
+    private double alpha;
+    private SceneState state = SceneState.PLAYING;
+
+    private String roomImage;
+    private int roomWidth;
+    private int roomHeight;
+
+    private int spriteCount;
+    private String[] spriteNames = new String[INITIAL_CAPACITY];
+    private double[] coords = new double[INITIAL_CAPACITY * STRIDE];
+
+    private int coins;
+    private double damage;
+    private int hearts;
+    private int maxHearts;
+    private double speed;
+    private double tears;
+
+    private int currentRoom;
+    private int roomsCount;
+    private int completedRooms;
+    private final BitSet completed = new BitSet();
+    private long completionVersion = -1;
+
+    private String overlay;
+    private long seed;
+
+    /**
+     * What the scene has to show.
+     */
+    public enum SceneState {
+        /**
+         * The game is running.
+         */
+        PLAYING,
+        /**
+         * The game is in pause.
+         */
+        PAUSE,
+        /**
+         * All the rooms of the level are complete.
+         */
+        LEVEL_COMPLETED,
+        /**
+         * The player is dead.
+         */
+        GAME_OVER
+    }
+
+    /**
+     * Get the number of the frame, increasing with every published snapshot.
+     * @return the frame number
+     */
+    public long getFrame() {
+        return this.frame;
+    }
+
+    /**
+     * Get the interpolation factor between the previous and the current positions of the sprites.
+     * @return the interpolation factor, between 0 and 1
+     */
+    public double getAlpha() {
+        return this.alpha;
+    }
+
+    /**
+     * Get what the scene has to show.
+     * @return the scene state
+     */
+    public SceneState getState() {
+        return this.state;
+    }
+
+    /**
+     * Get the name of the image of the current room.
+     * @return the room image name, null if no room has been recorded
+     */
+    public String getRoomImage() {
+        return this.roomImage;
+    }
+
+    /**
+     * Get the width of the current room.
+     * @return the room width
+     */
+    public int getRoomWidth() {
+        return this.roomWidth;
+    }
+
+    /**
+     * Get the height of the current room.
+     * @return the room height
+     */
+    public int getRoomHeight() {
+        return this.roomHeight;
+    }
+
+    /**
+     * Get the number of sprites to draw over the room.
+     * @return the number of sprites
+     */
+    public int getSpriteCount() {
+        return this.spriteCount;
+    }
+
+    /**
+     * Get the image name of a sprite.
+     * @param index index of the sprite, in drawing order
+     * @return the image name
+     */
+    public String getSpriteName(final int index) {
+        return this.spriteNames[index];
+    }
+
+    /**
+     * Get the x coord of a sprite center before the last update.
+     * @param index index of the sprite
+     * @return the previous x coord
+     */
+    public double getPreviousX(final int index) {
+        return this.coords[index * STRIDE + PREVIOUS_X];
+    }
+
+    /**
+     * Get the y coord of a sprite center before the last update.
+     * @param index index of the sprite
+     * @return the previous y coord
+     */
+    public double getPreviousY(final int index) {
+        return this.coords[index * STRIDE + PREVIOUS_Y];
+    }
+
+    /**
+     * Get the x coord of a sprite center.
+     * @param index index of the sprite
+     * @return the x coord
+     */
+    public double getX(final int index) {
+        return this.coords[index * STRIDE + X];
+    }
+
+    /**
+     * Get the y coord of a sprite center.
+     * @param index index of the sprite
+     * @return the y coord
+     */
+    public double getY(final int index) {
+        return this.coords[index * STRIDE + Y];
+    }
+
+    /**
+     * Get the radius of a sprite.
+     * @param index index of the sprite
+     * @return the radius
+     */
+    public double getRadius(final int index) {
+        return this.coords[index * STRIDE + RADIUS];
+    }
+
+    /**
+     * Get the player coins.
+     * @return the coins
+     */
+    public int getCoins() {
+        return this.coins;
+    }
+
+    /**
+     * Get the player damage.
+     * @return the damage
+     */
+    public double getDamage() {
+        return this.damage;
+    }
+
+    /**
+     * Get the player hearts.
+     * @return the hearts
+     */
+    public int getHearts() {
+        return this.hearts;
+    }
+
+    /**
+     * Get the player max hearts.
+     * @return the max hearts
+     */
+    public int getMaxHearts() {
+        return this.maxHearts;
+    }
+
+    /**
+     * Get the player speed.
+     * @return the speed
+     */
+    public double getSpeed() {
+        return this.speed;
+    }
+
+    /**
+     * Get the player tears.
+     * @return the tears
+     */
+    public double getTears() {
+        return this.tears;
+    }
+
+    /**
+     * Get the number of rooms of the level.
+     * @return the number of rooms
+     */
+    public int getRoomsCount() {
+        return this.roomsCount;
+    }
+
+    /**
+     * Get the number of completed rooms of the level.
+     * @return the number of completed rooms
+     */
+    public int getCompletedRooms() {
+        return this.completedRooms;
+    }
+
+    /**
+     * Get the index of the room containing the player.
+     * @return the index of the current room
+     */
+    public int getCurrentRoom() {
+        return this.currentRoom;
+    }
+
+    /**
+     * Check if a room of the level is complete.
+     * @param index index of the room in the level
+     * @return true if the room is complete
+     */
+    public boolean isRoomComplete(final int index) {
+        return this.completed.get(index);
+    }
+
+    /**
+     * Get the first room of a minimap showing the specified number of rooms around the current one.
+     * @param cells number of rooms shown by the minimap
+     * @return index of the first room shown
+     */
+    public int getFirstShownRoom(final int cells) {
+        return Math.max(0, Math.min(this.currentRoom - cells / 2, this.roomsCount - cells));
+    }
+
+    /**
+     * Get the seed of the game, to replay it.
+     * @return the seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Get the frame metrics to be shown over the room.
+     * @return the metrics text, empty if the overlay is disabled
+     */
+    public Optional<String> getOverlay() {
+        return Optional.ofNullable(this.overlay);
+    }
+
+    /**
+     * Prepare the snapshot to record a new frame.
+     * @param frameNumber the number of the new frame
+     * @param interpolation the interpolation factor of the new frame
+     * @param sceneState what the scene has to show
+     */
+    void reset(final long frameNumber, final double interpolation, final SceneState sceneState) {
+        this.frame = frameNumber;
+        this.alpha = interpolation;
+        this.state = sceneState;
+        this.roomImage = null;
+        Arrays.fill(this.spriteNames, 0, this.spriteCount, null);
+        this.spriteCount = 0;
+    }
+
+    void setRoom(final String imageName, final int width, final int height) {
+        this.roomImage = imageName;
+        this.roomWidth = width;
+        this.roomHeight = height;
+    }
+
+    void addSprite(final String imageName, final double previousX, final double previousY,
+            final double x, final double y, final double radius) {
+        if (this.spriteCount == this.spriteNames.length) {
+            this.spriteNames = Arrays.copyOf(this.spriteNames, this.spriteCount * 2);
+            this.coords = Arrays.copyOf(this.coords, this.spriteCount * 2 * STRIDE);
+        }
+        final int base = this.spriteCount * STRIDE;
+        this.spriteNames[this.spriteCount] = imageName;
+        this.coords[base + PREVIOUS_X] = previousX;
+        this.coords[base + PREVIOUS_Y] = previousY;
+        this.coords[base + X] = x;
+        this.coords[base + Y] = y;
+        this.coords[base + RADIUS] = radius;
+        this.spriteCount++;
+    }
+
+    void setPlayerStats(final int playerCoins, final double playerDamage, final int playerHearts,
+            final int playerMaxHearts, final double playerSpeed, final double playerTears) {
+        this.coins = playerCoins;
+        this.damage = playerDamage;
+        this.hearts = playerHearts;
+        this.maxHearts = playerMaxHearts;
+        this.speed = playerSpeed;
+        this.tears = playerTears;
+    }
+
+    void setRooms(final int count, final int current) {
+        this.roomsCount = count;
+        this.currentRoom = current;
+    }
+
+    long getCompletionVersion() {
+        return this.completionVersion;
+    }
+
+    BitSet getCompleted() {
+        return this.completed;
+    }
+
+    void setCompletionVersion(final long version) {
+        this.completionVersion = version;
+        this.completedRooms = this.completed.cardinality();
+    }
+
+    void setSeed(final long gameSeed) {
+        this.seed = gameSeed;
+    }
+
+    void setOverlay(final String text) {
+        this.overlay = text;
+    }
+}
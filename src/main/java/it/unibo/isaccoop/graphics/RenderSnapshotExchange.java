@@ -0,0 +1,49 @@
+package it.unibo.isaccoop.graphics;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free handoff of {@link RenderSnapshot}s from the game loop thread to the renderer thread,
+ * implemented as a triple buffer: the writer fills its back snapshot and swaps it with the published one,
+ * the reader swaps its front snapshot with the published one only when this is newer.
+ * Neither thread ever waits for the other one and a snapshot is never changed while it is read.
+ * There must be a single writer thread and a single reader thread.
+ */
+public final class RenderSnapshotExchange {
+
+    private final AtomicReference<RenderSnapshot> published = new AtomicReference<>(new RenderSnapshot());
+    private RenderSnapshot back = new RenderSnapshot();
+    private RenderSnapshot front = new RenderSnapshot();
+    private long frames;
+
+    /**
+     * Get the snapshot to fill with a new frame, to be called by the writer thread.
+     * @param alpha interpolation factor of the new frame
+     * @param state what the scene has to show in the new frame
+     * @return an empty snapshot owned by the writer until {@link #publish()}
+     */
+    public RenderSnapshot beginFrame(final double alpha, final RenderSnapshot.SceneState state) {
+        this.frames++;
+        this.back.reset(this.frames, alpha, state);
+        return this.back;
+    }
+
+    /**
+     * Publish the snapshot returned by the last call to {@link #beginFrame(double, RenderSnapshot.SceneState)}.
+     */
+    public void publish() {
+        this.back = this.published.getAndSet(this.back);
+    }
+
+    /**
+     * Get the latest published snapshot, to be called by the reader thread.
+     * The snapshot can be read until the next call of this method.
+     * @return the latest snapshot, with frame number 0 if nothing has been published yet
+     */
+    public RenderSnapshot latest() {
+        if (this.published.get().getFrame() > this.front.getFrame()) {
+            this.front = this.published.getAndSet(this.front);
+        }
+        return this.front;
+    }
+}
@@ -6,8 +6,10 @@ package it.unibo.isaccoop.graphics;
 public interface Scene {
     /**
      * Render scene.
+     * @param alpha fraction of the simulation step elapsed since the last update, between 0 and 1,
+     * used to interpolate the elements positions
      */
-    void render();
+    void render(double alpha);
     /**
      * Render gameOver.
      */
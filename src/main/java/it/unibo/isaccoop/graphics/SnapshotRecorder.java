@@ -0,0 +1,109 @@
+package it.unibo.isaccoop.graphics;
+
+import java.util.List;
+
+import it.unibo.isaccoop.core.metrics.FrameMetrics;
+import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.room.Level;
+import it.unibo.isaccoop.model.room.Room;
+import it.unibo.isaccoop.model.world.RenderSystem;
+
+/**
+ * Graphics which records the elements of the current room into a {@link RenderSnapshot},
+ * instead of drawing them, so that the graphics components of the elements are used unchanged.
+ * It must be used by the game loop thread, the only one allowed to read the model.
+ */
+final class SnapshotRecorder implements Graphics {
+
+    /**
+     * System property which enables the frame metrics overlay.
+     */
+    static final String OVERLAY_PROPERTY = "isaccoop.overlay";
+
+    private static final int OVERLAY_PERIOD = 30;
+
+    private final Level level;
+    private final boolean overlayEnabled = Boolean.getBoolean(OVERLAY_PROPERTY);
+    private String overlay;
+    private int frames;
+    private final RenderSnapshotExchange exchange;
+    private RenderSnapshot snapshot;
+    private final RenderSystem renderSystem = new RenderSystem();
+    private final RenderSystem.SpriteSink enemySprites = (name, previousX, previousY, x, y, radius) ->
+            this.snapshot.addSprite(name, previousX, previousY, x, y, radius);
+
+    /**
+     * SnapshotRecorder constructor.
+     * @param level the level to record
+     * @param exchange where to publish the recorded snapshots
+     */
+    SnapshotRecorder(final Level level, final RenderSnapshotExchange exchange) {
+        this.level = level;
+        this.exchange = exchange;
+    }
+
+    /**
+     * Record the current state of the level and publish it.
+     * @param alpha interpolation factor of the frame
+     * @param paused true if the game is in pause
+     */
+    void record(final double alpha, final boolean paused) {
+        final List<Room> rooms = this.level.getRooms();
+        final int currentIndex = this.level.getCurrentRoomId();
+        final Room current = rooms.get(currentIndex).getPlayer().isPresent() ? rooms.get(currentIndex) : null;
+        final RenderSnapshot.SceneState state;
+        if (paused) {
+            state = RenderSnapshot.SceneState.PAUSE;
+        } else if (this.level.isLevelComplete()) {
+            state = RenderSnapshot.SceneState.LEVEL_COMPLETED;
+        } else if (current == null || current.getPlayer().get().isDead()) {
+            state = RenderSnapshot.SceneState.GAME_OVER;
+        } else {
+            state = RenderSnapshot.SceneState.PLAYING;
+        }
+        this.snapshot = this.exchange.beginFrame(alpha, state);
+        this.snapshot.setRooms(rooms.size(), currentIndex);
+        this.snapshot.setSeed(this.level.getSeed());
+        /* every snapshot keeps its copy of the complete rooms, updated only when a room has been completed */
+        final long version = this.level.getCompletionVersion();
+        if (this.snapshot.getCompletionVersion() != version) {
+            this.level.copyCompletedRooms(this.snapshot.getCompleted());
+            this.snapshot.setCompletionVersion(version);
+        }
+        if (current != null) {
+            final Player player = current.getPlayer().get();
+            this.snapshot.setPlayerStats(player.getCoin(), player.getDamage(), player.getHeart(),
+                    player.getMaxHeart(), player.getSpeed(), player.getTears());
+            current.updateGraphics(this);
+            current.getItems().ifPresent(l -> l.forEach(i -> i.updateGraphics(this)));
+            current.getPowerUps().ifPresent(l -> l.forEach(p -> p.updateGraphics(this)));
+            current.getRoomAI().ifPresent(ai -> this.renderSystem.render(ai.getWorld(), this.enemySprites));
+            player.updateGraphics(this);
+            current.getProjectiles().forEach(shot -> shot.updateGraphics(this));
+            if (this.overlayEnabled) {
+                /* the text is rebuilt only once in a while, formatting it at every frame would cost too much */
+                if (this.frames % OVERLAY_PERIOD == 0) {
+                    this.overlay = FrameMetrics.getInstance().getOverlayText(current.getRoomType());
+                }
+                this.frames++;
+            }
+        }
+        this.snapshot.setOverlay(this.overlay);
+        this.exchange.publish();
+    }
+
+    @Override
+    public void drawElementAsImage(final MapElement element, final String imageName) {
+        if (element instanceof Room) {
+            final Room room = (Room) element;
+            this.snapshot.setRoom(imageName, room.getWidth(), room.getHeight());
+        } else {
+            final Point2D previous = element.getPreviousCoords();
+            this.snapshot.addSprite(imageName, previous.getX(), previous.getY(), element.getX(), element.getY(),
+                    ((CircleBoundingBox) element.getBox()).getRadius());
+        }
+    }
+}
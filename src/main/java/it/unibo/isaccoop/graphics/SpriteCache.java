@@ -0,0 +1,225 @@
+package it.unibo.isaccoop.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import it.unibo.isaccoop.graphics.factory.AbstractGraphicsComponentFactory;
+import it.unibo.isaccoop.graphics.factory.ConcreteEnemyGraphicsComponentFactory;
+import it.unibo.isaccoop.graphics.factory.ConcretePlayerGraphicsComponentFactory;
+import it.unibo.isaccoop.graphics.factory.ConcreteRoomGraphicsComponentFactory;
+import it.unibo.isaccoop.graphics.factory.ItemGraphicsComponentImpl;
+import it.unibo.isaccoop.graphics.factory.PowerUpGraphicsComponentImpl;
+
+/**
+ * Process-wide cache of the game sprites.
+ * Every image is decoded only once and every scaled copy is created only once per target pixel size,
+ * so drawing a sprite never reads or decodes the image resource again.
+ * Images are stored as compatible images of the default screen, to be drawn as fast as possible.
+ */
+public final class SpriteCache {
+
+    private static final Logger LOGGER = Logger.getLogger(SpriteCache.class.getName());
+    private static final String RES_PATH = "it/unibo/isaccoop/images/";
+    private static final int SIZE_SHIFT = 32;
+    private static final long SIZE_MASK = 0xFFFF_FFFFL;
+    private static final SpriteCache INSTANCE = new SpriteCache();
+
+    private final Map<String, SpriteEntry> sprites = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private SpriteCache() { }
+
+    /**
+     * Get the cache shared by the whole game.
+     *
+     * @return the sprite cache instance
+     */
+    public static SpriteCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Decode and store the specified images, so that the first frame does not have to do it.
+     *
+     * @param imageNames names of the images to load, relative to the images resource folder
+     */
+    public void preload(final Collection<String> imageNames) {
+        imageNames.forEach(this::getEntry);
+    }
+
+    /**
+     * Decode and store the images of every graphics component of the game, before the first frame of a scene.
+     */
+    public void preloadGameSprites() {
+        Stream.of(new ConcreteEnemyGraphicsComponentFactory(), new ConcretePlayerGraphicsComponentFactory(),
+                new ConcreteRoomGraphicsComponentFactory(), new ItemGraphicsComponentImpl(),
+                new PowerUpGraphicsComponentImpl())
+            .map(AbstractGraphicsComponentFactory::getSpriteNames)
+            .forEach(this::preload);
+    }
+
+    /**
+     * Get a sprite scaled to the specified pixel size.
+     *
+     * @param imageName name of the image, relative to the images resource folder
+     * @param width target width in pixel
+     * @param height target height in pixel
+     * @return the sprite as a compatible image of the requested size
+     */
+    public BufferedImage getSprite(final String imageName, final int width, final int height) {
+        final SpriteEntry entry = this.getEntry(imageName);
+        final int w = Math.max(1, width);
+        final int h = Math.max(1, height);
+        final BufferedImage last = entry.getLast(w, h);
+        if (last != null) {
+            this.hits.incrementAndGet();
+            return last;
+        }
+        final long key = (long) w << SIZE_SHIFT | h & SIZE_MASK;
+        final BufferedImage cached = entry.getScaled().get(key);
+        if (cached != null) {
+            this.hits.incrementAndGet();
+            entry.setLast(cached);
+            return cached;
+        }
+        this.misses.incrementAndGet();
+        final BufferedImage scaled = entry.getScaled().computeIfAbsent(key, k -> scale(entry.getSource(), w, h));
+        entry.setLast(scaled);
+        return scaled;
+    }
+
+    /**
+     * Get the number of sprite requests served from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Get the number of sprite requests that required a new scaled image.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Get the number of distinct images currently loaded.
+     *
+     * @return the number of loaded images
+     */
+    public int getLoadedImages() {
+        return this.sprites.size();
+    }
+
+    /**
+     * Return a string describing the cache usage.
+     *
+     * @return cache statistics as a string
+     */
+    @Override
+    public String toString() {
+        return "SpriteCache [images=" + this.getLoadedImages() + ", hits=" + this.getHits()
+                + ", misses=" + this.getMisses() + "]";
+    }
+
+    private SpriteEntry getEntry(final String imageName) {
+        return this.sprites.computeIfAbsent(imageName, name -> new SpriteEntry(load(name)));
+    }
+
+    /**
+     * Decode an image resource and convert it to a compatible image.
+     *
+     * @param imageName name of the image to load
+     * @return the decoded image, or an empty image if the resource cannot be read
+     */
+    private static BufferedImage load(final String imageName) {
+        final URL resource = ClassLoader.getSystemResource(RES_PATH + imageName);
+        try {
+            if (resource != null) {
+                final BufferedImage decoded = ImageIO.read(resource);
+                if (decoded != null) {
+                    return scale(decoded, decoded.getWidth(), decoded.getHeight());
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.severe(ex.getMessage());
+        }
+        LOGGER.severe("Cannot load image " + imageName);
+        return createCompatibleImage(1, 1);
+    }
+
+    /**
+     * Draw an image into a new compatible image of the specified size.
+     *
+     * @param source the image to draw
+     * @param width the new width
+     * @param height the new height
+     * @return the new image
+     */
+    private static BufferedImage scale(final BufferedImage source, final int width, final int height) {
+        final BufferedImage image = createCompatibleImage(width, height);
+        final Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage createCompatibleImage(final int width, final int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Decoded image together with its scaled copies.
+     * The last returned copy is remembered, since an image is usually drawn always at the same size.
+     */
+    private static final class SpriteEntry {
+
+        private final BufferedImage source;
+        private final Map<Long, BufferedImage> scaled = new ConcurrentHashMap<>();
+        private volatile BufferedImage last;
+
+        SpriteEntry(final BufferedImage source) {
+            this.source = source;
+        }
+
+        BufferedImage getSource() {
+            return this.source;
+        }
+
+        Map<Long, BufferedImage> getScaled() {
+            return this.scaled;
+        }
+
+        BufferedImage getLast(final int width, final int height) {
+            final BufferedImage image = this.last;
+            return image != null && image.getWidth() == width && image.getHeight() == height ? image : null;
+        }
+
+        void setLast(final BufferedImage image) {
+            this.last = image;
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package it.unibo.isaccoop.graphics;
 
-import javax.swing.ImageIcon;
-
 import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
 import it.unibo.isaccoop.model.common.MapElement;
 import it.unibo.isaccoop.model.common.Point2D;
@@ -12,11 +10,12 @@ import it.unibo.isaccoop.model.room.Room;
  */
 public final class SwingGraphics implements Graphics {
 
-    private static final String RES_PATH = "it/unibo/isaccoop/images/";
+    private static final SpriteCache SPRITES = SpriteCache.getInstance();
     private final java.awt.Graphics g2;
 
     private final double ratioX;
     private final double ratioY;
+    private final double alpha;
 
     /**
      * SwingGraphics Constructor.
@@ -25,33 +24,73 @@ public final class SwingGraphics implements Graphics {
      * @param ratioY
      */
     public SwingGraphics(final java.awt.Graphics g, final double ratioX, final double ratioY) {
+        this(g, ratioX, ratioY, 1.0);
+    }
+
+    /**
+     * SwingGraphics Constructor with interpolation between elements previous and current coords.
+     * @param g
+     * @param ratioX
+     * @param ratioY
+     * @param alpha interpolation factor, 0 to draw previous coords and 1 to draw current coords
+     */
+    public SwingGraphics(final java.awt.Graphics g, final double ratioX, final double ratioY, final double alpha) {
         this.g2 = g.create();
         this.ratioX = ratioX;
         this.ratioY = ratioY;
+        this.alpha = Math.max(0.0, Math.min(1.0, alpha));
     }
 
     @Override
     public void drawElementAsImage(final MapElement element, final String imageName) {
-       final var imageIcon = new ImageIcon(ClassLoader.getSystemResource(RES_PATH + imageName));
-
        if (element instanceof Room) {
            final var room = (Room) element;
-           this.g2.drawImage(imageIcon.getImage(), 0, 0, (int) Math.round(room.getWidth() * this.ratioX),
-                   (int) Math.round(room.getHeight() * this.ratioY), null);
+           final var width = (int) Math.round(room.getWidth() * this.ratioX);
+           final var height = (int) Math.round(room.getHeight() * this.ratioY);
+           this.g2.drawImage(SPRITES.getSprite(imageName, width, height), 0, 0, null);
        } else {
-           final var sy2 = imageIcon.getImage().getHeight(null);
-           final var sx2 = imageIcon.getImage().getWidth(null);
            final var delta = this.getDeltaXinPixel(((CircleBoundingBox) element.getBox()).getRadius());
+           final var coords = this.interpolate(element.getPreviousCoords(), element.getCoords());
 
-           final var dx1 = this.getXinPixel(element.getCoords()) - delta;
-           final var dy1 = this.getYinPixel(element.getCoords()) - delta;
-           final var dx2 = this.getXinPixel(element.getCoords()) + delta;
-           final var dy2 = this.getYinPixel(element.getCoords()) + delta;
+           final var dx1 = this.getXinPixel(coords) - delta;
+           final var dy1 = this.getYinPixel(coords) - delta;
 
-           this.g2.drawImage(imageIcon.getImage(), dx1, dy1, dx2, dy2, 0, 0, sx2, sy2, null);
+           this.g2.drawImage(SPRITES.getSprite(imageName, 2 * delta, 2 * delta), dx1, dy1, null);
        }
     }
 
+    /**
+     * Draw the room and all the sprites of a snapshot, interpolating the sprites positions.
+     * @param snapshot the snapshot to draw
+     */
+    public void drawSnapshot(final RenderSnapshot snapshot) {
+        if (snapshot.getRoomImage() != null) {
+            final var width = (int) Math.round(snapshot.getRoomWidth() * this.ratioX);
+            final var height = (int) Math.round(snapshot.getRoomHeight() * this.ratioY);
+            this.g2.drawImage(SPRITES.getSprite(snapshot.getRoomImage(), width, height), 0, 0, null);
+        }
+        final double a = Math.max(0.0, Math.min(1.0, snapshot.getAlpha()));
+        for (int i = 0; i < snapshot.getSpriteCount(); i++) {
+            final var delta = this.getDeltaXinPixel(snapshot.getRadius(i));
+            final var x = snapshot.getPreviousX(i) + (snapshot.getX(i) - snapshot.getPreviousX(i)) * a;
+            final var y = snapshot.getPreviousY(i) + (snapshot.getY(i) - snapshot.getPreviousY(i)) * a;
+            final var dx1 = (int) Math.round(x * this.ratioX) - delta;
+            final var dy1 = (int) Math.round(y * this.ratioY) - delta;
+            this.g2.drawImage(SPRITES.getSprite(snapshot.getSpriteName(i), 2 * delta, 2 * delta), dx1, dy1, null);
+        }
+    }
+
+    /**
+     * Method to get the element coords to draw between its previous and current coords.
+     * @param previous element coords before the last update
+     * @param current element coords after the last update
+     * @return interpolated coords
+     * */
+    private Point2D interpolate(final Point2D previous, final Point2D current) {
+        return new Point2D(previous.getX() + (current.getX() - previous.getX()) * this.alpha,
+                previous.getY() + (current.getY() - previous.getY()) * this.alpha);
+    }
+
     /**
      * Method to convert x coord in pixel.
      * @param p element coords
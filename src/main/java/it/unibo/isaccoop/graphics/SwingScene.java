@@ -12,32 +12,30 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.lang.reflect.InvocationTargetException;
-import java.util.logging.Logger;
 
 import javax.swing.JButton;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
-import javax.swing.SwingUtilities;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import it.unibo.isaccoop.controller.input.KeyboardInputController;
 import it.unibo.isaccoop.core.GameEngine;
 import it.unibo.isaccoop.model.room.Level;
-import it.unibo.isaccoop.model.room.Room;
 
 /**
  * Represents the game scene, implemented with Swing.
+ * The game loop thread records every frame into a {@link RenderSnapshot} and asks for a repaint without waiting,
+ * the event dispatch thread draws the latest published snapshot and never reads the model.
  */
 public final class SwingScene implements Scene {
 
-    private static final Logger LOGGER = Logger.getLogger(SwingScene.class.getName());
     private final JFrame frame;
     private final GameEngine engine;
-    private final Level gameState;
+    private final RenderSnapshotExchange snapshots = new RenderSnapshotExchange();
+    private final SnapshotRecorder recorder;
     private static final int GAME_OVER_FONT = 30;
 
     private static final int MINIMAP_HEIGHT = 150;
+    private static final int OVERLAY_MARGIN = 20;
     private static final int ROOM_WIDTH = (int) Toolkit.getDefaultToolkit().getScreenSize().getWidth();
     private static final int ROOM_HEIGHT = (int) Toolkit.getDefaultToolkit().getScreenSize().getHeight()
             - MINIMAP_HEIGHT;
@@ -51,17 +49,21 @@ public final class SwingScene implements Scene {
    
     public SwingScene(final Level gameState, final GameEngine engine) {
 
+        /* decode every sprite before the first frame */
+        SpriteCache.getInstance().preloadGameSprites();
         final JPanel containerPanel = new JPanel(new BorderLayout());
         frame = new JFrame("Isaccoop");
         frame.setSize(ROOM_WIDTH, ROOM_HEIGHT + MINIMAP_HEIGHT);
         frame.setPreferredSize(new Dimension(ROOM_WIDTH, ROOM_HEIGHT + MINIMAP_HEIGHT));
         frame.setMinimumSize(new Dimension(ROOM_WIDTH, ROOM_HEIGHT + MINIMAP_HEIGHT));
         frame.setResizable(true);
-        this.gameState = gameState;
         this.engine = engine;
+        this.recorder = new SnapshotRecorder(gameState, this.snapshots);
+        this.recorder.record(1.0, false);
         containerPanel.add(new ScenePanel(ROOM_WIDTH, ROOM_HEIGHT, gameState.getCurrentRoom().getWidth(),
                 gameState.getCurrentRoom().getHeight()));
-        containerPanel.add(new OverlayGUI(gameState, ROOM_WIDTH, MINIMAP_HEIGHT), BorderLayout.PAGE_END);
+        containerPanel.add(new OverlayGUI(gameState.getRooms().size(), this.snapshots, ROOM_WIDTH, MINIMAP_HEIGHT),
+                BorderLayout.PAGE_END);
         frame.getContentPane().add(containerPanel);
         frame.addWindowListener(new WindowAdapter() {
             @Override
@@ -78,14 +80,9 @@ public final class SwingScene implements Scene {
     }
 
     @Override
-    public void render() {
-        try {
-            SwingUtilities.invokeAndWait(() -> {
-                frame.repaint();
-            });
-        } catch (InterruptedException | InvocationTargetException ex) {
-            LOGGER.severe(ex.getMessage());
-        }
+    public void render(final double alpha) {
+        this.recorder.record(alpha, this.engine.isGameLoopInPause());
+        this.frame.repaint();
     }
 
     /**
@@ -98,6 +95,7 @@ public final class SwingScene implements Scene {
         private final double ratioY;
         private final Font gameOverFont;
         private final Color backgroundColor = new Color(150, 75, 50);
+        private final transient KeyListener keys = new GameKeyListener(engine);
 
         /**
          * ScenePanel Constructor.
@@ -136,7 +134,8 @@ public final class SwingScene implements Scene {
                 frame.setVisible(false);
             });
 
-            if (SwingScene.this.engine.isGameLoopInPause()) {
+            final RenderSnapshot snapshot = SwingScene.this.snapshots.latest();
+            if (snapshot.getState() == RenderSnapshot.SceneState.PAUSE) {
 
                 g.setFont(gameOverFont);
                 g.setColor(this.backgroundColor);
@@ -144,7 +143,7 @@ public final class SwingScene implements Scene {
                 g.setColor(Color.BLACK);
                 this.drawCenteredString(g, "PAUSE", getVisibleRect(), gameOverFont);
 
-            } else if (gameState.isLevelComplete()) {
+            } else if (snapshot.getState() == RenderSnapshot.SceneState.LEVEL_COMPLETED) {
 
                 g.setFont(gameOverFont);
                 g.setColor(this.backgroundColor);
@@ -154,7 +153,7 @@ public final class SwingScene implements Scene {
                 btnGoToMenu.setOpaque(false);
                 this.drawCenteredString(g, "GAME COMPLETED", getVisibleRect(), gameOverFont);
 
-            } else if (gameState.getPlayer().isDead()) {
+            } else if (snapshot.getState() == RenderSnapshot.SceneState.GAME_OVER) {
                 g.setFont(gameOverFont);
                 g.setColor(this.backgroundColor);
                 g.fillRect(0, 0, this.getWidth(), this.getHeight());
@@ -164,25 +163,12 @@ public final class SwingScene implements Scene {
                 this.drawCenteredString(g, "GAME OVER", getVisibleRect(), gameOverFont);
 
             } else {
-                /* drawing the borders */
-
-                final Room scene = gameState.getRooms().stream()
-                        .filter(r -> r.getPlayer().isPresent()).findFirst().get();
-
-                /* drawing the game objects */
+                /* drawing the room and the game objects */
 
-                final SwingGraphics gr = new SwingGraphics(g, ratioX, ratioY);
-
-                scene.updateGraphics(gr);
-                scene.getItems().ifPresent(l -> l.forEach(i -> i.updateGraphics(gr)));
-                scene.getPowerUps().ifPresent(l -> l.forEach(p -> p.updateGraphics(gr)));
-                scene.getEnemies().ifPresent(l -> l.forEach(e -> {
-                    e.updateGraphics(gr);
-                    e.getWeaponShots().ifPresent(shots -> shots.forEach(shot -> shot.updateGraphics(gr)));
-                }));
-                scene.getPlayer().ifPresent(p -> {
-                    p.updateGraphics(gr);
-                    p.getWeaponShots().forEach(shot -> shot.updateGraphics(gr));
+                new SwingGraphics(g, ratioX, ratioY).drawSnapshot(snapshot);
+                snapshot.getOverlay().ifPresent(text -> {
+                    g.setColor(Color.WHITE);
+                    g.drawString(text, OVERLAY_MARGIN, OVERLAY_MARGIN);
                 });
 
             }
@@ -194,10 +180,7 @@ public final class SwingScene implements Scene {
          */
         @Override
         public void keyPressed(final KeyEvent e) {
-            for (final KeyboardInputController ctrl: engine.getKeyboardInputControllers()) {
-                ctrl.notifyKeyPressed(e.getKeyCode());
-            }
-            engine.getActionController().notifyKeyPressed(e.getKeyCode());
+            this.keys.keyPressed(e);
         }
 
         /**
@@ -206,9 +189,7 @@ public final class SwingScene implements Scene {
          */
         @Override
         public void keyReleased(final KeyEvent e) {
-            for (final KeyboardInputController ctrl: engine.getKeyboardInputControllers()) {
-                ctrl.notifyKeyReleased(e.getKeyCode());
-            }
+            this.keys.keyReleased(e);
         }
 
         @Override
@@ -233,6 +214,8 @@ public final class SwingScene implements Scene {
 
     @Override
     public void renderGameOver() {
-        //not needed here
+        /* publish the final state, the game loop does not render anymore */
+        this.recorder.record(1.0, false);
+        this.frame.repaint();
     }
 }
@@ -1,5 +1,7 @@
 package it.unibo.isaccoop.graphics.factory;
 
+import java.util.List;
+
 import it.unibo.isaccoop.graphics.GraphicsComponent;
 
 /**
@@ -18,4 +20,11 @@ public abstract class AbstractGraphicsComponentFactory {
     protected GraphicsComponent getElementAsImageGraphicsComponent(final String imageName) {
         return (obj, w) -> w.drawElementAsImage(obj, imageName);
     }
+
+    /**
+     * Get the names of all the images used by the graphics components of this factory,
+     * so that they can be loaded before the game starts.
+     * @return the list of image names
+     */
+    public abstract List<String> getSpriteNames();
 }
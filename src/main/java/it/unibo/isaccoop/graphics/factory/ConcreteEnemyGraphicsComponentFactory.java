@@ -1,5 +1,7 @@
 package it.unibo.isaccoop.graphics.factory;
 
+import java.util.List;
+
 import it.unibo.isaccoop.graphics.GraphicsComponent;
 
 /**
@@ -8,28 +10,39 @@ import it.unibo.isaccoop.graphics.GraphicsComponent;
 public final class ConcreteEnemyGraphicsComponentFactory extends AbstractGraphicsComponentFactory
         implements EnemyGraphicsComponentFactory {
 
+    private static final String NON_SHOOTING = "nonShootingEnemy1.gif";
+    private static final String SHOOTING = "shootingEnemy.gif";
+    private static final String BOSS = "EnemyBoss.gif";
+    private static final String ENEMY_SHOT = "enemyShoot.gif";
+    private static final String BOSS_SHOT = "shotBoss.gif";
+
     @Override
     public GraphicsComponent getNonShootingGraphicsComponent() {
-        return super.getElementAsImageGraphicsComponent("nonShootingEnemy1.gif");
+        return super.getElementAsImageGraphicsComponent(NON_SHOOTING);
     }
 
     @Override
     public GraphicsComponent getShootingGraphicsComponent() {
-        return super.getElementAsImageGraphicsComponent("shootingEnemy.gif");
+        return super.getElementAsImageGraphicsComponent(SHOOTING);
     }
 
     @Override
     public GraphicsComponent getBossGraphicsComponent() {
-        return super.getElementAsImageGraphicsComponent("EnemyBoss.gif");
+        return super.getElementAsImageGraphicsComponent(BOSS);
     }
 
     @Override
     public GraphicsComponent getEnemyBaseWeaponShotGraphicsComponent() {
-        return super.getElementAsImageGraphicsComponent("enemyShoot.gif");
+        return super.getElementAsImageGraphicsComponent(ENEMY_SHOT);
     }
 
     @Override
     public GraphicsComponent getBossBaseWeaponShotGraphicsComponent() {
-        return super.getElementAsImageGraphicsComponent("shotBoss.gif");
+        return super.getElementAsImageGraphicsComponent(BOSS_SHOT);
+    }
+
+    @Override
+    public List<String> getSpriteNames() {
+        return List.of(NON_SHOOTING, SHOOTING, BOSS, ENEMY_SHOT, BOSS_SHOT);
     }
 }
@@ -1,5 +1,7 @@
 package it.unibo.isaccoop.graphics.factory;
 
+import java.util.List;
+
 import it.unibo.isaccoop.graphics.GraphicsComponent;
 
 /**
@@ -8,13 +10,21 @@ import it.unibo.isaccoop.graphics.GraphicsComponent;
 public final class ConcretePlayerGraphicsComponentFactory extends AbstractGraphicsComponentFactory
         implements PlayerGraphicsComponentFactory {
 
+    private static final String PLAYER = "player.gif";
+    private static final String PLAYER_SHOT = "playerShot.png";
+
     @Override
     public GraphicsComponent getPlayerGraphicsComponent() {
-        return super.getElementAsImageGraphicsComponent("player.gif");
+        return super.getElementAsImageGraphicsComponent(PLAYER);
     }
 
     @Override
     public GraphicsComponent getPlayerBaseWeaponShotGraphicsComponent() {
-        return super.getElementAsImageGraphicsComponent("playerShot.png");
+        return super.getElementAsImageGraphicsComponent(PLAYER_SHOT);
+    }
+
+    @Override
+    public List<String> getSpriteNames() {
+        return List.of(PLAYER, PLAYER_SHOT);
     }
 }
@@ -1,5 +1,7 @@
 package it.unibo.isaccoop.graphics.factory;
 
+import java.util.List;
+
 import it.unibo.isaccoop.graphics.GraphicsComponent;
 
 /**
@@ -8,8 +10,15 @@ import it.unibo.isaccoop.graphics.GraphicsComponent;
 public final class ConcreteRoomGraphicsComponentFactory extends AbstractGraphicsComponentFactory
         implements RoomGraphicsComponentFactory {
 
+    private static final String FLOOR = "floor.png";
+
     @Override
     public GraphicsComponent getRoomGraphicsComponent() {
-        return super.getElementAsImageGraphicsComponent("floor.png");
+        return super.getElementAsImageGraphicsComponent(FLOOR);
+    }
+
+    @Override
+    public List<String> getSpriteNames() {
+        return List.of(FLOOR);
     }
 }
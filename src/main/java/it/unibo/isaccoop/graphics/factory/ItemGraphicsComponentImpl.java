@@ -1,5 +1,7 @@
 package it.unibo.isaccoop.graphics.factory;
 
+import java.util.List;
+
 import it.unibo.isaccoop.graphics.GraphicsComponent;
 
 /**
@@ -7,16 +9,24 @@ import it.unibo.isaccoop.graphics.GraphicsComponent;
  * */
 public class ItemGraphicsComponentImpl extends AbstractGraphicsComponentFactory implements ItemGraphicsComponent {
 
+    private static final String HEART = "heart.gif";
+    private static final String COIN = "coin.gif";
+
     /***/
     @Override
     public GraphicsComponent getHeartGraphicsComponent() {
-        return super.getElementAsImageGraphicsComponent("heart.gif");
+        return super.getElementAsImageGraphicsComponent(HEART);
     }
 
     /***/
     @Override
     public GraphicsComponent getCoinGraphicsComponent() {
-        return (obj, w) -> w.drawElementAsImage(obj, "coin.gif");
+        return (obj, w) -> w.drawElementAsImage(obj, COIN);
     }
 
+    /***/
+    @Override
+    public List<String> getSpriteNames() {
+        return List.of(HEART, COIN);
+    }
 }
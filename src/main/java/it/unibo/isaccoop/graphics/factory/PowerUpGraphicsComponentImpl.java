@@ -1,5 +1,7 @@
 package it.unibo.isaccoop.graphics.factory;
 
+import java.util.List;
+
 import it.unibo.isaccoop.graphics.GraphicsComponent;
 
 /**
@@ -7,34 +9,49 @@ import it.unibo.isaccoop.graphics.GraphicsComponent;
  * */
 public final class PowerUpGraphicsComponentImpl extends AbstractGraphicsComponentFactory implements PowerUpGraphicsComponent {
 
+    private static final String DAMAGE_SUPER = "damage_super_up.png";
+    private static final String DAMAGE = "damage_up.png";
+    private static final String COIN_SUPER = "coin_super_up.png";
+    private static final String COIN = "coin_up.png";
+    private static final String HEALTH_SUPER = "health_super_up.gif";
+    private static final String HEALTH = "health_up.png";
+    private static final String SPEED_SUPER = "speed_super_up.png";
+    private static final String SPEED = "speed_up.png";
+    private static final String TEARS_SUPER = "tears_super_up.gif";
+    private static final String TEARS = "tears_up.png";
+
     @Override
     public GraphicsComponent getDamageUpGraphicsComponent(final Boolean isSuper) {
-        return isSuper ? super.getElementAsImageGraphicsComponent("damage_super_up.png")
-                : super.getElementAsImageGraphicsComponent("damage_up.png");
+        return isSuper ? super.getElementAsImageGraphicsComponent(DAMAGE_SUPER)
+                : super.getElementAsImageGraphicsComponent(DAMAGE);
     }
 
     @Override
     public GraphicsComponent getCoinUpGraphicsComponent(final Boolean isSuper) {
-        return isSuper ? super.getElementAsImageGraphicsComponent("coin_super_up.png")
-                : super.getElementAsImageGraphicsComponent("coin_up.png");
+        return isSuper ? super.getElementAsImageGraphicsComponent(COIN_SUPER)
+                : super.getElementAsImageGraphicsComponent(COIN);
     }
 
     @Override
     public GraphicsComponent getHealthUpGraphicsComponent(final Boolean isSuper) {
-        return isSuper ? super.getElementAsImageGraphicsComponent("health_super_up.gif")
-                : super.getElementAsImageGraphicsComponent("health_up.png");
+        return isSuper ? super.getElementAsImageGraphicsComponent(HEALTH_SUPER)
+                : super.getElementAsImageGraphicsComponent(HEALTH);
     }
 
     @Override
     public GraphicsComponent getSpeedUpGraphicsComponent(final Boolean isSuper) {
-        return isSuper ? super.getElementAsImageGraphicsComponent("speed_super_up.png")
-                : super.getElementAsImageGraphicsComponent("speed_up.png");
+        return isSuper ? super.getElementAsImageGraphicsComponent(SPEED_SUPER)
+                : super.getElementAsImageGraphicsComponent(SPEED);
     }
 
     @Override
     public GraphicsComponent getTearsUpGraphicsComponent(final Boolean isSuper) {
-        return isSuper ? super.getElementAsImageGraphicsComponent("tears_super_up.gif")
-                : super.getElementAsImageGraphicsComponent("tears_up.png");
+        return isSuper ? super.getElementAsImageGraphicsComponent(TEARS_SUPER)
+                : super.getElementAsImageGraphicsComponent(TEARS);
     }
 
+    @Override
+    public List<String> getSpriteNames() {
+        return List.of(DAMAGE_SUPER, DAMAGE, COIN_SUPER, COIN, HEALTH_SUPER, HEALTH, SPEED_SUPER, SPEED, TEARS_SUPER, TEARS);
+    }
 }
@@ -13,5 +13,19 @@ public interface MovementStrategy {
      * @param playerPosition the position of the player
      * @return the new position to move
      * */
-    Point2D move(Point2D enemyPosition, Point2D playerPosition);
+    default Point2D move(final Point2D enemyPosition, final Point2D playerPosition) {
+        final double[] step = new double[2];
+        this.step(enemyPosition.getX(), enemyPosition.getY(), playerPosition.getX(), playerPosition.getY(), step);
+        return new Point2D(enemyPosition.getX() + step[0], enemyPosition.getY() + step[1]);
+    }
+
+    /**
+     * Get the movement offsets by movement strategy, without creating any object.
+     * @param enemyX x coord of the enemy
+     * @param enemyY y coord of the enemy
+     * @param playerX x coord of the player
+     * @param playerY y coord of the player
+     * @param step array of two elements where the x and y offsets of the movement are written
+     * */
+    void step(double enemyX, double enemyY, double playerX, double playerY, double[] step);
 }
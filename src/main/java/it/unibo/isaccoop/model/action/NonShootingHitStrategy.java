@@ -2,7 +2,9 @@ package it.unibo.isaccoop.model.action;
 
 import java.util.Optional;
 
+import it.unibo.isaccoop.model.common.GameClock;
 import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.common.Vector2D;
 
 /**
@@ -10,6 +12,7 @@ import it.unibo.isaccoop.model.common.Vector2D;
  * */
 public final class NonShootingHitStrategy implements HitStrategy {
 
+    private final GameClock clock;
     private boolean canHit;
     private long lastHitTime;
     private static final int HIT_TIME = 1000;
@@ -19,19 +22,28 @@ public final class NonShootingHitStrategy implements HitStrategy {
      * Constructor.
      * */
     public NonShootingHitStrategy() {
+        this(new SystemGameClock());
+    }
+
+    /**
+     * Constructor.
+     * @param clock the {@link GameClock} used to measure the time between hits
+     * */
+    public NonShootingHitStrategy(final GameClock clock) {
+        this.clock = clock;
         this.canHit = false;
-        this.lastHitTime = System.currentTimeMillis();
+        this.lastHitTime = clock.getTime();
     }
 
     @Override
     public void hit(final Optional<Vector2D> direction, final MapElement caller) {
-        if (System.currentTimeMillis() - this.lastHitTime >= NonShootingHitStrategy.HIT_TIME) {
+        if (this.clock.getTime() - this.lastHitTime >= NonShootingHitStrategy.HIT_TIME) {
             this.canHit = true;
-            this.lastHitTime = System.currentTimeMillis();
+            this.lastHitTime = this.clock.getTime();
         }
-        if (this.canHit && System.currentTimeMillis() - this.lastHitTime >= NonShootingHitStrategy.HIT_DURATION) {
+        if (this.canHit && this.clock.getTime() - this.lastHitTime >= NonShootingHitStrategy.HIT_DURATION) {
             this.canHit = false;
-            this.lastHitTime = System.currentTimeMillis();
+            this.lastHitTime = this.clock.getTime();
         }
     }
 
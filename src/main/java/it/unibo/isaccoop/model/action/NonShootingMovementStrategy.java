@@ -1,7 +1,5 @@
 package it.unibo.isaccoop.model.action;
 
-import it.unibo.isaccoop.model.common.Point2D;
-import it.unibo.isaccoop.model.common.Vector2D;
 import it.unibo.isaccoop.model.enemy.NonShootingEnemy;
 
 /**
@@ -10,8 +8,17 @@ import it.unibo.isaccoop.model.enemy.NonShootingEnemy;
 public final class NonShootingMovementStrategy implements MovementStrategy {
 
     @Override
-    public Point2D move(final Point2D enemyPosition, final Point2D playerPosition) {
-        final Vector2D movementVector = playerPosition.sub(enemyPosition).getNormalized().mul(NonShootingEnemy.getSpeed());
-        return enemyPosition.sum(movementVector);
+    public void step(final double enemyX, final double enemyY, final double playerX, final double playerY,
+            final double[] step) {
+        final double dx = playerX - enemyX;
+        final double dy = playerY - enemyY;
+        final double module = Math.sqrt(dx * dx + dy * dy);
+        if (module == 0) {
+            step[0] = 0;
+            step[1] = 0;
+        } else {
+            step[0] = dx / module * NonShootingEnemy.getSpeed();
+            step[1] = dy / module * NonShootingEnemy.getSpeed();
+        }
     }
 }
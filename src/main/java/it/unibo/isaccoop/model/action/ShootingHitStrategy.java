@@ -6,6 +6,7 @@ import java.util.Optional;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.isaccoop.model.common.MapElement;
 import it.unibo.isaccoop.model.common.Vector2D;
+import it.unibo.isaccoop.model.weapon.ProjectileStore;
 import it.unibo.isaccoop.model.weapon.Weapon;
 import it.unibo.isaccoop.model.weapon.WeaponShot;
 
@@ -39,7 +40,7 @@ public final class ShootingHitStrategy implements HitStrategy {
      * @return weapon shots list
      * */
     public List<WeaponShot> getWeaponShots() {
-        return List.copyOf(weapon.getWeaponShots());
+        return weapon.getWeaponShots();
     }
 
     /**
@@ -50,6 +51,16 @@ public final class ShootingHitStrategy implements HitStrategy {
         this.weapon.remove(shot);
     }
 
+    /**
+     * Put the weapon shots in the store of a room.
+     *
+     * @param projectileStore store of the room
+     * @param shotsOwner element holding the weapon
+     * */
+    public void setProjectileStore(final ProjectileStore projectileStore, final MapElement shotsOwner) {
+        this.weapon.setProjectileStore(projectileStore, shotsOwner);
+    }
+
     /**
      * Update weapon interval.
      *
@@ -1,9 +1,8 @@
 package it.unibo.isaccoop.model.action;
 
-import java.util.concurrent.ThreadLocalRandom;
-
-import it.unibo.isaccoop.model.common.Point2D;
-import it.unibo.isaccoop.model.common.Vector2D;
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.enemy.AbstractEnemy;
 
 /**
@@ -12,32 +11,58 @@ import it.unibo.isaccoop.model.enemy.AbstractEnemy;
 public final class ShootingMovementStrategy implements MovementStrategy {
 
     private static final long TIME_INTERVAL = 500;
+    private final GameClock clock;
+    private final GameRandom random;
     private long elapsedNewVector;
-    private Vector2D movementVector;
+    private double stepX;
+    private double stepY;
 
     /**
      * ShootingMovementStrategy Constructor.
      * */
     public ShootingMovementStrategy() {
-        this.elapsedNewVector = System.currentTimeMillis();
-        this.movementVector = this.getRandomVector();
+        this(new SystemGameClock());
+    }
+
+    /**
+     * ShootingMovementStrategy Constructor.
+     * @param clock the {@link GameClock} used to measure when to change direction
+     * */
+    public ShootingMovementStrategy(final GameClock clock) {
+        this(clock, new GameRandom());
+    }
+
+    /**
+     * ShootingMovementStrategy Constructor.
+     * @param clock the {@link GameClock} used to measure when to change direction
+     * @param random the source of the random directions
+     * */
+    public ShootingMovementStrategy(final GameClock clock, final GameRandom random) {
+        this.clock = clock;
+        this.random = random;
+        this.elapsedNewVector = clock.getTime();
+        this.changeDirection();
     }
 
     @Override
-    public Point2D move(final Point2D enemyPosition, final Point2D playerPosition) {
-        if (System.currentTimeMillis() - this.elapsedNewVector > TIME_INTERVAL) {
-            this.elapsedNewVector = System.currentTimeMillis();
-            this.movementVector = this.getRandomVector();
+    public void step(final double enemyX, final double enemyY, final double playerX, final double playerY,
+            final double[] step) {
+        if (this.clock.getTime() - this.elapsedNewVector > TIME_INTERVAL) {
+            this.elapsedNewVector = this.clock.getTime();
+            this.changeDirection();
         }
-        return enemyPosition.sum(this.movementVector.getNormalized().mul(AbstractEnemy.getSpeed()));
+        step[0] = this.stepX;
+        step[1] = this.stepY;
     }
 
     /**
-     * Get random movement vector.
-     *
-     * @return random movement vector
+     * Choose a new random movement direction, and compute the movement offsets along it.
      * */
-    private Vector2D getRandomVector() {
-        return new Vector2D(ThreadLocalRandom.current().nextDouble(-1, 1), ThreadLocalRandom.current().nextDouble(-1, 1));
+    private void changeDirection() {
+        final double x = this.random.nextDouble(-1, 1);
+        final double y = this.random.nextDouble(-1, 1);
+        final double module = Math.sqrt(x * x + y * y);
+        this.stepX = module == 0 ? 0 : x / module * AbstractEnemy.getSpeed();
+        this.stepY = module == 0 ? 0 : y / module * AbstractEnemy.getSpeed();
     }
 }
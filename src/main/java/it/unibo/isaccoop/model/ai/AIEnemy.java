@@ -6,6 +6,7 @@ import it.unibo.isaccoop.model.boundingbox.BoundingBox;
 import it.unibo.isaccoop.model.common.MapElement;
 import it.unibo.isaccoop.model.common.Removable;
 import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.world.EnemyWorld;
 
 /**
  * AIEnemy interface which represents the AI for enemies.
@@ -27,4 +28,25 @@ public interface AIEnemy extends Removable {
      * */
     List<Enemy> getControlledEnemies();
 
+    /**
+     * Get the world storing the state of the controlled enemies, to be iterated by the systems of the room.
+     *
+     * @return the world of the controlled enemies
+     * */
+    EnemyWorld getWorld();
+
+    /**
+     * Get the number of controlled enemies still alive, without copying the enemies list.
+     *
+     * @return the number of alive enemies
+     * */
+    int getAliveEnemies();
+
+    /**
+     * Add a listener notified once, when the last alive enemy is removed.
+     *
+     * @param listener the listener to notify
+     * */
+    void addDefeatListener(Runnable listener);
+
 }
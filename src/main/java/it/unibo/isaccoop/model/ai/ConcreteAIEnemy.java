@@ -5,45 +5,86 @@ import java.util.List;
 
 import it.unibo.isaccoop.model.boundingbox.BoundingBox;
 import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.enemy.AbstractEnemy;
 import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.world.EnemyWorld;
+import it.unibo.isaccoop.model.world.MovementSystem;
+import it.unibo.isaccoop.model.world.ShootingSystem;
 
 /**
  * ConcreteAIEnemy which is a base AIEnemy implementation.
+ * The alive enemies are counted when the AI is created and every time one of them is removed,
+ * so that their number is known without checking every enemy.
+ * The state of the enemies is stored in an {@link EnemyWorld}, moved and shot by its systems,
+ * which is also the only list of the enemies, in the order of their slots.
  * */
 public final class ConcreteAIEnemy implements AIEnemy {
 
-    private final List<Enemy> controlledEnemies;
+    private final EnemyWorld world = new EnemyWorld();
+    private final MovementSystem movementSystem = new MovementSystem();
+    private final ShootingSystem shootingSystem = new ShootingSystem();
+    private final List<Runnable> defeatListeners = new ArrayList<>();
+    private int aliveEnemies;
 
     /**
      * Constructor for {@link ConcreteAIEnemy}.
      *
      * @param enemies enemies to attach to {@link ConcreteAIEnemy} as a {@link List}
+     * @throws IllegalArgumentException if an enemy is not an {@link AbstractEnemy}, which can be stored in a world
      * */
     public ConcreteAIEnemy(final List<Enemy> enemies) {
-        this.controlledEnemies = new ArrayList<>(enemies);
+        for (final Enemy enemy : enemies) {
+            if (!(enemy instanceof AbstractEnemy)) {
+                throw new IllegalArgumentException("Enemies must extend AbstractEnemy");
+            }
+            this.world.add((AbstractEnemy) enemy);
+        }
+        this.aliveEnemies = (int) enemies.stream().filter(e -> !e.isDead()).count();
     }
 
     @Override
     public void updateEnemies(final MapElement player, final BoundingBox containerBox) {
-        this.controlledEnemies.forEach(enemy -> {
-            enemy.move(player.getCoords(), containerBox);
-            enemy.hit(player.getCoords());
-            enemy.getWeaponShots().ifPresent(shots -> shots.forEach(shot -> shot.tickShot()));
-        });
+        this.movementSystem.update(this.world, player.getX(), player.getY(), containerBox);
+        this.shootingSystem.update(this.world, player.getCoords());
     }
 
     @Override
     public List<Enemy> getControlledEnemies() {
-        return List.copyOf(this.controlledEnemies);
+        final List<Enemy> enemies = new ArrayList<>(this.world.size());
+        for (int i = 0; i < this.world.size(); i++) {
+            enemies.add(this.world.getEnemy(i));
+        }
+        return enemies;
+    }
+
+    @Override
+    public EnemyWorld getWorld() {
+        return this.world;
+    }
+
+    @Override
+    public int getAliveEnemies() {
+        return this.aliveEnemies;
+    }
+
+    @Override
+    public void addDefeatListener(final Runnable listener) {
+        this.defeatListeners.add(listener);
     }
 
     /**
-     * Remove the enemy 'e' from the list.
+     * Remove the enemy 'e' from the world in constant time, notifying the defeat listeners
+     * if it was the last alive one.
      * @param e
      */
     @Override
     public void remove(final MapElement e) {
-        this.controlledEnemies.remove(e);
+        if (this.world.remove(e) && this.aliveEnemies > 0) {
+            this.aliveEnemies--;
+            if (this.aliveEnemies == 0) {
+                this.defeatListeners.forEach(Runnable::run);
+            }
+        }
     }
 
 }
@@ -25,4 +25,26 @@ public interface BoundingBox {
      */
     boolean isCollidingWithRecPerimeter(Point2D center, RectBoundingBox rectangleBox);
 
+    /**
+     * Check for collisions of two bounding box, without creating any object.
+     * @param x x coord of the center of first bounding box
+     * @param y y coord of the center of first bounding box
+     * @param x1 x coord of the center of the second bounding box
+     * @param y1 y coord of the center of the second bounding box
+     * @param circleBox of the second bounding box
+     * @return true if a collision occours
+     */
+    boolean isCollidingWithCircle(double x, double y, double x1, double y1, CircleBoundingBox circleBox);
+
+    /**
+     * Check for collisions of a bounding box with the perimeter of a rectangle bounding box,
+     * without creating any object.
+     * (We suppose that the first bounding box is inside the second one).
+     * @param x x coord of the center of first bounding box
+     * @param y y coord of the center of first bounding box
+     * @param rectangleBox
+     * @return true if a collision occours
+     */
+    boolean isCollidingWithRecPerimeter(double x, double y, RectBoundingBox rectangleBox);
+
 }
@@ -1,7 +1,6 @@
 package it.unibo.isaccoop.model.boundingbox;
 
 import it.unibo.isaccoop.model.common.Point2D;
-import it.unibo.isaccoop.model.common.Vector2D;
 
 /**
  * Implements the BoundingBox interface of a circle.
@@ -35,7 +34,26 @@ public class CircleBoundingBox implements BoundingBox {
      */
     @Override
     public boolean isCollidingWithCricle(final Point2D center, final Point2D center1, final CircleBoundingBox circleBox) {
-        return new Vector2D(center, center1).module() <= circleBox.getRadius() + this.radius;
+        return this.isCollidingWithCircle(center.getX(), center.getY(), center1.getX(), center1.getY(), circleBox);
+    }
+
+    /**
+     * Check for collisions of two bounding box, comparing the squared distance of the centers
+     * with the squared sum of the radiuses.
+     * @param x x coord of the center of first bounding box
+     * @param y y coord of the center of first bounding box
+     * @param x1 x coord of the center of the second bounding box
+     * @param y1 y coord of the center of the second bounding box
+     * @param circleBox of the second bounding box
+     * @return true if a collision occours
+     */
+    @Override
+    public boolean isCollidingWithCircle(final double x, final double y, final double x1, final double y1,
+            final CircleBoundingBox circleBox) {
+        final double dx = x - x1;
+        final double dy = y - y1;
+        final double radiuses = circleBox.getRadius() + this.radius;
+        return dx * dx + dy * dy <= radiuses * radiuses;
     }
 
     /**
@@ -47,7 +65,20 @@ public class CircleBoundingBox implements BoundingBox {
      */
     @Override
     public boolean isCollidingWithRecPerimeter(final Point2D center, final RectBoundingBox rectangleBox) {
-        return rectangleBox.getHeight() -  center.getY() <= this.radius || center.getY() <= this.radius
-                || rectangleBox.getWidth() - center.getX() <= this.radius || center.getX() <= this.radius;
+        return this.isCollidingWithRecPerimeter(center.getX(), center.getY(), rectangleBox);
+    }
+
+    /**
+     * Check for collisions of a bounding box with the perimeter of a rectangle bounding box.
+     * (We suppose that the first bounding box is inside the second one).
+     * @param x x coord of the center of first bounding box
+     * @param y y coord of the center of first bounding box
+     * @param rectangleBox
+     * @return true if a collision occours
+     */
+    @Override
+    public boolean isCollidingWithRecPerimeter(final double x, final double y, final RectBoundingBox rectangleBox) {
+        return rectangleBox.getHeight() - y <= this.radius || y <= this.radius
+                || rectangleBox.getWidth() - x <= this.radius || x <= this.radius;
     }
 }
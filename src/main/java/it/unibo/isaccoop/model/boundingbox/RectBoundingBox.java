@@ -46,6 +46,36 @@ public class RectBoundingBox implements BoundingBox {
         return false;
     }
 
+    /**
+     * Check for collisions of two bounding box, without creating any object.
+     * @param x x coord of the center of first bounding box
+     * @param y y coord of the center of first bounding box
+     * @param x1 x coord of the center of the second bounding box
+     * @param y1 y coord of the center of the second bounding box
+     * @param circleBox of the second bounding box
+     * @return true if a collision occours
+     */
+    @Override
+    public boolean isCollidingWithCircle(final double x, final double y, final double x1, final double y1,
+            final CircleBoundingBox circleBox) {
+        // nothing to do here
+        return false;
+    }
+
+    /**
+     * Check for collisions of a bounding box with the perimeter of a rectangle bounding box,
+     * without creating any object.
+     * @param x x coord of the center of first bounding box
+     * @param y y coord of the center of first bounding box
+     * @param rectangleBox
+     * @return true if a collision occours
+     */
+    @Override
+    public boolean isCollidingWithRecPerimeter(final double x, final double y, final RectBoundingBox rectangleBox) {
+        // nothing to do here
+        return false;
+    }
+
     /**
      * Get rect bounding box width.
      * @return the rectangle width
@@ -2,12 +2,10 @@ package it.unibo.isaccoop.model.collision;
 
 import java.util.List;
 
-import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
-import it.unibo.isaccoop.model.common.Point2D;
 import it.unibo.isaccoop.model.enemy.Enemy;
 import it.unibo.isaccoop.model.item.Item;
 import it.unibo.isaccoop.model.player.Player;
-import it.unibo.isaccoop.model.weapon.WeaponShot;
+import it.unibo.isaccoop.model.world.EnemyWorld;
 
 /**
  * Factory for collision check.
@@ -22,6 +20,14 @@ public interface CollisionCheckFactory {
      * @return interface implementation of CollisionCheck.
      */
     CollisionCheck getCollisionWithItemChecker(Player p, List<? extends Item> i);
+    /**
+     * Get the update of the enemies positions used by the checks between the player shots and the enemies.
+     * It must run once per tick, before {@link #getCollisionPlayerShotChecker} and {@link #getShotsToRemoveChecker}.
+     * @param i list of mapElements to check collision, in this case Enemy.
+     *
+     * @return CollisionCheck refer to the enemies positions.
+     */
+    CollisionCheck getEnemyGridUpdater(List<Enemy> i);
     /**
      * Get collision with player shot.
      * @param p reference to player.
@@ -31,13 +37,13 @@ public interface CollisionCheckFactory {
      */
     CollisionCheck getCollisionPlayerShotChecker(Player p, List<Enemy> i);
     /**
-     * Get collision with enemy.
+     * Get collision with enemy, reading the enemies from the arrays of their world.
      * @param p reference to player.
-     * @param i list of mapElements to check collision, in this case Enemy.
+     * @param world the world of the enemies to check.
      *
      * @return CollisionCheck refer to enemy.
      */
-    CollisionCheck getCollisionWithEnemyChecker(Player p, List<Enemy> i);
+    CollisionCheck getCollisionWithEnemyChecker(Player p, EnemyWorld world);
     /**
      * Get collision with enemy shot.
      * @param p reference to player.
@@ -48,12 +54,21 @@ public interface CollisionCheckFactory {
     CollisionCheck getCollisionWithEnemyShotChecker(Player p, List<Enemy> i);
 
     /**
-     *  Get collision between shots and player or enemies, in order to remove the target shot.
+     *  Get collision of all the shots in a room, in order to remove the shots that are out of the room,
+     *  the enemies shots hitting the player and the player shots hitting an enemy.
+     *  Each shot is checked only once.
+     *
+     *  @param p reference to player.
+     *  @param i list of mapElements to check collision, in this case Enemy.
+     *  @return CollisionCheck refer to the shots to remove
+     * */
+    CollisionCheck getShotsToRemoveChecker(Player p, List<Enemy> i);
+
+    /**
+     *  Get collision of all the shots in a room without the player with the perimeter of the room,
+     *  in order to remove the shots that are out of the room.
      *
-     *  @param shots weapon shots
-     *  @param pos enemy position or player position
-     *  @param box player or enemy bounding box
-     *  @return CollisionCheck refer to target shot
+     *  @return CollisionCheck refer to the shots out of the room
      * */
-    CollisionCheck getShotsCollisionToRemoveChecker(List<WeaponShot> shots, Point2D pos, CircleBoundingBox box);
+    CollisionCheck getShotsOutsideChecker();
 }
@@ -1,61 +1,145 @@
 package it.unibo.isaccoop.model.collision;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
 import it.unibo.isaccoop.model.boundingbox.RectBoundingBox;
-import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.MapElement;
 import it.unibo.isaccoop.model.enemy.Enemy;
 import it.unibo.isaccoop.model.item.Item;
 import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.room.Room;
+import it.unibo.isaccoop.model.weapon.ProjectileStore;
 import it.unibo.isaccoop.model.weapon.WeaponShot;
+import it.unibo.isaccoop.model.world.CollisionSystem;
+import it.unibo.isaccoop.model.world.EnemyWorld;
 
 /**
  * Factory for check Collision.
+ * Checks between player shots and enemies use a {@link SpatialHashGrid} of the enemies as broad phase,
+ * shared by the checkers and filled once per tick by {@link #getEnemyGridUpdater(List)},
+ * so each factory should be kept by its room and reused at every tick.
  */
 public final class CollisionCheckFactoryImpl implements CollisionCheckFactory {
 
+    private static final double CELL_SIZE = 32.0;
+
+    private final CollisionSystem collisionSystem = new CollisionSystem();
+    private Optional<SpatialHashGrid<Enemy>> enemyGrid = Optional.empty();
+
     @Override
     public CollisionCheck getCollisionWithItemChecker(final Player p, final List<? extends Item> i) {
-        return room -> i.stream()
-                .filter(elem -> p.getBox().isCollidingWithCricle(p.getCoords(), elem.getCoords(),
-                        (CircleBoundingBox) elem.getBox()))
-                .forEach(e -> room.notifyEvent(new ConcreteEventFactory().getItemPickUpEvent(e)));
+        return room -> {
+            final double x = p.getX();
+            final double y = p.getY();
+            for (final Item elem : i) {
+                if (p.getBox().isCollidingWithCircle(x, y, elem.getX(), elem.getY(), (CircleBoundingBox) elem.getBox())) {
+                    room.notifyEvent(EventKind.ITEM_PICK_UP, elem, p);
+                }
+            }
+        };
+    }
+
+    @Override
+    public CollisionCheck getEnemyGridUpdater(final List<Enemy> i) {
+        return room -> this.getEnemyGrid(room, i).rebuild(i);
     }
 
     @Override
     public CollisionCheck getCollisionPlayerShotChecker(final Player p, final List<Enemy> i) {
-        return room -> i.stream()
-                .filter(elem -> p.getWeaponShots().stream()
-                .anyMatch(shot -> shot.getBox()
-                        .isCollidingWithCricle(shot.getCoords(), elem.getCoords(), (CircleBoundingBox) elem.getBox())))
-                .forEach(e -> room.notifyEvent(new ConcreteEventFactory().getEnemyShotEvent(e)));
+        return room -> {
+            final SpatialHashGrid<Enemy> grid = this.getEnemyGrid(room, i);
+            final ProjectileStore shots = room.getProjectiles();
+            /* an enemy hit by more shots is hit once, the room drops the same event */
+            final Consumer<Enemy> hit = e -> room.notifyEvent(EventKind.ENEMY_SHOT, p, e);
+            for (int s = 0; s < shots.size(); s++) {
+                if (shots.getOwner(s) == p) {
+                    final WeaponShot shot = shots.getShot(s);
+                    grid.forEachColliding(shot.getX(), shot.getY(), (CircleBoundingBox) shot.getBox(), hit);
+                }
+            }
+        };
     }
 
     @Override
-    public CollisionCheck getCollisionWithEnemyChecker(final Player p, final List<Enemy> i) {
-        return room -> i.stream()
-                .filter(elem -> elem.getBox().isCollidingWithCricle(elem.getCoords(), p.getCoords(),
-                        (CircleBoundingBox) p.getBox()))
-                .forEach(e -> room.notifyEvent(new ConcreteEventFactory().getEnemyHitEvent(e)));
+    public CollisionCheck getCollisionWithEnemyChecker(final Player p, final EnemyWorld world) {
+        return room -> this.collisionSystem.forEachColliding(world, p.getX(), p.getY(),
+                ((CircleBoundingBox) p.getBox()).getRadius(),
+                e -> room.notifyEvent(EventKind.ENEMY_HIT, e, p));
     }
 
     @Override
     public CollisionCheck getCollisionWithEnemyShotChecker(final Player p, final List<Enemy> i) {
-        return room -> i.stream()
-                .filter(enemy -> enemy.getWeaponShots().isPresent())
-                .forEach(enemy -> enemy.getWeaponShots().get().stream()
-                        .filter(shot -> shot.getBox()
-                        .isCollidingWithCricle(shot.getCoords(), p.getCoords(), (CircleBoundingBox) p.getBox()))
-                        .forEach(shot -> room.notifyEvent(new ConcreteEventFactory().getEnemyHitEvent(enemy))));
+        return room -> {
+            final double x = p.getX();
+            final double y = p.getY();
+            final CircleBoundingBox playerBox = (CircleBoundingBox) p.getBox();
+            final ProjectileStore shots = room.getProjectiles();
+            for (int s = 0; s < shots.size(); s++) {
+                final MapElement owner = shots.getOwner(s);
+                final WeaponShot shot = shots.getShot(s);
+                if (owner instanceof Enemy
+                        && shot.getBox().isCollidingWithCircle(shot.getX(), shot.getY(), x, y, playerBox)) {
+                    room.notifyEvent(EventKind.ENEMY_SHOT_HIT, shot, p);
+                }
+            }
+        };
     }
 
     @Override
-    public CollisionCheck getShotsCollisionToRemoveChecker(final List<WeaponShot> shots, final Point2D pos,
-            final CircleBoundingBox box) {
-        return room -> shots.stream()
-                .filter(shot -> shot.getBox().isCollidingWithRecPerimeter(shot.getCoords(), (RectBoundingBox) room.getBox())
-                        || shot.getBox().isCollidingWithCricle(shot.getCoords(), pos, box))
-                .forEach(shot -> room.notifyEvent(new ConcreteEventFactory().getShotToRemoveEvent(shot)));
+    public CollisionCheck getShotsToRemoveChecker(final Player p, final List<Enemy> i) {
+        return room -> {
+            final RectBoundingBox roomBox = (RectBoundingBox) room.getBox();
+            final double x = p.getX();
+            final double y = p.getY();
+            final CircleBoundingBox playerBox = (CircleBoundingBox) p.getBox();
+            final SpatialHashGrid<Enemy> grid = this.getEnemyGrid(room, i);
+            final ProjectileStore shots = room.getProjectiles();
+            shots.checkPerimeter(roomBox.getWidth(), roomBox.getHeight());
+            for (int s = 0; s < shots.size(); s++) {
+                final WeaponShot shot = shots.getShot(s);
+                final boolean toRemove = shots.isCollidingWithPerimeter(s)
+                        || (shots.getOwner(s) == p
+                        ? grid.anyColliding(shot.getX(), shot.getY(), (CircleBoundingBox) shot.getBox())
+                        : shot.getBox().isCollidingWithCircle(shot.getX(), shot.getY(), x, y, playerBox));
+                if (toRemove) {
+                    room.notifyEvent(EventKind.SHOT_TO_REMOVE, shot, room);
+                }
+            }
+        };
+    }
+
+    @Override
+    public CollisionCheck getShotsOutsideChecker() {
+        return room -> {
+            final RectBoundingBox roomBox = (RectBoundingBox) room.getBox();
+            final ProjectileStore shots = room.getProjectiles();
+            if (shots.checkPerimeter(roomBox.getWidth(), roomBox.getHeight()) > 0) {
+                for (int s = 0; s < shots.size(); s++) {
+                    if (shots.isCollidingWithPerimeter(s)) {
+                        room.notifyEvent(EventKind.SHOT_TO_REMOVE, shots.getShot(s), room);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Get the grid of the enemies, as filled by the last run of the updater.
+     * The grid is created and filled the first time it is needed, with the dimensions of the room.
+     *
+     * @param room the room containing the enemies
+     * @param enemies the enemies to put in the grid when it is created
+     * @return the grid of the enemies
+     */
+    private SpatialHashGrid<Enemy> getEnemyGrid(final Room room, final List<Enemy> enemies) {
+        if (this.enemyGrid.isEmpty()) {
+            final RectBoundingBox box = (RectBoundingBox) room.getBox();
+            this.enemyGrid = Optional.of(new SpatialHashGrid<>(box.getWidth(), box.getHeight(), CELL_SIZE));
+            this.enemyGrid.get().rebuild(enemies);
+        }
+        return this.enemyGrid.get();
     }
 }
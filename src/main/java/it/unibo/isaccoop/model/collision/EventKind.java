@@ -0,0 +1,102 @@
+package it.unibo.isaccoop.model.collision;
+
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.item.Item;
+import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.powerup.PowerUp;
+import it.unibo.isaccoop.model.room.Room;
+import it.unibo.isaccoop.model.room.Shop;
+import it.unibo.isaccoop.model.room.ShopImpl;
+import it.unibo.isaccoop.model.weapon.WeaponShot;
+
+/**
+ * Kinds of the events notified by the collision checks of a room, in the order in which they are executed:
+ * the events of a tick are executed by kind, all the events of a kind before the ones of the next kind.
+ * Each event has a source and a target, and the same event is executed at most once in a tick.
+ * */
+public enum EventKind {
+
+    /**
+     * A shot of the player hit an enemy: the source is the player, the target is the enemy.
+     * */
+    ENEMY_SHOT {
+        @Override
+        public void execute(final Room room, final MapElement source, final MapElement target) {
+            final Enemy enemy = (Enemy) target;
+            ((Player) source).onHit(enemy);
+            if (enemy.isDead()) {
+                room.remove(enemy);
+            }
+        }
+    },
+
+    /**
+     * An enemy touched the player: the source is the enemy, the target is the player.
+     * */
+    ENEMY_HIT {
+        @Override
+        public void execute(final Room room, final MapElement source, final MapElement target) {
+            ((Enemy) source).onHit((Player) target);
+        }
+    },
+
+    /**
+     * A shot of an enemy hit the player: the source is the shot, the target is the player.
+     * The hit is dispatched through the enemy which fired the shot, so every shot hitting the player counts.
+     * */
+    ENEMY_SHOT_HIT {
+        @Override
+        public void execute(final Room room, final MapElement source, final MapElement target) {
+            room.getProjectiles().getOwnerOf((WeaponShot) source)
+                    .ifPresent(owner -> ((Enemy) owner).onHit((Player) target));
+        }
+    },
+
+    /**
+     * A shot has to be removed, because it is out of the room or it hit something:
+     * the source is the shot, the target is the room.
+     * */
+    SHOT_TO_REMOVE {
+        @Override
+        public void execute(final Room room, final MapElement source, final MapElement target) {
+            room.getProjectiles().remove((WeaponShot) source);
+        }
+    },
+
+    /**
+     * The player touched an item or a power up: the source is the item, the target is the player.
+     * In a shop the power up is picked up only if the player can buy it.
+     * */
+    ITEM_PICK_UP {
+        @Override
+        public void execute(final Room room, final MapElement source, final MapElement target) {
+            final Player player = (Player) target;
+            if (room.getRoomType() == RoomType.SHOP) {
+                if (Holder.SHOP.buyItem(player, (PowerUp) source)) {
+                    room.remove(source);
+                }
+            } else {
+                ((Item) source).interact(player);
+                room.remove(source);
+            }
+        }
+    };
+
+    /**
+     * Execute an event of this kind.
+     *
+     * @param room the room in which the event happened
+     * @param source the element causing the event
+     * @param target the element affected by the event
+     * */
+    public abstract void execute(Room room, MapElement source, MapElement target);
+
+    /**
+     * Holder of the shop selling the power ups.
+     * */
+    private static final class Holder {
+        private static final Shop SHOP = new ShopImpl();
+    }
+}
@@ -0,0 +1,187 @@
+package it.unibo.isaccoop.model.collision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.room.Room;
+
+/**
+ * Queue of the events of a room in a tick, stored by {@link EventKind} in parallel arrays reused at every tick,
+ * so notifying an event allocates nothing.
+ * An event with the same kind, source and target of an event already in the queue is dropped, checking
+ * a hash table of the events of its kind in constant time; the table is emptied at every execution
+ * just by changing its stamp.
+ * The events are executed by kind, in the order of {@link EventKind}, and in the order in which they were
+ * notified inside a kind, then the other {@link Event}s in the order in which they were notified.
+ * */
+public final class EventQueue {
+
+    private final Batch[] batches;
+    private final List<Event> others = new ArrayList<>();
+
+    /**
+     * EventQueue constructor.
+     * */
+    public EventQueue() {
+        this.batches = new Batch[EventKind.values().length];
+        for (int k = 0; k < this.batches.length; k++) {
+            this.batches[k] = new Batch();
+        }
+    }
+
+    /**
+     * Add an event, unless the same event is already in the queue.
+     *
+     * @param kind the kind of the event
+     * @param source the element causing the event
+     * @param target the element affected by the event
+     * @return true if the event was added, false if it was already in the queue
+     * */
+    public boolean add(final EventKind kind, final MapElement source, final MapElement target) {
+        return this.batches[kind.ordinal()].add(source, target);
+    }
+
+    /**
+     * Add an event without a kind, which is executed after the events with a kind.
+     *
+     * @param event the event to add
+     * */
+    public void add(final Event event) {
+        this.others.add(event);
+    }
+
+    /**
+     * Get the number of events in the queue.
+     *
+     * @return the number of events waiting to be executed
+     * */
+    public int size() {
+        int size = this.others.size();
+        for (final Batch batch : this.batches) {
+            size += batch.count;
+        }
+        return size;
+    }
+
+    /**
+     * Execute all the events in the queue and empty it.
+     *
+     * @param room the room in which the events happened
+     * */
+    public void execute(final Room room) {
+        final EventKind[] kinds = EventKind.values();
+        for (int k = 0; k < kinds.length; k++) {
+            this.batches[k].execute(kinds[k], room);
+        }
+        for (int i = 0; i < this.others.size(); i++) {
+            this.others.get(i).execute(room);
+        }
+        this.others.clear();
+    }
+
+    /**
+     * Get the number of events of a kind executed so far.
+     *
+     * @param kind the kind of the events
+     * @return the number of executed events of the kind
+     * */
+    public long getExecuted(final EventKind kind) {
+        return this.batches[kind.ordinal()].executed;
+    }
+
+    /**
+     * Get the number of events of a kind dropped so far because already in the queue.
+     *
+     * @param kind the kind of the events
+     * @return the number of dropped events of the kind
+     * */
+    public long getDropped(final EventKind kind) {
+        return this.batches[kind.ordinal()].dropped;
+    }
+
+    /**
+     * The events of a kind, with the hash table of their indexes to find the events already added.
+     * */
+    private static final class Batch {
+        private static final int INITIAL_CAPACITY = 8;
+        private static final int HASH_PRIME = 31;
+        private static final int SPREAD_SHIFT = 16;
+
+        private MapElement[] sources = new MapElement[INITIAL_CAPACITY];
+        private MapElement[] targets = new MapElement[INITIAL_CAPACITY];
+        private int count;
+        /* indexes of the events, valid only where the stamp is the current one */
+        private int[] table = new int[INITIAL_CAPACITY * 2];
+        private int[] stamps = new int[INITIAL_CAPACITY * 2];
+        private int stamp = 1;
+        private long executed;
+        private long dropped;
+
+        boolean add(final MapElement source, final MapElement target) {
+            final int mask = this.table.length - 1;
+            int slot = hash(source, target) & mask;
+            while (this.stamps[slot] == this.stamp) {
+                final int index = this.table[slot];
+                if (this.sources[index] == source && this.targets[index] == target) {
+                    this.dropped++;
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (this.count == this.sources.length) {
+                this.grow();
+                return this.add(source, target);
+            }
+            this.sources[this.count] = source;
+            this.targets[this.count] = target;
+            this.table[slot] = this.count;
+            this.stamps[slot] = this.stamp;
+            this.count++;
+            return true;
+        }
+
+        void execute(final EventKind kind, final Room room) {
+            /* the count is read at every step, in case an event adds others of the same kind */
+            for (int i = 0; i < this.count; i++) {
+                kind.execute(room, this.sources[i], this.targets[i]);
+            }
+            this.executed += this.count;
+            Arrays.fill(this.sources, 0, this.count, null);
+            Arrays.fill(this.targets, 0, this.count, null);
+            this.count = 0;
+            this.stamp++;
+            if (this.stamp == 0) {
+                Arrays.fill(this.stamps, 0);
+                this.stamp = 1;
+            }
+        }
+
+        /**
+         * Double the capacity of the batch, the table stays at most half full.
+         * */
+        private void grow() {
+            final int capacity = this.sources.length * 2;
+            this.sources = Arrays.copyOf(this.sources, capacity);
+            this.targets = Arrays.copyOf(this.targets, capacity);
+            this.table = new int[capacity * 2];
+            this.stamps = new int[capacity * 2];
+            final int mask = this.table.length - 1;
+            for (int i = 0; i < this.count; i++) {
+                int slot = hash(this.sources[i], this.targets[i]) & mask;
+                while (this.stamps[slot] == this.stamp) {
+                    slot = (slot + 1) & mask;
+                }
+                this.table[slot] = i;
+                this.stamps[slot] = this.stamp;
+            }
+        }
+
+        private static int hash(final MapElement source, final MapElement target) {
+            final int hash = System.identityHashCode(source) * HASH_PRIME + System.identityHashCode(target);
+            /* spread the high bits, since only the low ones index the table */
+            return hash ^ (hash >>> SPREAD_SHIFT);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package it.unibo.isaccoop.model.collision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.common.MapElement;
+
+/**
+ * Uniform grid used as collision broad phase: elements are bucketed by the cell containing their center,
+ * so that a collision query only visits the elements of the cells near the query circle,
+ * instead of all the elements of the room.
+ * Elements outside the grid area are stored in the border cells, so queries are always complete.
+ * The grid is meant to be rebuilt at every tick and does not allocate memory once it has grown
+ * to the number of elements of the room.
+ *
+ * @param <T> type of the elements in the grid
+ */
+public final class SpatialHashGrid<T extends MapElement> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = -1;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] heads;
+    private final List<T> elements = new ArrayList<>();
+    private int[] next = new int[INITIAL_CAPACITY];
+    private double maxRadius;
+
+    /**
+     * SpatialHashGrid constructor.
+     *
+     * @param width width of the area covered by the grid
+     * @param height height of the area covered by the grid
+     * @param cellSize side of a grid cell, should be about the size of the biggest element
+     */
+    public SpatialHashGrid(final double width, final double height, final double cellSize) {
+        if (width <= 0 || height <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(width / cellSize);
+        this.rows = (int) Math.ceil(height / cellSize);
+        this.heads = new int[this.columns * this.rows];
+        Arrays.fill(this.heads, EMPTY);
+    }
+
+    /**
+     * Remove all the elements from the grid.
+     */
+    public void clear() {
+        Arrays.fill(this.heads, EMPTY);
+        this.elements.clear();
+        this.maxRadius = 0;
+    }
+
+    /**
+     * Replace the content of the grid with the specified elements.
+     *
+     * @param list the elements to put in the grid
+     */
+    public void rebuild(final List<? extends T> list) {
+        this.clear();
+        list.forEach(this::insert);
+    }
+
+    /**
+     * Add an element to the grid, in the cell containing its current coords.
+     *
+     * @param element the element to add
+     */
+    public void insert(final T element) {
+        final int index = this.elements.size();
+        if (index == this.next.length) {
+            this.next = Arrays.copyOf(this.next, index * 2);
+        }
+        final int cell = this.row(element.getY()) * this.columns + this.column(element.getX());
+        this.elements.add(element);
+        this.next[index] = this.heads[cell];
+        this.heads[cell] = index;
+        this.maxRadius = Math.max(this.maxRadius, radiusOf(element));
+    }
+
+    /**
+     * Get the number of elements in the grid.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return this.elements.size();
+    }
+
+    /**
+     * Visit every element colliding with the specified circle.
+     *
+     * @param x x coord of the center of the circle
+     * @param y y coord of the center of the circle
+     * @param box bounding box of the circle
+     * @param action action to run on every colliding element
+     */
+    public void forEachColliding(final double x, final double y, final CircleBoundingBox box,
+            final Consumer<? super T> action) {
+        this.findColliding(x, y, box, e -> {
+            action.accept(e);
+            return false;
+        });
+    }
+
+    /**
+     * Check if at least one element collides with the specified circle.
+     *
+     * @param x x coord of the center of the circle
+     * @param y y coord of the center of the circle
+     * @param box bounding box of the circle
+     * @return true if an element of the grid collides with the circle
+     */
+    public boolean anyColliding(final double x, final double y, final CircleBoundingBox box) {
+        return this.findColliding(x, y, box, e -> true);
+    }
+
+    /**
+     * Walk the cells near the specified circle, running the narrow phase check on their elements
+     * and the specified action on the colliding ones, until the action asks to stop.
+     *
+     * @param x x coord of the center of the circle
+     * @param y y coord of the center of the circle
+     * @param box bounding box of the circle
+     * @param action action to run on every colliding element, returning true to stop the walk
+     * @return true if the walk was stopped by the action
+     */
+    private boolean findColliding(final double x, final double y, final CircleBoundingBox box,
+            final Predicate<? super T> action) {
+        final double reach = box.getRadius() + this.maxRadius;
+        final int maxColumn = this.column(x + reach);
+        final int maxRow = this.row(y + reach);
+        for (int r = this.row(y - reach); r <= maxRow; r++) {
+            for (int c = this.column(x - reach); c <= maxColumn; c++) {
+                for (int i = this.heads[r * this.columns + c]; i != EMPTY; i = this.next[i]) {
+                    final T e = this.elements.get(i);
+                    if (e.getBox().isCollidingWithCircle(e.getX(), e.getY(), x, y, box) && action.test(e)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private int column(final double x) {
+        return Math.max(0, Math.min(this.columns - 1, (int) Math.floor(x / this.cellSize)));
+    }
+
+    private int row(final double y) {
+        return Math.max(0, Math.min(this.rows - 1, (int) Math.floor(y / this.cellSize)));
+    }
+
+    private static double radiusOf(final MapElement element) {
+        return element.getBox() instanceof CircleBoundingBox ? ((CircleBoundingBox) element.getBox()).getRadius() : 0;
+    }
+}
@@ -1,7 +1,5 @@
 package it.unibo.isaccoop.model.common;
 
-import java.util.Objects;
-
 import it.unibo.isaccoop.graphics.Graphics;
 import it.unibo.isaccoop.graphics.GraphicsComponent;
 import it.unibo.isaccoop.model.boundingbox.BoundingBox;
@@ -11,12 +9,18 @@ import it.unibo.isaccoop.model.boundingbox.RectBoundingBox;
 /**
  * AbstractMapElement abstract class which implements MapElement interface and it is a container
  * for common elements state and behavior.
+ * Two elements are equal only if they are the same element, even if they are in the same position,
+ * so elements can be kept in hash based collections while they move.
  */
 public abstract class AbstractMapElement implements MapElement {
 
-    private Point2D coords;
+    private double x;
+    private double y;
+    private double previousX;
+    private double previousY;
     private BoundingBox box;
     private GraphicsComponent graphicComponent;
+    private int id = EntityRegistry.NO_ID;
     private static final double FIXED_INITIAL_POSITION = 10.0;
 
     /**
@@ -77,7 +81,10 @@ public abstract class AbstractMapElement implements MapElement {
      * @param gr the graphic component for this {@link AbstractMapElement}
      */
     public AbstractMapElement(final Point2D coords, final ElementsRadius elemRadius, final GraphicsComponent gr) {
-        this.coords = coords;
+        this.x = coords.getX();
+        this.y = coords.getY();
+        this.previousX = this.x;
+        this.previousY = this.y;
         this.box = new CircleBoundingBox(elemRadius.getValue());
         this.graphicComponent = gr;
     }
@@ -87,7 +94,6 @@ public abstract class AbstractMapElement implements MapElement {
      * @param elemRadius based on the type of the element
      */
     public AbstractMapElement(final ElementsRadius elemRadius) {
-        this.coords = new Point2D(0.0, 0.0);
         this.box = new CircleBoundingBox(elemRadius.getValue());
     }
 
@@ -97,7 +103,10 @@ public abstract class AbstractMapElement implements MapElement {
      * @param gr the {@link GraphicsComponent} for this {@link MapElement}
      * */
     public AbstractMapElement(final ElementsRadius elemRadius, final GraphicsComponent gr) {
-        this.coords = new Point2D(FIXED_INITIAL_POSITION, FIXED_INITIAL_POSITION);
+        this.x = FIXED_INITIAL_POSITION;
+        this.y = FIXED_INITIAL_POSITION;
+        this.previousX = this.x;
+        this.previousY = this.y;
         this.box = new CircleBoundingBox(elemRadius.getValue());
         this.graphicComponent = gr;
     }
@@ -109,7 +118,6 @@ public abstract class AbstractMapElement implements MapElement {
      * @param gr graphics component
      */
     public AbstractMapElement(final int width, final int height, final GraphicsComponent gr) {
-        this.coords = new Point2D(0.0, 0.0);
         this.box = new RectBoundingBox(width, height);
         this.graphicComponent = gr;
     }
@@ -120,7 +128,7 @@ public abstract class AbstractMapElement implements MapElement {
      */
     @Override
     public Point2D getCoords() {
-        return new Point2D(this.coords.getX(), this.coords.getY());
+        return new Point2D(this.x, this.y);
     }
 
     /**
@@ -129,7 +137,68 @@ public abstract class AbstractMapElement implements MapElement {
      */
     @Override
     public void setCoords(final Point2D coords) {
-        this.coords = new Point2D(coords.getX(), coords.getY());
+        this.x = coords.getX();
+        this.y = coords.getY();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void translate(final double dx, final double dy) {
+        this.x += dx;
+        this.y += dy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void moveTowards(final double targetX, final double targetY, final double distance) {
+        final double dx = targetX - this.x;
+        final double dy = targetY - this.y;
+        final double squaredModule = dx * dx + dy * dy;
+        if (squaredModule <= distance * distance) {
+            this.x = targetX;
+            this.y = targetY;
+        } else {
+            final double scale = distance / Math.sqrt(squaredModule);
+            this.x += dx * scale;
+            this.y += dy * scale;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Point2D getPreviousCoords() {
+        return new Point2D(this.previousX, this.previousY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void savePreviousCoords() {
+        this.previousX = this.x;
+        this.previousY = this.y;
     }
 
     /**
@@ -161,26 +230,15 @@ public abstract class AbstractMapElement implements MapElement {
      * {@inheritDoc}
      */
     @Override
-    public int hashCode() {
-        return Objects.hash(coords);
+    public int getId() {
+        return this.id;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean equals(final Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj == null) {
-            return false;
-        }
-        if (getClass() != obj.getClass()) {
-            return false;
-        }
-        final AbstractMapElement other = (AbstractMapElement) obj;
-        return Double.compare(coords.getX(), other.coords.getX()) == 0
-                && Double.compare(coords.getY(), other.coords.getY()) == 0;
+    public void setId(final int id) {
+        this.id = id;
     }
 }
@@ -0,0 +1,186 @@
+package it.unibo.isaccoop.model.common;
+
+import java.util.Optional;
+
+import it.unibo.isaccoop.graphics.GraphicsComponent;
+
+/**
+ * {@link AbstractMapElement} whose coords can be kept in a slot of a {@link CoordsStore}:
+ * while the element is attached to a store it is a facade reading and writing its slot,
+ * once detached it keeps its coords again.
+ *
+ * @param <S> type of the store
+ */
+public abstract class AbstractStoredMapElement<S extends CoordsStore> extends AbstractMapElement {
+
+    private static final int NO_SLOT = -1;
+
+    private Optional<S> store = Optional.empty();
+    private int slot = NO_SLOT;
+
+    /**
+     * Constructor for {@link AbstractStoredMapElement}.
+     *
+     * @param coords initial coords
+     * @param elemRadius based on the type of the element
+     * @param gr the graphic component for this element
+     */
+    public AbstractStoredMapElement(final Point2D coords, final ElementsRadius elemRadius,
+            final GraphicsComponent gr) {
+        super(coords, elemRadius, gr);
+    }
+
+    /**
+     * Constructor for {@link AbstractStoredMapElement} with fixed initial position.
+     *
+     * @param elemRadius based on the type of the element
+     * @param gr the graphic component for this element
+     */
+    public AbstractStoredMapElement(final ElementsRadius elemRadius, final GraphicsComponent gr) {
+        super(elemRadius, gr);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Point2D getCoords() {
+        return this.store.isPresent() ? new Point2D(this.getX(), this.getY()) : super.getCoords();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCoords(final Point2D coords) {
+        if (this.store.isPresent()) {
+            this.store.get().setCoords(this.slot, coords.getX(), coords.getY());
+        } else {
+            super.setCoords(coords);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX() {
+        return this.store.isPresent() ? this.store.get().getX(this.slot) : super.getX();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY() {
+        return this.store.isPresent() ? this.store.get().getY(this.slot) : super.getY();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void translate(final double dx, final double dy) {
+        if (this.store.isPresent()) {
+            this.store.get().setCoords(this.slot, this.getX() + dx, this.getY() + dy);
+        } else {
+            super.translate(dx, dy);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void moveTowards(final double targetX, final double targetY, final double distance) {
+        if (this.store.isPresent()) {
+            final double dx = targetX - this.getX();
+            final double dy = targetY - this.getY();
+            final double squaredModule = dx * dx + dy * dy;
+            if (squaredModule <= distance * distance) {
+                this.store.get().setCoords(this.slot, targetX, targetY);
+            } else {
+                final double scale = distance / Math.sqrt(squaredModule);
+                this.translate(dx * scale, dy * scale);
+            }
+        } else {
+            super.moveTowards(targetX, targetY, distance);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Point2D getPreviousCoords() {
+        return this.store.isPresent()
+                ? new Point2D(this.store.get().getPreviousX(this.slot), this.store.get().getPreviousY(this.slot))
+                : super.getPreviousCoords();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void savePreviousCoords() {
+        if (this.store.isPresent()) {
+            this.store.get().savePreviousCoords(this.slot);
+        } else {
+            super.savePreviousCoords();
+        }
+    }
+
+    /**
+     * Check if this element is in a store.
+     *
+     * @return true if the coords of this element are kept by a store
+     */
+    public boolean isAttached() {
+        return this.store.isPresent();
+    }
+
+    /**
+     * Get the slot of this element in its store.
+     *
+     * @return the slot, negative if the element is not in a store
+     */
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * Make this element a facade of a slot of a store, which already holds its state.
+     * It is called by the store when the element is added or moved to another slot.
+     *
+     * @param newStore the store keeping the state of this element
+     * @param newSlot the slot of this element
+     */
+    public void attach(final S newStore, final int newSlot) {
+        this.store = Optional.of(newStore);
+        this.slot = newSlot;
+    }
+
+    /**
+     * Copy the state of this element back from its store, so that it stops being a facade.
+     * It is called by the store when the element is removed.
+     */
+    public void detach() {
+        if (this.store.isPresent()) {
+            final S current = this.store.get();
+            super.setCoords(new Point2D(current.getPreviousX(this.slot), current.getPreviousY(this.slot)));
+            super.savePreviousCoords();
+            super.setCoords(new Point2D(current.getX(this.slot), current.getY(this.slot)));
+            this.store = Optional.empty();
+            this.slot = NO_SLOT;
+        }
+    }
+
+    /**
+     * Get the store keeping the state of this element.
+     *
+     * @return the store, or {@link Optional#empty()} if the element is not in a store
+     */
+    protected Optional<S> getStore() {
+        return this.store;
+    }
+}
@@ -0,0 +1,56 @@
+package it.unibo.isaccoop.model.common;
+
+/**
+ * Store keeping the coords of many {@link MapElement}s in arrays, each element in its own slot,
+ * so that they can be updated by a single pass over the arrays.
+ */
+public interface CoordsStore {
+
+    /**
+     * Get the x coord of the element of a slot.
+     *
+     * @param slot slot of the element
+     * @return the x coord
+     */
+    double getX(int slot);
+
+    /**
+     * Get the y coord of the element of a slot.
+     *
+     * @param slot slot of the element
+     * @return the y coord
+     */
+    double getY(int slot);
+
+    /**
+     * Set the coords of the element of a slot.
+     *
+     * @param slot slot of the element
+     * @param x the new x coord
+     * @param y the new y coord
+     */
+    void setCoords(int slot, double x, double y);
+
+    /**
+     * Get the previous x coord of the element of a slot.
+     *
+     * @param slot slot of the element
+     * @return the previous x coord
+     */
+    double getPreviousX(int slot);
+
+    /**
+     * Get the previous y coord of the element of a slot.
+     *
+     * @param slot slot of the element
+     * @return the previous y coord
+     */
+    double getPreviousY(int slot);
+
+    /**
+     * Save the coords of the element of a slot as previous coords.
+     *
+     * @param slot slot of the element
+     */
+    void savePreviousCoords(int slot);
+}
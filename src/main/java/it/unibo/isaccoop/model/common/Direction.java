@@ -1,7 +1,5 @@
 package it.unibo.isaccoop.model.common;
 
-import java.util.Random;
-
 /**
  * Enum that models the concept of direction.
  */
@@ -23,7 +21,6 @@ public enum Direction {
      */
     LEFT(-1.0, 0.0);
 
-    private static final Random RND = new Random();
     private final double x;
     private final double y;
 
@@ -56,9 +53,10 @@ public enum Direction {
 
     /**
      * Get random direction.
+     * @param random the source of random numbers
      * @return a random direction
      */
-    public static Direction getRandomDir() {
-        return Direction.values()[RND.nextInt(Direction.values().length)];
+    public static Direction getRandomDir(final GameRandom random) {
+        return Direction.values()[random.nextInt(Direction.values().length)];
     }
 }
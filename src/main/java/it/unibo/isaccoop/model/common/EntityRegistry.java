@@ -0,0 +1,183 @@
+package it.unibo.isaccoop.model.common;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Registry of the elements of a room, which gives each element a generational id when it is added.
+ * An id is made of the index of a cell of the registry and of the generation of the cell, increased
+ * every time an element leaves the cell: so an id kept after its element was removed does not find
+ * the element added later in the same cell.
+ * The elements are stored in a dense array, with the position of each cell in it: finding an element
+ * by its id and removing it, moving the last element in its place, take constant time.
+ *
+ * @param <E> type of the registered elements
+ */
+public final class EntityRegistry<E extends MapElement> {
+
+    /**
+     * Id of the elements not in a registry.
+     */
+    public static final int NO_ID = -1;
+
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (Integer.SIZE - 1 - INDEX_BITS)) - 1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private MapElement[] elements = new MapElement[INITIAL_CAPACITY];
+    /* cell of every element of the dense array */
+    private int[] cells = new int[INITIAL_CAPACITY];
+    /* position in the dense array of the element in every cell, and generation of every cell */
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int[] generations = new int[INITIAL_CAPACITY];
+    private int[] freeCells = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int cellCount;
+    private int size;
+    private final List<E> view = new AbstractList<>() {
+        @Override
+        public E get(final int index) {
+            return EntityRegistry.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return EntityRegistry.this.size;
+        }
+    };
+
+    /**
+     * Add an element, giving it a new id.
+     *
+     * @param element the element to add
+     * @return the id of the element
+     * @throws IllegalArgumentException if the element is already in a registry
+     * @throws IllegalStateException if the registry is full
+     */
+    public int add(final E element) {
+        if (element.getId() != NO_ID) {
+            throw new IllegalArgumentException("The element is already in a registry");
+        }
+        final int cell;
+        if (this.freeCount > 0) {
+            cell = this.freeCells[--this.freeCount];
+        } else {
+            if (this.cellCount > INDEX_MASK) {
+                throw new IllegalStateException("The registry is full");
+            }
+            cell = this.cellCount++;
+            if (cell == this.positions.length) {
+                this.positions = Arrays.copyOf(this.positions, cell * 2);
+                this.generations = Arrays.copyOf(this.generations, cell * 2);
+            }
+        }
+        if (this.size == this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, this.size * 2);
+            this.cells = Arrays.copyOf(this.cells, this.size * 2);
+        }
+        this.elements[this.size] = element;
+        this.cells[this.size] = cell;
+        this.positions[cell] = this.size;
+        this.size++;
+        final int id = this.generations[cell] << INDEX_BITS | cell;
+        element.setId(id);
+        return id;
+    }
+
+    /**
+     * Find an element by its id.
+     *
+     * @param id the id of the element
+     * @return the element, or {@link Optional#empty()} if no element in this registry has the id
+     */
+    public Optional<E> find(final int id) {
+        final int position = this.position(id);
+        return position < 0 ? Optional.empty() : Optional.of(this.get(position));
+    }
+
+    /**
+     * Check if an element is in this registry.
+     *
+     * @param element the element to check
+     * @return true if the element is in this registry
+     */
+    public boolean contains(final MapElement element) {
+        final int position = this.position(element.getId());
+        return position >= 0 && this.elements[position] == element;
+    }
+
+    /**
+     * Remove an element, which loses its id.
+     *
+     * @param element the element to remove
+     * @return true if the element was in this registry
+     */
+    public boolean remove(final MapElement element) {
+        if (!this.contains(element)) {
+            return false;
+        }
+        final int position = this.positions[element.getId() & INDEX_MASK];
+        final int cell = this.cells[position];
+        final int last = this.size - 1;
+        this.elements[position] = this.elements[last];
+        this.cells[position] = this.cells[last];
+        this.positions[this.cells[position]] = position;
+        this.elements[last] = null;
+        this.size--;
+        this.generations[cell] = (this.generations[cell] + 1) & GENERATION_MASK;
+        if (this.freeCount == this.freeCells.length) {
+            this.freeCells = Arrays.copyOf(this.freeCells, this.freeCount * 2);
+        }
+        this.freeCells[this.freeCount++] = cell;
+        element.setId(NO_ID);
+        return true;
+    }
+
+    /**
+     * Get the number of elements in this registry.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the element in a position of the dense array, which changes when an element is removed.
+     *
+     * @param position the position, from 0 to {@link #size()} excluded
+     * @return the element in the position
+     */
+    @SuppressWarnings("unchecked")
+    public E get(final int position) {
+        if (position < 0 || position >= this.size) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        return (E) this.elements[position];
+    }
+
+    /**
+     * Get a view of the elements, in the order of the dense array, which changes with the registry.
+     *
+     * @return an unmodifiable view of the elements
+     */
+    public List<E> asList() {
+        return this.view;
+    }
+
+    private int position(final int id) {
+        if (id < 0) {
+            return -1;
+        }
+        final int cell = id & INDEX_MASK;
+        if (cell >= this.cellCount || this.generations[cell] != id >>> INDEX_BITS) {
+            return -1;
+        }
+        /* a free cell keeps the position of its last element */
+        final int position = this.positions[cell];
+        return position < this.size && this.cells[position] == cell ? position : -1;
+    }
+}
@@ -0,0 +1,14 @@
+package it.unibo.isaccoop.model.common;
+
+/**
+ * Interface to model the clock used by the game logic to measure time intervals,
+ * such as weapons cooldowns and enemies behaviour changes.
+ */
+public interface GameClock {
+
+    /**
+     * Get the current time of the game.
+     * @return the current game time in milliseconds
+     */
+    long getTime();
+}
@@ -0,0 +1,121 @@
+package it.unibo.isaccoop.model.common;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded source of random numbers of the game, so that a run can be replayed exactly from its seed.
+ * Every level and every room gets its own instance, derived from the seed of the game with
+ * {@link #derive(long)}, and every room has independent streams for generation, spawning and AI,
+ * obtained with {@link #stream(RandomStream)}: the numbers drawn by a stream never change the numbers
+ * drawn by the others, so for example a change in the AI does not change the layout of the next rooms.
+ * An instance must be used by a single thread.
+ */
+public final class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX_1 = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_2 = 0x94d049bb133111ebL;
+    private static final int SHIFT_1 = 30;
+    private static final int SHIFT_2 = 27;
+    private static final int SHIFT_3 = 31;
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * GameRandom constructor, with a seed chosen at random.
+     */
+    public GameRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * GameRandom constructor.
+     * @param seed the seed of the random numbers
+     */
+    public GameRandom(final long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Get the seed of this source, which replays the same numbers.
+     * @return the seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Get a source of numbers independent from this one and from the ones derived with other keys.
+     * The derived seed depends only on the seed of this source and on the key,
+     * not on the numbers already drawn.
+     * @param key the key of the derived source, for example the index of a level or of a room
+     * @return the derived source
+     */
+    public GameRandom derive(final long key) {
+        return new GameRandom(mix(this.seed + GOLDEN_GAMMA * (key + 1)));
+    }
+
+    /**
+     * Get the stream of numbers dedicated to a purpose.
+     * Every call returns a new source starting from the beginning of the stream.
+     * @param stream the purpose of the stream
+     * @return the source of the stream
+     */
+    public GameRandom stream(final RandomStream stream) {
+        return this.derive(-1L - stream.ordinal());
+    }
+
+    /**
+     * Get a random int between 0 (inclusive) and bound (exclusive).
+     * @param bound the upper bound, must be positive
+     * @return the random int
+     */
+    public int nextInt(final int bound) {
+        return this.random.nextInt(bound);
+    }
+
+    /**
+     * Get a random int between origin (inclusive) and bound (exclusive).
+     * @param origin the lower bound
+     * @param bound the upper bound, must be greater than origin
+     * @return the random int
+     */
+    public int nextInt(final int origin, final int bound) {
+        return this.random.nextInt(origin, bound);
+    }
+
+    /**
+     * Get a random long.
+     * @return the random long
+     */
+    public long nextLong() {
+        return this.random.nextLong();
+    }
+
+    /**
+     * Get a random double between origin (inclusive) and bound (exclusive).
+     * @param origin the lower bound
+     * @param bound the upper bound, must be greater than origin
+     * @return the random double
+     */
+    public double nextDouble(final double origin, final double bound) {
+        return this.random.nextDouble(origin, bound);
+    }
+
+    /**
+     * Get a random boolean.
+     * @return the random boolean
+     */
+    public boolean nextBoolean() {
+        return this.random.nextBoolean();
+    }
+
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> SHIFT_1)) * MIX_1;
+        z = (z ^ (z >>> SHIFT_2)) * MIX_2;
+        return z ^ (z >>> SHIFT_3);
+    }
+}
@@ -0,0 +1,70 @@
+package it.unibo.isaccoop.model.common;
+
+/**
+ * Kernel updating the positions of many elements at once, kept in parallel arrays: the i-th element
+ * of every array belongs to the same element. Every operation reads and writes only the first
+ * {@code count} elements of the arrays. All the implementations give the same results, bit by bit,
+ * so the choice of the kernel never changes the course of a game. See {@link IntegrationKernels}.
+ */
+public interface IntegrationKernel {
+
+    /**
+     * Compute the steps of the elements chasing a target, moving by a fixed distance towards it.
+     * The steps of the elements which are not chasing are left unchanged.
+     *
+     * @param x x coords of the elements
+     * @param y y coords of the elements
+     * @param chasing flags of the elements chasing the target
+     * @param targetX x coord of the target
+     * @param targetY y coord of the target
+     * @param speed distance covered by a step
+     * @param stepX x offsets of the steps, written for the chasing elements
+     * @param stepY y offsets of the steps, written for the chasing elements
+     * @param count number of elements
+     */
+    void chase(double[] x, double[] y, boolean[] chasing, double targetX, double targetY, double speed,
+            double[] stepX, double[] stepY, int count);
+
+    /**
+     * Move the elements by their steps, unless after the step they would collide with the perimeter
+     * of a rectangle with a corner in the origin: in that case the element stays still and its step is set to 0.
+     *
+     * @param x x coords of the elements
+     * @param y y coords of the elements
+     * @param stepX x offsets of the steps, set to 0 for the elements which do not move
+     * @param stepY y offsets of the steps, set to 0 for the elements which do not move
+     * @param radius radiuses of the elements
+     * @param width width of the rectangle
+     * @param height height of the rectangle
+     * @param count number of elements
+     */
+    void moveInside(double[] x, double[] y, double[] stepX, double[] stepY, double[] radius,
+            double width, double height, int count);
+
+    /**
+     * Move the elements by their velocities.
+     *
+     * @param x x coords of the elements
+     * @param y y coords of the elements
+     * @param velocityX x offsets of the movements
+     * @param velocityY y offsets of the movements
+     * @param count number of elements
+     */
+    void advance(double[] x, double[] y, double[] velocityX, double[] velocityY, int count);
+
+    /**
+     * Find the elements colliding with the perimeter of a rectangle with a corner in the origin,
+     * as {@link it.unibo.isaccoop.model.boundingbox.CircleBoundingBox#isCollidingWithRecPerimeter} does.
+     *
+     * @param x x coords of the elements
+     * @param y y coords of the elements
+     * @param radius radiuses of the elements
+     * @param width width of the rectangle
+     * @param height height of the rectangle
+     * @param colliding flags of the colliding elements, written for every element
+     * @param count number of elements
+     * @return the number of colliding elements
+     */
+    int collidingWithPerimeter(double[] x, double[] y, double[] radius, double width, double height,
+            boolean[] colliding, int count);
+}
@@ -0,0 +1,64 @@
+package it.unibo.isaccoop.model.common;
+
+import java.util.logging.Logger;
+
+/**
+ * Choice of the {@link IntegrationKernel} used by the game: the vector kernel when the
+ * {@code jdk.incubator.vector} module is available (the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}), the scalar one otherwise.
+ */
+public final class IntegrationKernels {
+
+    /**
+     * System property which forces the scalar kernel even when the vector one is available.
+     */
+    public static final String SCALAR_PROPERTY = "isaccoop.scalar";
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final Logger LOGGER = Logger.getLogger(IntegrationKernels.class.getName());
+    private static final IntegrationKernel SCALAR = new ScalarIntegrationKernel();
+    private static final IntegrationKernel DEFAULT = select();
+
+    private IntegrationKernels() {
+    }
+
+    /**
+     * Get the kernel used by the game.
+     *
+     * @return the vector kernel if it is available, the scalar one otherwise
+     */
+    public static IntegrationKernel getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Get the kernel updating an element at a time, always available.
+     *
+     * @return the scalar kernel
+     */
+    public static IntegrationKernel getScalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Check if the default kernel is the vector one.
+     *
+     * @return true if the default kernel uses the Vector API
+     */
+    public static boolean isVectorized() {
+        return DEFAULT != SCALAR;
+    }
+
+    private static IntegrationKernel select() {
+        if (!Boolean.getBoolean(SCALAR_PROPERTY) && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                /* loaded by reflection, so that the vector classes are never linked when the module is missing */
+                return (IntegrationKernel) Class.forName(IntegrationKernels.class.getPackageName()
+                        + ".VectorIntegrationKernel").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                LOGGER.severe(e.getMessage());
+            }
+        }
+        return SCALAR;
+    }
+}
@@ -20,6 +20,46 @@ public interface MapElement {
      *  @param coords new coords
      * */
     void setCoords(Point2D coords);
+
+    /**
+     * Get element x coord, without creating a {@link Point2D}.
+     * @return the x coordinate of a map element
+     */
+    double getX();
+
+    /**
+     * Get element y coord, without creating a {@link Point2D}.
+     * @return the y coordinate of a map element
+     */
+    double getY();
+
+    /**
+     * Move the element by the specified offsets.
+     * @param dx offset along x axis
+     * @param dy offset along y axis
+     */
+    void translate(double dx, double dy);
+
+    /**
+     * Move the element towards the specified position, of the specified distance at most.
+     * @param x x coordinate of the target position
+     * @param y y coordinate of the target position
+     * @param distance maximum distance to move
+     */
+    void moveTowards(double x, double y, double distance);
+
+    /**
+     * Get element coords as they were at the start of the last simulation step.
+     * Used to interpolate the element position between two updates.
+     * @return the previous coordinates of a map element
+     */
+    Point2D getPreviousCoords();
+
+    /**
+     * Store current coords as previous coords, to be called before every simulation step.
+     */
+    void savePreviousCoords();
+
     /**
      * Getter for bounding box.
      * @return bounding box refers to this mapElement.
@@ -31,4 +71,16 @@ public interface MapElement {
      * @param g
      * */
     void updateGraphics(Graphics g);
+
+    /**
+     * Get the id of this element in the {@link EntityRegistry} of its room.
+     * @return the id of this element, or {@link EntityRegistry#NO_ID} if it is not in a registry
+     */
+    int getId();
+
+    /**
+     * Set the id of this element, only called by the {@link EntityRegistry} adding or removing it.
+     * @param id the new id of this element
+     */
+    void setId(int id);
 }
@@ -0,0 +1,22 @@
+package it.unibo.isaccoop.model.common;
+
+/**
+ * Purposes of the independent random number streams of a {@link GameRandom}.
+ */
+public enum RandomStream {
+
+    /**
+     * Generation of the content of levels and rooms: number of rooms, enemies, items and powerups.
+     */
+    GENERATION,
+
+    /**
+     * Positions of the elements spawned in the rooms.
+     */
+    SPAWN,
+
+    /**
+     * Decisions taken by the enemies while the game runs.
+     */
+    AI
+}
@@ -0,0 +1,99 @@
+package it.unibo.isaccoop.model.common;
+
+/**
+ * {@link IntegrationKernel} updating an element at a time. Its range methods are also used by
+ * the {@link VectorIntegrationKernel} for the elements left over by the vector loops.
+ */
+final class ScalarIntegrationKernel implements IntegrationKernel {
+
+    @Override
+    public void chase(final double[] x, final double[] y, final boolean[] chasing, final double targetX,
+            final double targetY, final double speed, final double[] stepX, final double[] stepY, final int count) {
+        chase(x, y, chasing, targetX, targetY, speed, stepX, stepY, 0, count);
+    }
+
+    @Override
+    public void moveInside(final double[] x, final double[] y, final double[] stepX, final double[] stepY,
+            final double[] radius, final double width, final double height, final int count) {
+        moveInside(x, y, stepX, stepY, radius, width, height, 0, count);
+    }
+
+    @Override
+    public void advance(final double[] x, final double[] y, final double[] velocityX, final double[] velocityY,
+            final int count) {
+        advance(x, y, velocityX, velocityY, 0, count);
+    }
+
+    @Override
+    public int collidingWithPerimeter(final double[] x, final double[] y, final double[] radius, final double width,
+            final double height, final boolean[] colliding, final int count) {
+        return collidingWithPerimeter(x, y, radius, width, height, colliding, 0, count);
+    }
+
+    /**
+     * See {@link IntegrationKernel#chase}, for the elements from {@code from} included to {@code to} excluded.
+     */
+    static void chase(final double[] x, final double[] y, final boolean[] chasing, final double targetX,
+            final double targetY, final double speed, final double[] stepX, final double[] stepY,
+            final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (chasing[i]) {
+                final double dx = targetX - x[i];
+                final double dy = targetY - y[i];
+                final double module = Math.sqrt(dx * dx + dy * dy);
+                stepX[i] = module == 0 ? 0 : dx / module * speed;
+                stepY[i] = module == 0 ? 0 : dy / module * speed;
+            }
+        }
+    }
+
+    /**
+     * See {@link IntegrationKernel#moveInside}, for the elements from {@code from} included to {@code to} excluded.
+     */
+    static void moveInside(final double[] x, final double[] y, final double[] stepX, final double[] stepY,
+            final double[] radius, final double width, final double height, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final double nextX = x[i] + stepX[i];
+            final double nextY = y[i] + stepY[i];
+            if (isInside(nextX, nextY, radius[i], width, height)) {
+                x[i] = nextX;
+                y[i] = nextY;
+            } else {
+                stepX[i] = 0;
+                stepY[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * See {@link IntegrationKernel#advance}, for the elements from {@code from} included to {@code to} excluded.
+     */
+    static void advance(final double[] x, final double[] y, final double[] velocityX, final double[] velocityY,
+            final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            x[i] += velocityX[i];
+            y[i] += velocityY[i];
+        }
+    }
+
+    /**
+     * See {@link IntegrationKernel#collidingWithPerimeter}, for the elements from {@code from} included
+     * to {@code to} excluded.
+     */
+    static int collidingWithPerimeter(final double[] x, final double[] y, final double[] radius, final double width,
+            final double height, final boolean[] colliding, final int from, final int to) {
+        int found = 0;
+        for (int i = from; i < to; i++) {
+            colliding[i] = !isInside(x[i], y[i], radius[i], width, height);
+            if (colliding[i]) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static boolean isInside(final double x, final double y, final double radius, final double width,
+            final double height) {
+        return x > radius && y > radius && width - x > radius && height - y > radius;
+    }
+}
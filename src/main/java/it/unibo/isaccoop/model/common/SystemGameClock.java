@@ -0,0 +1,12 @@
+package it.unibo.isaccoop.model.common;
+
+/**
+ * {@link GameClock} following the wall clock time of the system.
+ */
+public final class SystemGameClock implements GameClock {
+
+    @Override
+    public long getTime() {
+        return System.currentTimeMillis();
+    }
+}
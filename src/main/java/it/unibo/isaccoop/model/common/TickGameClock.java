@@ -0,0 +1,51 @@
+package it.unibo.isaccoop.model.common;
+
+/**
+ * {@link GameClock} advanced by the game loop, a fixed amount of time at every simulation step.
+ * The game time does not depend on the real time, so the game can be paused or run faster than real time
+ * keeping the same behaviour.
+ */
+public final class TickGameClock implements GameClock {
+
+    private final long tickPeriod;
+    private long ticks;
+
+    /**
+     * TickGameClock constructor.
+     * @param tickPeriod game time elapsed at every tick, in milliseconds
+     */
+    public TickGameClock(final long tickPeriod) {
+        if (tickPeriod <= 0) {
+            throw new IllegalArgumentException("Tick period must be positive");
+        }
+        this.tickPeriod = tickPeriod;
+    }
+
+    /**
+     * Advance the game time by one tick period.
+     */
+    public void tick() {
+        this.ticks++;
+    }
+
+    /**
+     * Get the number of ticks elapsed since the creation of the clock.
+     * @return the number of ticks
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Get the game time elapsed at every tick.
+     * @return the tick period in milliseconds
+     */
+    public long getTickPeriod() {
+        return this.tickPeriod;
+    }
+
+    @Override
+    public long getTime() {
+        return this.ticks * this.tickPeriod;
+    }
+}
@@ -1,106 +1,133 @@
 package it.unibo.isaccoop.model.creator;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
+import it.unibo.isaccoop.model.common.RandomStream;
+import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.enemy.Boss;
 import it.unibo.isaccoop.model.enemy.Enemy;
 import it.unibo.isaccoop.model.enemy.NonShootingEnemy;
 import it.unibo.isaccoop.model.enemy.ShootingEnemy;
-import it.unibo.isaccoop.model.item.Coin;
-import it.unibo.isaccoop.model.item.Heart;
 import it.unibo.isaccoop.model.item.Item;
-import it.unibo.isaccoop.model.powerup.CoinUp;
-import it.unibo.isaccoop.model.powerup.DamageUp;
-import it.unibo.isaccoop.model.powerup.HealthUp;
 import it.unibo.isaccoop.model.powerup.PowerUp;
-import it.unibo.isaccoop.model.powerup.SpeedUp;
-import it.unibo.isaccoop.model.powerup.TearsUp;
 
 /**
  * ConcreteCreatorFactory class which is a ConcreteFactory implementation.
+ * Items and power ups are drawn from the {@link DropTable}s of a {@link ContentRegistry}, according to the
+ * type of the room and to its floor.
  * */
 public final class ConcreteCreatorFactory implements CreatorFactory {
-    private static final Logger LOGGER = Logger.getLogger(ConcreteCreatorFactory.class.getName());
     private static final int ITEMS_IN_ROOM = 3;
-    private static final List<Class<? extends Item>> ITEM_LIST = new ArrayList<>(List.of(Coin.class, Heart.class));
-    private static final List<Class<? extends PowerUp>> POWER_UPS_LIST = new ArrayList<>(List.of(CoinUp.class,
-            DamageUp.class, HealthUp.class, SpeedUp.class, TearsUp.class));
 
     private static final int MAX_ENEMIES = 5;
 
+    private final GameClock clock;
+    private final GameRandom random;
+    private final GameRandom aiRandom;
+    private final ContentRegistry registry;
+    private final int floor;
+
+    /**
+     * ConcreteCreatorFactory constructor, with enemies following the system clock.
+     * */
+    public ConcreteCreatorFactory() {
+        this(new SystemGameClock());
+    }
+
+    /**
+     * ConcreteCreatorFactory constructor.
+     * @param clock the {@link GameClock} given to the created enemies
+     * */
+    public ConcreteCreatorFactory(final GameClock clock) {
+        this(clock, new GameRandom());
+    }
+
+    /**
+     * ConcreteCreatorFactory constructor, for the first floor.
+     * @param clock the {@link GameClock} given to the created enemies
+     * @param random the source of random numbers of the room: its generation stream chooses what is created,
+     * its AI stream is given to the created enemies
+     * */
+    public ConcreteCreatorFactory(final GameClock clock, final GameRandom random) {
+        this(clock, random, 0, ContentRegistry.getDefault());
+    }
+
+    /**
+     * ConcreteCreatorFactory constructor.
+     * @param clock the {@link GameClock} given to the created enemies
+     * @param random the source of random numbers of the room: its generation stream chooses what is created,
+     * its AI stream is given to the created enemies
+     * @param floor the floor of the room, starting from 0
+     * @param registry the tables of the items and of the power ups
+     * */
+    public ConcreteCreatorFactory(final GameClock clock, final GameRandom random, final int floor,
+            final ContentRegistry registry) {
+        this.clock = clock;
+        this.random = random.stream(RandomStream.GENERATION);
+        this.aiRandom = random.stream(RandomStream.AI);
+        this.floor = floor;
+        this.registry = registry;
+    }
+
     @Override
     public Creator<Enemy> createEnemies() {
         return () -> Stream.iterate(0, i -> i + 1)
-                .limit(ThreadLocalRandom.current().nextInt(ConcreteCreatorFactory.MAX_ENEMIES) + 1)
-                .map(i -> ThreadLocalRandom.current().nextBoolean() ? new NonShootingEnemy() : new ShootingEnemy())
+                .limit(this.random.nextInt(ConcreteCreatorFactory.MAX_ENEMIES) + 1)
+                .map(i -> this.random.nextBoolean() ? new NonShootingEnemy(this.clock)
+                        : new ShootingEnemy(this.clock, this.aiRandom))
                 .collect(Collectors.toList());
     }
 
     @Override
     public Creator<Enemy> createBoss() {
-        return () -> Stream.of(new Boss()).collect(Collectors.toList());
+        return () -> Stream.of(new Boss(this.clock, this.aiRandom)).collect(Collectors.toList());
     }
 
     @Override
     public Creator<PowerUp> createShopPowerUps() {
-        return () -> Stream.iterate(0, x -> x + 1)
-                .limit(ConcreteCreatorFactory.ITEMS_IN_ROOM)
-                .map(e -> this.generatePowerUp().get())
-                .collect(Collectors.toList());
+        return () -> this.generatePowerUps(RoomType.SHOP, ConcreteCreatorFactory.ITEMS_IN_ROOM);
     }
 
     @Override
     public Creator<PowerUp> createTreasurePowerUps() {
-        return () -> Stream.of(this.generatePowerUp().get()).collect(Collectors.toList());
+        return () -> this.generatePowerUps(RoomType.TREASURE, 1);
     }
 
     @Override
     public Creator<Item> createItems() {
-        return () -> Stream.iterate(0, x -> x + 1)
-        .limit(ThreadLocalRandom.current().nextInt(ConcreteCreatorFactory.ITEMS_IN_ROOM) + 1)
-        .map(e -> this.generateRandomItem().get())
-        .collect(Collectors.toList());
+        return () -> {
+            final int count = this.random.nextInt(ConcreteCreatorFactory.ITEMS_IN_ROOM) + 1;
+            final List<Item> items = new ArrayList<>(count);
+            this.registry.getItems(RoomType.STANDARD, this.floor).ifPresent(table -> {
+                for (int i = 0; i < count; i++) {
+                    items.add(table.draw(this.random));
+                }
+            });
+            return items;
+        };
     }
 
     /**
-     * Generate random power up among the available.
-     * @return a random power up.
+     * Generate random power ups from the table of a room, each one super or not at random.
+     * @param roomType the type of the room
+     * @param count the number of power ups
+     * @return the power ups, none if the room has no table
      * */
-    private Optional<PowerUp> generatePowerUp() {
-        final var random = ThreadLocalRandom.current().nextInt(POWER_UPS_LIST.size());
-        try {
-            final var powerUp = POWER_UPS_LIST.get(random).getDeclaredConstructor().newInstance();
-            powerUp.setSuperItem(ThreadLocalRandom.current().nextBoolean());
-            return Optional.of(powerUp);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            LOGGER.severe(e.getMessage());
-        }
-        return Optional.empty();
+    private List<PowerUp> generatePowerUps(final RoomType roomType, final int count) {
+        final List<PowerUp> powerUps = new ArrayList<>(count);
+        this.registry.getPowerUps(roomType, this.floor).ifPresent(table -> {
+            for (int i = 0; i < count; i++) {
+                final PowerUp powerUp = table.draw(this.random);
+                powerUp.setSuperItem(this.random.nextBoolean());
+                powerUps.add(powerUp);
+            }
+        });
+        return powerUps;
     }
-
-    /**
-     * Generate random item.
-     * @return random Item.
-     * */
-    private Optional<Item> generateRandomItem() {
-        final var random = ThreadLocalRandom.current().nextInt(ITEM_LIST.size());
-        try {
-            final var item = ITEM_LIST.get(random).getDeclaredConstructor().newInstance();
-            return Optional.of(item);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            LOGGER.severe(e.getMessage());
-        }
-        return Optional.empty();
-
-    }
-
 }
@@ -0,0 +1,178 @@
+package it.unibo.isaccoop.model.creator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.item.Coin;
+import it.unibo.isaccoop.model.item.Heart;
+import it.unibo.isaccoop.model.item.Item;
+import it.unibo.isaccoop.model.powerup.CoinUp;
+import it.unibo.isaccoop.model.powerup.DamageUp;
+import it.unibo.isaccoop.model.powerup.HealthUp;
+import it.unibo.isaccoop.model.powerup.PowerUp;
+import it.unibo.isaccoop.model.powerup.SpeedUp;
+import it.unibo.isaccoop.model.powerup.TearsUp;
+
+/**
+ * Registry of the {@link DropTable}s of the items and of the power ups, for every {@link RoomType}
+ * and starting from a floor, loaded from a text file.
+ * Every line of the file is a table: the room type, {@value #ITEMS} or {@value #POWER_UPS}, the first floor
+ * using the table and the elements with their weights, as {@code name:weight}. Empty lines and lines
+ * starting with {@code #} are ignored.
+ * */
+public final class ContentRegistry {
+
+    /**
+     * Path of the resource with the default tables.
+     * */
+    public static final String DEFAULT_RESOURCE = "it/unibo/isaccoop/content/drops.txt";
+
+    private static final String ITEMS = "items";
+    private static final String POWER_UPS = "powerups";
+    private static final String COMMENT = "#";
+    private static final String SEPARATOR = ":";
+    private static final int FIRST_ENTRY = 3;
+    private static final Map<String, Supplier<? extends Item>> ITEM_FACTORIES = Map.of(
+            "coin", Coin::new,
+            "heart", Heart::new);
+    private static final Map<String, Supplier<? extends PowerUp>> POWER_UP_FACTORIES = Map.of(
+            "coinUp", CoinUp::new,
+            "damageUp", DamageUp::new,
+            "healthUp", HealthUp::new,
+            "speedUp", SpeedUp::new,
+            "tearsUp", TearsUp::new);
+
+    private final Map<RoomType, NavigableMap<Integer, DropTable<Item>>> items = new EnumMap<>(RoomType.class);
+    private final Map<RoomType, NavigableMap<Integer, DropTable<PowerUp>>> powerUps = new EnumMap<>(RoomType.class);
+
+    private ContentRegistry() {
+    }
+
+    /**
+     * Get the registry with the tables of {@value #DEFAULT_RESOURCE}, loaded once.
+     *
+     * @return the default registry
+     * */
+    public static ContentRegistry getDefault() {
+        return DefaultHolder.REGISTRY;
+    }
+
+    /**
+     * Load a registry from a text file.
+     *
+     * @param reader the reader of the file
+     * @return the loaded registry
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line of the file is not valid
+     * */
+    public static ContentRegistry load(final Reader reader) throws IOException {
+        final ContentRegistry registry = new ContentRegistry();
+        final BufferedReader lines = new BufferedReader(reader);
+        int number = 0;
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            number++;
+            final String content = line.strip();
+            if (!content.isEmpty() && !content.startsWith(COMMENT)) {
+                registry.parse(content.split("\\s+"), number);
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Get the table of the items of a room.
+     *
+     * @param roomType the type of the room
+     * @param floor the floor of the room, starting from 0
+     * @return the table, or {@link Optional#empty()} if the room has no items
+     * */
+    public Optional<DropTable<Item>> getItems(final RoomType roomType, final int floor) {
+        return find(this.items, roomType, floor);
+    }
+
+    /**
+     * Get the table of the power ups of a room.
+     *
+     * @param roomType the type of the room
+     * @param floor the floor of the room, starting from 0
+     * @return the table, or {@link Optional#empty()} if the room has no power ups
+     * */
+    public Optional<DropTable<PowerUp>> getPowerUps(final RoomType roomType, final int floor) {
+        return find(this.powerUps, roomType, floor);
+    }
+
+    private void parse(final String[] fields, final int number) {
+        try {
+            if (fields.length <= FIRST_ENTRY) {
+                throw new IllegalArgumentException("a table needs at least an element");
+            }
+            final RoomType roomType = RoomType.valueOf(fields[0]);
+            final int floor = Integer.parseInt(fields[2]);
+            if (ITEMS.equals(fields[1])) {
+                this.items.computeIfAbsent(roomType, t -> new TreeMap<>())
+                        .put(floor, table(fields, ITEM_FACTORIES));
+            } else if (POWER_UPS.equals(fields[1])) {
+                this.powerUps.computeIfAbsent(roomType, t -> new TreeMap<>())
+                        .put(floor, table(fields, POWER_UP_FACTORIES));
+            } else {
+                throw new IllegalArgumentException("unknown content " + fields[1]);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid drop table at line " + number + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static <E> DropTable<E> table(final String[] fields, final Map<String, Supplier<? extends E>> factories) {
+        final List<Supplier<? extends E>> entries = new ArrayList<>();
+        final double[] weights = new double[fields.length - FIRST_ENTRY];
+        for (int i = FIRST_ENTRY; i < fields.length; i++) {
+            final String[] entry = fields[i].split(SEPARATOR);
+            final Supplier<? extends E> factory = factories.get(entry[0]);
+            if (factory == null || entry.length != 2) {
+                throw new IllegalArgumentException("unknown element " + fields[i]);
+            }
+            entries.add(factory);
+            weights[i - FIRST_ENTRY] = Double.parseDouble(entry[1]);
+        }
+        return new DropTable<>(entries, weights);
+    }
+
+    private static <E> Optional<DropTable<E>> find(final Map<RoomType, NavigableMap<Integer, DropTable<E>>> tables,
+            final RoomType roomType, final int floor) {
+        return Optional.ofNullable(tables.get(roomType))
+                .map(t -> t.floorEntry(floor))
+                .map(Map.Entry::getValue);
+    }
+
+    /**
+     * Holder of the default registry, loaded the first time it is needed.
+     * */
+    private static final class DefaultHolder {
+        private static final ContentRegistry REGISTRY = loadDefault();
+
+        private static ContentRegistry loadDefault() {
+            final InputStream in = ClassLoader.getSystemResourceAsStream(DEFAULT_RESOURCE);
+            if (in == null) {
+                throw new IllegalStateException("Cannot find the drop tables " + DEFAULT_RESOURCE);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return load(reader);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read the drop tables " + DEFAULT_RESOURCE, e);
+            }
+        }
+    }
+}
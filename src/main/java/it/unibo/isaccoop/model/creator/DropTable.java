@@ -0,0 +1,109 @@
+package it.unibo.isaccoop.model.creator;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import it.unibo.isaccoop.model.common.GameRandom;
+
+/**
+ * Table of the elements that can be created, each one with a weight, drawn in constant time
+ * with the alias method: the table is split in columns of the same probability, each one
+ * holding at most two elements, so a draw picks a column and then one of its two elements.
+ *
+ * @param <E> type of the created elements
+ * */
+public final class DropTable<E> {
+
+    private final List<Supplier<? extends E>> factories;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * DropTable constructor.
+     *
+     * @param factories the factories of the elements that can be drawn
+     * @param weights the weights of the elements, in the same order, not negative and not all zero
+     * */
+    public DropTable(final List<Supplier<? extends E>> factories, final double... weights) {
+        if (factories.isEmpty() || factories.size() != weights.length) {
+            throw new IllegalArgumentException("A drop table needs a weight for each of its elements");
+        }
+        this.factories = List.copyOf(factories);
+        final int n = weights.length;
+        double total = 0;
+        for (final double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Weights cannot be negative");
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least a weight must be positive");
+        }
+        this.probability = new double[n];
+        this.alias = new int[n];
+        /* columns with less than the average probability are filled by the ones with more (Vose) */
+        final double[] scaled = new double[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+            this.probability[less] = scaled[less];
+            this.alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        /* what is left is full, up to rounding errors */
+        while (largeCount > 0) {
+            this.probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            this.probability[small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     * Get the number of elements in the table.
+     *
+     * @return the number of elements
+     * */
+    public int size() {
+        return this.factories.size();
+    }
+
+    /**
+     * Draw the index of an element, with a probability proportional to its weight.
+     *
+     * @param random the source of random numbers
+     * @return the index of the drawn element
+     * */
+    public int sample(final GameRandom random) {
+        final int column = random.nextInt(this.probability.length);
+        return random.nextDouble(0, 1) < this.probability[column] ? column : this.alias[column];
+    }
+
+    /**
+     * Create an element drawn with a probability proportional to its weight.
+     *
+     * @param random the source of random numbers
+     * @return the created element
+     * */
+    public E draw(final GameRandom random) {
+        return this.factories.get(this.sample(random)).get();
+    }
+}
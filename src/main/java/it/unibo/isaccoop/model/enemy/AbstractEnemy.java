@@ -9,16 +9,20 @@ import it.unibo.isaccoop.model.action.MovementStrategy;
 import it.unibo.isaccoop.model.action.ShootingHitStrategy;
 import it.unibo.isaccoop.model.boundingbox.BoundingBox;
 import it.unibo.isaccoop.model.boundingbox.RectBoundingBox;
-import it.unibo.isaccoop.model.common.AbstractMapElement;
+import it.unibo.isaccoop.model.common.AbstractStoredMapElement;
 import it.unibo.isaccoop.model.common.Point2D;
 import it.unibo.isaccoop.model.player.PlayerStat;
+import it.unibo.isaccoop.model.weapon.ProjectileStore;
 import it.unibo.isaccoop.model.weapon.WeaponShot;
+import it.unibo.isaccoop.model.world.EnemyWorld;
 
 /**
  * AbstractEnemy abstract class that extends AbstractMapElement and implements Enemy,
  * it is used as a common container for enemies state and behavior.
+ * While the enemy is in an {@link EnemyWorld}, its coords, hearts and movement strategy are stored
+ * in the slot of the world, and the enemy is a facade reading and writing them.
  * */
-public abstract class AbstractEnemy extends AbstractMapElement implements Enemy {
+public abstract class AbstractEnemy extends AbstractStoredMapElement<EnemyWorld> implements Enemy {
 
     /**
      * Attribute used to update enemy position incrementally.
@@ -34,6 +38,12 @@ public abstract class AbstractEnemy extends AbstractMapElement implements Enemy
      * */
     private Double hearts;
 
+    /**
+     * Movement offsets computed by the movement strategy, reused at every move.
+     * */
+    private final double[] step = new double[2];
+
+
     /**
      * Constructor for {@link AbstractEnemy}.
      *
@@ -57,11 +67,23 @@ public abstract class AbstractEnemy extends AbstractMapElement implements Enemy
      * */
     @Override
     public void move(final Point2D playerPosition, final BoundingBox containerBox) {
-        final Point2D newPos = this.getMovementStrategy().move(this.getCoords(), playerPosition);
+        this.move(playerPosition.getX(), playerPosition.getY(), containerBox);
+    }
 
+    /**
+     * Delegates movement to {@link MovementStrategy}, without creating any object.
+     *
+     * @param playerX in order to move towards the player if needed
+     * @param playerY in order to move towards the player if needed
+     * @param containerBox containerBox of the element
+     * */
+    @Override
+    public void move(final double playerX, final double playerY, final BoundingBox containerBox) {
+        this.getMovementStrategy().step(this.getX(), this.getY(), playerX, playerY, this.step);
         if (containerBox instanceof RectBoundingBox
-                && !this.getBox().isCollidingWithRecPerimeter(newPos, (RectBoundingBox) containerBox)) {
-            super.setCoords(newPos);
+                && !this.getBox().isCollidingWithRecPerimeter(this.getX() + this.step[0], this.getY() + this.step[1],
+                        (RectBoundingBox) containerBox)) {
+            this.translate(this.step[0], this.step[1]);
         }
     }
 
@@ -98,6 +120,16 @@ public abstract class AbstractEnemy extends AbstractMapElement implements Enemy
             : Optional.empty();
     }
 
+    /**
+     * {@inheritDoc}
+     * */
+    @Override
+    public void setProjectileStore(final ProjectileStore projectileStore) {
+        if (this.getHitStrategy() instanceof ShootingHitStrategy) {
+            ((ShootingHitStrategy) this.getHitStrategy()).setProjectileStore(projectileStore, this);
+        }
+    }
+
     /**
      *  Get current enemy hearts.
      *
@@ -105,7 +137,7 @@ public abstract class AbstractEnemy extends AbstractMapElement implements Enemy
      * */
     @Override
     public Double getHearts() {
-        return this.hearts;
+        return this.getStore().isPresent() ? this.getStore().get().getHearts(this.getSlot()) : this.hearts;
     }
 
     /**
@@ -167,7 +199,8 @@ public abstract class AbstractEnemy extends AbstractMapElement implements Enemy
      * {@inheritDoc}
      * */
     public MovementStrategy getMovementStrategy() {
-        return this.movementStrategy;
+        return this.getStore().isPresent()
+                ? this.getStore().get().getMovement(this.getSlot()) : this.movementStrategy;
     }
 
     /**
@@ -176,6 +209,7 @@ public abstract class AbstractEnemy extends AbstractMapElement implements Enemy
      * */
     public void setMovementStrategy(final MovementStrategy movementStrategy) {
         this.movementStrategy = movementStrategy;
+        this.getStore().ifPresent(world -> world.setMovement(this.getSlot(), movementStrategy));
     }
 
     /**
@@ -192,8 +226,22 @@ public abstract class AbstractEnemy extends AbstractMapElement implements Enemy
     @Override
     public void setHearts(final Double hearts) {
         if (!this.isDead()) {
-            this.hearts -= hearts;
+            this.hearts = this.getHearts() - hearts;
+            this.getStore().ifPresent(world -> world.setHearts(this.getSlot(), this.hearts));
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * The hearts and the movement strategy of this enemy are copied back too.
+     * */
+    @Override
+    public void detach() {
+        this.getStore().ifPresent(world -> {
+            this.hearts = world.getHearts(this.getSlot());
+            this.movementStrategy = world.getMovement(this.getSlot());
+        });
+        super.detach();
+    }
+
 }
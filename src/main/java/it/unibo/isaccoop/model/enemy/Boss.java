@@ -8,7 +8,10 @@ import it.unibo.isaccoop.model.action.MovementStrategy;
 import it.unibo.isaccoop.model.action.NonShootingMovementStrategy;
 import it.unibo.isaccoop.model.action.ShootingHitStrategy;
 import it.unibo.isaccoop.model.action.ShootingMovementStrategy;
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
 import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.weapon.BaseWeaponShot;
 import it.unibo.isaccoop.model.weapon.TimeIntervalWeapon;
 
@@ -32,20 +35,40 @@ public class Boss extends AbstractEnemy {
      * */
     private long lastChangeTime;
 
+    private final GameClock clock;
+
     private final Map<String, MovementStrategy> movementStrategies;
 
     /**
      * Boss constructor.
      * */
     public Boss() {
+        this(new SystemGameClock());
+    }
+
+    /**
+     * Boss constructor.
+     * @param clock the {@link GameClock} used to measure weapon and attack type changes intervals
+     * */
+    public Boss(final GameClock clock) {
+        this(clock, new GameRandom());
+    }
+
+    /**
+     * Boss constructor.
+     * @param clock the {@link GameClock} used to measure weapon and attack type changes intervals
+     * @param random the source of the random movements
+     * */
+    public Boss(final GameClock clock, final GameRandom random) {
         super(EnemyHearts.BOSS_HEARTS, new ShootingHitStrategy(new TimeIntervalWeapon(Boss.WEAPON_INTERVAL,
                 (start, direction) -> new BaseWeaponShot(start, direction,
-                new ConcreteEnemyGraphicsComponentFactory().getBossBaseWeaponShotGraphicsComponent()))),
+                new ConcreteEnemyGraphicsComponentFactory().getBossBaseWeaponShotGraphicsComponent()), clock)),
                 new NonShootingMovementStrategy(),
                 new ConcreteEnemyGraphicsComponentFactory().getBossGraphicsComponent());
-        this.lastChangeTime = System.currentTimeMillis();
+        this.clock = clock;
+        this.lastChangeTime = clock.getTime();
         this.movementStrategies = Map.of(
-                "shooting", new ShootingMovementStrategy(),
+                "shooting", new ShootingMovementStrategy(clock, random),
                 "nonShooting", new NonShootingMovementStrategy());
     }
 
@@ -53,8 +76,8 @@ public class Boss extends AbstractEnemy {
      * Change the type of attack of the boss based on time, with shooting or not.
      */
     public void changeMode() {
-        if (System.currentTimeMillis() - this.lastChangeTime >= Boss.CHANGE_TIME) {
-            this.lastChangeTime = System.currentTimeMillis();
+        if (this.clock.getTime() - this.lastChangeTime >= Boss.CHANGE_TIME) {
+            this.lastChangeTime = this.clock.getTime();
             this.updateMovementStrategy();
         }
     }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import it.unibo.isaccoop.model.action.HitStrategy;
 import it.unibo.isaccoop.model.common.MapElement;
 import it.unibo.isaccoop.model.player.PlayerStat;
+import it.unibo.isaccoop.model.weapon.ProjectileStore;
 import it.unibo.isaccoop.model.weapon.WeaponShot;
 
 /**
@@ -45,5 +46,12 @@ public interface Enemy extends EnemyActions, Hitable<PlayerStat>, MapElement {
      * */
     HitStrategy getHitStrategy();
 
+    /**
+     * Put the enemy shots in the store of the room containing the enemy.
+     *
+     * @param projectileStore store of the room
+     * */
+    void setProjectileStore(ProjectileStore projectileStore);
+
 
 }
@@ -23,4 +23,13 @@ public interface EnemyActions {
      * */
     void move(Point2D playerPosition, BoundingBox containerBox);
 
+    /**
+     * Perform move action of a certain {@link AbstractEnemy}, without creating any object.
+     *
+     * @param playerX current player x coord
+     * @param playerY current player y coord
+     * @param containerBox containerBox of the element
+     * */
+    void move(double playerX, double playerY, BoundingBox containerBox);
+
 }
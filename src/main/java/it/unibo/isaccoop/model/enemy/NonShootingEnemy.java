@@ -3,6 +3,8 @@ package it.unibo.isaccoop.model.enemy;
 import it.unibo.isaccoop.graphics.factory.ConcreteEnemyGraphicsComponentFactory;
 import it.unibo.isaccoop.model.action.NonShootingHitStrategy;
 import it.unibo.isaccoop.model.action.NonShootingMovementStrategy;
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.player.PlayerStat;
 
 /**
@@ -14,7 +16,15 @@ public final class NonShootingEnemy extends AbstractEnemy {
      * Constructor for {@link NonShootingEnemy}.
      */
     public NonShootingEnemy() {
-        super(EnemyHearts.ENEMY_HEARTS, new NonShootingHitStrategy(), new NonShootingMovementStrategy(),
+        this(new SystemGameClock());
+    }
+
+    /**
+     * Constructor for {@link NonShootingEnemy}.
+     * @param clock the {@link GameClock} used to measure the time between hits
+     */
+    public NonShootingEnemy(final GameClock clock) {
+        super(EnemyHearts.ENEMY_HEARTS, new NonShootingHitStrategy(clock), new NonShootingMovementStrategy(),
                 new ConcreteEnemyGraphicsComponentFactory().getNonShootingGraphicsComponent());
     }
 
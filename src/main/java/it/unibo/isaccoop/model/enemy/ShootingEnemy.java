@@ -5,7 +5,10 @@ import java.util.Optional;
 import it.unibo.isaccoop.graphics.factory.ConcreteEnemyGraphicsComponentFactory;
 import it.unibo.isaccoop.model.action.ShootingHitStrategy;
 import it.unibo.isaccoop.model.action.ShootingMovementStrategy;
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
 import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.weapon.BaseWeaponShot;
 import it.unibo.isaccoop.model.weapon.TimeIntervalWeapon;
 
@@ -23,11 +26,29 @@ public final class ShootingEnemy extends AbstractEnemy {
      * ShootingEnemy constructor.
      * */
     public ShootingEnemy() {
+        this(new SystemGameClock());
+    }
+
+    /**
+     * ShootingEnemy constructor.
+     * @param clock the {@link GameClock} used to measure weapon and movement intervals
+     * */
+    public ShootingEnemy(final GameClock clock) {
+        this(clock, new GameRandom());
+    }
+
+    /**
+     * ShootingEnemy constructor.
+     * @param clock the {@link GameClock} used to measure weapon and movement intervals
+     * @param random the source of the random movements
+     * */
+    public ShootingEnemy(final GameClock clock, final GameRandom random) {
         super(EnemyHearts.ENEMY_HEARTS,
                 new ShootingHitStrategy(new TimeIntervalWeapon(ShootingEnemy.WEAPON_INTERVAL,
                         (start, direction) -> new BaseWeaponShot(start, direction,
-                                new ConcreteEnemyGraphicsComponentFactory().getEnemyBaseWeaponShotGraphicsComponent()))),
-                                    new ShootingMovementStrategy(),
+                                new ConcreteEnemyGraphicsComponentFactory().getEnemyBaseWeaponShotGraphicsComponent()),
+                        clock)),
+                                    new ShootingMovementStrategy(clock, random),
                 new ConcreteEnemyGraphicsComponentFactory().getShootingGraphicsComponent());
     }
 
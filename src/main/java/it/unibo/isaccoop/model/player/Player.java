@@ -9,10 +9,13 @@ import it.unibo.isaccoop.graphics.factory.ConcretePlayerGraphicsComponentFactory
 import it.unibo.isaccoop.model.action.HitStrategy;
 import it.unibo.isaccoop.model.action.ShootingHitStrategy;
 import it.unibo.isaccoop.model.common.Direction;
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.common.Vector2D;
 import it.unibo.isaccoop.model.enemy.Enemy;
 import it.unibo.isaccoop.model.enemy.Hitable;
 import it.unibo.isaccoop.model.weapon.BaseWeaponShot;
+import it.unibo.isaccoop.model.weapon.ProjectileStore;
 import it.unibo.isaccoop.model.weapon.TimeIntervalWeapon;
 import it.unibo.isaccoop.model.weapon.WeaponShot;
 
@@ -33,10 +36,22 @@ public class Player extends PlayerMovementImpl implements Hitable<Enemy> {
      * @param gr
      */
     public Player(final InputController moveController, final InputController shotController, final GraphicsComponent gr) {
+        this(moveController, shotController, gr, new SystemGameClock());
+    }
+
+    /**
+     * Player constructor.
+     * @param moveController
+     * @param shotController
+     * @param gr
+     * @param clock the {@link GameClock} used to measure the time between shots
+     */
+    public Player(final InputController moveController, final InputController shotController, final GraphicsComponent gr,
+            final GameClock clock) {
         super(gr);
         this.hitStrategy = new ShootingHitStrategy(new TimeIntervalWeapon(super.getTears(),
                 (start, direction) -> new BaseWeaponShot(start, direction,
-                        new ConcretePlayerGraphicsComponentFactory().getPlayerBaseWeaponShotGraphicsComponent())));
+                        new ConcretePlayerGraphicsComponentFactory().getPlayerBaseWeaponShotGraphicsComponent()), clock));
         this.movementController = moveController;
         this.shootingController = shotController;
     }
@@ -91,6 +106,15 @@ public class Player extends PlayerMovementImpl implements Hitable<Enemy> {
         return this.shootingController;
     }
 
+    /**
+     * Put the player shots in the store of the room containing the player.
+     *
+     * @param projectileStore store of the room
+     * */
+    public void setProjectileStore(final ProjectileStore projectileStore) {
+        ((ShootingHitStrategy) this.hitStrategy).setProjectileStore(projectileStore, this);
+    }
+
     /**
      * Remove a player shot, delegating remove to the hit strategy.
      * @param element the shot to remove
@@ -23,7 +23,8 @@ public class PlayerMovementImpl extends PlayerStatImpl implements PlayerMovement
      * */
     @Override
     public void update(final Direction direction) {
-        super.setCoords(this.getMovePreview(direction));
+        final double distance = super.getSpeed();
+        super.translate(direction.getX() * distance, direction.getY() * distance);
     }
 
     /**
@@ -0,0 +1,151 @@
+package it.unibo.isaccoop.model.room;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import it.unibo.isaccoop.model.common.Direction;
+import it.unibo.isaccoop.model.common.Point2D;
+
+/**
+ * Square grid where a {@link LayoutGenerator} places the rooms of a level, with the occupied cells
+ * kept in a {@link BitSet} and the rooms kept in the order they are added.
+ * Cells are identified by their index, {@code y * side + x}.
+ */
+final class GridLayout {
+
+    private static final int MARGIN = 3;
+
+    private final int side;
+    private final BitSet occupied;
+    private final int[] rooms;
+    private int size;
+
+    /**
+     * Create an empty grid, big enough to hold the rooms with a low density.
+     * @param numberOfRooms the number of rooms to place
+     */
+    GridLayout(final int numberOfRooms) {
+        this.side = 2 * (int) Math.ceil(Math.sqrt(numberOfRooms)) + MARGIN;
+        this.occupied = new BitSet(this.side * this.side);
+        this.rooms = new int[numberOfRooms];
+    }
+
+    /**
+     * Get the cell in the middle of the grid.
+     * @return the central cell
+     */
+    int center() {
+        return this.side / 2 * this.side + this.side / 2;
+    }
+
+    /**
+     * Place a room in a free cell.
+     * @param cell the cell of the room
+     */
+    void add(final int cell) {
+        this.occupied.set(cell);
+        this.rooms[this.size] = cell;
+        this.size++;
+    }
+
+    /**
+     * Get the number of placed rooms.
+     * @return the number of rooms
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the cell of a room.
+     * @param index the index of the room, in the order the rooms were added
+     * @return the cell of the room
+     */
+    int room(final int index) {
+        return this.rooms[index];
+    }
+
+    /**
+     * Check if a cell contains a room.
+     * @param cell the cell
+     * @return true if the cell contains a room
+     */
+    boolean isOccupied(final int cell) {
+        return this.occupied.get(cell);
+    }
+
+    /**
+     * Get the cell next to another one along a direction.
+     * @param cell the starting cell
+     * @param dir the direction
+     * @return the neighbor cell, or -1 if it is outside the grid
+     */
+    int neighbor(final int cell, final Direction dir) {
+        final int x = cell % this.side + (int) dir.getX();
+        final int y = cell / this.side + (int) dir.getY();
+        return x < 0 || y < 0 || x >= this.side || y >= this.side ? -1 : y * this.side + x;
+    }
+
+    /**
+     * Count the rooms next to a cell.
+     * @param cell the cell
+     * @return the number of neighbor rooms, between 0 and 4
+     */
+    int occupiedNeighbors(final int cell) {
+        int count = 0;
+        for (final Direction dir : Direction.values()) {
+            final int n = this.neighbor(cell, dir);
+            if (n >= 0 && this.occupied.get(n)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Compute the distance of every room from a room, moving only between neighbor rooms.
+     * @param from the cell of the starting room
+     * @return the distances, indexed by cell, -1 for the cells not reachable
+     */
+    int[] distances(final int from) {
+        final int[] dist = new int[this.side * this.side];
+        Arrays.fill(dist, -1);
+        final int[] queue = new int[this.size];
+        int head = 0;
+        int tail = 0;
+        dist[from] = 0;
+        queue[tail++] = from;
+        while (head < tail) {
+            final int cell = queue[head++];
+            for (final Direction dir : Direction.values()) {
+                final int n = this.neighbor(cell, dir);
+                if (n >= 0 && this.occupied.get(n) && dist[n] < 0) {
+                    dist[n] = dist[cell] + 1;
+                    queue[tail++] = n;
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Convert cells to the coordinates of the rooms in the level, shifted so that the smallest are 0.
+     * @param cells the cells to convert
+     * @return the coordinates, in the same order
+     */
+    List<Point2D> toCoordinates(final int... cells) {
+        int minX = this.side;
+        int minY = this.side;
+        for (int i = 0; i < this.size; i++) {
+            minX = Math.min(minX, this.rooms[i] % this.side);
+            minY = Math.min(minY, this.rooms[i] / this.side);
+        }
+        final List<Point2D> coords = new ArrayList<>(cells.length);
+        for (final int cell : cells) {
+            coords.add(new Point2D(cell % this.side - minX, cell / this.side - minY));
+        }
+        return coords;
+    }
+}
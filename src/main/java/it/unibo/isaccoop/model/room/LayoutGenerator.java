@@ -0,0 +1,141 @@
+package it.unibo.isaccoop.model.room;
+
+import java.util.List;
+
+import it.unibo.isaccoop.model.common.Direction;
+import it.unibo.isaccoop.model.common.GameRandom;
+import it.unibo.isaccoop.model.common.Point2D;
+
+/**
+ * Generators of the positions of the rooms of a level.
+ * The positions are returned in the order expected by {@link RoomFactory#buildRoomInProperOrder(Point2D)}:
+ * the START room first, then the SHOP and the TREASURE rooms, the STANDARD rooms and the BOSS room last.
+ * Every room can be reached from the START room moving between neighbor rooms.
+ */
+public enum LayoutGenerator {
+
+    /**
+     * Rooms in a row, from left to right.
+     */
+    LINEAR {
+        @Override
+        public List<Point2D> generate(final int numberOfRooms, final GameRandom random) {
+            return new LevelFactoryUtils().generateRoomCoordinates(numberOfRooms);
+        }
+    },
+
+    /**
+     * Corridors grown by a random walk, which sometimes branches from a random room.
+     * A corridor only grows in cells touching a single room, so the layout looks like a tree, unless the walk
+     * gets stuck. The START and BOSS rooms are at the two ends of the longest path, the SHOP room is a dead end
+     * halfway and the TREASURE room the farthest dead end left.
+     */
+    BRANCHING {
+        @Override
+        public List<Point2D> generate(final int numberOfRooms, final GameRandom random) {
+            final GridLayout grid = new GridLayout(numberOfRooms);
+            grid.add(grid.center());
+            int failures = 0;
+            while (grid.size() < numberOfRooms) {
+                final int from = random.nextInt(BRANCH_ODDS) == 0
+                        ? grid.room(random.nextInt(grid.size())) : grid.room(grid.size() - 1);
+                final int cell = grid.neighbor(from, Direction.getRandomDir(random));
+                if (cell >= 0 && !grid.isOccupied(cell)
+                        && (grid.occupiedNeighbors(cell) == 1 || failures > MAX_FAILURES)) {
+                    grid.add(cell);
+                    failures = 0;
+                } else {
+                    failures++;
+                }
+            }
+            return place(grid);
+        }
+    };
+
+    private static final int BRANCH_ODDS = 4;
+    private static final int MAX_FAILURES = 64;
+    private static final int FEWEST_ROOMS = 4;
+
+    /**
+     * Generate the positions of the rooms of a level.
+     * @param numberOfRooms the number of rooms of the level
+     * @param random the source of random numbers of the level
+     * @return the coordinates of the rooms, in the order they have to be built
+     */
+    public abstract List<Point2D> generate(int numberOfRooms, GameRandom random);
+
+    /**
+     * Choose the rooms of the special types according to their distances and order the rooms.
+     */
+    private static List<Point2D> place(final GridLayout grid) {
+        final int n = grid.size();
+        if (n < FEWEST_ROOMS) {
+            throw new IllegalArgumentException("A level needs at least " + FEWEST_ROOMS + " rooms");
+        }
+        final int start = farthest(grid, grid.distances(grid.room(0)), -1, -1, -1, false);
+        final int[] dist = grid.distances(start);
+        final int boss = farthest(grid, dist, start, -1, -1, false);
+        final int shop = halfway(grid, dist, start, boss, dist[boss] / 2);
+        final int treasure = farthest(grid, dist, start, boss, shop, true);
+        final int[] order = new int[n];
+        order[0] = start;
+        order[1] = shop;
+        order[2] = treasure;
+        order[n - 1] = boss;
+        int next = 3;
+        for (int i = 0; i < n; i++) {
+            final int cell = grid.room(i);
+            if (cell != start && cell != boss && cell != shop && cell != treasure) {
+                order[next++] = cell;
+            }
+        }
+        return grid.toCoordinates(order);
+    }
+
+    /**
+     * Find the farthest room, if possible a dead end, different from the excluded ones.
+     */
+    private static int farthest(final GridLayout grid, final int[] dist, final int ex1, final int ex2, final int ex3,
+            final boolean deadEnd) {
+        int best = -1;
+        for (int i = 0; i < grid.size(); i++) {
+            final int cell = grid.room(i);
+            if (cell != ex1 && cell != ex2 && cell != ex3 && (best < 0 || better(grid, dist, cell, best, deadEnd))) {
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    private static boolean better(final GridLayout grid, final int[] dist, final int cell, final int best,
+            final boolean deadEnd) {
+        if (deadEnd) {
+            final boolean isDeadEnd = grid.occupiedNeighbors(cell) == 1;
+            if (isDeadEnd != (grid.occupiedNeighbors(best) == 1)) {
+                return isDeadEnd;
+            }
+        }
+        return dist[cell] > dist[best];
+    }
+
+    /**
+     * Find the room closest to a distance, if possible a dead end, different from START and BOSS.
+     */
+    private static int halfway(final GridLayout grid, final int[] dist, final int start, final int boss,
+            final int target) {
+        int best = -1;
+        int bestScore = Integer.MAX_VALUE;
+        for (int i = 0; i < grid.size(); i++) {
+            final int cell = grid.room(i);
+            if (cell != start && cell != boss) {
+                /* dead ends always win over corridors */
+                final int score = Math.abs(dist[cell] - target) + (grid.occupiedNeighbors(cell) == 1 ? 0 : grid.size());
+                if (score < bestScore) {
+                    best = cell;
+                    bestScore = score;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -1,5 +1,6 @@
 package it.unibo.isaccoop.model.room;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
@@ -22,11 +23,33 @@ public interface Level {
     void putRooms(List<Room> roomList);
 
     /**
-     * Get an unmodifiable copy of the list of all rooms in this level.
-     * @return an unmodifiable copy of the list containing all the rooms in this level
+     * Get an unmodifiable view of the list of all rooms in this level, ordered by their ids.
+     * @return an unmodifiable list containing all the rooms in this level
      */
     List<Room> getRooms();
 
+    /**
+     * Get a room from its id, which is its position in the list of the rooms of this level.
+     * @param id the id of the room
+     * @return the room with the given id
+     * @throws IndexOutOfBoundsException if there is no room with the given id
+     */
+    Room getRoom(int id);
+
+    /**
+     * Get the id of a room of this level, which never changes.
+     * @param room the room
+     * @return the id of the room
+     * @throws IllegalArgumentException if the room is not in this level
+     */
+    int getRoomId(Room room);
+
+    /**
+     * Get the id of the room where the player currently is.
+     * @return the id of the current room
+     */
+    int getCurrentRoomId();
+
     /**
      * Check if this level is complete.
      * A level is complete if all its room are complete.
@@ -34,6 +57,25 @@ public interface Level {
      */
     boolean isLevelComplete();
 
+    /**
+     * Get the number of rooms of this level not complete yet.
+     * @return the number of rooms to complete
+     */
+    int getRemainingRooms();
+
+    /**
+     * Copy the ids of the complete rooms of this level into the specified set.
+     * @param target the set receiving the ids of the complete rooms, cleared before copying
+     */
+    void copyCompletedRooms(BitSet target);
+
+    /**
+     * Get the version of the completion state of the rooms, which changes every time a room is completed,
+     * so the complete rooms need to be copied only when it changes.
+     * @return the version of the completion state of the rooms
+     */
+    long getCompletionVersion();
+
     /**
      * Get the room where the player begins.
      * @return the room where the player begins
@@ -90,4 +132,11 @@ public interface Level {
      * @return the {@link Minimap}
      */
     Minimap getMinimap();
+
+    /**
+     * Get the seed of the game this level belongs to, which generates the same levels
+     * and makes the enemies take the same decisions when the game is played again.
+     * @return the seed of the game
+     */
+    long getSeed();
 }
@@ -28,6 +28,13 @@ public interface LevelController {
      */
     int getNumberOfLevels();
 
+    /**
+     * Check if the rooms of the level after the current one have already been generated,
+     * so moving to it does not wait for them.
+     * @return true if the next level is ready, false if it is still being generated or there is no next level
+     */
+    boolean isNextLevelReady();
+
     /**
      * Get an unmodifiable list of all rooms in current level.
      * @return an unmodifiable list of all rooms in current level
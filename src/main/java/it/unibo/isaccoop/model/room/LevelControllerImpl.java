@@ -1,18 +1,40 @@
 package it.unibo.isaccoop.model.room;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
 
 import it.unibo.isaccoop.core.GameEngine;
 import it.unibo.isaccoop.model.player.Player;
 
 /**
  * Implementation of {@link LevelController}.
+ * Levels are created lazily: only the first one is created by the constructor, and the rooms of the next one
+ * are generated in background while the player is in the current one, so the startup time does not depend
+ * on the number of levels. The content of the rooms reads the game clock, so it is created on the game loop
+ * thread when the player reaches the level. Levels are created one at a time and in order,
+ * so the same seed always gives the same levels.
  */
 public final class LevelControllerImpl implements LevelController {
 
-    private final List<Level> lvl = new LinkedList<>();
+    private static final Logger LOGGER = Logger.getLogger(LevelControllerImpl.class.getName());
+    private static final ExecutorService PREFETCH = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "isaccoop-level-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<Level> lvl = new ArrayList<>();
+    private final int numberOfLevels;
+    private final LevelFactory lvlFactory;
+    private final Executor executor;
+    private Optional<CompletableFuture<List<Room>>> nextLevel = Optional.empty();
     private int currentLevelID;
 
     /**
@@ -21,11 +43,25 @@ public final class LevelControllerImpl implements LevelController {
      * @param engine the {@link GameEngine} to be attached to this level
      */
     public LevelControllerImpl(final int numberOfLevels, final GameEngine engine) {
-        final LevelFactory lvlFactory = new LevelFactoryImpl(engine);
+        this(numberOfLevels, new LevelFactoryImpl(engine), PREFETCH);
+    }
+
+    /**
+     * Create a game with the specified number of levels.
+     * @param numberOfLevels the number of levels to create, at least one
+     * @param lvlFactory the factory creating the levels
+     * @param executor the executor generating the rooms of the next level in background
+     */
+    public LevelControllerImpl(final int numberOfLevels, final LevelFactory lvlFactory, final Executor executor) {
+        if (numberOfLevels < 1) {
+            throw new IllegalArgumentException("A game must have at least one level");
+        }
+        this.numberOfLevels = numberOfLevels;
+        this.lvlFactory = lvlFactory;
+        this.executor = executor;
         this.currentLevelID = 0;
-        Stream.iterate(0, i -> i + 1)
-            .limit(numberOfLevels)
-            .forEach(r -> this.lvl.add(lvlFactory.createLevel()));
+        this.lvl.add(lvlFactory.createLevel());
+        this.prefetchNextLevel();
     }
 
     @Override
@@ -40,7 +76,12 @@ public final class LevelControllerImpl implements LevelController {
 
     @Override
     public int getNumberOfLevels() {
-        return this.lvl.size();
+        return this.numberOfLevels;
+    }
+
+    @Override
+    public boolean isNextLevelReady() {
+        return this.nextLevel.map(CompletableFuture::isDone).orElse(false);
     }
 
     @Override
@@ -55,9 +96,7 @@ public final class LevelControllerImpl implements LevelController {
 
     @Override
     public Room getCurrentRoom() {
-        return getCurrentLevel().getRooms().stream()
-                .filter(r -> r.getPlayer().isPresent())
-                .findFirst().get();
+        return getCurrentLevel().getCurrentRoom();
     }
 
     @Override
@@ -81,13 +120,42 @@ public final class LevelControllerImpl implements LevelController {
 
     @Override
     public boolean areAllLevelsComplete() {
-        return this.lvl.stream().allMatch(l -> l.isLevelComplete());
+        return this.lvl.size() == this.numberOfLevels && this.lvl.stream().allMatch(l -> l.isLevelComplete());
     }
 
     /**
-     * Move the player to the next Level.
+     * Move the player to the next Level, if any, and start generating the one after it.
+     * If the rooms of the next level are not ready yet, wait for them to be generated.
      */
     private void goToNextLevel() {
-        this.currentLevelID++;
+        this.nextLevel.ifPresent(next -> {
+            this.lvl.add(this.takeLevel(next));
+            this.currentLevelID++;
+            this.nextLevel = Optional.empty();
+            this.prefetchNextLevel();
+        });
+    }
+
+    /**
+     * Start generating the rooms of the level after the last created one, if the game has more levels.
+     */
+    private void prefetchNextLevel() {
+        if (this.lvl.size() < this.numberOfLevels) {
+            this.nextLevel = Optional.of(CompletableFuture.supplyAsync(this.lvlFactory::createRooms, this.executor));
+        }
+    }
+
+    /**
+     * Create a level with the rooms generated in background, generating them again if their generation failed.
+     * @param next the generation of the rooms of the level
+     * @return the created level
+     */
+    private Level takeLevel(final CompletableFuture<List<Room>> next) {
+        try {
+            return this.lvlFactory.createLevel(next.join());
+        } catch (CompletionException e) {
+            LOGGER.severe(e.getMessage());
+            return this.lvlFactory.createLevel();
+        }
     }
 }
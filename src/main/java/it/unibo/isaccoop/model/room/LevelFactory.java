@@ -1,5 +1,7 @@
 package it.unibo.isaccoop.model.room;
 
+import java.util.List;
+
 /**
  * Interface that allows to create a {@link Level} dynamically.
  */
@@ -12,4 +14,29 @@ public interface LevelFactory {
      * @return the level created
      */
     Level createLevel();
+
+    /**
+     * Generates dynamically a {@link Level} with the given layout and number of {@link Room}s,
+     * for example a large level made of thousands of rooms.
+     *
+     * @param layout the generator of the positions of the rooms
+     * @param numberOfRooms the number of rooms of the level, at least one for every room type
+     * @return the level created
+     */
+    Level createLevel(LayoutGenerator layout, int numberOfRooms);
+    /**
+     * Generates the {@link Room}s of the next level, without their content, which needs the game clock,
+     * so it can run on a thread different from the game loop one, as long as the levels are generated in order.
+     *
+     * @return the rooms of the next level
+     */
+    List<Room> createRooms();
+    /**
+     * Create a {@link Level} with the rooms generated by {@link #createRooms()}, creating the player and the
+     * content of the start room and of the rooms next to it. It must be called by the game loop thread.
+     *
+     * @param rooms the rooms of the level
+     * @return the level created
+     */
+    Level createLevel(List<Room> rooms);
 }
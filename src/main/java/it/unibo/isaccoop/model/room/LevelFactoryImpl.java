@@ -1,11 +1,13 @@
 package it.unibo.isaccoop.model.room;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
 import it.unibo.isaccoop.core.GameEngine;
+import it.unibo.isaccoop.model.common.GameRandom;
 import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.RandomStream;
+import it.unibo.isaccoop.model.common.RoomType;
 
 /**
  * Implementation of {@link LevelFactory}.
@@ -14,28 +16,66 @@ public final class LevelFactoryImpl implements LevelFactory {
 
     private static final int MAX_NUMBER_OF_ROOMS = 10;
     private static final int MIN_NUMBER_OF_ROOMS = 6;
-    private final LevelFactoryUtils lvlFactoryUtils = new LevelFactoryUtils();
     private final GameEngine engine;
+    private final LayoutGenerator layout;
+    private int createdLevels;
 
     /**
-     * Constructor.
+     * Constructor, for levels with the rooms in a row.
      * @param engine the {@link GameEngine} for this game
      */
     public LevelFactoryImpl(final GameEngine engine) {
+        this(engine, LayoutGenerator.LINEAR);
+    }
+
+    /**
+     * Constructor.
+     * @param engine the {@link GameEngine} for this game
+     * @param layout the generator of the positions of the rooms of the levels
+     */
+    public LevelFactoryImpl(final GameEngine engine, final LayoutGenerator layout) {
         this.engine = engine;
+        this.layout = layout;
     }
 
     @Override
     public Level createLevel() {
-        final int numberOfRooms = ThreadLocalRandom.current().nextInt(
-                MAX_NUMBER_OF_ROOMS - MIN_NUMBER_OF_ROOMS) + MIN_NUMBER_OF_ROOMS;
-        final List<Point2D> roomCoords = lvlFactoryUtils.generateRoomCoordinates(numberOfRooms);
-        final List<Room> rooms = createRooms(roomCoords);
+        return this.createLevel(this.createRooms());
+    }
+
+    @Override
+    public Level createLevel(final LayoutGenerator layout, final int numberOfRooms) {
+        if (numberOfRooms < RoomType.values().length) {
+            throw new IllegalArgumentException("A level needs at least " + RoomType.values().length + " rooms");
+        }
+        final int floor = this.createdLevels;
+        final GameRandom random = this.nextLevelRandom();
+        return this.createLevel(
+                createRooms(layout.generate(numberOfRooms, random.stream(RandomStream.GENERATION)), random, floor));
+    }
+
+    @Override
+    public List<Room> createRooms() {
+        final int floor = this.createdLevels;
+        final GameRandom random = this.nextLevelRandom();
+        final GameRandom generation = random.stream(RandomStream.GENERATION);
+        final int numberOfRooms = generation.nextInt(MAX_NUMBER_OF_ROOMS - MIN_NUMBER_OF_ROOMS) + MIN_NUMBER_OF_ROOMS;
+        return createRooms(this.layout.generate(numberOfRooms, generation), random, floor);
+    }
+
+    @Override
+    public Level createLevel(final List<Room> rooms) {
         final Level lvl = new LevelImpl(this.engine);
         lvl.putRooms(rooms);
         return lvl;
     }
 
+    private GameRandom nextLevelRandom() {
+        final GameRandom random = this.engine.getRandom().derive(this.createdLevels);
+        this.createdLevels++;
+        return random;
+    }
+
     /**
      * @return the {@link GameEngine}
      */
@@ -46,11 +86,13 @@ public final class LevelFactoryImpl implements LevelFactory {
     /**
      * Method to associate rooms to their coordinates.
      * @param coordsList
+     * @param random the source of random numbers of the level
+     * @param floor the index of the level, starting from 0
      * @return the list of created rooms.
      */
-    private List<Room> createRooms(final List<Point2D> coordsList) {
-        final RoomFactory rFactory = new RoomFactoryImpl(coordsList.size());
-        final List<Room> rooms = new LinkedList<>();
+    private List<Room> createRooms(final List<Point2D> coordsList, final GameRandom random, final int floor) {
+        final RoomFactory rFactory = new RoomFactoryImpl(coordsList.size(), this.engine.getClock(), random, floor);
+        final List<Room> rooms = new ArrayList<>(coordsList.size());
 
         for (final Point2D coord: coordsList) {
             rooms.add(rFactory.buildRoomInProperOrder(coord));
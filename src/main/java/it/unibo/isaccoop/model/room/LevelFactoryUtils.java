@@ -1,5 +1,6 @@
 package it.unibo.isaccoop.model.room;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -19,15 +20,13 @@ public final class LevelFactoryUtils {
      * @return the list of coordinates to be assigned to the rooms
      */
     public List<Point2D> generateRoomCoordinates(final int numberOfRooms) {
-        // initial position for the first room of the level
+        // initial position for the first room of the level, the next ones are on its right
         Point2D roomPos = new Point2D(0.0, 0.0);
-        final List<Point2D> list = new LinkedList<>();
+        final List<Point2D> list = new ArrayList<>(numberOfRooms);
 
         for (int i = 0; i < numberOfRooms; i++) {
-            if (isValidCoord(roomPos) && !list.contains(roomPos)) {
-                list.add(roomPos);
-                roomPos = getNewCoordinateAlongDirection(roomPos, Direction.RIGHT);
-            }
+            list.add(roomPos);
+            roomPos = getNewCoordinateAlongDirection(roomPos, Direction.RIGHT);
         }
         return list;
     }
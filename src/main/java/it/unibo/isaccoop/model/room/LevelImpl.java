@@ -1,6 +1,10 @@
 package it.unibo.isaccoop.model.room;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,12 +17,32 @@ import it.unibo.isaccoop.model.player.Player;
 
 /**
  * Implementation of {@link Level}.
+ * The rooms to complete are counted when the rooms are set, and the count is decreased when a room
+ * notifies its completion, so checking if the level is complete costs nothing at every frame.
+ * The same notifications keep the set of the complete rooms, with a version telling when it changes.
+ * Rooms are identified by their position in the room list, their neighbors are stored in an adjacency table
+ * computed when the rooms are set, and the room containing the player is tracked when the player moves,
+ * so no operation needs to look at all the rooms.
+ * Moving to the next or previous room follows a depth-first walk of the rooms from the start room,
+ * so every room can be reached whatever the shape of the level.
+ * The content of a room is created when the player enters it or a room next to it.
  */
 public final class LevelImpl implements Level {
 
-    private final List<Room> rooms = new LinkedList<>();
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<Room> roomsView = Collections.unmodifiableList(this.rooms);
+    private final Map<Room, Integer> ids = new IdentityHashMap<>();
+    private int[][] adjacency = new int[0][];
+    private int[] tour = new int[0];
+    private int tourIndex;
+    private int startRoomId;
+    private int currentRoomId;
     private final Optional<Player> player;
     private final Minimap minimap;
+    private final long seed;
+    private int remainingRooms;
+    private final BitSet completedRooms = new BitSet();
+    private long completionVersion;
 
     /**
      * Empty Constructor.
@@ -26,8 +50,10 @@ public final class LevelImpl implements Level {
      */
     public LevelImpl(final GameEngine engine) {
         this.minimap = new MinimapImpl(this);
+        this.seed = engine.getRandom().getSeed();
         this.player = Optional.of(new Player(engine.getController("keyMove"), engine.getController("keyShot"),
-                                    new ConcretePlayerGraphicsComponentFactory().getPlayerGraphicsComponent()));
+                                    new ConcretePlayerGraphicsComponentFactory().getPlayerGraphicsComponent(),
+                                    engine.getClock()));
     }
 
     @Override
@@ -38,7 +64,30 @@ public final class LevelImpl implements Level {
         }
         if (this.rooms.isEmpty()) {
             this.rooms.addAll(roomList);
+            this.adjacency = new LevelUtils().getAdjacency(this.rooms);
+            for (int i = 0; i < this.rooms.size(); i++) {
+                final Room room = this.rooms.get(i);
+                this.ids.put(room, i);
+                if (room.getRoomType() == RoomType.START) {
+                    this.startRoomId = i;
+                }
+                if (room.isComplete()) {
+                    this.completedRooms.set(i);
+                } else {
+                    final int id = i;
+                    this.remainingRooms++;
+                    room.addCompletionListener(() -> {
+                        this.remainingRooms--;
+                        this.completedRooms.set(id);
+                        this.completionVersion++;
+                    });
+                }
+            }
             getStartRoom().addPlayer(this.player.get());
+            this.currentRoomId = this.findPlayerRoom();
+            this.materializeNearRooms();
+            this.tour = new LevelUtils().getTour(this.adjacency, this.startRoomId);
+            this.tourIndex = this.findTourIndex();
         } else {
             throw new IllegalStateException("This level already has a room list");
         }
@@ -46,29 +95,69 @@ public final class LevelImpl implements Level {
 
     @Override
     public List<Room> getRooms() {
-        return List.copyOf(this.rooms);
+        return this.roomsView;
+    }
+
+    @Override
+    public Room getRoom(final int id) {
+        return this.rooms.get(id);
+    }
+
+    @Override
+    public int getRoomId(final Room room) {
+        final Integer id = this.ids.get(room);
+        if (id == null) {
+            throw new IllegalArgumentException("The room is not in this level");
+        }
+        return id;
+    }
+
+    @Override
+    public int getCurrentRoomId() {
+        return this.currentRoomId;
     }
 
     @Override
     public boolean isLevelComplete() {
-        return this.rooms.stream().allMatch(r -> r.isComplete());
+        return this.remainingRooms == 0;
+    }
+
+    @Override
+    public int getRemainingRooms() {
+        return this.remainingRooms;
+    }
+
+    @Override
+    public void copyCompletedRooms(final BitSet target) {
+        target.clear();
+        target.or(this.completedRooms);
+    }
+
+    @Override
+    public long getCompletionVersion() {
+        return this.completionVersion;
     }
 
     @Override
     public Room getStartRoom() {
-        return this.rooms.stream().filter(r -> r.getRoomType() == RoomType.START)
-                .findFirst().get();
+        return this.rooms.get(this.startRoomId);
     }
 
     @Override
     public Room getCurrentRoom() {
-        return this.rooms.stream().filter(r -> r.getPlayer().isPresent())
-                .findFirst().get();
+        return this.rooms.get(this.currentRoomId);
     }
 
     @Override
     public Map<Direction, Room> getNearRooms() {
-        return new LevelUtils().getNearAccessibleRooms(getCurrentRoom(), List.copyOf(this.rooms));
+        final Map<Direction, Room> res = new EnumMap<>(Direction.class);
+        for (final Direction dir : Direction.values()) {
+            final int id = this.adjacency[this.currentRoomId][dir.ordinal()];
+            if (id != LevelUtils.NO_ROOM) {
+                res.put(dir, this.rooms.get(id));
+            }
+        }
+        return res;
     }
 
     @Override
@@ -88,12 +177,12 @@ public final class LevelImpl implements Level {
 
     @Override
     public void moveToPreviousRoom() {
-        getPrevNextRoom(Direction.LEFT).ifPresent(r -> moveToRoom(r));
+        moveAlongTour(-1);
     }
 
     @Override
     public void moveToNextRoom() {
-        getPrevNextRoom(Direction.RIGHT).ifPresent(r -> moveToRoom(r));
+        moveAlongTour(1);
     }
 
     @Override
@@ -101,6 +190,11 @@ public final class LevelImpl implements Level {
         return this.minimap;
     }
 
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
     /**
      * Utility method to check if the player can move to the specified room.
      * @param room the room to move to
@@ -110,24 +204,61 @@ public final class LevelImpl implements Level {
         final Player player = getPlayer();
         if (isValidNewRoom(room) && getCurrentRoom().isComplete() && getCurrentRoom().removePlayer()) {
             room.addPlayer(player);
+            this.currentRoomId = getRoomId(room);
+            this.materializeNearRooms();
             return true;
         }
         return false;
     }
 
     /**
-     * Get the previous or next room of current room.
-     * @param dir {@link Direction#RIGHT} to get the next room,<br>
-     * {@link Direction#LEFT} to get the previous one
-     * @return the previous or next room of current room, or Optional.empty if not available
+     * Move the player to the previous or next room of the walk of the rooms.
+     * @param step 1 to move to the next room, -1 to move to the previous one
+     */
+    private void moveAlongTour(final int step) {
+        final int index = this.tourIndex + step;
+        if (index >= 0 && index < this.tour.length && moveToRoom(this.rooms.get(this.tour[index]))) {
+            this.tourIndex = index;
+        }
+    }
+
+    /**
+     * Find the position of the current room in the walk of the rooms.
+     * @return the first position of the current room, or 0 if it is not in the walk
+     */
+    private int findTourIndex() {
+        for (int i = 0; i < this.tour.length; i++) {
+            if (this.tour[i] == this.currentRoomId) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Create the content of the current room and of the rooms next to it, so they are ready when the player
+     * enters them.
+     */
+    private void materializeNearRooms() {
+        getCurrentRoom().materialize();
+        for (final int id : this.adjacency[this.currentRoomId]) {
+            if (id != LevelUtils.NO_ROOM) {
+                this.rooms.get(id).materialize();
+            }
+        }
+    }
+
+    /**
+     * Find the room containing the player, which is the start room unless the rooms already had a player.
+     * @return the id of the room containing the player
      */
-    private Optional<Room> getPrevNextRoom(final Direction dir) {
-        final var prevNextRoom = getAccessibleRooms().entrySet().stream()
-                .filter(e -> e.getKey() == dir).findFirst();
-        if (prevNextRoom.isPresent()) {
-            return Optional.of(prevNextRoom.get().getValue());
+    private int findPlayerRoom() {
+        for (int i = 0; i < this.rooms.size(); i++) {
+            if (this.rooms.get(i).getPlayer().isPresent()) {
+                return i;
+            }
         }
-        return Optional.empty();
+        return this.startRoomId;
     }
 
     private boolean isValidNewRoom(final Room destRoom) {
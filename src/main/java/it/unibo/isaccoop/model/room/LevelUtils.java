@@ -1,5 +1,6 @@
 package it.unibo.isaccoop.model.room;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,27 +14,89 @@ import it.unibo.isaccoop.model.common.Point2D;
 public final class LevelUtils {
 
     /**
-     * Get a map containing the neighbor rooms of the current one and the direction to reach them.
-     * A neighbor room is a room that is UP, DOWN, LEFT or RIGHT of the specified room.
-     * This map associates a {@link Room} to the {@link Direction} to take to reach it.
-     * @param currentRoom the room of which to find the near accessible rooms
+     * Id of a missing room in the adjacency table.
+     */
+    public static final int NO_ROOM = -1;
+
+    /**
+     * Get the adjacency table of the rooms of a level.
+     * The table has a row for every room, indexed by the position of the room in the list, and a column
+     * for every {@link Direction}, indexed by its ordinal, containing the position of the neighbor room along
+     * that direction, or {@value #NO_ROOM} if there is no room.
+     * The rooms are found through an index of their packed coordinates, so building the table takes linear time.
      * @param rooms all the rooms in the level
-     * @return a map containing the rooms near the current one and the direction to reach them
+     * @return the adjacency table
      */
-    public Map<Direction, Room> getNearAccessibleRooms(final Room currentRoom, final List<Room> rooms) {
-        final Map<Direction, Room> res = new HashMap<>();
+    public int[][] getAdjacency(final List<Room> rooms) {
+        final Map<Long, Integer> index = new HashMap<>();
+        for (int i = 0; i < rooms.size(); i++) {
+            index.put(packCoord(rooms.get(i).getCoords()), i);
+        }
+        final Direction[] directions = Direction.values();
+        final int[][] adjacency = new int[rooms.size()][directions.length];
+        for (int i = 0; i < rooms.size(); i++) {
+            for (final Direction dir : directions) {
+                final Point2D coord = getNewCoordinateAlongDirection(rooms.get(i).getCoords(), dir);
+                adjacency[i][dir.ordinal()] = isValidCoord(coord)
+                        ? index.getOrDefault(packCoord(coord), NO_ROOM) : NO_ROOM;
+            }
+        }
+        return adjacency;
+    }
 
-        // get all neighbor rooms of currentRoom (as entry <Direction, Point2D>)
-        getNeighborRoomCoords(currentRoom).entrySet().stream()
-            .forEach(e -> {
-                final var correspondingRoom = rooms.stream()
-                        .filter(r -> r.getCoords().equals(e.getValue())).findFirst();
-                if (correspondingRoom.isPresent()) {
-                    // convert the map <Direction, Point2D> to a new Map<Direction, Room>
-                    res.put(e.getKey(), correspondingRoom.get());
+    /**
+     * Get the order in which the rooms are visited moving to the next room, starting from a room.
+     * The order is a depth-first walk of the adjacency table, trying the directions in the order of
+     * {@link Direction#values()} and going back through the same rooms when a branch ends, so every two
+     * consecutive rooms are neighbors and every room reachable from the starting one is visited.
+     * The walk stops at the last room visited for the first time.
+     * @param adjacency the adjacency table, as returned by {@link #getAdjacency(List)}
+     * @param start the position of the starting room
+     * @return the positions of the rooms, in the order they are visited
+     */
+    public int[] getTour(final int[][] adjacency, final int start) {
+        final int n = adjacency.length;
+        final int[] tour = new int[Math.max(1, 2 * n - 1)];
+        final int[] stack = new int[n];
+        final int[] nextDir = new int[n];
+        final boolean[] visited = new boolean[n];
+        int length = 0;
+        int last = 0;
+        int depth = 0;
+        stack[depth++] = start;
+        visited[start] = true;
+        tour[length++] = start;
+        while (depth > 0) {
+            final int room = stack[depth - 1];
+            int next = NO_ROOM;
+            while (next == NO_ROOM && nextDir[room] < adjacency[room].length) {
+                final int candidate = adjacency[room][nextDir[room]++];
+                if (candidate != NO_ROOM && !visited[candidate]) {
+                    next = candidate;
                 }
-            });
-        return res;
+            }
+            if (next == NO_ROOM) {
+                depth--;
+                if (depth > 0) {
+                    tour[length++] = stack[depth - 1];
+                }
+            } else {
+                visited[next] = true;
+                stack[depth++] = next;
+                last = length;
+                tour[length++] = next;
+            }
+        }
+        return Arrays.copyOf(tour, last + 1);
+    }
+
+    /**
+     * Pack the integer coordinates of a room in a single long, the column in the high half and the row in the low one.
+     * @param coord the coordinate of the room
+     * @return the packed coordinate
+     */
+    public long packCoord(final Point2D coord) {
+        return (long) coord.getX() << Integer.SIZE | Integer.toUnsignedLong((int) coord.getY());
     }
 
     /**
@@ -54,22 +117,4 @@ public final class LevelUtils {
     public boolean isValidCoord(final Point2D coord) {
         return coord.getX() >= 0 && coord.getY() >= 0;
     }
-
-    /**
-     * Get a map containing the coordinate of neighbor rooms of the current one and the direction to reach them.
-     * A neighbor room is a room that is UP, DOWN, LEFT or RIGHT of the specified room.
-     * @param room the current room
-     * @return a map containing the coordinates of rooms near the current one and the direction to reach them
-     */
-    private Map<Direction, Point2D> getNeighborRoomCoords(final Room room) {
-        final Point2D coord = room.getCoords();
-        final Map<Direction, Point2D> res = new HashMap<>();
-        for (final var dir: Direction.values()) {
-            final var newCoord = getNewCoordinateAlongDirection(coord, dir);
-            if (isValidCoord(newCoord) && !res.containsValue(newCoord)) {
-                res.put(dir, newCoord);
-            }
-        }
-        return res;
-    }
 }
@@ -5,13 +5,16 @@ import java.util.Optional;
 
 import it.unibo.isaccoop.model.ai.AIEnemy;
 import it.unibo.isaccoop.model.collision.Event;
+import it.unibo.isaccoop.model.collision.EventKind;
 import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.Point2D;
 import it.unibo.isaccoop.model.common.Removable;
 import it.unibo.isaccoop.model.common.RoomType;
 import it.unibo.isaccoop.model.enemy.Enemy;
 import it.unibo.isaccoop.model.item.Item;
 import it.unibo.isaccoop.model.player.Player;
 import it.unibo.isaccoop.model.powerup.PowerUp;
+import it.unibo.isaccoop.model.weapon.ProjectileStore;
 
 /**
  * Interface to model the concept of Room inside the game.
@@ -59,6 +62,20 @@ public interface Room extends MapElement, Removable {
      */
     Optional<List<Enemy>> getEnemies();
 
+    /**
+     * Find an enemy, an item or a power up of this room by its id, in constant time.
+     * @param id the id of the element, given by {@link MapElement#getId()}
+     * @return the element with the id, or {@link Optional#empty()} if no element of this room has it,
+     *         for example because it was removed
+     */
+    Optional<MapElement> getEntity(int id);
+
+    /**
+     * Get the store of all the shots flying inside the room, fired by the player or by the enemies.
+     * @return the {@link ProjectileStore} of this room
+     */
+    ProjectileStore getProjectiles();
+
     /**
      * return width of this room.
      *
@@ -81,6 +98,28 @@ public interface Room extends MapElement, Removable {
      */
     boolean isComplete();
 
+    /**
+     * Add a listener notified once, when this room becomes complete.
+     * Rooms already complete never notify their listeners.
+     * @param listener the listener to notify
+     */
+    void addCompletionListener(Runnable listener);
+
+    /**
+     * Check if the enemies, items and powerups of this room have already been created.
+     * The content of a room can be created only when the room is first needed, and it is always the same
+     * whenever it is created.
+     * @return true if the content of this room exists, false if it is still to create
+     */
+    boolean isMaterialized();
+
+    /**
+     * Create the enemies, items and powerups of this room, if they do not exist yet.
+     * It is called when the player enters the room or a room next to it, and by every method
+     * giving access to the content of the room.
+     */
+    void materialize();
+
     /**
      * Put the player inside this room. To be used together with {@link #removePlayer()}
      * to move a player from a Room to another.
@@ -96,17 +135,58 @@ public interface Room extends MapElement, Removable {
      */
     boolean removePlayer();
 
+    /**
+     * Save the current coords of every element inside the room,
+     * so that the view can interpolate their positions until the next update.
+     */
+    void saveElementsCoords();
+
     /**
      * Updates the enemies inside the room, if present. Otherwise, does nothing.
+     * It is the same as {@link #checkEvents()} followed by {@link #updateElements()}.
      */
     void updateRoom();
 
+    /**
+     * Checks the collisions inside the room and adds the resulting events to the queue.
+     */
+    void checkEvents();
+
+    /**
+     * Updates the enemies and the shots inside the room.
+     */
+    void updateElements();
+
+    /**
+     * Updates the enemies and the shots inside the room while the player is in another room:
+     * the enemies go towards the target instead of the player, and the shots out of the room
+     * are notified to the queue. Does nothing if the room has the player or its content is not created yet.
+     * The room uses only its own elements, so different rooms can be updated at the same time.
+     * @param target where the enemies go, as if it was the player
+     */
+    void updateOffScreen(Point2D target);
+
+    /**
+     * Get the number of events in the queue, waiting to be executed.
+     * @return the number of pending events
+     */
+    int getPendingEvents();
+
     /**
      * Receives an event and adds to the queue.
      * @param event the event to add to the queue
      */
     void notifyEvent(Event event);
 
+    /**
+     * Receives an event of a known kind and adds to the queue, unless the same event is already in the queue.
+     * The events of a known kind are executed before the other ones, ordered by {@link EventKind}.
+     * @param kind the kind of the event
+     * @param source the element causing the event
+     * @param target the element affected by the event
+     */
+    void notifyEvent(EventKind kind, MapElement source, MapElement target);
+
     /**
      * Executes all events in queue.
      */
@@ -5,8 +5,11 @@ import java.util.Optional;
 
 import it.unibo.isaccoop.model.ai.AIEnemy;
 import it.unibo.isaccoop.model.ai.ConcreteAIEnemy;
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
 import it.unibo.isaccoop.model.common.Point2D;
 import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.enemy.Enemy;
 import it.unibo.isaccoop.model.item.Item;
 import it.unibo.isaccoop.model.player.Player;
@@ -30,6 +33,9 @@ public class RoomBuilder {
         //basic and minimal fields (set with constructor)
         private final int width;
         private final int height;
+        private final GameClock clock;
+        private final GameRandom random;
+        private final int floor;
 
         // other basic field (set with their dedicated methods)
         private Optional<Point2D> coord = Optional.empty();
@@ -54,8 +60,54 @@ public class RoomBuilder {
          * @param height the vertical dimension of this room
          */
         public Builder(final int width, final int height) {
+            this(width, height, new SystemGameClock());
+        }
+
+        /**
+         * To build a Room, use {@link RoomFactory} instead. <br>
+         * It is required to call this constructor first, then the REQUIRED methods.
+         * <br> At the end, call the method build().
+         *
+         * @param width the horizontal dimension of this room
+         * @param height the vertical dimension of this room
+         * @param clock the {@link GameClock} given to the enemies of this room
+         */
+        public Builder(final int width, final int height, final GameClock clock) {
+            this(width, height, clock, new GameRandom());
+        }
+
+        /**
+         * To build a Room, use {@link RoomFactory} instead. <br>
+         * It is required to call this constructor first, then the REQUIRED methods.
+         * <br> At the end, call the method build().
+         *
+         * @param width the horizontal dimension of this room
+         * @param height the vertical dimension of this room
+         * @param clock the {@link GameClock} given to the enemies of this room
+         * @param random the source of random numbers of this room
+         */
+        public Builder(final int width, final int height, final GameClock clock, final GameRandom random) {
+            this(width, height, clock, random, 0);
+        }
+
+        /**
+         * To build a Room, use {@link RoomFactory} instead. <br>
+         * It is required to call this constructor first, then the REQUIRED methods.
+         * <br> At the end, call the method build().
+         *
+         * @param width the horizontal dimension of this room
+         * @param height the vertical dimension of this room
+         * @param clock the {@link GameClock} given to the enemies of this room
+         * @param random the source of random numbers of this room
+         * @param floor the index of the level of this room, starting from 0, which chooses its drop tables
+         */
+        public Builder(final int width, final int height, final GameClock clock, final GameRandom random,
+                final int floor) {
+            this.floor = floor;
             this.width = width;
             this.height = height;
+            this.clock = clock;
+            this.random = random;
         }
 
         /**
@@ -77,7 +129,7 @@ public class RoomBuilder {
          */
         public Builder roomType(final RoomType roomType) {
             this.roomType = Optional.of(roomType);
-            this.builderUtils = new RoomBuilderUtils(roomType);
+            this.builderUtils = new RoomBuilderUtils(roomType, this.clock, this.random, this.floor);
             return this;
         }
 
@@ -143,6 +195,23 @@ public class RoomBuilder {
             throw new IllegalStateException(INCORRECT_ROOM_CONFIG);
         }
 
+        /**
+         * Method to build the Room without its enemies, items and powerups, which are created when the room
+         * is first needed, as {@link #putEnemies()}, {@link #putItems()} and {@link #putPowerUps()} would create
+         * them for its {@link RoomType}. Only the fields REQUIRED for ALL rooms have to be set.
+         *
+         * @throws IllegalStateException if current Room has some REQUIRED fields unset, or already has content.
+         * @return the built Room
+         */
+        public Room buildLazy() {
+            if (areThereMinimumRequirements()
+                    && this.items.isEmpty() && this.powerups.isEmpty() && this.enemies.isEmpty()) {
+                return new RoomImpl(this.width, this.height, this.coord.get(),
+                        new RoomSpec(this.roomType.get(), this.clock, this.random, this.floor));
+            }
+            throw new IllegalStateException(INCORRECT_ROOM_CONFIG);
+        }
+
         /**
          * Method to check if the minimum requirements are satisfied.
          * @return true if the minimum requirements are satisfied
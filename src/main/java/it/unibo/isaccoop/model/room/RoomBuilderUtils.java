@@ -5,9 +5,14 @@ import java.util.List;
 import java.util.Optional;
 
 import it.unibo.isaccoop.model.ai.AIEnemy;
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
 import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.RandomStream;
 import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.creator.ConcreteCreatorFactory;
+import it.unibo.isaccoop.model.creator.ContentRegistry;
 import it.unibo.isaccoop.model.creator.CreatorFactory;
 import it.unibo.isaccoop.model.enemy.Enemy;
 import it.unibo.isaccoop.model.item.Item;
@@ -23,15 +28,49 @@ import it.unibo.isaccoop.model.spawn.SpawnRandom;
 public final class RoomBuilderUtils {
 
     // factory that creates enemies, items and powerups
-    private final CreatorFactory creatorFactory = new ConcreteCreatorFactory();
+    private final CreatorFactory creatorFactory;
     private final RoomType roomType;
+    private final GameRandom spawnRandom;
 
     /**
      * Create a RoomBuilderUtil object, to access utility methods.
      * @param roomType the type of the room
      */
     public RoomBuilderUtils(final RoomType roomType) {
+        this(roomType, new SystemGameClock());
+    }
+
+    /**
+     * Create a RoomBuilderUtil object, to access utility methods.
+     * @param roomType the type of the room
+     * @param clock the {@link GameClock} given to the enemies generated for the room
+     */
+    public RoomBuilderUtils(final RoomType roomType, final GameClock clock) {
+        this(roomType, clock, new GameRandom());
+    }
+
+    /**
+     * Create a RoomBuilderUtil object, to access utility methods.
+     * @param roomType the type of the room
+     * @param clock the {@link GameClock} given to the enemies generated for the room
+     * @param random the source of random numbers of the room
+     */
+    public RoomBuilderUtils(final RoomType roomType, final GameClock clock, final GameRandom random) {
+        this(roomType, clock, random, 0);
+    }
+
+    /**
+     * Create a RoomBuilderUtil object, to access utility methods.
+     * @param roomType the type of the room
+     * @param clock the {@link GameClock} given to the enemies generated for the room
+     * @param random the source of random numbers of the room
+     * @param floor the index of the level of the room, starting from 0, which chooses its drop tables
+     */
+    public RoomBuilderUtils(final RoomType roomType, final GameClock clock, final GameRandom random,
+            final int floor) {
         this.roomType = roomType;
+        this.creatorFactory = new ConcreteCreatorFactory(clock, random, floor, ContentRegistry.getDefault());
+        this.spawnRandom = random.stream(RandomStream.SPAWN);
     }
 
     /**
@@ -105,7 +144,7 @@ public final class RoomBuilderUtils {
      * @param height height of the room
      */
     public void randomSpawn(final List<? extends MapElement> list, final int width, final int height) {
-        new SpawnRandom().setPosition(new ArrayList<>(list), width, height);
+        new SpawnRandom(this.spawnRandom).setPosition(new ArrayList<>(list), width, height);
     }
 
     /**
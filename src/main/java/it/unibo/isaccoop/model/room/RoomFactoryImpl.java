@@ -1,10 +1,15 @@
 package it.unibo.isaccoop.model.room;
 
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
 import it.unibo.isaccoop.model.common.Point2D;
 import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 
 /**
  * Implementation of {@link RoomFactory}.
+ * The rooms are built without their enemies, items and powerups, which are created from the source of random
+ * numbers of each room when the room is first needed.
  */
 public final class RoomFactoryImpl implements RoomFactory {
 
@@ -20,12 +25,49 @@ public final class RoomFactoryImpl implements RoomFactory {
     private final int height;
     private int roomCount;
     private final RoomFactoryLogics rFactoryLogics;
+    private final GameClock clock;
+    private final GameRandom random;
+    private final int floor;
 
     /**
      * Constructor. Requires the total number of rooms to be created.
      * @param totalNumberOfRooms the total number of rooms to be created
      */
     public RoomFactoryImpl(final int totalNumberOfRooms) {
+        this(totalNumberOfRooms, new SystemGameClock());
+    }
+
+    /**
+     * Constructor. Requires the total number of rooms to be created.
+     * @param totalNumberOfRooms the total number of rooms to be created
+     * @param clock the {@link GameClock} given to the enemies of the rooms
+     */
+    public RoomFactoryImpl(final int totalNumberOfRooms, final GameClock clock) {
+        this(totalNumberOfRooms, clock, new GameRandom());
+    }
+
+    /**
+     * Constructor. Requires the total number of rooms to be created.
+     * @param totalNumberOfRooms the total number of rooms to be created
+     * @param clock the {@link GameClock} given to the enemies of the rooms
+     * @param random the source of random numbers of the level, from which every room derives its own
+     */
+    public RoomFactoryImpl(final int totalNumberOfRooms, final GameClock clock, final GameRandom random) {
+        this(totalNumberOfRooms, clock, random, 0);
+    }
+
+    /**
+     * Constructor. Requires the total number of rooms to be created.
+     * @param totalNumberOfRooms the total number of rooms to be created
+     * @param clock the {@link GameClock} given to the enemies of the rooms
+     * @param random the source of random numbers of the level, from which every room derives its own
+     * @param floor the index of the level of the rooms, starting from 0, which chooses their drop tables
+     */
+    public RoomFactoryImpl(final int totalNumberOfRooms, final GameClock clock, final GameRandom random,
+            final int floor) {
+        this.clock = clock;
+        this.floor = floor;
+        this.random = random;
         this.width = ROOM_WIDTH;
         this.height = ROOM_HEIGHT;
         this.roomCount = 0;
@@ -38,7 +80,7 @@ public final class RoomFactoryImpl implements RoomFactory {
                 && !this.rFactoryLogics.hasAlreadyBuiltStartRoom()) {
             incrementRoomCount();
             this.rFactoryLogics.setAlreadyBuiltStartRoom();
-            return new RoomBuilder.Builder(this.width, this.height)
+            return this.newBuilder()
                     .roomType(RoomType.START)
                     .putCoord(coordInsideLevel)
                     .build();
@@ -50,12 +92,10 @@ public final class RoomFactoryImpl implements RoomFactory {
     public Room buildStandardRoom(final Point2D coordInsideLevel) {
         if (this.rFactoryLogics.canBuildNonBossNonStartRoom(roomCount)) {
             incrementRoomCount();
-            return new RoomBuilder.Builder(this.width, this.height)
+            return this.newBuilder()
                     .roomType(RoomType.STANDARD)
                     .putCoord(coordInsideLevel)
-                    .putEnemies()
-                    .putItems()
-                    .build();
+                    .buildLazy();
         }
         throw new IllegalStateException(ALREADY_GENERATED_ALL_ROOMS);
     }
@@ -66,11 +106,10 @@ public final class RoomFactoryImpl implements RoomFactory {
                 && !this.rFactoryLogics.hasAlreadyBuiltShopRoom()) {
             incrementRoomCount();
             this.rFactoryLogics.setAlreadyBuiltShopRoom();
-            return new RoomBuilder.Builder(this.width, this.height)
+            return this.newBuilder()
                     .roomType(RoomType.SHOP)
                     .putCoord(coordInsideLevel)
-                    .putPowerUps()
-                    .build();
+                    .buildLazy();
         }
         throw new IllegalStateException(ALREADY_GENERATED_ALL_ROOMS);
     }
@@ -81,11 +120,10 @@ public final class RoomFactoryImpl implements RoomFactory {
                 && !this.rFactoryLogics.hasAlreadyBuiltBossRoom()) {
             incrementRoomCount();
             this.rFactoryLogics.setAlreadyBuiltBossRoom();
-            return new RoomBuilder.Builder(this.width, this.height)
+            return this.newBuilder()
                     .roomType(RoomType.BOSS)
                     .putCoord(coordInsideLevel)
-                    .putEnemies()
-                    .build();
+                    .buildLazy();
         }
         throw new IllegalStateException(BOSS_ROOM_MUST_BE_LAST);
     }
@@ -96,11 +134,10 @@ public final class RoomFactoryImpl implements RoomFactory {
                 && !this.rFactoryLogics.hasAlreadyBuiltTreasureRoom()) {
             incrementRoomCount();
             this.rFactoryLogics.setAlreadyBuiltTreasuretRoom();
-            return new RoomBuilder.Builder(this.width, this.height)
+            return this.newBuilder()
                     .roomType(RoomType.TREASURE)
                     .putCoord(coordInsideLevel)
-                    .putPowerUps()
-                    .build();
+                    .buildLazy();
         }
         throw new IllegalStateException(ALREADY_GENERATED_ALL_ROOMS);
     }
@@ -129,6 +166,15 @@ public final class RoomFactoryImpl implements RoomFactory {
         throw new IllegalStateException(CANNOT_CREATE_MORE_ROOMS);
     }
 
+    /**
+     * Create the builder of the current room, with its own source of random numbers.
+     * @return the builder of the room
+     */
+    private RoomBuilder.Builder newBuilder() {
+        return new RoomBuilder.Builder(this.width, this.height, this.clock, this.random.derive(this.roomCount),
+                this.floor);
+    }
+
     /**
      * Increments the room count. Useful to check if a specified room can be generated in that index.
      * (START room must alway be the first, BOSS room the last)
@@ -1,15 +1,17 @@
 package it.unibo.isaccoop.model.room;
 
-import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 
 import it.unibo.isaccoop.model.ai.AIEnemy;
-import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.ai.ConcreteAIEnemy;
+import it.unibo.isaccoop.model.collision.CollisionCheckFactory;
 import it.unibo.isaccoop.model.collision.CollisionCheckFactoryImpl;
 import it.unibo.isaccoop.model.collision.Event;
+import it.unibo.isaccoop.model.collision.EventKind;
+import it.unibo.isaccoop.model.collision.EventQueue;
+import it.unibo.isaccoop.model.common.EntityRegistry;
 import it.unibo.isaccoop.model.common.MapElement;
 import it.unibo.isaccoop.model.common.MapElementImpl;
 import it.unibo.isaccoop.model.common.Point2D;
@@ -18,18 +20,30 @@ import it.unibo.isaccoop.model.enemy.Enemy;
 import it.unibo.isaccoop.model.item.Item;
 import it.unibo.isaccoop.model.player.Player;
 import it.unibo.isaccoop.model.powerup.PowerUp;
+import it.unibo.isaccoop.model.weapon.ProjectileStore;
 
 /**
  * Implementation of {@link Room}.
+ * A room created from a {@link RoomSpec} keeps only the spec until it is first needed, then it creates
+ * its enemies, items and powerups, so the rooms never visited cost only their spec.
+ * The enemies, items and powerups are kept in an {@link EntityRegistry}, which gives them their ids
+ * to find them in constant time.
  */
 public final class RoomImpl extends MapElementImpl implements Room {
 
     private final RoomType roomType;
-    private final Optional<AIEnemy> roomAi;
-    private final Optional<List<Item>> items;
-    private final Optional<List<PowerUp>> powerups;
+    private final Optional<RoomSpec> spec;
+    private boolean materialized;
+    private Optional<AIEnemy> roomAi = Optional.empty();
+    private Optional<List<Item>> items = Optional.empty();
+    private Optional<List<PowerUp>> powerups = Optional.empty();
     private Optional<Player> player;
-    private final Queue<Event> eventsQueue;
+    private final EventQueue eventsQueue = new EventQueue();
+    private final CollisionCheckFactory checkEventFactory = new CollisionCheckFactoryImpl();
+    private final MapElement offScreenTarget = new MapElementImpl(0, 0);
+    private final EntityRegistry<MapElement> entities = new EntityRegistry<>();
+    private ProjectileStore projectiles;
+    private final List<Runnable> completionListeners = new ArrayList<>(0);
     private final int width;
     private final int height;
 
@@ -48,14 +62,28 @@ public final class RoomImpl extends MapElementImpl implements Room {
             final Point2D coord, final RoomType roomType,
             final Optional<AIEnemy> roomAI, final Optional<List<Item>> items,
             final Optional<List<PowerUp>> powerups, final Optional<Player> player) {
+        this(width, height, coord, roomType, Optional.empty(), player);
+        this.fill(roomAI, items, powerups);
+    }
+
+    /**
+     * Use {@link RoomFactory} to create a new {@link Room}, whose content is created when first needed.
+     * @param width horizontal dimension of this room
+     * @param height vertical dimension of this room
+     * @param coord coordinates of this room inside the level
+     * @param spec what is needed to create the content of this room
+     */
+    RoomImpl(final int width, final int height, final Point2D coord, final RoomSpec spec) {
+        this(width, height, coord, spec.getRoomType(), Optional.of(spec), Optional.empty());
+    }
+
+    private RoomImpl(final int width, final int height, final Point2D coord, final RoomType roomType,
+            final Optional<RoomSpec> spec, final Optional<Player> player) {
         super(width, height);
         super.setCoords(coord);
         this.roomType = roomType;
-        this.roomAi = roomAI;
-        this.items = items;
-        this.powerups = powerups;
+        this.spec = spec;
         this.player = player;
-        this.eventsQueue = new ArrayDeque<>();
         this.width = width;
         this.height = height;
     }
@@ -67,16 +95,19 @@ public final class RoomImpl extends MapElementImpl implements Room {
 
     @Override
     public Optional<AIEnemy> getRoomAI() {
+        this.materialize();
         return this.roomAi;
     }
 
     @Override
     public Optional<List<Item>> getItems() {
+        this.materialize();
         return this.items;
     }
 
     @Override
     public Optional<List<PowerUp>> getPowerUps() {
+        this.materialize();
         return this.powerups;
     }
 
@@ -87,12 +118,25 @@ public final class RoomImpl extends MapElementImpl implements Room {
 
     @Override
     public Optional<List<Enemy>> getEnemies() {
+        this.materialize();
         if (this.roomAi.isEmpty()) {
             return Optional.empty();
         }
         return Optional.of(this.roomAi.get().getControlledEnemies());
     }
 
+    @Override
+    public Optional<MapElement> getEntity(final int id) {
+        this.materialize();
+        return this.entities.find(id);
+    }
+
+    @Override
+    public ProjectileStore getProjectiles() {
+        this.materialize();
+        return this.projectiles;
+    }
+
     @Override
     public int getWidth() {
         return this.width;
@@ -108,10 +152,50 @@ public final class RoomImpl extends MapElementImpl implements Room {
         return completionConditions();
     }
 
+    @Override
+    public void addCompletionListener(final Runnable listener) {
+        if (this.materialized) {
+            this.roomAi.ifPresent(ai -> ai.addDefeatListener(listener));
+        } else if (this.spec.get().hasEnemies()) {
+            this.completionListeners.add(listener);
+        }
+    }
+
+    @Override
+    public boolean isMaterialized() {
+        return this.materialized;
+    }
+
+    @Override
+    public void materialize() {
+        if (!this.materialized) {
+            final RoomBuilderUtils utils = this.spec.get().createUtils();
+            Optional<AIEnemy> ai = Optional.empty();
+            if (utils.canRoomHaveEnemies()) {
+                final List<Enemy> enemies = utils.generateEnemies().get();
+                utils.randomSpawn(enemies, this.width, this.height);
+                ai = Optional.of(new ConcreteAIEnemy(enemies));
+            }
+            Optional<List<Item>> roomItems = Optional.empty();
+            if (utils.canRoomHaveItems()) {
+                roomItems = utils.generateItems();
+                utils.randomSpawn(roomItems.get(), this.width, this.height);
+            }
+            Optional<List<PowerUp>> roomPowerups = Optional.empty();
+            if (utils.canRoomHavePowerUps()) {
+                roomPowerups = utils.generatePowerups();
+                utils.orderedSpawn(roomPowerups.get(), this.width, this.height);
+            }
+            this.fill(ai, roomItems, roomPowerups);
+        }
+    }
+
     @Override
     public boolean addPlayer(final Player player) {
+        this.materialize();
         if (this.player.isEmpty() && player != null) {
             this.player = Optional.of(player);
+            player.setProjectileStore(this.projectiles);
             return true;
         }
         return false;
@@ -126,11 +210,47 @@ public final class RoomImpl extends MapElementImpl implements Room {
         return false;
     }
 
+    @Override
+    public void saveElementsCoords() {
+        if (!this.materialized) {
+            return;
+        }
+        this.items.ifPresent(l -> l.forEach(MapElement::savePreviousCoords));
+        this.powerups.ifPresent(l -> l.forEach(MapElement::savePreviousCoords));
+        this.player.ifPresent(MapElement::savePreviousCoords);
+        this.roomAi.ifPresent(ai -> ai.getWorld().savePreviousCoords());
+        this.projectiles.savePreviousCoords();
+    }
+
     @Override
     public void updateRoom() {
+        this.checkEvents();
+        this.updateElements();
+    }
+
+    @Override
+    public void checkEvents() {
+        this.materialize();
         this.checkRoomEvents();
+    }
+
+    @Override
+    public void updateElements() {
+        this.materialize();
         this.roomAi.ifPresent(r -> r.updateEnemies(this.player.get(), this.getBox()));
-        this.player.ifPresent(player -> player.getWeaponShots().forEach(shot -> shot.tickShot()));
+        this.projectiles.tickAll();
+    }
+
+    @Override
+    public void updateOffScreen(final Point2D target) {
+        if (!this.materialized || this.player.isPresent()) {
+            return;
+        }
+        this.saveElementsCoords();
+        this.checkEventFactory.getShotsOutsideChecker().handleCollision(this);
+        this.offScreenTarget.setCoords(target);
+        this.roomAi.ifPresent(r -> r.updateEnemies(this.offScreenTarget, this.getBox()));
+        this.projectiles.tickAll();
     }
 
     @Override
@@ -138,44 +258,63 @@ public final class RoomImpl extends MapElementImpl implements Room {
         this.eventsQueue.add(event);
     }
 
+    @Override
+    public int getPendingEvents() {
+        return this.eventsQueue.size();
+    }
+
+    @Override
+    public void notifyEvent(final EventKind kind, final MapElement source, final MapElement target) {
+        this.eventsQueue.add(kind, source, target);
+    }
+
     @Override
     public void executeEvents() {
-        this.eventsQueue.forEach(e -> {
-            e.execute(this);
-            this.eventsQueue.remove();
-        });
+        this.eventsQueue.execute(this);
     }
 
     @Override
     public void remove(final MapElement e) {
+        this.materialize();
+        this.entities.remove(e);
         this.roomAi.ifPresent(ai -> ai.remove(e));
+        this.projectiles.removeOwnedBy(e);
         this.items.ifPresent(list -> list.remove(e));
         this.powerups.ifPresent(list -> list.remove(e));
     }
 
-    @Override
-    public int hashCode() {
-        final int prime = 31;
-        int result = super.hashCode();
-        result = prime * result + Objects.hash(super.getCoords(), items, player, powerups, roomAi, roomType);
-        return result;
+    /**
+     * Set the content of this room, and give the shots store to the enemies and to the player.
+     * @param roomAI the AiEnemy for this room
+     * @param items the items in this room
+     * @param powerups the powerups in this room
+     */
+    private void fill(final Optional<AIEnemy> roomAI, final Optional<List<Item>> items,
+            final Optional<List<PowerUp>> powerups) {
+        this.materialized = true;
+        this.roomAi = roomAI;
+        this.items = items;
+        this.powerups = powerups;
+        this.projectiles = new ProjectileStore();
+        this.roomAi.ifPresent(ai -> this.completionListeners.forEach(ai::addDefeatListener));
+        this.completionListeners.clear();
+        this.getEnemies().ifPresent(l -> l.forEach(e -> e.setProjectileStore(this.projectiles)));
+        this.getEnemies().ifPresent(l -> l.forEach(this::register));
+        this.items.ifPresent(l -> l.forEach(this::register));
+        this.powerups.ifPresent(l -> l.forEach(this::register));
+        this.player.ifPresent(p -> p.setProjectileStore(this.projectiles));
+        this.saveElementsCoords();
     }
 
-    @Override
-    public boolean equals(final Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (!super.equals(obj)) {
-            return false;
-        }
-        if (getClass() != obj.getClass()) {
-            return false;
+    /**
+     * Give an id to an element of this room, unless it already has one: elements shared by more rooms,
+     * which never happens in a game, can be found only in the first room.
+     * @param element the element to register
+     */
+    private void register(final MapElement element) {
+        if (element.getId() == EntityRegistry.NO_ID) {
+            this.entities.add(element);
         }
-        final RoomImpl other = (RoomImpl) obj;
-        return Objects.equals(items, other.items)
-                && Objects.equals(player, other.player) && Objects.equals(powerups, other.powerups)
-                && Objects.equals(roomAi, other.roomAi) && roomType == other.roomType;
     }
 
     /**
@@ -183,47 +322,42 @@ public final class RoomImpl extends MapElementImpl implements Room {
      * @return true if it is complete, false otherwise
      */
     private boolean completionConditions() {
+        // a room still to create is complete exactly when its spec has no enemies,
+        // since STANDARD and BOSS rooms always get at least one
+        if (!this.materialized) {
+            return !this.spec.get().hasEnemies();
+        }
         // NON STANDARD and NOT BOSS rooms are already complete (there are no enemies)
         if (this.roomAi.isEmpty()) {
             return true;
         }
         // STANDARD and BOSS rooms: if the player has defeated all enemies -> the room is complete
-        return this.roomAi.isPresent() && this.roomAi.get().getControlledEnemies().stream()
-                .allMatch(e -> e.isDead());
+        return this.roomAi.get().getAliveEnemies() == 0;
     }
 
     /**
      * Method to check and notify room events.
      * */
     private void checkRoomEvents() {
-        final var checkEventFactory = new CollisionCheckFactoryImpl();
         if (this.player.isPresent()) {
-            if (this.getEnemies().isPresent()) {
-                checkEventFactory.getCollisionPlayerShotChecker(this.player.get(), this.getEnemies().get())
+            /* the checkers only read the enemies, so they get the view of the world instead of a copy */
+            final List<Enemy> enemies = this.roomAi.map(ai -> ai.getWorld().asList()).orElse(List.of());
+            this.checkEventFactory.getEnemyGridUpdater(enemies).handleCollision(this);
+            if (!enemies.isEmpty()) {
+                this.checkEventFactory.getCollisionPlayerShotChecker(this.player.get(), enemies)
                     .handleCollision(this);
-                checkEventFactory.getCollisionWithEnemyChecker(this.player.get(), this.getEnemies().get())
+                this.checkEventFactory.getCollisionWithEnemyChecker(this.player.get(), this.roomAi.get().getWorld())
                     .handleCollision(this);
-                checkEventFactory.getCollisionWithEnemyShotChecker(this.player.get(), this.getEnemies().get())
+                this.checkEventFactory.getCollisionWithEnemyShotChecker(this.player.get(), enemies)
                     .handleCollision(this);
-
-                this.getEnemies().get().stream()
-                    .forEach(enemy -> {
-                        if (enemy.getWeaponShots().isPresent()) {
-                            checkEventFactory.getShotsCollisionToRemoveChecker(enemy.getWeaponShots().get(),
-                                    this.player.get().getCoords(),
-                                    (CircleBoundingBox) this.player.get().getBox()).handleCollision(this);
-                        }
-                        checkEventFactory.getShotsCollisionToRemoveChecker(this.player.get().getWeaponShots(),
-                                enemy.getCoords(), (CircleBoundingBox) enemy.getBox()).handleCollision(this);
-                    });
- 
             }
+            this.checkEventFactory.getShotsToRemoveChecker(this.player.get(), enemies).handleCollision(this);
             if (this.powerups.isPresent()) {
-                checkEventFactory.getCollisionWithItemChecker(this.player.get(), this.powerups.get())
+                this.checkEventFactory.getCollisionWithItemChecker(this.player.get(), this.powerups.get())
                 .handleCollision(this);
             }
             if (this.items.isPresent()) {
-                checkEventFactory.getCollisionWithItemChecker(this.player.get(), this.items.get())
+                this.checkEventFactory.getCollisionWithItemChecker(this.player.get(), this.items.get())
                 .handleCollision(this);
             }
         }
@@ -0,0 +1,56 @@
+package it.unibo.isaccoop.model.room;
+
+import it.unibo.isaccoop.model.common.GameClock;
+import it.unibo.isaccoop.model.common.GameRandom;
+import it.unibo.isaccoop.model.common.RoomType;
+
+/**
+ * What is needed to create the content of a {@link Room} when it is first needed: the content depends only
+ * on the {@link RoomType}, on the floor and on the source of random numbers of the room, so the same spec
+ * always creates the same enemies, items and powerups.
+ */
+final class RoomSpec {
+
+    private final RoomType roomType;
+    private final GameClock clock;
+    private final GameRandom random;
+    private final int floor;
+
+    /**
+     * Create the spec of a room.
+     * @param roomType the type of the room
+     * @param clock the {@link GameClock} given to the enemies of the room
+     * @param random the source of random numbers of the room
+     * @param floor the index of the level of the room, starting from 0
+     */
+    RoomSpec(final RoomType roomType, final GameClock clock, final GameRandom random, final int floor) {
+        this.roomType = roomType;
+        this.floor = floor;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    /**
+     * Get the type of the room.
+     * @return the type of the room
+     */
+    RoomType getRoomType() {
+        return this.roomType;
+    }
+
+    /**
+     * Check if the room will have enemies, which is the case of STANDARD and BOSS rooms.
+     * @return true if the room will have enemies
+     */
+    boolean hasEnemies() {
+        return this.roomType == RoomType.STANDARD || this.roomType == RoomType.BOSS;
+    }
+
+    /**
+     * Get the utilities creating the content of the room, always starting from the same random numbers.
+     * @return the utilities creating the content of the room
+     */
+    RoomBuilderUtils createUtils() {
+        return new RoomBuilderUtils(this.roomType, this.clock, this.random, this.floor);
+    }
+}
@@ -1,9 +1,9 @@
 package it.unibo.isaccoop.model.spawn;
 
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
 import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.common.GameRandom;
 import it.unibo.isaccoop.model.common.MapElement;
 import it.unibo.isaccoop.model.common.Point2D;
 
@@ -12,6 +12,23 @@ import it.unibo.isaccoop.model.common.Point2D;
  */
 public class SpawnRandom implements Spawn {
 
+    private final GameRandom random;
+
+    /**
+     * SpawnRandom constructor, with a seed chosen at random.
+     */
+    public SpawnRandom() {
+        this(new GameRandom());
+    }
+
+    /**
+     * SpawnRandom constructor.
+     * @param random the source of the positions
+     */
+    public SpawnRandom(final GameRandom random) {
+        this.random = random;
+    }
+
     /**
      * Method that set a random position of the elements inside the room, in a random way.
      * @param elementsToSpawn
@@ -22,9 +39,9 @@ public class SpawnRandom implements Spawn {
     public void setPosition(final List<MapElement> elementsToSpawn, final int width, final int height) {
         elementsToSpawn.forEach(e -> {
             final double radius = ((CircleBoundingBox) e.getBox()).getRadius();
-            e.setCoords(new Point2D(ThreadLocalRandom.current()
+            e.setCoords(new Point2D(this.random
                     .nextDouble(radius + radius / 2, width - (radius + radius / 2)),
-                    ThreadLocalRandom.current()
+                    this.random
                     .nextDouble(radius + radius / 2, height - (radius + radius / 2))));
         });
 
@@ -1,26 +1,43 @@
 package it.unibo.isaccoop.model.weapon;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 
 import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.Vector2D;
 
 /**
  * AbstractWeapon abstract class that implements Weapon interface, it models
  * a common container for weapons.
+ * Shots are kept in a {@link ProjectileStore}: the weapon has its own store until it is
+ * attached to the store of a room. Removed shots are kept by the weapon to be fired again.
  * */
 public abstract class AbstractWeapon implements Weapon {
 
     /**
-     * Weapon shots list field.
+     * Store of the shots fired by this weapon.
      * */
-    private final List<WeaponShot> weaponShots;
+    private ProjectileStore store;
+
+    /**
+     * Element holding this weapon, used as owner tag of the shots.
+     * */
+    private MapElement owner;
+
+    /**
+     * Removed shots, ready to be reused.
+     * */
+    private final Deque<WeaponShot> recycledShots;
 
     /**
      *  Constructor for {@link EnemyWeapon}.
      * */
     public AbstractWeapon() {
-       this.weaponShots = new ArrayList<>();
+       this.store = new ProjectileStore();
+       this.recycledShots = new ArrayDeque<>();
     }
 
     /**
@@ -29,7 +46,42 @@ public abstract class AbstractWeapon implements Weapon {
      *  @param newShot new shot to attach to shots list
      * */
     protected void addWeaponShot(final WeaponShot newShot) {
-        this.weaponShots.add(newShot);
+        this.store.add(newShot, this, this.owner);
+    }
+
+    /**
+     * Get a removed shot of this weapon, reset to start a new fire.
+     *
+     * @param startPosition shot start position
+     * @param direction shot direction vector
+     * @return the reused shot, or empty if there are no removed shots
+     * */
+    protected Optional<WeaponShot> reuseWeaponShot(final Point2D startPosition, final Vector2D direction) {
+        final WeaponShot shot = this.recycledShots.poll();
+        if (shot == null) {
+            return Optional.empty();
+        }
+        shot.reset(startPosition, direction);
+        return Optional.of(shot);
+    }
+
+    /**
+     * Keep a removed shot, to be reused by the next fire.
+     *
+     * @param shot the removed shot
+     * */
+    void recycle(final WeaponShot shot) {
+        this.recycledShots.push(shot);
+    }
+
+    /**
+     * {@inheritDoc}
+     * */
+    @Override
+    public void setProjectileStore(final ProjectileStore projectileStore, final MapElement shotsOwner) {
+        this.store.moveShotsOf(this, projectileStore, shotsOwner);
+        this.store = projectileStore;
+        this.owner = shotsOwner;
     }
 
     /**
@@ -37,7 +89,7 @@ public abstract class AbstractWeapon implements Weapon {
      * */
     @Override
     public void tickShots() {
-        this.weaponShots.forEach(shot -> shot.tickShot());
+        this.store.tickShotsOf(this);
     }
 
     /**
@@ -45,7 +97,7 @@ public abstract class AbstractWeapon implements Weapon {
      * */
     @Override
     public List<WeaponShot> getWeaponShots() {
-        return List.copyOf(this.weaponShots);
+        return this.store.getShotsOf(this);
     }
 
     /**
@@ -53,7 +105,9 @@ public abstract class AbstractWeapon implements Weapon {
      */
     @Override
     public void remove(final MapElement e) {
-        this.weaponShots.remove(e);
+        if (e instanceof WeaponShot && this.store.isFiredBy((WeaponShot) e, this)) {
+            this.store.remove((WeaponShot) e);
+        }
     }
 
 }
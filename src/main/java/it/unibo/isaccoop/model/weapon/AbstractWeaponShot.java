@@ -1,18 +1,19 @@
 package it.unibo.isaccoop.model.weapon;
 
 import it.unibo.isaccoop.graphics.GraphicsComponent;
-import it.unibo.isaccoop.model.common.AbstractMapElement;
+import it.unibo.isaccoop.model.common.AbstractStoredMapElement;
 import it.unibo.isaccoop.model.common.Point2D;
 import it.unibo.isaccoop.model.common.Vector2D;
 
 /**
  * AbstractWeaponShot abstract class that implements WeaponShot interface, it models
  * a common container for weapon shots.
+ * While the shot is in a {@link ProjectileStore}, its coords are kept by the store.
  * */
-public abstract class AbstractWeaponShot extends AbstractMapElement implements WeaponShot {
+public abstract class AbstractWeaponShot extends AbstractStoredMapElement<ProjectileStore> implements WeaponShot {
 
     private static final Double SPEED = 2.0;
-    private final Vector2D shotVector;
+    private Vector2D shotVector;
 
     /**
      *  Constructor for {@link EnemyWeaponShot} class.
@@ -31,10 +32,20 @@ public abstract class AbstractWeaponShot extends AbstractMapElement implements W
      *
      * @return weapon shots speed
      * */
-    protected Double getSpeed() {
+    protected final Double getSpeed() {
         return AbstractWeaponShot.SPEED;
     }
 
+    /**
+     * {@inheritDoc}
+     * */
+    @Override
+    public void reset(final Point2D startPosition, final Vector2D direction) {
+        super.setCoords(startPosition);
+        super.savePreviousCoords();
+        this.shotVector = direction;
+    }
+
     /**
      * Get Weapon shot vector.
      *
@@ -9,6 +9,9 @@ import it.unibo.isaccoop.model.common.Vector2D;
  * */
 public class BaseWeaponShot extends AbstractWeaponShot {
 
+    private double velocityX;
+    private double velocityY;
+
     /**
      * BaseWeaponShot constructor.
      *
@@ -18,15 +21,54 @@ public class BaseWeaponShot extends AbstractWeaponShot {
      * */
     public BaseWeaponShot(final Point2D startPosition, final Vector2D direction, final GraphicsComponent component) {
         super(startPosition, direction, component);
+        this.computeVelocity(direction);
+    }
+
+    /**
+     * Reuse this shot for a new fire, computing again the movement along the vector.
+     *
+     * @param startPosition shot start position
+     * @param direction shot direction vector
+     * */
+    @Override
+    public void reset(final Point2D startPosition, final Vector2D direction) {
+        super.reset(startPosition, direction);
+        this.computeVelocity(direction);
+        this.getStore().ifPresent(store -> store.setVelocity(this.getSlot(), this.velocityX, this.velocityY));
     }
 
     /**
      * Method to increment the position of the shot by SPEED through a defined vector
      * computed by sub between player position and shot start position.
+     * The movement along the vector is computed once, when the shot is created.
      * */
     @Override
     public void tickShot() {
-        super.setCoords(super.getCoords().sum(this.getShotVector().getNormalized().mul(super.getSpeed())));
+        super.translate(this.velocityX, this.velocityY);
+    }
+
+    /**
+     * Get the x offset of the movement of this shot at every tick.
+     *
+     * @return the x velocity
+     * */
+    double getVelocityX() {
+        return this.velocityX;
+    }
+
+    /**
+     * Get the y offset of the movement of this shot at every tick.
+     *
+     * @return the y velocity
+     * */
+    double getVelocityY() {
+        return this.velocityY;
+    }
+
+    private void computeVelocity(final Vector2D direction) {
+        final double module = direction.module();
+        this.velocityX = module == 0 ? 0 : direction.getX() / module * super.getSpeed();
+        this.velocityY = module == 0 ? 0 : direction.getY() / module * super.getSpeed();
     }
 
 }
@@ -0,0 +1,406 @@
+package it.unibo.isaccoop.model.weapon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.common.CoordsStore;
+import it.unibo.isaccoop.model.common.IntegrationKernel;
+import it.unibo.isaccoop.model.common.IntegrationKernels;
+import it.unibo.isaccoop.model.common.MapElement;
+
+/**
+ * Store of all the shots flying in a room, fired by the player, the enemies or the boss.
+ * Shots are kept in contiguous arrays together with the weapon which fired them and their owner tag,
+ * the element holding the weapon. Removing a shot moves the last shot in its place, so it never
+ * shifts the other shots, and gives the shot back to its weapon to be reused by the next fire.
+ * The coords, the velocities and the radiuses of the shots are kept in arrays too, and the shots extending
+ * {@link AbstractWeaponShot} are facades of their slot: the shots flying straight, as {@link BaseWeaponShot}s do,
+ * are moved and checked against the walls of the room all at once by an {@link IntegrationKernel}.
+ * The other shots are ticked one at a time.
+ */
+public final class ProjectileStore implements CoordsStore {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final IntegrationKernel kernel;
+    private WeaponShot[] shots = new WeaponShot[INITIAL_CAPACITY];
+    private AbstractWeapon[] weapons = new AbstractWeapon[INITIAL_CAPACITY];
+    private MapElement[] owners = new MapElement[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] velocityX = new double[INITIAL_CAPACITY];
+    private double[] velocityY = new double[INITIAL_CAPACITY];
+    private double[] radius = new double[INITIAL_CAPACITY];
+    private boolean[] straight = new boolean[INITIAL_CAPACITY];
+    private boolean[] colliding = new boolean[INITIAL_CAPACITY];
+    private int size;
+    private int notStraight;
+
+    /**
+     * ProjectileStore constructor, with the default kernel.
+     */
+    public ProjectileStore() {
+        this(IntegrationKernels.getDefault());
+    }
+
+    /**
+     * ProjectileStore constructor.
+     *
+     * @param kernel the kernel moving the shots flying straight
+     */
+    public ProjectileStore(final IntegrationKernel kernel) {
+        this.kernel = kernel;
+    }
+
+    /**
+     * Get the number of shots in the store.
+     *
+     * @return the number of shots
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the shot at the specified index.
+     *
+     * @param index index of the shot, between 0 and {@link #size()}
+     * @return the shot
+     */
+    public WeaponShot getShot(final int index) {
+        return this.shots[index];
+    }
+
+    /**
+     * Get the owner tag of the shot at the specified index.
+     *
+     * @param index index of the shot, between 0 and {@link #size()}
+     * @return the element which fired the shot, null if the weapon has no owner
+     */
+    public MapElement getOwner(final int index) {
+        return this.owners[index];
+    }
+
+    /**
+     * Get the owner tag of the specified shot.
+     *
+     * @param shot the shot
+     * @return the element which fired the shot, empty if the shot is not in the store or its weapon has no owner
+     */
+    public Optional<MapElement> getOwnerOf(final WeaponShot shot) {
+        final int index = this.indexOf(shot);
+        return index < 0 ? Optional.empty() : Optional.ofNullable(this.owners[index]);
+    }
+
+    /**
+     * Update the state of all the shots.
+     */
+    public void tickAll() {
+        this.kernel.advance(this.x, this.y, this.velocityX, this.velocityY, this.size);
+        if (this.notStraight > 0) {
+            for (int i = 0; i < this.size; i++) {
+                if (!this.straight[i]) {
+                    this.shots[i].tickShot();
+                    this.copyCoords(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Save the coords of all the shots as previous coords, used to interpolate their position while drawing.
+     */
+    public void savePreviousCoords() {
+        System.arraycopy(this.x, 0, this.previousX, 0, this.size);
+        System.arraycopy(this.y, 0, this.previousY, 0, this.size);
+        if (this.notStraight > 0) {
+            for (int i = 0; i < this.size; i++) {
+                if (!this.straight[i]) {
+                    this.shots[i].savePreviousCoords();
+                }
+            }
+        }
+    }
+
+    /**
+     * Check which shots collide with the walls of a room, all at once.
+     * The result of the check is read by {@link #isCollidingWithPerimeter(int)}, until the next check.
+     *
+     * @param width width of the room
+     * @param height height of the room
+     * @return the number of shots colliding with the walls
+     */
+    public int checkPerimeter(final double width, final double height) {
+        return this.kernel.collidingWithPerimeter(this.x, this.y, this.radius, width, height, this.colliding,
+                this.size);
+    }
+
+    /**
+     * Check if the shot at the specified index collided with the walls of the room,
+     * at the last {@link #checkPerimeter(double, double)}.
+     *
+     * @param index index of the shot, between 0 and {@link #size()}
+     * @return true if the shot collided with the walls
+     */
+    public boolean isCollidingWithPerimeter(final int index) {
+        return this.colliding[index];
+    }
+
+    @Override
+    public double getX(final int slot) {
+        return this.x[slot];
+    }
+
+    @Override
+    public double getY(final int slot) {
+        return this.y[slot];
+    }
+
+    @Override
+    public void setCoords(final int slot, final double newX, final double newY) {
+        this.x[slot] = newX;
+        this.y[slot] = newY;
+    }
+
+    @Override
+    public double getPreviousX(final int slot) {
+        return this.previousX[slot];
+    }
+
+    @Override
+    public double getPreviousY(final int slot) {
+        return this.previousY[slot];
+    }
+
+    @Override
+    public void savePreviousCoords(final int slot) {
+        this.previousX[slot] = this.x[slot];
+        this.previousY[slot] = this.y[slot];
+    }
+
+    /**
+     * Run an action on every shot.
+     * Like every other method of the store, it must be called by the game loop thread only,
+     * and the action must not add or remove shots.
+     *
+     * @param action the action to run
+     */
+    public void forEach(final Consumer<? super WeaponShot> action) {
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.shots[i]);
+        }
+    }
+
+    /**
+     * Remove a shot from the store and give it back to its weapon, to be reused.
+     * Removing a shot which is not in the store does nothing.
+     *
+     * @param shot the shot to remove
+     * @return true if the shot was in the store
+     */
+    public boolean remove(final WeaponShot shot) {
+        final int index = this.indexOf(shot);
+        if (index < 0) {
+            return false;
+        }
+        final AbstractWeapon weapon = this.weapons[index];
+        this.removeAt(index);
+        weapon.recycle(shot);
+        return true;
+    }
+
+    /**
+     * Remove all the shots fired by the specified owner, for example when an enemy dies.
+     *
+     * @param owner the owner of the shots to remove
+     */
+    public void removeOwnedBy(final MapElement owner) {
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.owners[i] == owner) {
+                final AbstractWeapon weapon = this.weapons[i];
+                final WeaponShot shot = this.shots[i];
+                this.removeAt(i);
+                weapon.recycle(shot);
+            }
+        }
+    }
+
+    /**
+     * Add a shot fired by a weapon.
+     *
+     * @param shot the new shot
+     * @param weapon the weapon which fired the shot
+     * @param owner the element holding the weapon
+     */
+    void add(final WeaponShot shot, final AbstractWeapon weapon, final MapElement owner) {
+        if (this.size == this.shots.length) {
+            this.grow(this.size * 2);
+        }
+        final int slot = this.size;
+        this.shots[slot] = shot;
+        this.weapons[slot] = weapon;
+        this.owners[slot] = owner;
+        this.copyCoords(slot);
+        this.previousX[slot] = shot.getPreviousCoords().getX();
+        this.previousY[slot] = shot.getPreviousCoords().getY();
+        this.radius[slot] = ((CircleBoundingBox) shot.getBox()).getRadius();
+        this.straight[slot] = shot.getClass() == BaseWeaponShot.class;
+        if (this.straight[slot]) {
+            this.setVelocity(slot, ((BaseWeaponShot) shot).getVelocityX(), ((BaseWeaponShot) shot).getVelocityY());
+        } else {
+            this.setVelocity(slot, 0, 0);
+            this.notStraight++;
+        }
+        this.colliding[slot] = false;
+        this.size++;
+        if (shot instanceof AbstractWeaponShot) {
+            ((AbstractWeaponShot) shot).attach(this, slot);
+        }
+    }
+
+    /**
+     * Set the velocity of a shot flying straight, for example when it is fired again.
+     *
+     * @param slot slot of the shot
+     * @param newVelocityX the x offset of the movement of the shot at every tick
+     * @param newVelocityY the y offset of the movement of the shot at every tick
+     */
+    void setVelocity(final int slot, final double newVelocityX, final double newVelocityY) {
+        this.velocityX[slot] = newVelocityX;
+        this.velocityY[slot] = newVelocityY;
+    }
+
+    /**
+     * Update the state of all the shots fired by a weapon.
+     *
+     * @param weapon the weapon which fired the shots
+     */
+    void tickShotsOf(final AbstractWeapon weapon) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.weapons[i] == weapon) {
+                this.shots[i].tickShot();
+            }
+        }
+    }
+
+    /**
+     * Get the shots fired by a weapon.
+     *
+     * @param weapon the weapon which fired the shots
+     * @return a new list with the shots
+     */
+    List<WeaponShot> getShotsOf(final AbstractWeapon weapon) {
+        final List<WeaponShot> list = new ArrayList<>();
+        for (int i = 0; i < this.size; i++) {
+            if (this.weapons[i] == weapon) {
+                list.add(this.shots[i]);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Check if a shot was fired by a weapon.
+     *
+     * @param shot the shot
+     * @param weapon the weapon
+     * @return true if the shot is in the store and it was fired by the weapon
+     */
+    boolean isFiredBy(final WeaponShot shot, final AbstractWeapon weapon) {
+        final int index = this.indexOf(shot);
+        return index >= 0 && this.weapons[index] == weapon;
+    }
+
+    /**
+     * Move all the shots fired by a weapon to another store, changing their owner tag.
+     *
+     * @param weapon the weapon which fired the shots
+     * @param target the store receiving the shots
+     * @param owner the new owner tag of the shots
+     */
+    void moveShotsOf(final AbstractWeapon weapon, final ProjectileStore target, final MapElement owner) {
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.weapons[i] == weapon) {
+                final WeaponShot shot = this.shots[i];
+                this.removeAt(i);
+                target.add(shot, weapon, owner);
+            }
+        }
+    }
+
+    private int indexOf(final WeaponShot shot) {
+        if (shot instanceof AbstractWeaponShot) {
+            final int slot = ((AbstractWeaponShot) shot).getSlot();
+            return slot >= 0 && slot < this.size && this.shots[slot] == shot ? slot : -1;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (this.shots[i] == shot) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(final int index) {
+        final WeaponShot removed = this.shots[index];
+        if (removed instanceof AbstractWeaponShot) {
+            ((AbstractWeaponShot) removed).detach();
+        }
+        if (!this.straight[index]) {
+            this.notStraight--;
+        }
+        final int last = this.size - 1;
+        if (index != last) {
+            this.shots[index] = this.shots[last];
+            this.weapons[index] = this.weapons[last];
+            this.owners[index] = this.owners[last];
+            this.x[index] = this.x[last];
+            this.y[index] = this.y[last];
+            this.previousX[index] = this.previousX[last];
+            this.previousY[index] = this.previousY[last];
+            this.velocityX[index] = this.velocityX[last];
+            this.velocityY[index] = this.velocityY[last];
+            this.radius[index] = this.radius[last];
+            this.straight[index] = this.straight[last];
+            this.colliding[index] = this.colliding[last];
+            if (this.shots[index] instanceof AbstractWeaponShot) {
+                ((AbstractWeaponShot) this.shots[index]).attach(this, index);
+            }
+        }
+        this.shots[last] = null;
+        this.weapons[last] = null;
+        this.owners[last] = null;
+        this.size = last;
+    }
+
+    /**
+     * Copy the current coords of a shot in its slot, needed for the shots which are not facades of the store.
+     *
+     * @param slot slot of the shot
+     */
+    private void copyCoords(final int slot) {
+        this.x[slot] = this.shots[slot].getX();
+        this.y[slot] = this.shots[slot].getY();
+    }
+
+    private void grow(final int capacity) {
+        this.shots = Arrays.copyOf(this.shots, capacity);
+        this.weapons = Arrays.copyOf(this.weapons, capacity);
+        this.owners = Arrays.copyOf(this.owners, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.previousX = Arrays.copyOf(this.previousX, capacity);
+        this.previousY = Arrays.copyOf(this.previousY, capacity);
+        this.velocityX = Arrays.copyOf(this.velocityX, capacity);
+        this.velocityY = Arrays.copyOf(this.velocityY, capacity);
+        this.radius = Arrays.copyOf(this.radius, capacity);
+        this.straight = Arrays.copyOf(this.straight, capacity);
+        this.colliding = Arrays.copyOf(this.colliding, capacity);
+    }
+}
@@ -2,7 +2,9 @@ package it.unibo.isaccoop.model.weapon;
 
 import java.util.function.BiFunction;
 
+import it.unibo.isaccoop.model.common.GameClock;
 import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.SystemGameClock;
 import it.unibo.isaccoop.model.common.Vector2D;
 
 /**
@@ -11,6 +13,7 @@ import it.unibo.isaccoop.model.common.Vector2D;
 public class TimeIntervalWeapon extends AbstractWeapon {
 
     private final BiFunction<Point2D, Vector2D, WeaponShot> weaponShotSupplier;
+    private final GameClock clock;
     private long timeSinceLastShot;
     private double shotTimeInterval;
 
@@ -21,8 +24,21 @@ public class TimeIntervalWeapon extends AbstractWeapon {
      * @param weaponShotSupplier {@link BiFunction} to get a new weapon shot instance
      * */
     public TimeIntervalWeapon(final Double shotTimeInterval, final BiFunction<Point2D, Vector2D, WeaponShot> weaponShotSupplier) {
+        this(shotTimeInterval, weaponShotSupplier, new SystemGameClock());
+    }
+
+    /**
+     * TimeIntervalWeapon constructor.
+     *
+     * @param shotTimeInterval time insterval between shots
+     * @param weaponShotSupplier {@link BiFunction} to get a new weapon shot instance
+     * @param clock the {@link GameClock} used to measure the time interval between shots
+     * */
+    public TimeIntervalWeapon(final Double shotTimeInterval, final BiFunction<Point2D, Vector2D, WeaponShot> weaponShotSupplier,
+            final GameClock clock) {
         this.weaponShotSupplier = weaponShotSupplier;
-        this.timeSinceLastShot = System.currentTimeMillis();
+        this.clock = clock;
+        this.timeSinceLastShot = clock.getTime();
         this.shotTimeInterval = shotTimeInterval;
     }
 
@@ -34,9 +50,10 @@ public class TimeIntervalWeapon extends AbstractWeapon {
      * */
     @Override
     public void shoot(final Point2D startPosition, final Vector2D direction) {
-        if (System.currentTimeMillis() - this.timeSinceLastShot > this.shotTimeInterval) {
-            super.addWeaponShot(this.weaponShotSupplier.apply(startPosition, direction));
-            this.timeSinceLastShot = System.currentTimeMillis();
+        if (this.clock.getTime() - this.timeSinceLastShot > this.shotTimeInterval) {
+            super.addWeaponShot(super.reuseWeaponShot(startPosition, direction)
+                    .orElseGet(() -> this.weaponShotSupplier.apply(startPosition, direction)));
+            this.timeSinceLastShot = this.clock.getTime();
         }
     }
 
@@ -2,6 +2,7 @@ package it.unibo.isaccoop.model.weapon;
 
 import java.util.List;
 
+import it.unibo.isaccoop.model.common.MapElement;
 import it.unibo.isaccoop.model.common.Point2D;
 import it.unibo.isaccoop.model.common.Removable;
 import it.unibo.isaccoop.model.common.Vector2D;
@@ -36,4 +37,12 @@ public interface Weapon extends Removable {
      * */
     void setWeaponInterval(double interval);
 
+    /**
+     * Put the weapon shots in the specified store, together with the shots already fired.
+     *
+     * @param projectileStore store of the room where the weapon is
+     * @param shotsOwner element holding the weapon, used as owner tag of the shots
+     * */
+    void setProjectileStore(ProjectileStore projectileStore, MapElement shotsOwner);
+
 }
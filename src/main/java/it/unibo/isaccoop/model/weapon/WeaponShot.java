@@ -1,6 +1,8 @@
 package it.unibo.isaccoop.model.weapon;
 
 import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.Vector2D;
 
 /**
  * WeaponShot interface that models the weapon shot concept.
@@ -11,4 +13,12 @@ public interface WeaponShot extends MapElement {
      * Method to update the weapon shot state.
      * */
     void tickShot();
+
+    /**
+     * Reuse this shot for a new fire, instead of creating a new one.
+     *
+     * @param startPosition shot start position
+     * @param direction shot direction vector
+     * */
+    void reset(Point2D startPosition, Vector2D direction);
 }
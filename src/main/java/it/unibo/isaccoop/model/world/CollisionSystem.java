@@ -0,0 +1,56 @@
+package it.unibo.isaccoop.model.world;
+
+import java.util.function.Consumer;
+
+import it.unibo.isaccoop.model.enemy.Enemy;
+
+/**
+ * System finding the enemies of a {@link EnemyWorld} colliding with a circle, comparing
+ * the squared distance of the centers with the squared sum of the radiuses read from the arrays.
+ */
+public final class CollisionSystem {
+
+    /**
+     * Run an action on every enemy colliding with a circle.
+     *
+     * @param world the enemies to check
+     * @param x x coord of the center of the circle
+     * @param y y coord of the center of the circle
+     * @param radius radius of the circle
+     * @param action the action to run on the colliding enemies
+     */
+    public void forEachColliding(final EnemyWorld world, final double x, final double y, final double radius,
+            final Consumer<? super Enemy> action) {
+        for (int i = 0; i < world.size(); i++) {
+            if (this.isColliding(world, i, x, y, radius)) {
+                action.accept(world.getEnemy(i));
+            }
+        }
+    }
+
+    /**
+     * Check if any enemy collides with a circle.
+     *
+     * @param world the enemies to check
+     * @param x x coord of the center of the circle
+     * @param y y coord of the center of the circle
+     * @param radius radius of the circle
+     * @return true if at least an enemy collides with the circle
+     */
+    public boolean anyColliding(final EnemyWorld world, final double x, final double y, final double radius) {
+        for (int i = 0; i < world.size(); i++) {
+            if (this.isColliding(world, i, x, y, radius)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isColliding(final EnemyWorld world, final int slot, final double x, final double y,
+            final double radius) {
+        final double dx = world.getX(slot) - x;
+        final double dy = world.getY(slot) - y;
+        final double radiuses = world.getRadius(slot) + radius;
+        return dx * dx + dy * dy <= radiuses * radiuses;
+    }
+}
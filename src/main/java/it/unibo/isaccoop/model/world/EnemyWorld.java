@@ -0,0 +1,418 @@
+package it.unibo.isaccoop.model.world;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.isaccoop.graphics.Graphics;
+import it.unibo.isaccoop.model.action.MovementStrategy;
+import it.unibo.isaccoop.model.action.NonShootingMovementStrategy;
+import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.common.CoordsStore;
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.enemy.AbstractEnemy;
+import it.unibo.isaccoop.model.enemy.Enemy;
+
+/**
+ * World of the enemies of a room, stored as struct of arrays: every component of the enemies
+ * (positions, velocities, radiuses, hearts, sprites and movement strategies) is kept in its own array,
+ * and an enemy is the index of a slot of these arrays. The systems of the room
+ * ({@link MovementSystem}, {@link ShootingSystem}, {@link CollisionSystem} and {@link RenderSystem})
+ * iterate the arrays, while the enemies themselves are facades reading and writing their slot.
+ * Removing an enemy moves the last enemy in its slot, so the arrays never have holes.
+ */
+public final class EnemyWorld implements CoordsStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] velocityX = new double[INITIAL_CAPACITY];
+    private double[] velocityY = new double[INITIAL_CAPACITY];
+    private double[] radius = new double[INITIAL_CAPACITY];
+    private double[] hearts = new double[INITIAL_CAPACITY];
+    private int[] sprites = new int[INITIAL_CAPACITY];
+    private MovementStrategy[] movements = new MovementStrategy[INITIAL_CAPACITY];
+    private boolean[] chasing = new boolean[INITIAL_CAPACITY];
+    private AbstractEnemy[] enemies = new AbstractEnemy[INITIAL_CAPACITY];
+    private final List<String> spriteNames = new ArrayList<>();
+    private int size;
+    private final List<Enemy> view = new AbstractList<>() {
+        @Override
+        public Enemy get(final int index) {
+            return EnemyWorld.this.getEnemy(Objects.checkIndex(index, EnemyWorld.this.size));
+        }
+
+        @Override
+        public int size() {
+            return EnemyWorld.this.size;
+        }
+    };
+
+    /**
+     * Get the number of enemies in the world.
+     *
+     * @return the number of enemies
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Add an enemy to the world: its state is copied in a new slot, and the enemy becomes a facade of the slot.
+     *
+     * @param enemy the enemy to add, not already in a world
+     * @return the slot of the enemy
+     */
+    public int add(final AbstractEnemy enemy) {
+        if (enemy.isAttached()) {
+            throw new IllegalArgumentException("The enemy is already in a world");
+        }
+        if (this.size == this.enemies.length) {
+            this.grow(this.size * 2);
+        }
+        final int slot = this.size;
+        this.x[slot] = enemy.getX();
+        this.y[slot] = enemy.getY();
+        this.previousX[slot] = enemy.getPreviousCoords().getX();
+        this.previousY[slot] = enemy.getPreviousCoords().getY();
+        this.velocityX[slot] = 0;
+        this.velocityY[slot] = 0;
+        this.radius[slot] = ((CircleBoundingBox) enemy.getBox()).getRadius();
+        this.hearts[slot] = enemy.getHearts();
+        this.sprites[slot] = this.spriteOf(enemy);
+        this.setMovement(slot, enemy.getMovementStrategy());
+        this.enemies[slot] = enemy;
+        this.size++;
+        enemy.attach(this, slot);
+        return slot;
+    }
+
+    /**
+     * Remove an enemy from the world: its state is copied back in the enemy, which stops being a facade.
+     * Removing an element which is not in the world does nothing.
+     *
+     * @param element the element to remove
+     * @return true if the element was in the world
+     */
+    public boolean remove(final MapElement element) {
+        if (!(element instanceof AbstractEnemy)) {
+            return false;
+        }
+        final AbstractEnemy enemy = (AbstractEnemy) element;
+        final int slot = enemy.getSlot();
+        if (slot < 0 || slot >= this.size || this.enemies[slot] != enemy) {
+            return false;
+        }
+        enemy.detach();
+        final int last = this.size - 1;
+        if (slot != last) {
+            this.x[slot] = this.x[last];
+            this.y[slot] = this.y[last];
+            this.previousX[slot] = this.previousX[last];
+            this.previousY[slot] = this.previousY[last];
+            this.velocityX[slot] = this.velocityX[last];
+            this.velocityY[slot] = this.velocityY[last];
+            this.radius[slot] = this.radius[last];
+            this.hearts[slot] = this.hearts[last];
+            this.sprites[slot] = this.sprites[last];
+            this.movements[slot] = this.movements[last];
+            this.chasing[slot] = this.chasing[last];
+            this.enemies[slot] = this.enemies[last];
+            this.enemies[slot].attach(this, slot);
+        }
+        this.movements[last] = null;
+        this.enemies[last] = null;
+        this.size = last;
+        return true;
+    }
+
+    /**
+     * Get the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the enemy
+     */
+    public AbstractEnemy getEnemy(final int slot) {
+        return this.enemies[slot];
+    }
+
+    /**
+     * Get a view of the enemies, in the order of their slots, which changes with the world.
+     *
+     * @return an unmodifiable view of the enemies
+     */
+    public List<Enemy> asList() {
+        return this.view;
+    }
+
+    /**
+     * Get the x coord of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the x coord
+     */
+    @Override
+    public double getX(final int slot) {
+        return this.x[slot];
+    }
+
+    /**
+     * Get the y coord of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the y coord
+     */
+    @Override
+    public double getY(final int slot) {
+        return this.y[slot];
+    }
+
+    /**
+     * Set the coords of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @param newX the new x coord
+     * @param newY the new y coord
+     */
+    @Override
+    public void setCoords(final int slot, final double newX, final double newY) {
+        this.x[slot] = newX;
+        this.y[slot] = newY;
+    }
+
+    /**
+     * Get the x coord of the enemy of a slot, as saved by {@link #savePreviousCoords()}.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the previous x coord
+     */
+    @Override
+    public double getPreviousX(final int slot) {
+        return this.previousX[slot];
+    }
+
+    /**
+     * Get the y coord of the enemy of a slot, as saved by {@link #savePreviousCoords()}.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the previous y coord
+     */
+    @Override
+    public double getPreviousY(final int slot) {
+        return this.previousY[slot];
+    }
+
+    /**
+     * Save the coords of the enemy of a slot as previous coords.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     */
+    @Override
+    public void savePreviousCoords(final int slot) {
+        this.previousX[slot] = this.x[slot];
+        this.previousY[slot] = this.y[slot];
+    }
+
+    /**
+     * Save the coords of all the enemies as previous coords, used to interpolate their position while drawing.
+     */
+    public void savePreviousCoords() {
+        System.arraycopy(this.x, 0, this.previousX, 0, this.size);
+        System.arraycopy(this.y, 0, this.previousY, 0, this.size);
+    }
+
+    /**
+     * Get the x offset of the last movement of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the x velocity, in units per tick
+     */
+    public double getVelocityX(final int slot) {
+        return this.velocityX[slot];
+    }
+
+    /**
+     * Get the y offset of the last movement of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the y velocity, in units per tick
+     */
+    public double getVelocityY(final int slot) {
+        return this.velocityY[slot];
+    }
+
+    /**
+     * Get the radius of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the radius
+     */
+    public double getRadius(final int slot) {
+        return this.radius[slot];
+    }
+
+    /**
+     * Get the hearts of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the hearts
+     */
+    public double getHearts(final int slot) {
+        return this.hearts[slot];
+    }
+
+    /**
+     * Set the hearts of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @param value the new hearts
+     */
+    public void setHearts(final int slot, final double value) {
+        this.hearts[slot] = value;
+    }
+
+    /**
+     * Get the movement strategy of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the movement strategy
+     */
+    public MovementStrategy getMovement(final int slot) {
+        return this.movements[slot];
+    }
+
+    /**
+     * Set the movement strategy of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @param movement the new movement strategy
+     */
+    public void setMovement(final int slot, final MovementStrategy movement) {
+        this.movements[slot] = movement;
+        this.chasing[slot] = movement instanceof NonShootingMovementStrategy;
+    }
+
+    /**
+     * Check if the enemy of a slot chases the player, moving straight towards it.
+     * The steps of these enemies are computed by the {@link MovementSystem} all at once,
+     * instead of calling their movement strategy.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return true if the enemy chases the player
+     */
+    public boolean isChasing(final int slot) {
+        return this.chasing[slot];
+    }
+
+    /**
+     * Get the sprite id of the enemy of a slot.
+     *
+     * @param slot slot of the enemy, between 0 and {@link #size()}
+     * @return the sprite id, see {@link #getSpriteName(int)}
+     */
+    public int getSprite(final int slot) {
+        return this.sprites[slot];
+    }
+
+    /**
+     * Get the name of the image of a sprite id.
+     *
+     * @param sprite the sprite id
+     * @return the name of the image
+     */
+    public String getSpriteName(final int sprite) {
+        return this.spriteNames.get(sprite);
+    }
+
+    /**
+     * Get the x coords of the enemies, by slot.
+     *
+     * @return the array of the x coords, longer than {@link #size()}
+     */
+    double[] getXs() {
+        return this.x;
+    }
+
+    /**
+     * Get the y coords of the enemies, by slot.
+     *
+     * @return the array of the y coords, longer than {@link #size()}
+     */
+    double[] getYs() {
+        return this.y;
+    }
+
+    /**
+     * Get the x velocities of the enemies, by slot.
+     *
+     * @return the array of the x velocities, longer than {@link #size()}
+     */
+    double[] getVelocityXs() {
+        return this.velocityX;
+    }
+
+    /**
+     * Get the y velocities of the enemies, by slot.
+     *
+     * @return the array of the y velocities, longer than {@link #size()}
+     */
+    double[] getVelocityYs() {
+        return this.velocityY;
+    }
+
+    /**
+     * Get the radiuses of the enemies, by slot.
+     *
+     * @return the array of the radiuses, longer than {@link #size()}
+     */
+    double[] getRadiuses() {
+        return this.radius;
+    }
+
+    /**
+     * Get the flags of the enemies chasing the player, by slot.
+     *
+     * @return the array of the flags, longer than {@link #size()}
+     */
+    boolean[] getChasing() {
+        return this.chasing;
+    }
+
+    private void grow(final int capacity) {
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.previousX = Arrays.copyOf(this.previousX, capacity);
+        this.previousY = Arrays.copyOf(this.previousY, capacity);
+        this.velocityX = Arrays.copyOf(this.velocityX, capacity);
+        this.velocityY = Arrays.copyOf(this.velocityY, capacity);
+        this.radius = Arrays.copyOf(this.radius, capacity);
+        this.hearts = Arrays.copyOf(this.hearts, capacity);
+        this.sprites = Arrays.copyOf(this.sprites, capacity);
+        this.movements = Arrays.copyOf(this.movements, capacity);
+        this.chasing = Arrays.copyOf(this.chasing, capacity);
+        this.enemies = Arrays.copyOf(this.enemies, capacity);
+    }
+
+    /**
+     * Get the sprite id of an enemy, recording the name of the image drawn by its graphics component.
+     *
+     * @param enemy the enemy
+     * @return the sprite id
+     */
+    private int spriteOf(final AbstractEnemy enemy) {
+        final String[] name = new String[1];
+        final Graphics recorder = (element, imageName) -> name[0] = imageName;
+        enemy.updateGraphics(recorder);
+        final int sprite = this.spriteNames.indexOf(name[0]);
+        if (sprite >= 0) {
+            return sprite;
+        }
+        this.spriteNames.add(name[0]);
+        return this.spriteNames.size() - 1;
+    }
+}
@@ -0,0 +1,73 @@
+package it.unibo.isaccoop.model.world;
+
+import java.util.Arrays;
+
+import it.unibo.isaccoop.model.boundingbox.BoundingBox;
+import it.unibo.isaccoop.model.boundingbox.RectBoundingBox;
+import it.unibo.isaccoop.model.common.IntegrationKernel;
+import it.unibo.isaccoop.model.common.IntegrationKernels;
+import it.unibo.isaccoop.model.enemy.AbstractEnemy;
+
+/**
+ * System moving all the enemies of a {@link EnemyWorld} by their movement strategies,
+ * keeping them inside the room: an enemy whose movement would touch the walls does not move.
+ * The steps of the enemies chasing the player and the movement of all the enemies are computed
+ * by an {@link IntegrationKernel}, only the other strategies are called one enemy at a time.
+ */
+public final class MovementSystem {
+
+    private final IntegrationKernel kernel;
+
+    /**
+     * Movement offsets computed by the movement strategies, reused for every enemy.
+     */
+    private final double[] step = new double[2];
+
+    /**
+     * MovementSystem constructor, with the default kernel.
+     */
+    public MovementSystem() {
+        this(IntegrationKernels.getDefault());
+    }
+
+    /**
+     * MovementSystem constructor.
+     *
+     * @param kernel the kernel computing the movements
+     */
+    public MovementSystem(final IntegrationKernel kernel) {
+        this.kernel = kernel;
+    }
+
+    /**
+     * Move all the enemies of a world.
+     *
+     * @param world the enemies to move
+     * @param playerX x coord of the player, in order to move towards the player if needed
+     * @param playerY y coord of the player, in order to move towards the player if needed
+     * @param containerBox the box of the room, the enemies do not move if it is not a {@link RectBoundingBox}
+     */
+    public void update(final EnemyWorld world, final double playerX, final double playerY,
+            final BoundingBox containerBox) {
+        final int count = world.size();
+        final double[] x = world.getXs();
+        final double[] y = world.getYs();
+        final double[] stepX = world.getVelocityXs();
+        final double[] stepY = world.getVelocityYs();
+        for (int i = 0; i < count; i++) {
+            if (!world.isChasing(i)) {
+                world.getMovement(i).step(x[i], y[i], playerX, playerY, this.step);
+                stepX[i] = this.step[0];
+                stepY[i] = this.step[1];
+            }
+        }
+        this.kernel.chase(x, y, world.getChasing(), playerX, playerY, AbstractEnemy.getSpeed(), stepX, stepY, count);
+        if (containerBox instanceof RectBoundingBox) {
+            final RectBoundingBox box = (RectBoundingBox) containerBox;
+            this.kernel.moveInside(x, y, stepX, stepY, world.getRadiuses(), box.getWidth(), box.getHeight(), count);
+        } else {
+            Arrays.fill(stepX, 0, count, 0);
+            Arrays.fill(stepY, 0, count, 0);
+        }
+    }
+}
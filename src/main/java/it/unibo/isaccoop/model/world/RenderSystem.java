@@ -0,0 +1,40 @@
+package it.unibo.isaccoop.model.world;
+
+/**
+ * System drawing all the enemies of a {@link EnemyWorld} as sprites, reading their sprite ids and coords
+ * from the arrays instead of calling the graphics component of every enemy.
+ */
+public final class RenderSystem {
+
+    /**
+     * Draw all the enemies of a world.
+     *
+     * @param world the enemies to draw
+     * @param sink where to draw the sprites
+     */
+    public void render(final EnemyWorld world, final SpriteSink sink) {
+        for (int i = 0; i < world.size(); i++) {
+            sink.addSprite(world.getSpriteName(world.getSprite(i)), world.getPreviousX(i), world.getPreviousY(i),
+                    world.getX(i), world.getY(i), world.getRadius(i));
+        }
+    }
+
+    /**
+     * Destination of the sprites drawn by a {@link RenderSystem}.
+     */
+    @FunctionalInterface
+    public interface SpriteSink {
+
+        /**
+         * Draw a sprite, interpolating its position between the previous and the current coords.
+         *
+         * @param imageName name of the image of the sprite
+         * @param previousX previous x coord of the center of the sprite
+         * @param previousY previous y coord of the center of the sprite
+         * @param x current x coord of the center of the sprite
+         * @param y current y coord of the center of the sprite
+         * @param radius radius of the sprite
+         */
+        void addSprite(String imageName, double previousX, double previousY, double x, double y, double radius);
+    }
+}
@@ -0,0 +1,21 @@
+package it.unibo.isaccoop.model.world;
+
+import it.unibo.isaccoop.model.common.Point2D;
+
+/**
+ * System letting all the enemies of a {@link EnemyWorld} hit the player, each one by its own hit strategy.
+ */
+public final class ShootingSystem {
+
+    /**
+     * Let all the enemies of a world hit the player.
+     *
+     * @param world the enemies hitting
+     * @param playerPosition current player position
+     */
+    public void update(final EnemyWorld world, final Point2D playerPosition) {
+        for (int i = 0; i < world.size(); i++) {
+            world.getEnemy(i).hit(playerPosition);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package it.unibo.isaccoop.test.controller.input;
+
+import static java.awt.event.KeyEvent.VK_A;
+import static java.awt.event.KeyEvent.VK_D;
+import static java.awt.event.KeyEvent.VK_ESCAPE;
+import static java.awt.event.KeyEvent.VK_N;
+import static java.awt.event.KeyEvent.VK_P;
+import static java.awt.event.KeyEvent.VK_S;
+import static java.awt.event.KeyEvent.VK_W;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.controller.input.ActionControllerImpl;
+import it.unibo.isaccoop.controller.input.KeyEventQueue;
+import it.unibo.isaccoop.controller.input.KeyInputDispatcher;
+import it.unibo.isaccoop.controller.input.KeyboardInputController;
+
+/**
+ * KeyEventQueue test.
+ */
+class KeyEventQueueTest {
+
+    private static final int CAPACITY = 4;
+    private static final int EVENTS = 20_000;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    void testOrderAndCapacity() {
+        final KeyEventQueue queue = new KeyEventQueue(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(queue.offer(i, i % 2 == 0, i));
+        }
+        assertFalse(queue.offer(CAPACITY, true, CAPACITY));
+        assertEquals(1, queue.getDropped());
+        final List<Integer> keys = new ArrayList<>();
+        assertEquals(CAPACITY, queue.drain((key, pressed, time) -> {
+            assertEquals(key % 2 == 0, pressed);
+            assertEquals(key, time);
+            keys.add(key);
+        }));
+        assertEquals(List.of(0, 1, 2, 3), keys);
+        assertEquals(0, queue.drain((key, pressed, time) -> { }));
+        assertTrue(queue.offer(CAPACITY, true, CAPACITY));
+        assertThrows(IllegalArgumentException.class, () -> new KeyEventQueue(CAPACITY + 1));
+    }
+
+    @Test
+    void testConcurrentProducer() throws InterruptedException {
+        /* a small queue fills and wraps around many times, so producer and consumer keep meeting */
+        final KeyEventQueue queue = new KeyEventQueue(CAPACITY);
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                while (!queue.offer(i, true, i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.setDaemon(true);
+        producer.start();
+        final int[] next = {0};
+        /* yielding instead of spinning lets the other thread run even on a single core */
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (next[0] < EVENTS && System.nanoTime() < deadline) {
+            final int drained = queue.drain((key, pressed, time) -> {
+                assertEquals(next[0], key);
+                assertEquals(next[0], time);
+                next[0]++;
+            });
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        assertEquals(EVENTS, next[0]);
+        producer.join();
+    }
+
+    @Test
+    void testDispatch() {
+        final KeyEventQueue queue = new KeyEventQueue();
+        final KeyboardInputController move = new KeyboardInputController(VK_W, VK_S, VK_A, VK_D);
+        final ActionControllerImpl actions = new ActionControllerImpl(VK_ESCAPE, VK_N, VK_P);
+        final KeyInputDispatcher dispatcher = new KeyInputDispatcher(queue, List.of(move), actions);
+        /* a quick tap is seen by one tick, and moving does not cancel the pending action */
+        queue.offer(VK_N, true, 1);
+        queue.offer(VK_W, true, 2);
+        queue.offer(VK_W, false, 3);
+        assertEquals(3, dispatcher.dispatch());
+        assertEquals(1, dispatcher.getOldestTimestamp());
+        assertTrue(move.isUp());
+        assertTrue(actions.isNextRoom());
+        dispatcher.endTick();
+        assertFalse(move.isUp());
+        /* a held key stays pressed across ticks */
+        queue.offer(VK_D, true, 4);
+        dispatcher.dispatch();
+        dispatcher.endTick();
+        assertTrue(move.isRight());
+        assertFalse(actions.isEsc());
+    }
+}
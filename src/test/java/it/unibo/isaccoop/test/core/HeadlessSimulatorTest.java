@@ -0,0 +1,38 @@
+package it.unibo.isaccoop.test.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.core.EngineMode;
+import it.unibo.isaccoop.core.GameEngine;
+import it.unibo.isaccoop.core.GameEngineImpl;
+import it.unibo.isaccoop.core.HeadlessSimulator;
+
+/**
+ * HeadlessSimulator test.
+ */
+class HeadlessSimulatorTest {
+
+    private static final long TICKS = 2000;
+    private static final long SEED = 42;
+
+    @Test
+    void testRunsRequestedTicks() {
+        final HeadlessSimulator simulator = new HeadlessSimulator(SEED);
+        final double tps = simulator.run(TICKS);
+        assertEquals(TICKS, simulator.getTicks());
+        assertTrue(simulator.getGames() >= 1);
+        assertTrue(tps > 0);
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(0));
+    }
+
+    @Test
+    void testHeadlessEngineStep() {
+        final GameEngine engine = new GameEngineImpl(EngineMode.HEADLESS);
+        assertTrue(engine.step());
+        assertTrue(engine.getKeyboardInputControllers().isEmpty());
+    }
+}
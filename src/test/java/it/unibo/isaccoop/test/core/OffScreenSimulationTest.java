@@ -0,0 +1,95 @@
+package it.unibo.isaccoop.test.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.core.EngineMode;
+import it.unibo.isaccoop.core.GameEngineImpl;
+import it.unibo.isaccoop.core.OffScreenSimulation;
+import it.unibo.isaccoop.core.SimulationScope;
+import it.unibo.isaccoop.core.replay.GameStateHash;
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.room.LayoutGenerator;
+import it.unibo.isaccoop.model.room.Level;
+import it.unibo.isaccoop.model.room.LevelFactoryImpl;
+import it.unibo.isaccoop.model.room.Room;
+
+/**
+ * {@link OffScreenSimulation} test.
+ */
+class OffScreenSimulationTest {
+
+    private static final long SEED = 42;
+    private static final int ROOMS = 12;
+    private static final int TICKS = 200;
+    private static final int PARALLELISM = 4;
+
+    @Test
+    void testSameGameWhateverTheThreads() {
+        // the rooms are updated at the same time, but their events are merged always in the same order
+        final ForkJoinPool single = new ForkJoinPool(1);
+        final ForkJoinPool many = new ForkJoinPool(PARALLELISM);
+        assertEquals(new Game().simulate(SimulationScope.ALL, single),
+                new Game().simulate(SimulationScope.ALL, many));
+        single.shutdown();
+        many.shutdown();
+    }
+
+    @Test
+    void testScopes() {
+        final ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        final long still = new Game().simulate(SimulationScope.CURRENT, pool);
+        assertNotEquals(still, new Game().simulate(SimulationScope.ALL, pool));
+
+        // only the rooms next to the player move
+        final Game game = new Game();
+        final List<Room> far = game.level.getRooms().stream()
+                .filter(r -> r != game.level.getCurrentRoom() && !game.level.getNearRooms().containsValue(r))
+                .collect(Collectors.toList());
+        final Map<Room, List<Point2D>> before = far.stream().collect(Collectors.toMap(r -> r, Game::positions));
+        game.simulate(SimulationScope.NEAR, pool);
+        far.forEach(r -> assertEquals(before.get(r), Game.positions(r)));
+        pool.shutdown();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffScreenSimulation(game.level, SimulationScope.ALL, 0, ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * A level with the content of all its rooms created, and the clock of its game.
+     */
+    private static final class Game {
+        private final GameEngineImpl engine = new GameEngineImpl(EngineMode.HEADLESS, SEED);
+        private final Level level = new LevelFactoryImpl(this.engine).createLevel(LayoutGenerator.BRANCHING, ROOMS);
+
+        Game() {
+            this.level.getRooms().forEach(Room::materialize);
+        }
+
+        long simulate(final SimulationScope scope, final ForkJoinPool pool) {
+            final TickGameClock clock = (TickGameClock) this.engine.getClock();
+            final OffScreenSimulation simulation = new OffScreenSimulation(this.level, scope, 1, pool);
+            for (int i = 0; i < TICKS; i++) {
+                clock.tick();
+                simulation.fork();
+                simulation.join();
+            }
+            return GameStateHash.of(this.level, clock.getTicks());
+        }
+
+        static List<Point2D> positions(final Room room) {
+            return room.getEnemies().orElse(List.of()).stream().map(MapElement::getCoords)
+                    .collect(Collectors.toList());
+        }
+    }
+}
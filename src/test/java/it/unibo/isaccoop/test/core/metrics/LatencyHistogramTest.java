@@ -0,0 +1,73 @@
+package it.unibo.isaccoop.test.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.core.metrics.FrameMetrics;
+import it.unibo.isaccoop.core.metrics.FramePhase;
+import it.unibo.isaccoop.core.metrics.LatencyHistogram;
+import it.unibo.isaccoop.model.common.RoomType;
+
+/**
+ * LatencyHistogram test.
+ */
+class LatencyHistogramTest {
+
+    private static final int SMALL_VALUES = 64;
+    private static final long BIG_VALUES = 1_000_000;
+    private static final double MAX_ERROR = 1.0 / 32;
+
+    @Test
+    void testSmallValuesAreExact() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= SMALL_VALUES; i++) {
+            histogram.record(i);
+        }
+        assertEquals(SMALL_VALUES, histogram.getCount());
+        assertEquals(SMALL_VALUES, histogram.getMax());
+        assertEquals(SMALL_VALUES / 2, histogram.getPercentile(50));
+        assertEquals(SMALL_VALUES, histogram.getPercentile(100));
+        assertEquals((SMALL_VALUES + 1) / 2.0, histogram.getMean());
+    }
+
+    @Test
+    void testPercentileError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= BIG_VALUES; i++) {
+            histogram.record(i);
+        }
+        for (final double percentile : new double[] {50, 90, 99, 99.9}) {
+            final double expected = percentile / 100 * BIG_VALUES;
+            final long actual = histogram.getPercentile(percentile);
+            assertTrue(Math.abs(actual - expected) / expected <= MAX_ERROR);
+        }
+        assertEquals(BIG_VALUES, histogram.getPercentile(100));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    @Test
+    void testInvalidPercentile() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    @Test
+    void testFrameMetrics() {
+        final FrameMetrics metrics = new FrameMetrics();
+        metrics.record(RoomType.STANDARD, FramePhase.TICK, 2_000_000);
+        metrics.recordTick(RoomType.STANDARD, 5, 3, 1);
+        assertEquals(1, metrics.getTicks());
+        assertEquals(2.0, metrics.getMaxMillis(RoomType.STANDARD.name(), FramePhase.TICK.name()));
+        assertTrue(metrics.getReport().contains(RoomType.STANDARD.name()));
+        assertEquals(0, metrics.getHistogram(RoomType.BOSS, FramePhase.TICK).getCount());
+        metrics.reset();
+        assertEquals(0, metrics.getTicks());
+        assertEquals("", metrics.getReport());
+    }
+}
@@ -0,0 +1,90 @@
+package it.unibo.isaccoop.test.core.replay;
+
+import static java.awt.event.KeyEvent.VK_ESCAPE;
+import static java.awt.event.KeyEvent.VK_N;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.controller.input.ProgrammaticInputController;
+import it.unibo.isaccoop.core.EngineMode;
+import it.unibo.isaccoop.core.GameEngineImpl;
+import it.unibo.isaccoop.core.replay.ReplayRunner;
+import it.unibo.isaccoop.model.common.Direction;
+
+/**
+ * Replay test.
+ */
+class ReplayTest {
+
+    private static final long SEED = 42;
+    private static final int STEPS = 2000;
+    private static final int MOVE_INTERVAL = 40;
+    private static final int SHOT_INTERVAL = 15;
+    private static final int NEXT_ROOM_INTERVAL = 300;
+    private static final int PAUSE_INTERVAL = 700;
+
+    @Test
+    void testReplayReachesRecordedState() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GameEngineImpl engine = new GameEngineImpl(EngineMode.HEADLESS, SEED);
+        engine.startRecording(out);
+        final long steps = this.play(engine);
+        final long hash = engine.getStateHash();
+        engine.stopRecording();
+
+        final ReplayRunner runner = new ReplayRunner(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(SEED, runner.getSeed());
+        assertEquals(hash, runner.run());
+        assertEquals(steps, runner.getSteps());
+        assertTrue(runner.isMatching());
+        assertThrows(IllegalStateException.class, runner::run);
+    }
+
+    @Test
+    void testRecordingOnlyFromStart() {
+        final GameEngineImpl engine = new GameEngineImpl(EngineMode.HEADLESS, SEED);
+        engine.step();
+        assertThrows(IllegalStateException.class, () -> engine.startRecording(new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReplayRunner(new ByteArrayInputStream(new byte[Long.BYTES * 2])));
+    }
+
+    /**
+     * Play with a bot pressing random directions and actions.
+     * @return the number of steps not in pause
+     */
+    private long play(final GameEngineImpl engine) {
+        final Random random = new Random(SEED);
+        final var move = (ProgrammaticInputController) engine.getController("keyMove");
+        final var shot = (ProgrammaticInputController) engine.getController("keyShot");
+        final Direction[] directions = Direction.values();
+        long steps = 0;
+        for (int i = 0; i < STEPS; i++) {
+            if (i % MOVE_INTERVAL == 0) {
+                move.press(directions[random.nextInt(directions.length)]);
+            }
+            if (i % SHOT_INTERVAL == 0) {
+                shot.press(directions[random.nextInt(directions.length)]);
+            }
+            if (i % NEXT_ROOM_INTERVAL == 0) {
+                engine.getActionController().notifyKeyPressed(VK_N);
+            }
+            if (i % PAUSE_INTERVAL == 0) {
+                engine.getActionController().notifyKeyPressed(VK_ESCAPE);
+            }
+            engine.step();
+            if (!engine.isGameLoopInPause()) {
+                steps++;
+            }
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,61 @@
+package it.unibo.isaccoop.test.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.graphics.RenderSnapshot;
+import it.unibo.isaccoop.graphics.RenderSnapshotExchange;
+
+/**
+ * RenderSnapshotExchange test.
+ */
+class RenderSnapshotExchangeTest {
+
+    private static final int FRAMES = 200_000;
+
+    @Test
+    void testLatestSnapshot() {
+        final RenderSnapshotExchange exchange = new RenderSnapshotExchange();
+        assertEquals(0, exchange.latest().getFrame());
+        final RenderSnapshot first = exchange.beginFrame(0.5, RenderSnapshot.SceneState.PLAYING);
+        exchange.publish();
+        assertSame(first, exchange.latest());
+        assertEquals(0.5, exchange.latest().getAlpha());
+        /* two frames published while the reader was busy, only the last one is read */
+        exchange.beginFrame(0.1, RenderSnapshot.SceneState.PLAYING);
+        exchange.publish();
+        final RenderSnapshot third = exchange.beginFrame(0.2, RenderSnapshot.SceneState.PAUSE);
+        assertNotSame(first, third);
+        exchange.publish();
+        assertSame(third, exchange.latest());
+        assertEquals(3, exchange.latest().getFrame());
+        assertEquals(RenderSnapshot.SceneState.PAUSE, exchange.latest().getState());
+    }
+
+    @Test
+    void testNoTornReads() throws InterruptedException {
+        final RenderSnapshotExchange exchange = new RenderSnapshotExchange();
+        final Thread writer = new Thread(() -> {
+            for (int i = 1; i <= FRAMES; i++) {
+                /* the alpha of every frame is its number, so a torn read would show different values */
+                exchange.beginFrame(i, RenderSnapshot.SceneState.PLAYING);
+                exchange.publish();
+            }
+        });
+        writer.start();
+        long last = 0;
+        while (last < FRAMES) {
+            final RenderSnapshot snapshot = exchange.latest();
+            assertTrue(snapshot.getFrame() >= last);
+            if (snapshot.getFrame() > 0) {
+                assertEquals(snapshot.getFrame(), (long) snapshot.getAlpha());
+            }
+            last = snapshot.getFrame();
+        }
+        writer.join();
+    }
+}
@@ -0,0 +1,45 @@
+package it.unibo.isaccoop.test.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.graphics.SpriteCache;
+import it.unibo.isaccoop.graphics.factory.ItemGraphicsComponentImpl;
+
+/**
+ * SpriteCache test.
+ */
+class SpriteCacheTest {
+
+    private static final String IMAGE = "heart.gif";
+    private static final int SIZE = 40;
+    private static final int OTHER_SIZE = 20;
+
+    @Test
+    void testSameSizeIsCached() {
+        final SpriteCache cache = SpriteCache.getInstance();
+        cache.preload(new ItemGraphicsComponentImpl().getSpriteNames());
+        final var first = cache.getSprite(IMAGE, SIZE, SIZE);
+        final long hits = cache.getHits();
+        final var second = cache.getSprite(IMAGE, SIZE, SIZE);
+        assertSame(first, second);
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(SIZE, second.getWidth());
+        assertEquals(SIZE, second.getHeight());
+    }
+
+    @Test
+    void testDifferentSizeIsScaled() {
+        final SpriteCache cache = SpriteCache.getInstance();
+        final var big = cache.getSprite(IMAGE, SIZE, SIZE);
+        final var small = cache.getSprite(IMAGE, OTHER_SIZE, OTHER_SIZE);
+        assertNotSame(big, small);
+        assertEquals(OTHER_SIZE, small.getWidth());
+        assertSame(big, cache.getSprite(IMAGE, SIZE, SIZE));
+        assertTrue(cache.getMisses() > 0);
+    }
+}
@@ -0,0 +1,111 @@
+package it.unibo.isaccoop.test.model.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.model.collision.CollisionCheck;
+import it.unibo.isaccoop.model.collision.CollisionCheckFactoryImpl;
+import it.unibo.isaccoop.model.collision.EventKind;
+import it.unibo.isaccoop.model.collision.EventQueue;
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.MapElementImpl;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.common.Vector2D;
+import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.enemy.ShootingEnemy;
+import it.unibo.isaccoop.model.item.Coin;
+import it.unibo.isaccoop.model.item.Item;
+import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.room.Room;
+import it.unibo.isaccoop.model.room.RoomImpl;
+import it.unibo.isaccoop.model.weapon.BaseWeaponShot;
+import it.unibo.isaccoop.model.weapon.TimeIntervalWeapon;
+import it.unibo.isaccoop.model.weapon.Weapon;
+
+/**
+ * {@link EventQueue} test.
+ */
+class EventQueueTest {
+
+    private static final int ROOM_SIDE = 100;
+    private static final int SOURCES = 100;
+    private static final long TICK_PERIOD = 20;
+    private static final double SHOT_INTERVAL = 10;
+
+    @Test
+    void testDuplicatesAreDropped() {
+        final EventQueue queue = new EventQueue();
+        final MapElement target = new MapElementImpl(1, 1);
+        final List<MapElement> sources = new ArrayList<>();
+        for (int i = 0; i < SOURCES; i++) {
+            sources.add(new MapElementImpl(1, 1));
+        }
+        // the queue grows past its initial capacity, still finding the events already added
+        sources.forEach(s -> assertTrue(queue.add(EventKind.SHOT_TO_REMOVE, s, target)));
+        sources.forEach(s -> assertFalse(queue.add(EventKind.SHOT_TO_REMOVE, s, target)));
+        // the same elements with another kind or the other way round are other events
+        assertTrue(queue.add(EventKind.ENEMY_HIT, sources.get(0), target));
+        assertTrue(queue.add(EventKind.ENEMY_HIT, target, sources.get(0)));
+        assertEquals(SOURCES + 2, queue.size());
+        assertEquals(SOURCES, queue.getDropped(EventKind.SHOT_TO_REMOVE));
+        assertEquals(0, queue.getDropped(EventKind.ENEMY_HIT));
+    }
+
+    @Test
+    void testExecution() {
+        final Player player = new Player(null, null, null);
+        final Item coin = new Coin();
+        final List<Item> items = new ArrayList<>(List.of(coin));
+        final Room room = new RoomImpl(ROOM_SIDE, ROOM_SIDE, new Point2D(0, 0), RoomType.STANDARD, Optional.empty(),
+                Optional.of(items), Optional.empty(), Optional.of(player));
+        final EventQueue queue = new EventQueue();
+        final int coins = player.getCoin();
+        // the events without a kind are executed after the others, whatever the order they were added in
+        queue.add(r -> assertFalse(r.getItems().get().contains(coin)));
+        queue.add(EventKind.ITEM_PICK_UP, coin, player);
+        queue.add(EventKind.ITEM_PICK_UP, coin, player);
+        queue.execute(room);
+        assertEquals(coins + 1, player.getCoin());
+        assertTrue(items.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals(1, queue.getExecuted(EventKind.ITEM_PICK_UP));
+        assertEquals(1, queue.getDropped(EventKind.ITEM_PICK_UP));
+        // after the execution the same event can happen again
+        assertTrue(queue.add(EventKind.ITEM_PICK_UP, coin, player));
+    }
+
+    @Test
+    void testEveryEnemyShotHits() {
+        final Player player = new Player(null, null, null);
+        final Enemy enemy = new ShootingEnemy();
+        final Room room = new RoomImpl(ROOM_SIDE, ROOM_SIDE, new Point2D(0, 0), RoomType.STANDARD, Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of(player));
+        final TickGameClock clock = new TickGameClock(TICK_PERIOD);
+        final Weapon weapon = new TimeIntervalWeapon(SHOT_INTERVAL,
+                (start, direction) -> new BaseWeaponShot(start, direction, null), clock);
+        weapon.setProjectileStore(room.getProjectiles(), enemy);
+        // two shots of the same enemy hit the player in the same tick
+        for (int i = 0; i < 2; i++) {
+            clock.tick();
+            weapon.shoot(new Point2D(player.getX(), player.getY()), new Vector2D(1, 0));
+        }
+        final int hearts = player.getHeart();
+        final CollisionCheck checker = new CollisionCheckFactoryImpl()
+                .getCollisionWithEnemyShotChecker(player, List.of(enemy));
+        checker.handleCollision(room);
+        // checking the same collisions again in the tick does not count them twice
+        checker.handleCollision(room);
+        assertEquals(2, room.getPendingEvents());
+        room.executeEvents();
+        assertEquals(hearts - 2, player.getHeart());
+    }
+}
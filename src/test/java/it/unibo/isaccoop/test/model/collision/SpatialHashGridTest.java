@@ -0,0 +1,156 @@
+package it.unibo.isaccoop.test.model.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.collision.SpatialHashGrid;
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.MapElementImpl;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.Vector2D;
+import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.enemy.NonShootingEnemy;
+import it.unibo.isaccoop.model.weapon.BaseWeaponShot;
+import it.unibo.isaccoop.model.weapon.WeaponShot;
+
+/**
+ * SpatialHashGrid test.
+ */
+class SpatialHashGridTest {
+
+    private static final int ROOM_WIDTH = 300;
+    private static final int ROOM_HEIGHT = 200;
+    private static final double CELL_SIZE = 32.0;
+    private static final long SEED = 7;
+    private static final int ENTITIES = 400;
+    private static final double OUTSIDE_MARGIN = 20;
+    private static final double RADIUS = 4;
+
+    private final Random random = new Random(SEED);
+
+    @Test
+    void testSameResultsAsBruteForce() {
+        final List<Enemy> enemies = this.createEnemies(ENTITIES / 2);
+        final List<WeaponShot> shots = this.createShots(ENTITIES / 2);
+        final SpatialHashGrid<Enemy> grid = new SpatialHashGrid<>(ROOM_WIDTH, ROOM_HEIGHT, CELL_SIZE);
+        grid.rebuild(enemies);
+        assertEquals(enemies.size(), grid.size());
+        assertEquals(bruteForce(enemies, shots), withGrid(grid, enemies, shots));
+        grid.clear();
+        assertEquals(0, grid.size());
+        assertEquals(0, withGrid(grid, List.of(), shots));
+    }
+
+    @Test
+    void testInvalidGrid() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid<Enemy>(0, ROOM_HEIGHT, CELL_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid<Enemy>(ROOM_WIDTH, ROOM_HEIGHT, 0));
+    }
+
+    @Test
+    void testCandidates() {
+        final int[] checks = {0};
+        final SpatialHashGrid<MapElement> grid = new SpatialHashGrid<>(ROOM_WIDTH, ROOM_HEIGHT, CELL_SIZE);
+        final int columns = (int) Math.ceil(ROOM_WIDTH / CELL_SIZE);
+        final int rows = (int) Math.ceil(ROOM_HEIGHT / CELL_SIZE);
+        // an element in the center of every cell
+        for (int c = 0; c < columns; c++) {
+            for (int r = 0; r < rows; r++) {
+                final MapElement element = new CountedElement(checks);
+                element.setCoords(new Point2D((c + 0.5) * CELL_SIZE, (r + 0.5) * CELL_SIZE));
+                grid.insert(element);
+            }
+        }
+        final CircleBoundingBox box = new CircleBoundingBox(RADIUS);
+        // a circle inside a cell is checked only against the element of that cell
+        grid.forEachColliding(2.5 * CELL_SIZE, 1.5 * CELL_SIZE, box, e -> { });
+        assertEquals(1, checks[0]);
+        // a circle on the corner of four cells is checked against their elements
+        checks[0] = 0;
+        grid.forEachColliding(2 * CELL_SIZE, CELL_SIZE, box, e -> { });
+        assertEquals(4, checks[0]);
+        // a circle outside the grid is checked against the elements of the nearest border cell
+        checks[0] = 0;
+        assertFalse(grid.anyColliding(-OUTSIDE_MARGIN, -OUTSIDE_MARGIN, box));
+        assertEquals(1, checks[0]);
+    }
+
+    private static int bruteForce(final List<Enemy> enemies, final List<WeaponShot> shots) {
+        int collisions = 0;
+        for (final WeaponShot shot : shots) {
+            for (final Enemy enemy : enemies) {
+                if (shot.getBox().isCollidingWithCricle(shot.getCoords(), enemy.getCoords(),
+                        (CircleBoundingBox) enemy.getBox())) {
+                    collisions++;
+                }
+            }
+        }
+        return collisions;
+    }
+
+    private static int withGrid(final SpatialHashGrid<Enemy> grid, final List<Enemy> enemies,
+            final List<WeaponShot> shots) {
+        final int[] collisions = {0};
+        grid.rebuild(enemies);
+        shots.forEach(shot -> grid.forEachColliding(shot.getX(), shot.getY(), (CircleBoundingBox) shot.getBox(),
+                e -> collisions[0]++));
+        return collisions[0];
+    }
+
+    private List<Enemy> createEnemies(final int n) {
+        final List<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            final Enemy enemy = new NonShootingEnemy();
+            enemy.setCoords(this.randomPoint());
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    private List<WeaponShot> createShots(final int n) {
+        final List<WeaponShot> shots = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            shots.add(new BaseWeaponShot(this.randomPoint(), new Vector2D(1, 0), null));
+        }
+        return shots;
+    }
+
+    /* points also slightly outside the room, as shots leaving it */
+    private Point2D randomPoint() {
+        return new Point2D(this.random.nextDouble() * (ROOM_WIDTH + 2 * OUTSIDE_MARGIN) - OUTSIDE_MARGIN,
+                this.random.nextDouble() * (ROOM_HEIGHT + 2 * OUTSIDE_MARGIN) - OUTSIDE_MARGIN);
+    }
+
+    /**
+     * Element with a circle bounding box counting the narrow phase checks made on it.
+     */
+    private static final class CountedElement extends MapElementImpl {
+
+        private final CircleBoundingBox box;
+
+        CountedElement(final int[] checks) {
+            super(0, 0);
+            this.box = new CircleBoundingBox(RADIUS) {
+                @Override
+                public boolean isCollidingWithCircle(final double x, final double y, final double x1,
+                        final double y1, final CircleBoundingBox circleBox) {
+                    checks[0]++;
+                    return super.isCollidingWithCircle(x, y, x1, y1, circleBox);
+                }
+            };
+        }
+
+        @Override
+        public CircleBoundingBox getBox() {
+            return this.box;
+        }
+    }
+}
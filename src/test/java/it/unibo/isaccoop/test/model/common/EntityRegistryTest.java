@@ -0,0 +1,84 @@
+package it.unibo.isaccoop.test.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.model.common.EntityRegistry;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.item.Coin;
+import it.unibo.isaccoop.model.item.Item;
+import it.unibo.isaccoop.model.player.Player;
+import it.unibo.isaccoop.model.room.Room;
+import it.unibo.isaccoop.model.room.RoomImpl;
+
+/**
+ * {@link EntityRegistry} test.
+ */
+class EntityRegistryTest {
+
+    private static final int ELEMENTS = 1000;
+    private static final int ROOM_SIDE = 100;
+
+    @Test
+    void testIds() {
+        final EntityRegistry<Item> registry = new EntityRegistry<>();
+        final List<Item> coins = new ArrayList<>();
+        final int[] ids = new int[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            final Item coin = new Coin();
+            coins.add(coin);
+            ids[i] = registry.add(coin);
+        }
+        assertEquals(ELEMENTS, registry.size());
+        assertThrows(IllegalArgumentException.class, () -> registry.add(coins.get(0)));
+        for (int i = 0; i < ELEMENTS; i++) {
+            assertSame(coins.get(i), registry.find(ids[i]).get());
+        }
+
+        // the last element takes the place of the removed one
+        assertTrue(registry.remove(coins.get(0)));
+        assertFalse(registry.remove(coins.get(0)));
+        assertEquals(EntityRegistry.NO_ID, coins.get(0).getId());
+        assertSame(coins.get(ELEMENTS - 1), registry.asList().get(0));
+        assertEquals(ELEMENTS - 1, registry.asList().size());
+        assertSame(coins.get(ELEMENTS - 1), registry.find(ids[ELEMENTS - 1]).get());
+
+        // an element added later in the same cell has another id, the old one finds nothing
+        final Item other = new Coin();
+        final int otherId = registry.add(other);
+        assertNotEquals(ids[0], otherId);
+        assertTrue(registry.find(ids[0]).isEmpty());
+        assertSame(other, registry.find(otherId).get());
+        assertTrue(registry.find(EntityRegistry.NO_ID).isEmpty());
+    }
+
+    @Test
+    void testElementsInTheSamePosition() {
+        final Item first = new Coin();
+        final Item second = new Coin();
+        first.setCoords(new Point2D(ROOM_SIDE / 2, ROOM_SIDE / 2));
+        second.setCoords(new Point2D(ROOM_SIDE / 2, ROOM_SIDE / 2));
+        assertNotEquals(first, second);
+
+        // removing an element removes that element, not another one in the same position
+        final List<Item> items = new ArrayList<>(List.of(first, second));
+        final Room room = new RoomImpl(ROOM_SIDE, ROOM_SIDE, new Point2D(0, 0), RoomType.STANDARD, Optional.empty(),
+                Optional.of(items), Optional.empty(), Optional.of(new Player(null, null, null)));
+        final int secondId = second.getId();
+        room.remove(second);
+        assertEquals(List.of(first), items);
+        assertSame(first, room.getEntity(first.getId()).get());
+        assertTrue(room.getEntity(secondId).isEmpty());
+    }
+}
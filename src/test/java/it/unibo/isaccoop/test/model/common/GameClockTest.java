@@ -0,0 +1,50 @@
+package it.unibo.isaccoop.test.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.common.Vector2D;
+import it.unibo.isaccoop.model.weapon.BaseWeaponShot;
+import it.unibo.isaccoop.model.weapon.TimeIntervalWeapon;
+import it.unibo.isaccoop.model.weapon.Weapon;
+
+/**
+ * GameClock test.
+ */
+class GameClockTest {
+
+    private static final long TICK_PERIOD = 20;
+    private static final double SHOT_INTERVAL = 100;
+    private static final int TICKS = 1000;
+
+    @Test
+    void testTickClock() {
+        final TickGameClock clock = new TickGameClock(TICK_PERIOD);
+        assertEquals(0, clock.getTime());
+        for (int i = 0; i < TICKS; i++) {
+            clock.tick();
+        }
+        assertEquals(TICKS, clock.getTicks());
+        assertEquals(TICKS * TICK_PERIOD, clock.getTime());
+        assertThrows(IllegalArgumentException.class, () -> new TickGameClock(0));
+    }
+
+    @Test
+    void testWeaponCooldownFollowsClock() {
+        final TickGameClock clock = new TickGameClock(TICK_PERIOD);
+        final Weapon weapon = new TimeIntervalWeapon(SHOT_INTERVAL,
+                (start, direction) -> new BaseWeaponShot(start, direction, null), clock);
+        final Point2D start = new Point2D(0, 0);
+        final Vector2D direction = new Vector2D(1, 0);
+        for (int i = 0; i < TICKS; i++) {
+            clock.tick();
+            weapon.shoot(start, direction);
+        }
+        /* a shot every 6 ticks, the first interval greater than 100 ms */
+        assertEquals(TICKS / 6, weapon.getWeaponShots().size());
+    }
+}
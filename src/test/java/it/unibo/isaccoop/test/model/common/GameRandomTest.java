@@ -0,0 +1,80 @@
+package it.unibo.isaccoop.test.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.core.EngineMode;
+import it.unibo.isaccoop.core.GameEngineImpl;
+import it.unibo.isaccoop.model.common.GameRandom;
+import it.unibo.isaccoop.model.common.MapElement;
+import it.unibo.isaccoop.model.common.RandomStream;
+import it.unibo.isaccoop.model.room.Level;
+import it.unibo.isaccoop.model.room.LevelFactoryImpl;
+import it.unibo.isaccoop.model.room.Room;
+
+/**
+ * GameRandom test.
+ */
+class GameRandomTest {
+
+    private static final long SEED = 1234;
+    private static final int DRAWS = 100;
+    private static final int BOUND = 1000;
+
+    @Test
+    void testSameSeedSameNumbers() {
+        assertEquals(draw(new GameRandom(SEED)), draw(new GameRandom(SEED)));
+        assertNotEquals(draw(new GameRandom(SEED)), draw(new GameRandom(SEED + 1)));
+        assertEquals(SEED, new GameRandom(SEED).getSeed());
+    }
+
+    @Test
+    void testIndependentStreams() {
+        final GameRandom random = new GameRandom(SEED);
+        final List<Integer> ai = draw(random.stream(RandomStream.AI));
+        /* drawing from the other streams does not change the numbers of a stream */
+        draw(random);
+        draw(random.stream(RandomStream.GENERATION));
+        draw(random.derive(0));
+        assertEquals(ai, draw(random.stream(RandomStream.AI)));
+        assertNotEquals(ai, draw(random.stream(RandomStream.SPAWN)));
+        assertNotEquals(draw(random.derive(0)), draw(random.derive(1)));
+        assertEquals(draw(random.derive(1)), draw(new GameRandom(SEED).derive(1)));
+    }
+
+    @Test
+    void testReproducibleLevels() {
+        final Level first = new LevelFactoryImpl(new GameEngineImpl(EngineMode.HEADLESS, SEED)).createLevel();
+        final Level second = new LevelFactoryImpl(new GameEngineImpl(EngineMode.HEADLESS, SEED)).createLevel();
+        assertEquals(describe(first), describe(second));
+        assertEquals(SEED, first.getSeed());
+    }
+
+    private static List<Integer> draw(final GameRandom random) {
+        return IntStream.range(0, DRAWS).map(i -> random.nextInt(BOUND)).boxed().collect(Collectors.toList());
+    }
+
+    private static List<String> describe(final Level level) {
+        return level.getRooms().stream().map(GameRandomTest::describe).collect(Collectors.toList());
+    }
+
+    private static String position(final MapElement element) {
+        return "(" + element.getX() + ", " + element.getY() + ")";
+    }
+
+    private static String describe(final Room room) {
+        return room.getRoomType() + " " + position(room)
+                + " enemies " + room.getEnemies().map(l -> l.stream().map(e -> e.getClass().getSimpleName()
+                        + position(e)).collect(Collectors.toList())).orElse(List.of())
+                + " items " + room.getItems().map(l -> l.stream().map(i -> i.getClass().getSimpleName()
+                        + position(i)).collect(Collectors.toList())).orElse(List.of())
+                + " powerups " + room.getPowerUps().map(l -> l.stream().map(p -> p.getClass().getSimpleName())
+                        .collect(Collectors.toList())).orElse(List.of());
+    }
+}
@@ -0,0 +1,155 @@
+package it.unibo.isaccoop.test.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.model.action.NonShootingMovementStrategy;
+import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.boundingbox.RectBoundingBox;
+import it.unibo.isaccoop.model.common.IntegrationKernel;
+import it.unibo.isaccoop.model.common.IntegrationKernels;
+import it.unibo.isaccoop.model.enemy.AbstractEnemy;
+
+/**
+ * {@link IntegrationKernel} test: the default kernel, vectorized when the Vector API is available,
+ * must give the same results of the scalar one, which must behave as the single elements do.
+ */
+class IntegrationKernelTest {
+
+    private static final long SEED = 42;
+    /* not a multiple of the number of lanes, so the elements left over by the vector loops are checked too */
+    private static final int COUNT = 1_003;
+    private static final int WIDTH = 300;
+    private static final int HEIGHT = 200;
+    private static final double MARGIN = 10;
+    private static final double RADIUS = 8;
+    private static final double TARGET_X = 150;
+    private static final double TARGET_Y = 100;
+
+    private final IntegrationKernel scalar = IntegrationKernels.getScalar();
+    private final IntegrationKernel kernel = IntegrationKernels.getDefault();
+
+    /* run both with and without --add-modules jdk.incubator.vector, see the testWithoutVector task */
+    @Test
+    void testSelection() {
+        assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+                && !Boolean.getBoolean(IntegrationKernels.SCALAR_PROPERTY), IntegrationKernels.isVectorized());
+        assertEquals(IntegrationKernels.isVectorized(), this.kernel != this.scalar);
+    }
+
+    @Test
+    void testChase() {
+        final Elements elements = new Elements();
+        /* an element on the target does not move */
+        elements.x[0] = TARGET_X;
+        elements.y[0] = TARGET_Y;
+        elements.chasing[0] = true;
+        final Elements copy = elements.copy();
+        this.scalar.chase(elements.x, elements.y, elements.chasing, TARGET_X, TARGET_Y, AbstractEnemy.getSpeed(),
+                elements.stepX, elements.stepY, COUNT);
+        this.kernel.chase(copy.x, copy.y, copy.chasing, TARGET_X, TARGET_Y, AbstractEnemy.getSpeed(),
+                copy.stepX, copy.stepY, COUNT);
+        elements.assertSame(copy);
+        final double[] step = new double[2];
+        for (int i = 0; i < COUNT; i++) {
+            if (elements.chasing[i]) {
+                new NonShootingMovementStrategy().step(elements.x[i], elements.y[i], TARGET_X, TARGET_Y, step);
+                assertEquals(step[0], elements.stepX[i]);
+                assertEquals(step[1], elements.stepY[i]);
+            }
+        }
+        assertEquals(0, elements.stepX[0]);
+    }
+
+    @Test
+    void testMoveInside() {
+        final Elements elements = new Elements();
+        final Elements copy = elements.copy();
+        final Elements before = elements.copy();
+        this.scalar.moveInside(elements.x, elements.y, elements.stepX, elements.stepY, elements.radius,
+                WIDTH, HEIGHT, COUNT);
+        this.kernel.moveInside(copy.x, copy.y, copy.stepX, copy.stepY, copy.radius, WIDTH, HEIGHT, COUNT);
+        elements.assertSame(copy);
+        final RectBoundingBox room = new RectBoundingBox(WIDTH, HEIGHT);
+        for (int i = 0; i < COUNT; i++) {
+            final boolean blocked = new CircleBoundingBox(RADIUS).isCollidingWithRecPerimeter(
+                    before.x[i] + before.stepX[i], before.y[i] + before.stepY[i], room);
+            assertEquals(blocked ? before.x[i] : before.x[i] + before.stepX[i], elements.x[i]);
+            assertEquals(blocked ? 0 : before.stepY[i], elements.stepY[i]);
+        }
+    }
+
+    @Test
+    void testAdvanceAndPerimeter() {
+        final Elements elements = new Elements();
+        final Elements copy = elements.copy();
+        this.scalar.advance(elements.x, elements.y, elements.stepX, elements.stepY, COUNT);
+        this.kernel.advance(copy.x, copy.y, copy.stepX, copy.stepY, COUNT);
+        elements.assertSame(copy);
+        final boolean[] colliding = new boolean[COUNT];
+        final boolean[] collidingCopy = new boolean[COUNT];
+        final int found = this.scalar.collidingWithPerimeter(elements.x, elements.y, elements.radius, WIDTH, HEIGHT,
+                colliding, COUNT);
+        assertEquals(found, this.kernel.collidingWithPerimeter(copy.x, copy.y, copy.radius, WIDTH, HEIGHT,
+                collidingCopy, COUNT));
+        assertArrayEquals(colliding, collidingCopy);
+        final RectBoundingBox room = new RectBoundingBox(WIDTH, HEIGHT);
+        int expected = 0;
+        for (int i = 0; i < COUNT; i++) {
+            final boolean outside = new CircleBoundingBox(RADIUS).isCollidingWithRecPerimeter(elements.x[i],
+                    elements.y[i], room);
+            assertEquals(outside, colliding[i]);
+            expected += outside ? 1 : 0;
+        }
+        assertEquals(expected, found);
+    }
+
+    /**
+     * Random elements, some of them near or beyond the walls of the room.
+     */
+    private static final class Elements {
+        private final double[] x = new double[COUNT];
+        private final double[] y = new double[COUNT];
+        private final double[] stepX = new double[COUNT];
+        private final double[] stepY = new double[COUNT];
+        private final double[] radius = new double[COUNT];
+        private final boolean[] chasing = new boolean[COUNT];
+
+        Elements() {
+            final Random random = new Random(SEED);
+            for (int i = 0; i < COUNT; i++) {
+                this.x[i] = -MARGIN + random.nextDouble() * (WIDTH + 2 * MARGIN);
+                this.y[i] = -MARGIN + random.nextDouble() * (HEIGHT + 2 * MARGIN);
+                this.stepX[i] = random.nextDouble() * 2 * MARGIN - MARGIN;
+                this.stepY[i] = random.nextDouble() * 2 * MARGIN - MARGIN;
+                this.radius[i] = RADIUS;
+                this.chasing[i] = random.nextBoolean();
+            }
+        }
+
+        private Elements(final Elements other) {
+            System.arraycopy(other.x, 0, this.x, 0, COUNT);
+            System.arraycopy(other.y, 0, this.y, 0, COUNT);
+            System.arraycopy(other.stepX, 0, this.stepX, 0, COUNT);
+            System.arraycopy(other.stepY, 0, this.stepY, 0, COUNT);
+            System.arraycopy(other.radius, 0, this.radius, 0, COUNT);
+            System.arraycopy(other.chasing, 0, this.chasing, 0, COUNT);
+        }
+
+        Elements copy() {
+            return new Elements(this);
+        }
+
+        /* the kernels must give the same results bit by bit, not just close ones */
+        void assertSame(final Elements other) {
+            assertArrayEquals(this.x, other.x);
+            assertArrayEquals(this.y, other.y);
+            assertArrayEquals(this.stepX, other.stepX);
+            assertArrayEquals(this.stepY, other.stepY);
+        }
+    }
+}
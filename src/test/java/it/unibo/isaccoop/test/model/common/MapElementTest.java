@@ -0,0 +1,60 @@
+package it.unibo.isaccoop.test.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.model.boundingbox.CircleBoundingBox;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.Vector2D;
+import it.unibo.isaccoop.model.item.Coin;
+
+/**
+ * Test of the primitive coordinates API of the map elements.
+ */
+class MapElementTest {
+
+    private static final double DELTA = 1e-9;
+    private static final double RADIUS = 5.0;
+
+    @Test
+    void testTranslate() {
+        final Coin coin = new Coin();
+        coin.setCoords(new Point2D(10, 20));
+        coin.translate(3, -4);
+        assertEquals(13, coin.getX(), DELTA);
+        assertEquals(16, coin.getY(), DELTA);
+        assertEquals(13, coin.getCoords().getX(), DELTA);
+        assertEquals(16, coin.getCoords().getY(), DELTA);
+    }
+
+    @Test
+    void testMoveTowards() {
+        final Coin coin = new Coin();
+        coin.setCoords(new Point2D(0, 0));
+        coin.moveTowards(30, 40, 10);
+        assertEquals(6, coin.getX(), DELTA);
+        assertEquals(8, coin.getY(), DELTA);
+        /* the element stops on the target instead of going past it */
+        coin.moveTowards(30, 40, 100);
+        assertEquals(30, coin.getX(), DELTA);
+        assertEquals(40, coin.getY(), DELTA);
+    }
+
+    @Test
+    void testSquaredDistanceCollision() {
+        final CircleBoundingBox box = new CircleBoundingBox(RADIUS);
+        final CircleBoundingBox other = new CircleBoundingBox(RADIUS);
+        for (int d = 0; d <= 4 * (int) RADIUS; d++) {
+            final Point2D a = new Point2D(0, 0);
+            final Point2D b = new Point2D(d, 0);
+            final boolean expected = new Vector2D(a, b).module() <= 2 * RADIUS;
+            assertEquals(expected, box.isCollidingWithCircle(0, 0, d, 0, other));
+            assertEquals(expected, box.isCollidingWithCricle(a, b, other));
+        }
+        assertTrue(box.isCollidingWithCircle(0, 0, 6, 8, other));
+        assertFalse(box.isCollidingWithCircle(0, 0, 6.01, 8, other));
+    }
+}
@@ -0,0 +1,78 @@
+package it.unibo.isaccoop.test.model.creator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.model.common.GameRandom;
+import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.creator.ContentRegistry;
+import it.unibo.isaccoop.model.creator.DropTable;
+import it.unibo.isaccoop.model.item.Coin;
+import it.unibo.isaccoop.model.item.Heart;
+import it.unibo.isaccoop.model.powerup.DamageUp;
+
+/**
+ * {@link DropTable} and {@link ContentRegistry} test.
+ */
+class DropTableTest {
+
+    private static final long SEED = 42;
+    private static final int DRAWS = 100_000;
+    private static final double TOLERANCE = 0.01;
+    private static final double[] WEIGHTS = {1, 0, 3, 6};
+
+    @Test
+    void testDistribution() {
+        final List<Supplier<? extends String>> names = List.of(() -> "a", () -> "b", () -> "c", () -> "d");
+        final DropTable<String> table = new DropTable<>(names, WEIGHTS);
+        final GameRandom random = new GameRandom(SEED);
+        final int[] counts = new int[WEIGHTS.length];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[table.sample(random)]++;
+        }
+        // every element is drawn with a frequency proportional to its weight, never if its weight is 0
+        final double total = 1 + 3 + 6;
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            assertEquals(WEIGHTS[i] / total, (double) counts[i] / DRAWS, TOLERANCE);
+        }
+        assertEquals(0, counts[1]);
+        assertThrows(IllegalArgumentException.class, () -> new DropTable<>(names, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DropTable<>(names, 0, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DropTable<>(names, 1, -1, 1, 1));
+    }
+
+    @Test
+    void testRegistry() throws IOException {
+        final ContentRegistry registry = ContentRegistry.load(new StringReader(String.join("\n",
+                "# comment",
+                "STANDARD items 0 coin:1",
+                "",
+                "STANDARD items 2 heart:1",
+                "TREASURE powerups 0 damageUp:1")));
+        // a floor uses the last table starting before it
+        assertEquals(Coin.class, registry.getItems(RoomType.STANDARD, 1).get().draw(new GameRandom(SEED)).getClass());
+        assertEquals(Heart.class, registry.getItems(RoomType.STANDARD, 2).get().draw(new GameRandom(SEED)).getClass());
+        assertEquals(Heart.class, registry.getItems(RoomType.STANDARD, 3).get().draw(new GameRandom(SEED)).getClass());
+        assertEquals(DamageUp.class,
+                registry.getPowerUps(RoomType.TREASURE, 0).get().draw(new GameRandom(SEED)).getClass());
+        assertFalse(registry.getPowerUps(RoomType.SHOP, 0).isPresent());
+        assertThrows(IllegalArgumentException.class,
+                () -> ContentRegistry.load(new StringReader("STANDARD items 0 sword:1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ContentRegistry.load(new StringReader("STANDARD weapons 0 coin:1")));
+
+        // the default tables cover the rooms with items and power ups
+        assertTrue(ContentRegistry.getDefault().getItems(RoomType.STANDARD, 0).isPresent());
+        assertTrue(ContentRegistry.getDefault().getPowerUps(RoomType.SHOP, 0).isPresent());
+        assertTrue(ContentRegistry.getDefault().getPowerUps(RoomType.TREASURE, 0).isPresent());
+    }
+}
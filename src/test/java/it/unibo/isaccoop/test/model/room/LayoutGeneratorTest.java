@@ -0,0 +1,107 @@
+package it.unibo.isaccoop.test.model.room;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.core.EngineMode;
+import it.unibo.isaccoop.core.GameEngineImpl;
+import it.unibo.isaccoop.model.common.Direction;
+import it.unibo.isaccoop.model.common.GameRandom;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.room.LayoutGenerator;
+import it.unibo.isaccoop.model.room.Level;
+import it.unibo.isaccoop.model.room.LevelFactoryImpl;
+import it.unibo.isaccoop.model.room.Room;
+
+/**
+ * {@link LayoutGenerator} test.
+ */
+class LayoutGeneratorTest {
+
+    private static final long SEED = 42;
+    private static final int ROOMS = 60;
+    private static final int LARGE_ROOMS = 10_000;
+
+    @Test
+    void testBranchingLayout() {
+        final List<Point2D> coords = LayoutGenerator.BRANCHING.generate(ROOMS, new GameRandom(SEED));
+        assertEquals(ROOMS, coords.size());
+        assertEquals(ROOMS, new HashSet<>(coords).size());
+        assertTrue(coords.stream().allMatch(c -> c.getX() >= 0 && c.getY() >= 0));
+        // every room is reachable from the START room, and the BOSS room is the farthest one
+        final Map<Point2D, Integer> dist = distances(coords, coords.get(0));
+        assertEquals(ROOMS, dist.size());
+        final int farthest = dist.values().stream().mapToInt(Integer::intValue).max().getAsInt();
+        assertEquals(farthest, dist.get(coords.get(ROOMS - 1)).intValue());
+        // the same seed gives the same layout
+        assertEquals(coords, LayoutGenerator.BRANCHING.generate(ROOMS, new GameRandom(SEED)));
+        assertThrows(IllegalArgumentException.class,
+                () -> LayoutGenerator.BRANCHING.generate(RoomType.values().length - 2, new GameRandom(SEED)));
+    }
+
+    @Test
+    void testLargeLayout() {
+        final List<Point2D> coords = LayoutGenerator.BRANCHING.generate(LARGE_ROOMS, new GameRandom(SEED));
+        assertEquals(LARGE_ROOMS, new HashSet<>(coords).size());
+        assertEquals(LARGE_ROOMS, distances(coords, coords.get(0)).size());
+    }
+
+    @Test
+    void testBranchingLevel() {
+        final LevelFactoryImpl factory = new LevelFactoryImpl(new GameEngineImpl(EngineMode.HEADLESS, SEED));
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.createLevel(LayoutGenerator.BRANCHING, RoomType.values().length - 1));
+        final Level level = factory.createLevel(LayoutGenerator.BRANCHING, ROOMS);
+        assertEquals(ROOMS, level.getRooms().size());
+        assertEquals(RoomType.START, level.getRoom(0).getRoomType());
+        assertEquals(RoomType.BOSS, level.getRoom(ROOMS - 1).getRoomType());
+        // once the enemies are killed, moving to the next room visits every room
+        level.getRooms().forEach(r -> r.getEnemies().ifPresent(l -> List.copyOf(l).forEach(r::remove)));
+        final Set<Room> visited = new HashSet<>();
+        visited.add(level.getCurrentRoom());
+        Room previous;
+        do {
+            previous = level.getCurrentRoom();
+            level.moveToNextRoom();
+            visited.add(level.getCurrentRoom());
+        } while (previous != level.getCurrentRoom());
+        assertEquals(ROOMS, visited.size());
+        // and moving back returns to the START room
+        do {
+            previous = level.getCurrentRoom();
+            level.moveToPreviousRoom();
+        } while (previous != level.getCurrentRoom());
+        assertEquals(level.getStartRoom(), level.getCurrentRoom());
+    }
+
+    private static Map<Point2D, Integer> distances(final List<Point2D> coords, final Point2D from) {
+        final Set<Point2D> rooms = new HashSet<>(coords);
+        final Map<Point2D, Integer> dist = new HashMap<>();
+        final Deque<Point2D> queue = new ArrayDeque<>();
+        dist.put(from, 0);
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            final Point2D room = queue.poll();
+            for (final Direction dir : Direction.values()) {
+                final Point2D near = new Point2D(room.getX() + dir.getX(), room.getY() + dir.getY());
+                if (rooms.contains(near) && !dist.containsKey(near)) {
+                    dist.put(near, dist.get(room) + 1);
+                    queue.add(near);
+                }
+            }
+        }
+        return dist;
+    }
+}
@@ -2,16 +2,21 @@ package it.unibo.isaccoop.test.model.room;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
+import it.unibo.isaccoop.core.EngineMode;
 import it.unibo.isaccoop.core.GameEngineImpl;
 import it.unibo.isaccoop.model.common.Point2D;
 import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.room.Level;
 import it.unibo.isaccoop.model.room.LevelController;
 import it.unibo.isaccoop.model.room.LevelControllerImpl;
+import it.unibo.isaccoop.model.room.LevelFactoryImpl;
 import it.unibo.isaccoop.model.room.Room;
 
 /**
@@ -23,6 +28,7 @@ class LevelControllerTest {
     private static final int NUMBER_OF_LEVELS = 10;
     private static final int MAX_NUMBER_OF_ROOMS = 30;
     private static final int MIN_NUMBER_OF_ROOMS = 6;
+    private static final long SEED = 42;
     private final LevelController lvlController = new LevelControllerImpl(NUMBER_OF_LEVELS, new GameEngineImpl());
 
     @Test 
@@ -131,4 +137,32 @@ class LevelControllerTest {
         this.lvlController.getCurrentLevel().moveToPreviousRoom();
         assertEquals(this.lvlController.getCurrentRoom().getCoords(), new Point2D(0.0, 0.0));
     }
+
+    @Test
+    void testLazyLevelCreation() {
+        // the background tasks are run only when the test wants
+        final List<Runnable> tasks = new ArrayList<>();
+        final LevelController controller = new LevelControllerImpl(NUMBER_OF_LEVELS,
+                new LevelFactoryImpl(new GameEngineImpl(EngineMode.HEADLESS, SEED)), tasks::add);
+        // only the first level is created, and the second one is scheduled
+        assertEquals(1, tasks.size());
+        assertFalse(controller.isNextLevelReady());
+        tasks.remove(0).run();
+        assertTrue(controller.isNextLevelReady());
+
+        // completing the first level moves to the prefetched one and schedules the third one
+        final Level first = controller.getCurrentLevel();
+        first.getRooms().forEach(r -> r.getEnemies().ifPresent(l -> List.copyOf(l).forEach(r::remove)));
+        assertTrue(controller.isCurrentLevelComplete());
+        assertEquals(1, controller.getCurrentLevelIndex());
+        assertNotSame(first, controller.getCurrentLevel());
+        assertEquals(1, tasks.size());
+        assertFalse(controller.areAllLevelsComplete());
+
+        // the levels are the same created in order by a factory with the same seed
+        final LevelFactoryImpl factory = new LevelFactoryImpl(new GameEngineImpl(EngineMode.HEADLESS, SEED));
+        factory.createLevel();
+        assertEquals(factory.createLevel().getRooms().stream().map(Room::getCoords).collect(Collectors.toList()),
+                controller.getRoomsOfCurrentLevel().stream().map(Room::getCoords).collect(Collectors.toList()));
+    }
 }
@@ -2,18 +2,24 @@ package it.unibo.isaccoop.test.model.room;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import it.unibo.isaccoop.core.EngineMode;
 import it.unibo.isaccoop.core.GameEngineImpl;
+import it.unibo.isaccoop.model.common.Direction;
 import it.unibo.isaccoop.model.common.Point2D;
 import it.unibo.isaccoop.model.common.RoomType;
+import it.unibo.isaccoop.model.enemy.Enemy;
 import it.unibo.isaccoop.model.room.Level;
 import it.unibo.isaccoop.model.room.LevelFactoryImpl;
 import it.unibo.isaccoop.model.room.LevelImpl;
@@ -25,6 +31,8 @@ import it.unibo.isaccoop.model.room.RoomFactoryImpl;
  */
 class LevelTest {
 
+    private static final long SEED = 42;
+
     // variables for local level
     private final Level localLevel = new LevelImpl(new GameEngineImpl());
     private final List<Room> otherRoomList = new LinkedList<>();
@@ -70,6 +78,32 @@ class LevelTest {
         assertFalse(this.localLevel.isLevelComplete());
     }
 
+    @Test
+    void testCompletionTracking() {
+        // only the rooms with enemies must be completed
+        final long roomsWithEnemies = this.localLevel.getRooms().stream()
+                .filter(r -> r.getEnemies().map(l -> !l.isEmpty()).orElse(false)).count();
+        assertEquals(roomsWithEnemies, this.localLevel.getRemainingRooms());
+        // killing every enemy of a room completes it, and the last room completes the level
+        int remaining = this.localLevel.getRemainingRooms();
+        final BitSet completed = new BitSet();
+        for (final Room room : this.localLevel.getRooms()) {
+            if (!room.isComplete()) {
+                final long version = this.localLevel.getCompletionVersion();
+                room.getEnemies().get().forEach(room::remove);
+                remaining--;
+                assertTrue(room.isComplete());
+                assertEquals(remaining, this.localLevel.getRemainingRooms());
+                // the set of the complete rooms changes with its version
+                assertEquals(version + 1, this.localLevel.getCompletionVersion());
+                this.localLevel.copyCompletedRooms(completed);
+                assertTrue(completed.get(this.localLevel.getRoomId(room)));
+            }
+        }
+        assertTrue(this.localLevel.isLevelComplete());
+        assertEquals(this.localLevel.getRooms().size(), completed.cardinality());
+    }
+
     @Test
     void testGetStartRoom() {
         final Room startRoom = this.localLevel.getRooms().stream()
@@ -103,6 +137,54 @@ class LevelTest {
                 .findFirst().get().getValue().getCoords(), new Point2D(1.0, 0.0));
     }
 
+    @Test
+    void testRoomIds() {
+        // every room has as id its position in the room list
+        for (int i = 0; i < this.localLevel.getRooms().size(); i++) {
+            final Room room = this.localLevel.getRooms().get(i);
+            assertEquals(i, this.localLevel.getRoomId(room));
+            assertSame(room, this.localLevel.getRoom(i));
+        }
+        assertSame(this.localLevel.getCurrentRoom(), this.localLevel.getRoom(this.localLevel.getCurrentRoomId()));
+        assertThrows(IllegalArgumentException.class, () -> this.localLevel.getRoomId(
+                new RoomFactoryImpl(RoomType.values().length).buildRoomInProperOrder(new Point2D(0, 0))));
+
+        // the current room follows the player
+        final Room next = this.localLevel.getNearRooms().get(Direction.RIGHT);
+        this.localLevel.moveToNextRoom();
+        assertSame(next, this.localLevel.getCurrentRoom());
+        assertEquals(this.localLevel.getRoomId(next), this.localLevel.getCurrentRoomId());
+        assertTrue(next.getPlayer().isPresent());
+        assertSame(this.localLevel.getStartRoom(), this.localLevel.getNearRooms().get(Direction.LEFT));
+    }
+
+    @Test
+    void testLazyRooms() {
+        // only the START room and its neighbor have their content, the other rooms only know if they are complete
+        assertTrue(this.localLevel.getRoom(0).isMaterialized());
+        assertTrue(this.localLevel.getRoom(1).isMaterialized());
+        assertFalse(this.localLevel.getRoom(2).isMaterialized());
+        final Room standard = this.localLevel.getRoom(3);
+        assertEquals(RoomType.STANDARD, standard.getRoomType());
+        assertFalse(standard.isMaterialized());
+        assertFalse(standard.isComplete());
+        // entering a room creates the content of the next one
+        this.localLevel.moveToNextRoom();
+        assertTrue(this.localLevel.getRoom(2).isMaterialized());
+        assertFalse(standard.isMaterialized());
+
+        // the content is the same whenever it is created
+        final Level first = new LevelFactoryImpl(new GameEngineImpl(EngineMode.HEADLESS, SEED)).createLevel();
+        final Level second = new LevelFactoryImpl(new GameEngineImpl(EngineMode.HEADLESS, SEED)).createLevel();
+        final Room last = second.getRoom(second.getRooms().size() - 1);
+        last.materialize();
+        assertEquals(enemyCoords(last), enemyCoords(first.getRoom(first.getRooms().size() - 1)));
+    }
+
+    private static List<Point2D> enemyCoords(final Room room) {
+        return room.getEnemies().get().stream().map(Enemy::getCoords).collect(Collectors.toList());
+    }
+
     @Test
     void testIsCurrentRoomComplete() {
         // at the beginning, the current room is the START room, and must be complete
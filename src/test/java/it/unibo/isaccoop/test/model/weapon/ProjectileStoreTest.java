@@ -0,0 +1,149 @@
+package it.unibo.isaccoop.test.model.weapon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.common.Vector2D;
+import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.enemy.ShootingEnemy;
+import it.unibo.isaccoop.model.weapon.BaseWeaponShot;
+import it.unibo.isaccoop.model.weapon.ProjectileStore;
+import it.unibo.isaccoop.model.weapon.TimeIntervalWeapon;
+import it.unibo.isaccoop.model.weapon.Weapon;
+import it.unibo.isaccoop.model.weapon.WeaponShot;
+
+/**
+ * ProjectileStore test.
+ */
+class ProjectileStoreTest {
+
+    private static final long TICK_PERIOD = 20;
+    private static final double SHOT_INTERVAL = 10;
+    private static final int SHOTS = 100;
+    private static final double ROOM_SIDE = 100;
+
+    private TickGameClock clock;
+    private List<WeaponShot> createdShots;
+    private Weapon weapon;
+    private ProjectileStore store;
+
+    @BeforeEach
+    void init() {
+        this.clock = new TickGameClock(TICK_PERIOD);
+        this.createdShots = new ArrayList<>();
+        this.weapon = new TimeIntervalWeapon(SHOT_INTERVAL, (start, direction) -> {
+            final WeaponShot shot = new BaseWeaponShot(start, direction, null);
+            this.createdShots.add(shot);
+            return shot;
+        }, this.clock);
+        this.store = new ProjectileStore();
+    }
+
+    private void shoot(final int n) {
+        for (int i = 0; i < n; i++) {
+            this.clock.tick();
+            this.weapon.shoot(new Point2D(0, 0), new Vector2D(1, 0));
+        }
+    }
+
+    @Test
+    void testAttachMovesShots() {
+        this.shoot(SHOTS);
+        assertEquals(SHOTS, this.weapon.getWeaponShots().size());
+        final Enemy owner = new ShootingEnemy();
+        this.weapon.setProjectileStore(this.store, owner);
+        assertEquals(SHOTS, this.store.size());
+        for (int i = 0; i < this.store.size(); i++) {
+            assertSame(owner, this.store.getOwner(i));
+        }
+        this.shoot(1);
+        assertEquals(SHOTS + 1, this.store.size());
+        assertEquals(SHOTS + 1, this.weapon.getWeaponShots().size());
+    }
+
+    @Test
+    void testSwapRemove() {
+        this.weapon.setProjectileStore(this.store, null);
+        this.shoot(SHOTS);
+        /* all the shots have the same coords, so removal must not rely on equals */
+        final WeaponShot first = this.store.getShot(0);
+        final WeaponShot last = this.store.getShot(SHOTS - 1);
+        assertTrue(this.store.remove(first));
+        assertFalse(this.store.remove(first));
+        assertEquals(SHOTS - 1, this.store.size());
+        assertSame(last, this.store.getShot(0));
+        /* removing the moved shot must still find it */
+        assertTrue(this.store.remove(last));
+        assertEquals(SHOTS - 2, this.store.size());
+    }
+
+    @Test
+    void testRemovedShotsAreReused() {
+        this.weapon.setProjectileStore(this.store, null);
+        this.shoot(SHOTS);
+        assertEquals(SHOTS, this.createdShots.size());
+        while (this.store.size() > 0) {
+            this.store.remove(this.store.getShot(this.store.size() - 1));
+        }
+        this.shoot(SHOTS);
+        assertEquals(SHOTS, this.createdShots.size());
+        assertEquals(SHOTS, this.store.size());
+        /* reused shots start again from the weapon position */
+        this.store.tickAll();
+        for (int i = 0; i < this.store.size(); i++) {
+            assertEquals(2.0, this.store.getShot(i).getX());
+            assertEquals(0.0, this.store.getShot(i).getY());
+        }
+    }
+
+    @Test
+    void testRemoveOwnedBy() {
+        final Enemy owner = new ShootingEnemy();
+        final Weapon other = new TimeIntervalWeapon(SHOT_INTERVAL,
+                (start, direction) -> new BaseWeaponShot(start, direction, null), this.clock);
+        this.weapon.setProjectileStore(this.store, owner);
+        other.setProjectileStore(this.store, null);
+        for (int i = 0; i < SHOTS; i++) {
+            this.clock.tick();
+            this.weapon.shoot(new Point2D(0, 0), new Vector2D(1, 0));
+            other.shoot(new Point2D(0, 0), new Vector2D(0, 1));
+        }
+        assertEquals(2 * SHOTS, this.store.size());
+        this.store.removeOwnedBy(owner);
+        assertEquals(SHOTS, this.store.size());
+        assertEquals(0, this.weapon.getWeaponShots().size());
+        assertEquals(SHOTS, other.getWeaponShots().size());
+    }
+
+    @Test
+    void testCheckPerimeter() {
+        this.weapon.setProjectileStore(this.store, null);
+        for (int i = 0; i < SHOTS; i++) {
+            this.clock.tick();
+            this.weapon.shoot(new Point2D(ROOM_SIDE / 2, ROOM_SIDE / 2), new Vector2D(1, 0));
+        }
+        assertEquals(0, this.store.checkPerimeter(ROOM_SIDE, ROOM_SIDE));
+        /* after enough ticks all the shots have crossed the right wall */
+        for (int i = 0; i < ROOM_SIDE; i++) {
+            this.store.tickAll();
+        }
+        assertEquals(SHOTS, this.store.checkPerimeter(ROOM_SIDE, ROOM_SIDE));
+        assertTrue(this.store.isCollidingWithPerimeter(0));
+        /* a removed shot keeps the coords it had in the store */
+        final WeaponShot shot = this.store.getShot(0);
+        final double x = shot.getX();
+        assertTrue(x > ROOM_SIDE);
+        this.store.remove(shot);
+        assertEquals(x, shot.getX());
+    }
+}
@@ -0,0 +1,139 @@
+package it.unibo.isaccoop.test.model.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.isaccoop.model.boundingbox.RectBoundingBox;
+import it.unibo.isaccoop.model.common.Point2D;
+import it.unibo.isaccoop.model.common.TickGameClock;
+import it.unibo.isaccoop.model.enemy.AbstractEnemy;
+import it.unibo.isaccoop.model.enemy.Enemy;
+import it.unibo.isaccoop.model.enemy.NonShootingEnemy;
+import it.unibo.isaccoop.model.enemy.ShootingEnemy;
+import it.unibo.isaccoop.model.world.CollisionSystem;
+import it.unibo.isaccoop.model.world.EnemyWorld;
+import it.unibo.isaccoop.model.world.MovementSystem;
+import it.unibo.isaccoop.model.world.RenderSystem;
+
+/**
+ * {@link EnemyWorld} and systems test.
+ */
+class EnemyWorldTest {
+
+    private static final long TICK_PERIOD = 20;
+    private static final int ROOM_WIDTH = 300;
+    private static final int ROOM_HEIGHT = 200;
+    private static final double FIRST = 50;
+    private static final double NEAR_WALL = ROOM_WIDTH - 8.25;
+    private static final double DELTA = 1e-9;
+    private static final double DAMAGE = 1.0;
+    private static final int MANY_ENEMIES = 5_000;
+
+    private TickGameClock clock;
+    private EnemyWorld world;
+    private List<AbstractEnemy> enemies;
+
+    @BeforeEach
+    void init() {
+        this.clock = new TickGameClock(TICK_PERIOD);
+        this.world = new EnemyWorld();
+        this.enemies = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final AbstractEnemy enemy = new NonShootingEnemy(this.clock);
+            enemy.setCoords(new Point2D(FIRST + i, FIRST + i));
+            this.enemies.add(enemy);
+            this.world.add(enemy);
+        }
+    }
+
+    @Test
+    void testFacades() {
+        assertEquals(3, this.world.size());
+        final AbstractEnemy enemy = this.enemies.get(1);
+        assertEquals(1, enemy.getSlot());
+        // the enemy reads and writes its slot
+        enemy.setCoords(new Point2D(FIRST, FIRST));
+        assertEquals(FIRST, this.world.getX(1), DELTA);
+        this.world.setCoords(1, FIRST + 1, FIRST + 2);
+        assertEquals(new Point2D(FIRST + 1, FIRST + 2), enemy.getCoords());
+        final double hearts = enemy.getHearts();
+        enemy.setHearts(DAMAGE);
+        assertEquals(hearts - DAMAGE, this.world.getHearts(1), DELTA);
+        assertThrows(IllegalArgumentException.class, () -> this.world.add(enemy));
+
+        // removing an enemy moves the last one in its slot, and gives its state back to the removed one
+        assertTrue(this.world.remove(enemy));
+        assertFalse(this.world.remove(enemy));
+        assertEquals(2, this.world.size());
+        assertFalse(enemy.isAttached());
+        assertEquals(new Point2D(FIRST + 1, FIRST + 2), enemy.getCoords());
+        assertEquals(hearts - DAMAGE, enemy.getHearts(), DELTA);
+        assertSame(this.enemies.get(2), this.world.getEnemy(1));
+        assertEquals(1, this.enemies.get(2).getSlot());
+        assertEquals(FIRST + 2, this.enemies.get(2).getX(), DELTA);
+        // the view of the world follows the removal, without being modifiable
+        final List<Enemy> view = this.world.asList();
+        assertEquals(List.of(this.enemies.get(0), this.enemies.get(2)), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    @Test
+    void testSystems() {
+        final RectBoundingBox room = new RectBoundingBox(ROOM_WIDTH, ROOM_HEIGHT);
+        this.world.savePreviousCoords();
+        // non shooting enemies move towards the player, unless they would touch the walls
+        final AbstractEnemy nearWall = this.enemies.get(2);
+        nearWall.setCoords(new Point2D(((double) ROOM_WIDTH) - FIRST / 2, FIRST));
+        new MovementSystem().update(this.world, FIRST, FIRST, room);
+        assertEquals(FIRST, this.enemies.get(0).getX(), DELTA);
+        assertEquals(FIRST + 1 - AbstractEnemy.getSpeed() / Math.sqrt(2), this.enemies.get(1).getX(), DELTA);
+        assertEquals(-AbstractEnemy.getSpeed(), this.world.getVelocityX(2), DELTA);
+        nearWall.setCoords(new Point2D(NEAR_WALL, FIRST));
+        new MovementSystem().update(this.world, ROOM_WIDTH, FIRST, room);
+        assertEquals(NEAR_WALL, nearWall.getX(), DELTA);
+        assertEquals(0, this.world.getVelocityX(2), DELTA);
+        assertEquals(new Point2D(FIRST + 1, FIRST + 1), this.enemies.get(1).getPreviousCoords());
+
+        // enemies of the same kind share the sprite
+        final AbstractEnemy shooting = new ShootingEnemy(this.clock);
+        this.world.add(shooting);
+        final List<String> sprites = new ArrayList<>();
+        new RenderSystem().render(this.world, (name, px, py, x, y, radius) -> sprites.add(name));
+        assertEquals(4, sprites.size());
+        assertEquals(sprites.get(0), sprites.get(2));
+        assertFalse(sprites.get(0).equals(sprites.get(3)));
+
+        final CollisionSystem collisions = new CollisionSystem();
+        assertTrue(collisions.anyColliding(this.world, FIRST, FIRST, 1));
+        assertFalse(collisions.anyColliding(this.world, ROOM_WIDTH / 2.0, ROOM_HEIGHT, 1));
+        final List<Object> hit = new ArrayList<>();
+        collisions.forEachColliding(this.world, shooting.getX(), shooting.getY(), 0, hit::add);
+        assertTrue(hit.contains(shooting));
+    }
+
+    @Test
+    void testManyEnemies() {
+        final List<AbstractEnemy> many = new ArrayList<>();
+        for (int i = 0; i < MANY_ENEMIES; i++) {
+            final AbstractEnemy enemy = new NonShootingEnemy(this.clock);
+            many.add(enemy);
+            this.world.add(enemy);
+        }
+        for (int i = 0; i < many.size(); i += 2) {
+            assertTrue(this.world.remove(many.get(i)));
+        }
+        assertEquals(3 + MANY_ENEMIES / 2, this.world.size());
+        for (int i = 0; i < this.world.size(); i++) {
+            assertEquals(i, this.world.getEnemy(i).getSlot());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package it.unibo.isaccoop.model.common;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link IntegrationKernel} updating as many elements at a time as the lanes of the preferred vector shape
+ * of the processor, with the incubating Vector API. Each lane does the same operations, in the same order,
+ * of {@link ScalarIntegrationKernel}, which also handles the elements left over by the vector loops.
+ * It must be created only if the {@code jdk.incubator.vector} module is available, see {@link IntegrationKernels}.
+ */
+final class VectorIntegrationKernel implements IntegrationKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void chase(final double[] x, final double[] y, final boolean[] chasing, final double targetX,
+            final double targetY, final double speed, final double[] stepX, final double[] stepY, final int count) {
+        final int bound = SPECIES.loopBound(count);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            final VectorMask<Double> active = VectorMask.fromArray(SPECIES, chasing, i);
+            if (active.anyTrue()) {
+                final DoubleVector dx = DoubleVector.broadcast(SPECIES, targetX)
+                        .sub(DoubleVector.fromArray(SPECIES, x, i));
+                final DoubleVector dy = DoubleVector.broadcast(SPECIES, targetY)
+                        .sub(DoubleVector.fromArray(SPECIES, y, i));
+                final DoubleVector module = dx.mul(dx).add(dy.mul(dy)).sqrt();
+                final VectorMask<Double> moving = active.andNot(module.compare(VectorOperators.EQ, 0));
+                final VectorMask<Double> still = active.andNot(moving);
+                dx.div(module).mul(speed).blend(0, still).intoArray(stepX, i, active);
+                dy.div(module).mul(speed).blend(0, still).intoArray(stepY, i, active);
+            }
+        }
+        ScalarIntegrationKernel.chase(x, y, chasing, targetX, targetY, speed, stepX, stepY, bound, count);
+    }
+
+    @Override
+    public void moveInside(final double[] x, final double[] y, final double[] stepX, final double[] stepY,
+            final double[] radius, final double width, final double height, final int count) {
+        final int bound = SPECIES.loopBound(count);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            final DoubleVector currentX = DoubleVector.fromArray(SPECIES, x, i);
+            final DoubleVector currentY = DoubleVector.fromArray(SPECIES, y, i);
+            final DoubleVector dx = DoubleVector.fromArray(SPECIES, stepX, i);
+            final DoubleVector dy = DoubleVector.fromArray(SPECIES, stepY, i);
+            final DoubleVector nextX = currentX.add(dx);
+            final DoubleVector nextY = currentY.add(dy);
+            final VectorMask<Double> inside = inside(nextX, nextY, DoubleVector.fromArray(SPECIES, radius, i),
+                    width, height);
+            currentX.blend(nextX, inside).intoArray(x, i);
+            currentY.blend(nextY, inside).intoArray(y, i);
+            dx.blend(0, inside.not()).intoArray(stepX, i);
+            dy.blend(0, inside.not()).intoArray(stepY, i);
+        }
+        ScalarIntegrationKernel.moveInside(x, y, stepX, stepY, radius, width, height, bound, count);
+    }
+
+    @Override
+    public void advance(final double[] x, final double[] y, final double[] velocityX, final double[] velocityY,
+            final int count) {
+        final int bound = SPECIES.loopBound(count);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, x, i).add(DoubleVector.fromArray(SPECIES, velocityX, i)).intoArray(x, i);
+            DoubleVector.fromArray(SPECIES, y, i).add(DoubleVector.fromArray(SPECIES, velocityY, i)).intoArray(y, i);
+        }
+        ScalarIntegrationKernel.advance(x, y, velocityX, velocityY, bound, count);
+    }
+
+    @Override
+    public int collidingWithPerimeter(final double[] x, final double[] y, final double[] radius, final double width,
+            final double height, final boolean[] colliding, final int count) {
+        final int bound = SPECIES.loopBound(count);
+        int found = 0;
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            final VectorMask<Double> outside = inside(DoubleVector.fromArray(SPECIES, x, i),
+                    DoubleVector.fromArray(SPECIES, y, i), DoubleVector.fromArray(SPECIES, radius, i),
+                    width, height).not();
+            outside.intoArray(colliding, i);
+            found += outside.trueCount();
+        }
+        return found + ScalarIntegrationKernel.collidingWithPerimeter(x, y, radius, width, height, colliding,
+                bound, count);
+    }
+
+    private static VectorMask<Double> inside(final DoubleVector x, final DoubleVector y, final DoubleVector radius,
+            final double width, final double height) {
+        return x.compare(VectorOperators.GT, radius)
+                .and(y.compare(VectorOperators.GT, radius))
+                .and(DoubleVector.broadcast(SPECIES, width).sub(x).compare(VectorOperators.GT, radius))
+                .and(DoubleVector.broadcast(SPECIES, height).sub(y).compare(VectorOperators.GT, radius));
+    }
+}